@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BandedBigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link BandedBigDecimalMatrix} of the sizes arising from
+ * finite-difference models
+ * <p>
+ * A dense matrix of size {@code 10^4} would need {@code 10^8} boxed elements,
+ * so only the band storage is measured.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BandedMatrixBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Number of rows and columns
+     */
+    @Param({"1000", "10000"})
+    public int size;
+
+    private BandedBigDecimalMatrix tridiagonal;
+    private BandedBigDecimalMatrix pentadiagonal;
+    private BigDecimalVector vector;
+
+    /**
+     * Generates diagonally dominant operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        final BigDecimal diagonal = BigDecimal.valueOf(4L * Benchmarks.BOUND + 1L);
+        tridiagonal = BandedBigDecimalMatrix.fromFunction(size, 1, 1, (rowIndex, columnIndex) -> rowIndex
+            == columnIndex ? diagonal : mathRandom.nextBigDecimal(Benchmarks.BOUND, 2));
+        pentadiagonal = BandedBigDecimalMatrix.fromFunction(size, 2, 2, (rowIndex, columnIndex) -> rowIndex
+            == columnIndex ? diagonal : mathRandom.nextBigDecimal(Benchmarks.BOUND, 2));
+        vector = mathRandom.nextBigDecimalVector(Benchmarks.BOUND, 2, size);
+    }
+
+    /**
+     * Benchmarks {@link BandedBigDecimalMatrix#multiplyVector(BigDecimalVector)}
+     * of the pentadiagonal matrix
+     *
+     * @return product
+     */
+    @Benchmark
+    public BigDecimalVector multiplyVector() {
+        return pentadiagonal.multiplyVector(vector);
+    }
+
+    /**
+     * Benchmarks {@link BandedBigDecimalMatrix#add(BandedBigDecimalMatrix)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public BandedBigDecimalMatrix add() {
+        return pentadiagonal.add(tridiagonal);
+    }
+
+    /**
+     * Benchmarks the Thomas algorithm
+     *
+     * @return solution
+     */
+    @Benchmark
+    public BigDecimalVector solve() {
+        return tridiagonal.solve(vector, MathContext.DECIMAL64);
+    }
+
+    /**
+     * Benchmarks the determinant of the tridiagonal matrix
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public BigDecimal tridiagonalDeterminant() {
+        return tridiagonal.determinant();
+    }
+}
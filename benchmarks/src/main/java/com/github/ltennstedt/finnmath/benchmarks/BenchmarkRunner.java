@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark JAR
+ * <p>
+ * Accepts the usual JMH command line options, e.g. a benchmark regex or
+ * {@code -p size=64}, and always adds the {@link GCProfiler} so that every run
+ * reports the allocation rate per operation next to the timing.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks selected by the given command line arguments
+     *
+     * @param args
+     *            JMH command line arguments
+     * @throws CommandLineOptionException
+     *             if the arguments are invalid
+     * @throws RunnerException
+     *             if a benchmark fails
+     * @since 1
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options =
+            new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
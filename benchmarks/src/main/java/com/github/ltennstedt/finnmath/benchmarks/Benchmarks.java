@@ -0,0 +1,33 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+/**
+ * Constants shared by the benchmarks
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class Benchmarks {
+    /**
+     * Bound of the absolute values of the generated operands
+     */
+    static final long BOUND = 10;
+
+    private Benchmarks() {
+    }
+}
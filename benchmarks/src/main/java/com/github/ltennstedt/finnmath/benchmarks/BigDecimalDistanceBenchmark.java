@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the distances of {@link BigDecimalVector BigDecimalVectors}
+ * <p>
+ * Compares the norm of the difference vector with the fused exact distances
+ * and the approximate distances in {@code double}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BigDecimalDistanceBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Size of the operands
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    /**
+     * Scale of the generated elements
+     */
+    @Param({"2", "10"})
+    public int scale;
+
+    private BigDecimalVector vector;
+    private BigDecimalVector other;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        vector = mathRandom.nextBigDecimalVector(Benchmarks.BOUND, scale, size);
+        other = mathRandom.nextBigDecimalVector(Benchmarks.BOUND, scale, size);
+    }
+
+    /**
+     * Benchmarks the square of the euclidean norm of the difference
+     *
+     * @return square of the euclidean distance
+     */
+    @Benchmark
+    public BigDecimal euclideanDistancePow2OfDifference() {
+        return vector.subtract(other).euclideanNormPow2();
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#euclideanDistancePow2}
+     *
+     * @return square of the euclidean distance
+     */
+    @Benchmark
+    public BigDecimal euclideanDistancePow2() {
+        return vector.euclideanDistancePow2(other);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#approximateEuclideanDistance(BigDecimalVector)}
+     *
+     * @return approximate euclidean distance
+     */
+    @Benchmark
+    public double approximateEuclideanDistance() {
+        return vector.approximateEuclideanDistance(other);
+    }
+
+    /**
+     * Benchmarks the maximum norm of the difference
+     *
+     * @return maximum distance
+     */
+    @Benchmark
+    public BigDecimal maxDistanceOfDifference() {
+        return vector.subtract(other).maxNorm();
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#maxDistance}
+     *
+     * @return maximum distance
+     */
+    @Benchmark
+    public BigDecimal maxDistance() {
+        return vector.maxDistance(other);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#approximateMaxDistance(BigDecimalVector)}
+     *
+     * @return approximate maximum distance
+     */
+    @Benchmark
+    public double approximateMaxDistance() {
+        return vector.approximateMaxDistance(other);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#taxicabDistance}
+     *
+     * @return taxicab distance
+     */
+    @Benchmark
+    public BigDecimal taxicabDistance() {
+        return vector.taxicabDistance(other);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#approximateTaxicabDistance(BigDecimalVector)}
+     *
+     * @return approximate taxicab distance
+     */
+    @Benchmark
+    public double approximateTaxicabDistance() {
+        return vector.approximateTaxicabDistance(other);
+    }
+}
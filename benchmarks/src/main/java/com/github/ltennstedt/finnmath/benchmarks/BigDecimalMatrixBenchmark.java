@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the products of {@link BigDecimalMatrix}
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BigDecimalMatrixBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Row and column size of the square operands
+     */
+    @Param({"4", "16", "64"})
+    public int size;
+
+    /**
+     * Scale of the generated elements
+     */
+    @Param({"2", "10"})
+    public int scale;
+
+    /**
+     * Precision of the {@link MathContext} of the rounded products
+     */
+    @Param("34")
+    public int precision;
+
+    private BigDecimalMatrix matrix;
+    private BigDecimalMatrix factor;
+    private BigDecimalVector vector;
+    private MathContext mathContext;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        matrix = mathRandom.nextBigDecimalMatrix(Benchmarks.BOUND, scale, size, size);
+        factor = mathRandom.nextBigDecimalMatrix(Benchmarks.BOUND, scale, size, size);
+        vector = mathRandom.nextBigDecimalVector(Benchmarks.BOUND, scale, size);
+        mathContext = new MathContext(precision);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalMatrix#multiply(BigDecimalMatrix)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public BigDecimalMatrix multiply() {
+        return matrix.multiply(factor);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalMatrix#multiply(BigDecimalMatrix, MathContext)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public BigDecimalMatrix multiplyWithMathContext() {
+        return matrix.multiply(factor, mathContext);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalMatrix#multiplyVector(BigDecimalVector)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public BigDecimalVector multiplyVector() {
+        return matrix.multiplyVector(vector);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the arithmetic of {@link RealComplexNumber} and
+ * {@link SimpleComplexNumber}
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComplexNumberBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Scale of the generated {@link RealComplexNumber RealComplexNumbers}
+     */
+    @Param({"2", "10"})
+    public int scale;
+
+    /**
+     * Precision of the {@link MathContext} of the rounded operations
+     */
+    @Param({"16", "34", "100"})
+    public int precision;
+
+    private RealComplexNumber realComplexNumber;
+    private RealComplexNumber otherRealComplexNumber;
+    private SimpleComplexNumber simpleComplexNumber;
+    private SimpleComplexNumber otherSimpleComplexNumber;
+    private MathContext mathContext;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        realComplexNumber = mathRandom.nextInvertibleRealComplexNumber(Benchmarks.BOUND, scale);
+        otherRealComplexNumber = mathRandom.nextInvertibleRealComplexNumber(Benchmarks.BOUND, scale);
+        simpleComplexNumber = mathRandom.nextInvertibleSimpleComplexNumber(Benchmarks.BOUND);
+        otherSimpleComplexNumber = mathRandom.nextInvertibleSimpleComplexNumber(Benchmarks.BOUND);
+        mathContext = new MathContext(precision);
+    }
+
+    /**
+     * Benchmarks {@link RealComplexNumber#argument(MathContext)}
+     *
+     * @return argument
+     */
+    @Benchmark
+    public BigDecimal realComplexNumberArgument() {
+        return realComplexNumber.argument(mathContext);
+    }
+
+    /**
+     * Benchmarks {@link RealComplexNumber#multiply(RealComplexNumber)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public RealComplexNumber realComplexNumberMultiply() {
+        return realComplexNumber.multiply(otherRealComplexNumber);
+    }
+
+    /**
+     * Benchmarks {@link SimpleComplexNumber#multiply(SimpleComplexNumber)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public SimpleComplexNumber simpleComplexNumberMultiply() {
+        return simpleComplexNumber.multiply(otherSimpleComplexNumber);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.BigIntegerMatrix;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the determinants of {@link BigDecimalMatrix} and
+ * {@link BigIntegerMatrix}
+ * <p>
+ * {@link BigDecimalMatrix#determinant()} and
+ * {@link BigIntegerMatrix#determinant()} choose their algorithm by the default
+ * {@link com.github.ltennstedt.finnmath.core.linear.DeterminantThresholds
+ * DeterminantThresholds}. {@link DeterminantStrategyBenchmark} compares the
+ * single strategies.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeterminantBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Row and column size of the square operands
+     */
+    @Param({"3", "5", "7", "10", "14"})
+    public int size;
+
+    /**
+     * Scale of the generated elements of the {@link BigDecimalMatrix}
+     */
+    @Param("2")
+    public int scale;
+
+    private BigDecimalMatrix bigDecimalMatrix;
+    private BigIntegerMatrix bigIntegerMatrix;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        bigDecimalMatrix = mathRandom.nextBigDecimalMatrix(Benchmarks.BOUND, scale, size, size);
+        bigIntegerMatrix = mathRandom.nextBigIntegerMatrix(Benchmarks.BOUND, size, size);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalMatrix#determinant()}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public BigDecimal bigDecimalDeterminant() {
+        return bigDecimalMatrix.determinant();
+    }
+
+    /**
+     * Benchmarks {@link BigIntegerMatrix#determinant()}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public BigInteger bigIntegerDeterminant() {
+        return bigIntegerMatrix.determinant();
+    }
+}
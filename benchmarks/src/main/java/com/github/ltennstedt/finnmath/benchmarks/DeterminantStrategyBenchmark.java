@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.BigIntegerMatrix;
+import com.github.ltennstedt.finnmath.core.linear.DeterminantStrategy;
+import com.github.ltennstedt.finnmath.core.linear.DeterminantTuner;
+import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberMatrix;
+import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberMatrix;
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the single {@link DeterminantStrategy DeterminantStrategies}
+ * of all matrix types
+ * <p>
+ * The results are the basis for the default thresholds like
+ * {@link BigIntegerMatrix#DETERMINANT_THRESHOLDS}. Every strategy is measured
+ * but not every combination exists: the rule of Sarrus only supports size
+ * {@code 3}, the modular strategy only {@link BigIntegerMatrix} and the Leibniz
+ * formula is only measured up to {@link DeterminantTuner#LEIBNIZ_MAX_SIZE}
+ * because its costs grow factorially. The other combinations fail fast with an
+ * {@link IllegalArgumentException} and are missing from the results.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeterminantStrategyBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Row and column size of the square operands
+     */
+    @Param({"3", "4", "6", "8", "12"})
+    public int size;
+
+    /**
+     * Scale of the generated elements of the {@link BigDecimalMatrix} and
+     * {@link RealComplexNumberMatrix}
+     */
+    @Param({"2", "10"})
+    public int scale;
+
+    /**
+     * Benchmarked {@link DeterminantStrategy}
+     */
+    @Param({"LEIBNIZ", "RULE_OF_SARRUS", "LAPLACE", "BAREISS", "MODULAR"})
+    public DeterminantStrategy strategy;
+
+    private BigDecimalMatrix bigDecimalMatrix;
+    private BigIntegerMatrix bigIntegerMatrix;
+    private RealComplexNumberMatrix realComplexNumberMatrix;
+    private SimpleComplexNumberMatrix simpleComplexNumberMatrix;
+
+    /**
+     * Generates the operands from {@link #seed}
+     *
+     * @throws IllegalArgumentException
+     *             if {@code strategy == LEIBNIZ} and
+     *             {@code size > DeterminantTuner.LEIBNIZ_MAX_SIZE}
+     */
+    @Setup
+    public void setup() {
+        if (strategy == DeterminantStrategy.LEIBNIZ && size > DeterminantTuner.LEIBNIZ_MAX_SIZE) {
+            throw new IllegalArgumentException("expected size <= " + DeterminantTuner.LEIBNIZ_MAX_SIZE
+                + " for LEIBNIZ but actual " + size);
+        }
+        final MathRandom mathRandom = new MathRandom(seed);
+        bigDecimalMatrix = mathRandom.nextBigDecimalMatrix(Benchmarks.BOUND, scale, size, size);
+        bigIntegerMatrix = mathRandom.nextBigIntegerMatrix(Benchmarks.BOUND, size, size);
+        realComplexNumberMatrix = mathRandom.nextRealComplexNumberMatrix(Benchmarks.BOUND, scale, size, size);
+        simpleComplexNumberMatrix = mathRandom.nextSimpleComplexNumberMatrix(Benchmarks.BOUND, size, size);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalMatrix#determinant(DeterminantStrategy)}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public BigDecimal bigDecimalDeterminant() {
+        return bigDecimalMatrix.determinant(strategy);
+    }
+
+    /**
+     * Benchmarks {@link BigIntegerMatrix#determinant(DeterminantStrategy)}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public BigInteger bigIntegerDeterminant() {
+        return bigIntegerMatrix.determinant(strategy);
+    }
+
+    /**
+     * Benchmarks
+     * {@link RealComplexNumberMatrix#determinant(DeterminantStrategy)}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public RealComplexNumber realComplexNumberDeterminant() {
+        return realComplexNumberMatrix.determinant(strategy);
+    }
+
+    /**
+     * Benchmarks
+     * {@link SimpleComplexNumberMatrix#determinant(DeterminantStrategy)}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public SimpleComplexNumber simpleComplexNumberDeterminant() {
+        return simpleComplexNumberMatrix.determinant(strategy);
+    }
+}
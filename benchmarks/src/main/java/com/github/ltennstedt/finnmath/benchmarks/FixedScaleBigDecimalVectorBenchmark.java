@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector;
+import com.github.ltennstedt.finnmath.core.linear.FixedScaleBigDecimalVector;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link FixedScaleBigDecimalVector} against
+ * {@link BigDecimalVector} for vectors of scale {@code 2} like amounts of money
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedScaleBigDecimalVectorBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Size of the operands
+     */
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    /**
+     * Bound of the absolute values of the generated elements
+     */
+    @Param("1000000000000000")
+    public long bound;
+
+    private BigDecimalVector vector;
+    private BigDecimalVector other;
+    private FixedScaleBigDecimalVector fixedScaleVector;
+    private FixedScaleBigDecimalVector fixedScaleOther;
+    private BigDecimal scalar;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        vector = mathRandom.nextBigDecimalVector(bound, 2, size);
+        other = mathRandom.nextBigDecimalVector(bound, 2, size);
+        fixedScaleVector = FixedScaleBigDecimalVector.of(vector);
+        fixedScaleOther = FixedScaleBigDecimalVector.of(other);
+        scalar = mathRandom.nextBigDecimal(Benchmarks.BOUND, 2);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#add(BigDecimalVector)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public BigDecimalVector add() {
+        return vector.add(other);
+    }
+
+    /**
+     * Benchmarks {@link FixedScaleBigDecimalVector#add(FixedScaleBigDecimalVector)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public FixedScaleBigDecimalVector fixedScaleAdd() {
+        return fixedScaleVector.add(fixedScaleOther);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#subtract(BigDecimalVector)}
+     *
+     * @return difference
+     */
+    @Benchmark
+    public BigDecimalVector subtract() {
+        return vector.subtract(other);
+    }
+
+    /**
+     * Benchmarks
+     * {@link FixedScaleBigDecimalVector#subtract(FixedScaleBigDecimalVector)}
+     *
+     * @return difference
+     */
+    @Benchmark
+    public FixedScaleBigDecimalVector fixedScaleSubtract() {
+        return fixedScaleVector.subtract(fixedScaleOther);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#scalarMultiply(BigDecimal)}
+     *
+     * @return scalar product
+     */
+    @Benchmark
+    public BigDecimalVector scalarMultiply() {
+        return vector.scalarMultiply(scalar);
+    }
+
+    /**
+     * Benchmarks {@link FixedScaleBigDecimalVector#scalarMultiply(BigDecimal)}
+     *
+     * @return scalar product
+     */
+    @Benchmark
+    public FixedScaleBigDecimalVector fixedScaleScalarMultiply() {
+        return fixedScaleVector.scalarMultiply(scalar);
+    }
+
+    /**
+     * Benchmarks {@link BigDecimalVector#taxicabNorm(MathContext)} with
+     * {@link MathContext#UNLIMITED}
+     *
+     * @return taxicab norm
+     */
+    @Benchmark
+    public BigDecimal taxicabNorm() {
+        return vector.taxicabNorm(MathContext.UNLIMITED);
+    }
+
+    /**
+     * Benchmarks {@link FixedScaleBigDecimalVector#taxicabNorm()}
+     *
+     * @return taxicab norm
+     */
+    @Benchmark
+    public BigDecimal fixedScaleTaxicabNorm() {
+        return fixedScaleVector.taxicabNorm();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.number.Fraction;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the arithmetic of {@link Fraction}
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FractionBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Bound of the numerators and denominators
+     */
+    @Param({"100", "1000000000000"})
+    public long bound;
+
+    private Fraction fraction;
+    private Fraction other;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        fraction = mathRandom.nextInvertibleFraction(bound);
+        other = mathRandom.nextInvertibleFraction(bound);
+    }
+
+    /**
+     * Benchmarks {@link Fraction#add(Fraction)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public Fraction add() {
+        return fraction.add(other);
+    }
+
+    /**
+     * Benchmarks {@link Fraction#addReduced(Fraction)}
+     *
+     * @return sum
+     */
+    @Benchmark
+    public Fraction addReduced() {
+        return fraction.addReduced(other);
+    }
+
+    /**
+     * Benchmarks {@link Fraction#multiply(Fraction)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public Fraction multiply() {
+        return fraction.multiply(other);
+    }
+
+    /**
+     * Benchmarks {@link Fraction#divide(Fraction)}
+     *
+     * @return quotient
+     */
+    @Benchmark
+    public Fraction divide() {
+        return fraction.divide(other);
+    }
+
+    /**
+     * Benchmarks {@link Fraction#reduce()}
+     *
+     * @return reduced fraction
+     */
+    @Benchmark
+    public Fraction reduce() {
+        return fraction.multiply(other).reduce();
+    }
+}
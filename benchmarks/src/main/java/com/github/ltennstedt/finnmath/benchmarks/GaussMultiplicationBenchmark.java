@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the schoolbook and Gauss's multiplication of complex numbers
+ * with large parts
+ * <p>
+ * The number of digits spans
+ * {@link RealComplexNumber#GAUSS_MULTIPLICATION_THRESHOLD} and
+ * {@link SimpleComplexNumber#GAUSS_MULTIPLICATION_THRESHOLD}, which is given
+ * in bits and corresponds to about {@code 308} digits. Both kernels are
+ * measured directly on the parts next to the dispatching {@code multiply}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GaussMultiplicationBenchmark {
+    /**
+     * Seed of the {@link Random} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Number of decimal digits of every part of both factors
+     */
+    @Param({"50", "100", "200", "300", "500", "1000"})
+    public int digits;
+
+    private BigDecimal a;
+    private BigDecimal b;
+    private BigDecimal c;
+    private BigDecimal d;
+    private BigInteger e;
+    private BigInteger f;
+    private BigInteger g;
+    private BigInteger h;
+    private RealComplexNumber realComplexNumber;
+    private RealComplexNumber otherRealComplexNumber;
+    private SimpleComplexNumber simpleComplexNumber;
+    private SimpleComplexNumber otherSimpleComplexNumber;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(seed);
+        e = nextBigInteger(random);
+        f = nextBigInteger(random);
+        g = nextBigInteger(random);
+        h = nextBigInteger(random);
+        a = new BigDecimal(e, 2);
+        b = new BigDecimal(f, 2);
+        c = new BigDecimal(g, 2);
+        d = new BigDecimal(h, 2);
+        realComplexNumber = RealComplexNumber.of(a, b);
+        otherRealComplexNumber = RealComplexNumber.of(c, d);
+        simpleComplexNumber = SimpleComplexNumber.of(e, f);
+        otherSimpleComplexNumber = SimpleComplexNumber.of(g, h);
+    }
+
+    /**
+     * Benchmarks {@link RealComplexNumber#multiply(RealComplexNumber)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public RealComplexNumber realComplexNumberMultiply() {
+        return realComplexNumber.multiply(otherRealComplexNumber);
+    }
+
+    /**
+     * Benchmarks the schoolbook multiplication with four products of
+     * {@link BigDecimal BigDecimals}
+     *
+     * @return parts of the product
+     */
+    @Benchmark
+    public BigDecimal[] bigDecimalSchoolbook() {
+        return new BigDecimal[] {a.multiply(c).subtract(b.multiply(d)), a.multiply(d).add(b.multiply(c))};
+    }
+
+    /**
+     * Benchmarks Gauss's multiplication with three products of
+     * {@link BigDecimal BigDecimals}
+     *
+     * @return parts of the product
+     */
+    @Benchmark
+    public BigDecimal[] bigDecimalGauss() {
+        final BigDecimal first = c.multiply(a.add(b));
+        final BigDecimal second = a.multiply(d.subtract(c));
+        final BigDecimal third = b.multiply(c.add(d));
+        return new BigDecimal[] {first.subtract(third), first.add(second)};
+    }
+
+    /**
+     * Benchmarks {@link SimpleComplexNumber#multiply(SimpleComplexNumber)}
+     *
+     * @return product
+     */
+    @Benchmark
+    public SimpleComplexNumber simpleComplexNumberMultiply() {
+        return simpleComplexNumber.multiply(otherSimpleComplexNumber);
+    }
+
+    /**
+     * Benchmarks the schoolbook multiplication with four products of
+     * {@link BigInteger BigIntegers}
+     *
+     * @return parts of the product
+     */
+    @Benchmark
+    public BigInteger[] bigIntegerSchoolbook() {
+        return new BigInteger[] {e.multiply(g).subtract(f.multiply(h)), e.multiply(h).add(f.multiply(g))};
+    }
+
+    /**
+     * Benchmarks Gauss's multiplication with three products of
+     * {@link BigInteger BigIntegers}
+     *
+     * @return parts of the product
+     */
+    @Benchmark
+    public BigInteger[] bigIntegerGauss() {
+        final BigInteger first = g.multiply(e.add(f));
+        final BigInteger second = e.multiply(h.subtract(g));
+        final BigInteger third = f.multiply(g.add(h));
+        return new BigInteger[] {first.subtract(third), first.add(second)};
+    }
+
+    private BigInteger nextBigInteger(final Random random) {
+        final StringBuilder builder = new StringBuilder(digits).append(1 + random.nextInt(9));
+        for (int i = 1; i < digits; i++) {
+            builder.append(random.nextInt(10));
+        }
+        return random.nextBoolean() ? new BigInteger(builder.toString()) : new BigInteger(builder.toString()).negate();
+    }
+}
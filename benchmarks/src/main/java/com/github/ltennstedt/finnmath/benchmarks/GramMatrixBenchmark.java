@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector;
+import com.github.ltennstedt.finnmath.core.linear.PackedSymmetricMatrix;
+import com.github.ltennstedt.finnmath.core.linear.Vectors;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the Gram and distance matrices of {@link BigDecimalVector
+ * BigDecimalVectors}
+ * <p>
+ * Compares the dense matrices built by looping over all pairs with
+ * {@link Vectors#gramMatrix(List)} and {@link Vectors#distanceMatrix} which
+ * compute only the upper triangle.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GramMatrixBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Number of vectors
+     */
+    @Param({"32", "256", "1024"})
+    public int howMany;
+
+    /**
+     * Size of the vectors
+     */
+    @Param("16")
+    public int size;
+
+    private List<BigDecimalVector> vectors;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        vectors = new MathRandom(seed).nextBigDecimalVectors(Benchmarks.BOUND, 2, size, howMany);
+    }
+
+    /**
+     * Benchmarks the dense Gram matrix built from all pairs
+     *
+     * @return Gram matrix
+     */
+    @Benchmark
+    public BigDecimalMatrix denseGramMatrix() {
+        return BigDecimalMatrix.fromFunction(howMany, howMany,
+            (rowIndex, columnIndex) -> vectors.get(rowIndex - 1).dotProduct(vectors.get(columnIndex - 1)));
+    }
+
+    /**
+     * Benchmarks {@link Vectors#gramMatrix(List)}
+     *
+     * @return Gram matrix
+     */
+    @Benchmark
+    public PackedSymmetricMatrix<BigDecimal> gramMatrix() {
+        return Vectors.gramMatrix(vectors);
+    }
+
+    /**
+     * Benchmarks the dense euclidean distance matrix built from all pairs
+     *
+     * @return distance matrix
+     */
+    @Benchmark
+    public BigDecimalMatrix denseDistanceMatrix() {
+        return BigDecimalMatrix.fromFunction(howMany, howMany,
+            (rowIndex, columnIndex) -> vectors.get(rowIndex - 1).euclideanDistancePow2(vectors.get(columnIndex - 1)));
+    }
+
+    /**
+     * Benchmarks {@link Vectors#distanceMatrix} with the square of the euclidean
+     * distance
+     *
+     * @return distance matrix
+     */
+    @Benchmark
+    public PackedSymmetricMatrix<BigDecimal> distanceMatrix() {
+        return Vectors.distanceMatrix(vectors, BigDecimalVector::euclideanDistancePow2);
+    }
+}
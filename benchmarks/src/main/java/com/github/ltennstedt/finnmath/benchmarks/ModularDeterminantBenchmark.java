@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.linear.BigIntegerMatrix;
+import com.github.ltennstedt.finnmath.core.linear.DeterminantStrategy;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link DeterminantStrategy#MODULAR} against
+ * {@link DeterminantStrategy#BAREISS} for {@link BigIntegerMatrix
+ * BigIntegerMatrices} with large elements
+ * <p>
+ * The elements are composed of random chunks of {@value #CHUNK_DIGITS} digits.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModularDeterminantBenchmark {
+    /**
+     * Number of decimal digits per random chunk of an element
+     */
+    public static final int CHUNK_DIGITS = 17;
+
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Row and column size of the square operands
+     */
+    @Param({"20", "50", "100"})
+    public int size;
+
+    /**
+     * Number of chunks of {@value #CHUNK_DIGITS} digits per element
+     */
+    @Param({"1", "3"})
+    public int chunks;
+
+    /**
+     * Benchmarked {@link DeterminantStrategy}
+     */
+    @Param({"BAREISS", "MODULAR"})
+    public DeterminantStrategy strategy;
+
+    private BigIntegerMatrix matrix;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        final BigInteger chunkFactor = BigInteger.TEN.pow(CHUNK_DIGITS);
+        final long bound = chunkFactor.longValueExact();
+        matrix = BigIntegerMatrix.fromFunction(size, size, (rowIndex, columnIndex) -> {
+            BigInteger element = BigInteger.ZERO;
+            for (int i = 0; i < chunks; i++) {
+                element = element.multiply(chunkFactor).add(mathRandom.nextBigInteger(bound));
+            }
+            return element;
+        });
+    }
+
+    /**
+     * Benchmarks {@link BigIntegerMatrix#determinant(DeterminantStrategy)}
+     *
+     * @return determinant
+     */
+    @Benchmark
+    public BigInteger determinant() {
+        return matrix.determinant(strategy);
+    }
+}
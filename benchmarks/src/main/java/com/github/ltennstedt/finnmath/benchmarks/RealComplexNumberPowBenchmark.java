@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the powers of {@link RealComplexNumber} across small and
+ * large exponents
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RealComplexNumberPowBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the base
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Scale of the generated base
+     */
+    @Param({"2", "10"})
+    public int scale;
+
+    /**
+     * Precision of the {@link MathContext} of the powers
+     */
+    @Param({"16", "34", "100"})
+    public int precision;
+
+    /**
+     * Exponent of the powers
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int exponent;
+
+    private RealComplexNumber realComplexNumber;
+    private MathContext mathContext;
+
+    /**
+     * Generates the base from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        realComplexNumber = new MathRandom(seed).nextInvertibleRealComplexNumber(Benchmarks.BOUND, scale);
+        mathContext = new MathContext(precision);
+    }
+
+    /**
+     * Benchmarks {@link RealComplexNumber#pow(int, MathContext)}
+     *
+     * @return power
+     */
+    @Benchmark
+    public RealComplexNumber pow() {
+        return realComplexNumber.pow(exponent, mathContext);
+    }
+
+    /**
+     * Benchmarks {@link RealComplexNumber#powPolar(int, MathContext)} whose
+     * cost does not depend on the exponent
+     *
+     * @return power
+     */
+    @Benchmark
+    public RealComplexNumber powPolar() {
+        return realComplexNumber.powPolar(exponent, mathContext);
+    }
+}
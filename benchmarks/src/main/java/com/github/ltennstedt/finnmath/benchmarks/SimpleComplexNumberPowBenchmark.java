@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link SimpleComplexNumber#pow(int)} across small and large
+ * exponents
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimpleComplexNumberPowBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the base
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Exponent of {@link SimpleComplexNumber#pow(int)}
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int exponent;
+
+    private SimpleComplexNumber simpleComplexNumber;
+
+    /**
+     * Generates the base from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        simpleComplexNumber = new MathRandom(seed).nextInvertibleSimpleComplexNumber(Benchmarks.BOUND);
+    }
+
+    /**
+     * Benchmarks {@link SimpleComplexNumber#pow(int)}
+     *
+     * @return power
+     */
+    @Benchmark
+    public SimpleComplexNumber pow() {
+        return simpleComplexNumber.pow(exponent);
+    }
+}
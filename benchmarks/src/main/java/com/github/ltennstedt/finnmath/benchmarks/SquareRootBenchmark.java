@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.benchmarks;
+
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link SquareRootCalculator}
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SquareRootBenchmark {
+    /**
+     * Seed of the {@link MathRandom} generating the operands
+     */
+    @Param("7")
+    public long seed;
+
+    /**
+     * Bound of the radicands
+     */
+    @Param({"100", "1000000000000"})
+    public long bound;
+
+    /**
+     * Precision of the {@link MathContext} of the {@link SquareRootContext}
+     */
+    @Param({"16", "34", "100"})
+    public int precision;
+
+    private BigDecimal decimal;
+    private BigInteger integer;
+    private SquareRootContext squareRootContext;
+
+    /**
+     * Generates the operands from {@link #seed}
+     */
+    @Setup
+    public void setup() {
+        final MathRandom mathRandom = new MathRandom(seed);
+        decimal = mathRandom.nextPositiveBigDecimal(bound, 2);
+        integer = mathRandom.nextPositiveBigInteger(bound);
+        squareRootContext = SquareRootContext.builder().mathContext(new MathContext(precision)).build();
+    }
+
+    /**
+     * Benchmarks {@link SquareRootCalculator#sqrt(BigDecimal, SquareRootContext)}
+     *
+     * @return square root
+     */
+    @Benchmark
+    public BigDecimal sqrtOfBigDecimal() {
+        return SquareRootCalculator.sqrt(decimal, squareRootContext);
+    }
+
+    /**
+     * Benchmarks {@link SquareRootCalculator#sqrt(BigInteger, SquareRootContext)}
+     *
+     * @return square root
+     */
+    @Benchmark
+    public BigDecimal sqrtOfBigInteger() {
+        return SquareRootCalculator.sqrt(integer, squareRootContext);
+    }
+}
@@ -17,8 +17,10 @@
 package com.github.ltennstedt.finnmath.core.linear;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableTable;
 import java.math.MathContext;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -54,6 +56,26 @@ public abstract class AbstractContextMatrix<E, V extends AbstractVector<E, V, M,
         super(table);
     }
 
+    /**
+     * Constructor for matrices of a {@link SpecialForm}
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param form
+     *            {@link SpecialForm}
+     * @param zero
+     *            zero element
+     * @param one
+     *            one element
+     * @since 1
+     */
+    /* default */ AbstractContextMatrix(final int rowSize, final int columnSize, final SpecialForm form, final E zero,
+        final E one) {
+        super(rowSize, columnSize, form, zero, one);
+    }
+
     /**
      * Returns the sum of this {@link AbstractContextMatrix} and the given one
      *
@@ -104,6 +126,47 @@ public abstract class AbstractContextMatrix<E, V extends AbstractVector<E, V, M,
      */
     protected abstract V multiplyVector(V vector, MathContext mathContext);
 
+    /**
+     * Returns the product of this {@link AbstractContextMatrix} and the given
+     * {@link AbstractVector} computing the rows in parallel if
+     * {@code rowSize >= PARALLEL_ROW_THRESHOLD}
+     *
+     * @param vector
+     *            vector
+     * @param mathContext
+     *            {@link MathContext}
+     * @return product
+     * @since 1
+     */
+    protected abstract V multiplyVectorParallel(V vector, MathContext mathContext);
+
+    /**
+     * Returns the products of this {@link AbstractContextMatrix} and the given
+     * {@link AbstractVector AbstractVectors}
+     *
+     * @param vectors
+     *            vectors
+     * @param mathContext
+     *            {@link MathContext}
+     * @return products in the order of {@code vectors}
+     * @since 1
+     */
+    protected abstract ImmutableList<V> multiplyVectors(List<V> vectors, MathContext mathContext);
+
+    /**
+     * Returns the products of this {@link AbstractContextMatrix} and the given
+     * {@link AbstractVector AbstractVectors} processing the blocks of
+     * {@link #VECTOR_BLOCK_SIZE} vectors in parallel
+     *
+     * @param vectors
+     *            vectors
+     * @param mathContext
+     *            {@link MathContext}
+     * @return products in the order of {@code vectors}
+     * @since 1
+     */
+    protected abstract ImmutableList<V> multiplyVectorsParallel(List<V> vectors, MathContext mathContext);
+
     /**
      * Returns the scalar product of this {@link AbstractContextMatrix} and the
      * given scalar
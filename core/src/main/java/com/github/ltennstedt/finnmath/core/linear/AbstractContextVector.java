@@ -57,6 +57,19 @@ public abstract class AbstractContextVector<E, V extends AbstractVector<E, V, M,
         super(map);
     }
 
+    /**
+     * Constructor for zero vectors
+     *
+     * @param size
+     *            size
+     * @param zero
+     *            zero element
+     * @since 1
+     */
+    protected AbstractContextVector(final int size, final E zero) {
+        super(size, zero);
+    }
+
     /**
      * Returns the sum of this {@link AbstractVector} and the given one
      *
@@ -170,6 +183,8 @@ public abstract class AbstractContextVector<E, V extends AbstractVector<E, V, M,
      * @return taxicab distance
      * @throws NullPointerException
      *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
      * @throws IllegalArgumentException
      *             if {@code size != other.size}
      * @since 1
@@ -177,8 +192,8 @@ public abstract class AbstractContextVector<E, V extends AbstractVector<E, V, M,
     public final N taxicabDistance(final V other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return subtract(other, mathContext).taxicabNorm();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedTaxicabDistance(other, mathContext);
     }
 
     /**
@@ -192,6 +207,8 @@ public abstract class AbstractContextVector<E, V extends AbstractVector<E, V, M,
      * @return square of the euclidean distance
      * @throws NullPointerException
      *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code context == null}
      * @throws IllegalArgumentException
      *             if {@code size != other.size}
      * @since 1
@@ -199,8 +216,8 @@ public abstract class AbstractContextVector<E, V extends AbstractVector<E, V, M,
     public final P euclideanDistancePow2(final V other, final C context) {
         requireNonNull(other, "other");
         requireNonNull(context, "context");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return subtract(other).euclideanNormPow2();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedEuclideanDistancePow2(other, context);
     }
 
     /**
@@ -214,16 +231,61 @@ public abstract class AbstractContextVector<E, V extends AbstractVector<E, V, M,
      * @return maximum distance
      * @throws NullPointerException
      *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
      * @throws IllegalArgumentException
      *             if {@code size != other.size}
      * @since 1
      */
     public final N maxDistance(final V other, final MathContext mathContext) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return subtract(other).maxNorm();
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedMaxDistance(other, mathContext);
     }
 
+    /**
+     * Returns the taxicab distance from this {@link AbstractVector} to the given
+     * one of equal size rounded according to the {@link MathContext} without
+     * allocating the difference vector
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return taxicab distance
+     * @since 1
+     */
+    protected abstract N fusedTaxicabDistance(V other, MathContext mathContext);
+
+    /**
+     * Returns the square of the euclidean distance from this
+     * {@link AbstractVector} to the given one of equal size rounded according to
+     * the context without allocating the difference vector
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @param context
+     *            context
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    protected abstract P fusedEuclideanDistancePow2(V other, C context);
+
+    /**
+     * Returns the maximum distance from this {@link AbstractVector} to the given
+     * one of equal size rounded according to the {@link MathContext} without
+     * allocating the difference vector
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return maximum distance
+     * @since 1
+     */
+    protected abstract N fusedMaxDistance(V other, MathContext mathContext);
+
     /**
      * Returns the dyadic product of {@code this} {@link AbstractVector} and the
      * other one
@@ -17,21 +17,40 @@
 package com.github.ltennstedt.finnmath.core.linear;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ContiguousSet;
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 /**
  * Base class for matrices
@@ -68,13 +87,64 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     public static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_UP;
 
+    /**
+     * Row count from which the parallel matrix vector products process the rows
+     * in parallel
+     *
+     * @since 1
+     */
+    public static final int PARALLEL_ROW_THRESHOLD = 64;
+
+    /**
+     * Number of vectors which are multiplied with the rows of an
+     * {@link AbstractMatrix} during a single pass over the matrix
+     *
+     * @since 1
+     */
+    public static final int VECTOR_BLOCK_SIZE = 32;
+
+    private static final LoadingCache<ImmutableList<Object>, ImmutableTable<Integer, Integer, Object>>
+        SPECIAL_FORM_TABLES = CacheBuilder.newBuilder().maximumWeight(Matrices.CACHE_MAXIMUM_ELEMENTS)
+            .weigher((final ImmutableList<Object> key, final ImmutableTable<Integer, Integer, Object> table) -> table
+                .size())
+            .build(CacheLoader.from(AbstractMatrix::specialFormTable));
+
     /**
      * {@link ImmutableTable} holding the elements of this {@link AbstractMatrix}
+     * <p>
+     * Shared zero and identity matrices store no elements and hold
+     * {@code null}; {@link #getTable()} returns the elements of every matrix.
      *
      * @since 1
      */
     protected final ImmutableTable<Integer, Integer, E> table;
 
+    /**
+     * {@link ImmutableTable} materialized on first access for matrices of a
+     * {@link SpecialForm}
+     * <p>
+     * Racing threads may materialize equal tables; any of them may be kept.
+     */
+    private ImmutableTable<Integer, Integer, E> materializedTable;
+
+    private final SpecialForm form;
+
+    /**
+     * Zero element of a matrix of a {@link SpecialForm}, {@code null} for
+     * general matrices
+     */
+    private final E zero;
+
+    /**
+     * One element of a matrix of a {@link SpecialForm}, {@code null} for general
+     * matrices
+     */
+    private final E one;
+
+    private final int rowCount;
+
+    private final int columnCount;
+
     /**
      * Required arguments constructor
      *
@@ -86,6 +156,59 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     protected AbstractMatrix(final ImmutableTable<Integer, Integer, E> table) {
         this.table = requireNonNull(table, "table");
+        zero = null;
+        one = null;
+        rowCount = table.rowKeySet().size();
+        columnCount = table.columnKeySet().size();
+        form = SpecialForm.GENERAL;
+    }
+
+    /**
+     * Constructor for matrices of a {@link SpecialForm} which stores no elements
+     * until they are requested as a table
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param form
+     *            {@link SpecialForm}
+     * @param zero
+     *            zero element
+     * @param one
+     *            one element
+     * @throws NullPointerException
+     *             if {@code form == null}
+     * @throws NullPointerException
+     *             if {@code zero == null}
+     * @throws NullPointerException
+     *             if {@code one == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code form == GENERAL}
+     * @throws IllegalArgumentException
+     *             if {@code form == IDENTITY && rowSize != columnSize}
+     * @since 1
+     */
+    /* default */ AbstractMatrix(final int rowSize, final int columnSize, final SpecialForm form, final E zero,
+        final E one) {
+        requireNonNull(form, "form");
+        requireNonNull(zero, "zero");
+        requireNonNull(one, "one");
+        checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
+        checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
+        checkArgument(form != SpecialForm.GENERAL, "expected special form but actual %s", form);
+        checkArgument(form != SpecialForm.IDENTITY || rowSize == columnSize,
+            "expected square identity matrix but actual %sx%s", rowSize, columnSize);
+        table = null;
+        this.zero = zero;
+        this.one = one;
+        rowCount = rowSize;
+        columnCount = columnSize;
+        this.form = form;
     }
 
     /**
@@ -129,6 +252,41 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     protected abstract V multiplyVector(V vector);
 
+    /**
+     * Returns the product of this {@link AbstractMatrix} and the given
+     * {@link AbstractVector} computing the rows in parallel if
+     * {@code rowSize >= PARALLEL_ROW_THRESHOLD}
+     *
+     * @param vector
+     *            vector
+     * @return product
+     * @since 1
+     */
+    protected abstract V multiplyVectorParallel(V vector);
+
+    /**
+     * Returns the products of this {@link AbstractMatrix} and the given
+     * {@link AbstractVector AbstractVectors}
+     *
+     * @param vectors
+     *            vectors
+     * @return products in the order of {@code vectors}
+     * @since 1
+     */
+    protected abstract ImmutableList<V> multiplyVectors(List<V> vectors);
+
+    /**
+     * Returns the products of this {@link AbstractMatrix} and the given
+     * {@link AbstractVector AbstractVectors} processing the blocks of
+     * {@link #VECTOR_BLOCK_SIZE} vectors in parallel
+     *
+     * @param vectors
+     *            vectors
+     * @return products in the order of {@code vectors}
+     * @since 1
+     */
+    protected abstract ImmutableList<V> multiplyVectorsParallel(List<V> vectors);
+
     /**
      * Returns the product of a matrix row and a matrix column
      *
@@ -152,6 +310,82 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     protected abstract M scalarMultiply(E scalar);
 
+    /**
+     * Applies the given kernel to every row of this {@link AbstractMatrix} and
+     * returns the results in row order
+     *
+     * @param <R>
+     *            type of the results
+     * @param rowKernel
+     *            kernel
+     * @param parallel
+     *            {@code true} if the rows should be processed in parallel when
+     *            {@code rowSize >= PARALLEL_ROW_THRESHOLD}
+     * @return results
+     * @throws NullPointerException
+     *             if {@code rowKernel == null}
+     * @since 1
+     */
+    protected final <R> ImmutableList<R> multiplyRows(final Function<Map<Integer, E>, R> rowKernel,
+        final boolean parallel) {
+        requireNonNull(rowKernel, "rowKernel");
+        final ImmutableList<Map<Integer, E>> rows = getTable().rowMap().values().asList();
+        return (parallel && rows.size() >= PARALLEL_ROW_THRESHOLD ? rows.parallelStream() : rows.stream())
+            .map(rowKernel).collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Multiplies every row of this {@link AbstractMatrix} with the given
+     * {@link AbstractVector AbstractVectors} and returns the elements of the
+     * products in the order of {@code vectors}
+     * <p>
+     * The vectors are processed in blocks of {@link #VECTOR_BLOCK_SIZE} so that
+     * the matrix is walked once per block instead of once per vector.
+     *
+     * @param vectors
+     *            vectors
+     * @param rowKernel
+     *            kernel multiplying a row with a vector given as lookup function
+     * @param parallel
+     *            {@code true} if the blocks should be processed in parallel
+     * @return elements of the products
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws NullPointerException
+     *             if {@code rowKernel == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    protected final ImmutableList<ImmutableList<E>> multiplyRowsWithVectors(final List<V> vectors,
+        final BiFunction<Map<Integer, E>, Function<Integer, E>, E> rowKernel, final boolean parallel) {
+        requireNonNull(vectors, "vectors");
+        requireNonNull(rowKernel, "rowKernel");
+        final List<Function<Integer, E>> columns = new ArrayList<>(vectors.size());
+        for (final V vector : vectors) {
+            requireNonNull(vector, "vector");
+            checkArgument(columnSize() == vector.size(),
+                "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+            final ImmutableList<E> elements = vector.elementList();
+            columns.add(index -> elements.get(index - 1));
+        }
+        final ImmutableList<Map<Integer, E>> rows = getTable().rowMap().values().asList();
+        final List<List<Function<Integer, E>>> blocks = Lists.partition(columns, VECTOR_BLOCK_SIZE);
+        return (parallel ? blocks.parallelStream() : blocks.stream()).flatMap(block -> {
+            final List<ImmutableList.Builder<E>> products = new ArrayList<>(block.size());
+            block.forEach(column -> products.add(ImmutableList.builder()));
+            rows.forEach(row -> {
+                for (int i = 0; i < block.size(); i++) {
+                    products.get(i).add(rowKernel.apply(row, block.get(i)));
+                }
+            });
+            return products.stream().map(ImmutableList.Builder::build);
+        }).collect(ImmutableList.toImmutableList());
+    }
+
     /**
      * Returns the negated {@link AbstractMatrix} and this one
      *
@@ -176,6 +410,90 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     protected abstract E determinant();
 
+    /**
+     * Returns the determinant of this {@link AbstractMatrix} using the
+     * {@link DeterminantStrategy} which the given {@link DeterminantThresholds}
+     * select for its size
+     *
+     * @param thresholds
+     *            {@link DeterminantThresholds}
+     * @return determinant
+     * @since 1
+     */
+    protected abstract E determinant(DeterminantThresholds thresholds);
+
+    /**
+     * Returns the determinant of this {@link AbstractMatrix} using the given
+     * {@link DeterminantStrategy}
+     *
+     * @param strategy
+     *            {@link DeterminantStrategy}
+     * @return determinant
+     * @since 1
+     */
+    protected abstract E determinant(DeterminantStrategy strategy);
+
+    /**
+     * Returns if the given {@link DeterminantStrategy} can be applied to the
+     * elements of this {@link AbstractMatrix}
+     * <p>
+     * {@link DeterminantStrategy#MODULAR} is only supported by
+     * {@link BigIntegerMatrix}.
+     *
+     * @param strategy
+     *            {@link DeterminantStrategy}
+     * @return {@code true} if supported, {@code false} otherwise
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @since 1
+     */
+    public boolean supportsDeterminantStrategy(final DeterminantStrategy strategy) {
+        requireNonNull(strategy, "strategy");
+        return strategy != DeterminantStrategy.MODULAR;
+    }
+
+    /**
+     * Returns the determinant computed by the given {@link DeterminantStrategy}
+     * <p>
+     * Covers the strategies supported by all element types. Matrices which
+     * {@link #supportsDeterminantStrategy(DeterminantStrategy) support} further
+     * strategies override this method and fall back to it.
+     *
+     * @param strategy
+     *            {@link DeterminantStrategy}
+     * @param arithmetic
+     *            {@link Determinants.Arithmetic} of the elements
+     * @return determinant
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @throws IllegalStateException
+     *             if this {@link AbstractMatrix} is not square
+     * @throws IllegalArgumentException
+     *             if {@code strategy} does not support {@code rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code strategy} does not support the elements
+     * @since 1
+     */
+    protected E determinantWith(final DeterminantStrategy strategy, final Determinants.Arithmetic<E> arithmetic) {
+        requireNonNull(strategy, "strategy");
+        assert arithmetic != null;
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        final int size = rowSize();
+        checkArgument(strategy.supports(size), "expected strategy supporting size %s but actual %s", size, strategy);
+        checkArgument(supportsDeterminantStrategy(strategy), "expected strategy supporting the elements but actual %s",
+            strategy);
+        switch (strategy) {
+            case LEIBNIZ:
+                return leibnizFormula();
+            case RULE_OF_SARRUS:
+                return ruleOfSarrus();
+            case LAPLACE:
+                return Determinants.laplace(getTable(), arithmetic);
+            default:
+                return Determinants.bareiss(getTable(), arithmetic);
+        }
+    }
+
     /**
      * Leibniz formula
      *
@@ -265,6 +583,54 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     protected abstract N maxNorm();
 
+    /**
+     * Returns the maximum of the sums of the absolute values of the given lines
+     * <p>
+     * The sums are first estimated with {@code double} precision. Only the lines
+     * whose estimate lies within a tolerance of the maximum estimate are
+     * calculated with the given exact functions, so most square roots of complex
+     * elements are never computed. The tolerance covers the error of the
+     * estimate and of the {@link SquareRootContext}.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param lines
+     *            rows or columns of this {@link AbstractMatrix}
+     * @param approximateAbs
+     *            function which approximates the absolute value of an element
+     * @param abs
+     *            function which calculates the absolute value of an element
+     * @param addition
+     *            function which adds two absolute values
+     * @param squareRootContext
+     *            {@link SquareRootContext} used by {@code abs}
+     * @return maximum absolute sum
+     * @since 1
+     */
+    protected static <E> BigDecimal maxAbsSumNorm(final Collection<Map<Integer, E>> lines,
+        final ToDoubleFunction<E> approximateAbs, final Function<E, BigDecimal> abs,
+        final BinaryOperator<BigDecimal> addition, final SquareRootContext squareRootContext) {
+        assert lines != null;
+        assert approximateAbs != null;
+        assert abs != null;
+        assert addition != null;
+        assert squareRootContext != null;
+        final List<Map<Integer, E>> lineList = ImmutableList.copyOf(lines);
+        final double[] estimates =
+            lineList.stream().mapToDouble(line -> line.values().stream().mapToDouble(approximateAbs).sum()).toArray();
+        final double maxEstimate = DoubleStream.of(estimates).max().getAsDouble();
+        final int lineSize = lineList.get(0).size();
+        final int precision = squareRootContext.getMathContext().getPrecision();
+        final double relativeTolerance = 1E-9 + (precision > 0 ? lineSize * Math.pow(10, 1 - precision) : 0D);
+        final double tolerance = maxEstimate * relativeTolerance
+            + 4D * lineSize * squareRootContext.getAbortCriterion().doubleValue();
+        final boolean estimated = Double.isFinite(maxEstimate) && Double.isFinite(tolerance);
+        return IntStream.range(0, estimates.length)
+            .filter(index -> !estimated || estimates[index] >= maxEstimate - tolerance)
+            .mapToObj(index -> lineList.get(index).values().stream().map(abs).reduce(addition).get())
+            .reduce(BigDecimal::max).get();
+    }
+
     /**
      * Returns a {@code boolean} which indicates if this {@link AbstractMatrix} is a
      * square one
@@ -274,7 +640,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final boolean square() {
-        return table.rowKeySet().size() == table.columnKeySet().size();
+        return rowSize() == columnSize();
     }
 
     /**
@@ -372,7 +738,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final ImmutableSet<Integer> rowIndexes() {
-        return table.rowKeySet();
+        return form == SpecialForm.GENERAL ? table.rowKeySet() : ContiguousSet.closed(1, rowCount);
     }
 
     /**
@@ -382,7 +748,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final ImmutableSet<Integer> columnIndexes() {
-        return table.columnKeySet();
+        return form == SpecialForm.GENERAL ? table.columnKeySet() : ContiguousSet.closed(1, columnCount);
     }
 
     /**
@@ -406,10 +772,13 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
     public final E element(final Integer rowIndex, final Integer columnIndex) {
         requireNonNull(rowIndex, "rowIndex");
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.rowKeySet().contains(rowIndex), "expected row index in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
-        checkArgument(table.columnKeySet().contains(columnIndex), "expected column index in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
+        checkArgument(0 < rowIndex && rowIndex <= rowCount, "expected row index in [1, %s] but actual %s", rowCount,
+            rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= columnCount, "expected column index in [1, %s] but actual %s",
+            columnCount, columnIndex);
+        if (form != SpecialForm.GENERAL) {
+            return form == SpecialForm.IDENTITY && rowIndex.equals(columnIndex) ? one : zero;
+        }
         return table.get(rowIndex, columnIndex);
     }
 
@@ -420,7 +789,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final ImmutableSet<Cell<Integer, Integer, E>> cells() {
-        return table.cellSet();
+        return getTable().cellSet();
     }
 
     /**
@@ -438,9 +807,9 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     public final ImmutableMap<Integer, E> row(final Integer rowIndex) {
         requireNonNull(rowIndex, "rowIndex");
-        checkArgument(table.rowKeySet().contains(rowIndex), "expected row index in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
-        return table.row(rowIndex);
+        checkArgument(0 < rowIndex && rowIndex <= rowCount, "expected row index in [1, %s] but actual %s", rowCount,
+            rowIndex);
+        return getTable().row(rowIndex);
     }
 
     /**
@@ -458,9 +827,9 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     public final ImmutableMap<Integer, E> column(final Integer columnIndex) {
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.columnKeySet().contains(columnIndex), "expected column index in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
-        return table.column(columnIndex);
+        checkArgument(0 < columnIndex && columnIndex <= columnCount, "expected column index in [1, %s] but actual %s",
+            columnCount, columnIndex);
+        return getTable().column(columnIndex);
     }
 
     /**
@@ -470,7 +839,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final ImmutableMap<Integer, Map<Integer, E>> rows() {
-        return table.rowMap();
+        return getTable().rowMap();
     }
 
     /**
@@ -480,7 +849,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final ImmutableMap<Integer, Map<Integer, E>> columns() {
-        return table.columnMap();
+        return getTable().columnMap();
     }
 
     /**
@@ -490,7 +859,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final ImmutableCollection<E> elements() {
-        return table.values();
+        return getTable().values();
     }
 
     /**
@@ -500,7 +869,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final long size() {
-        return Long.valueOf(table.rowKeySet().size()) * Long.valueOf(table.columnKeySet().size());
+        return Long.valueOf(rowCount) * Long.valueOf(columnCount);
     }
 
     /**
@@ -510,7 +879,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final int rowSize() {
-        return table.rowKeySet().size();
+        return rowCount;
     }
 
     /**
@@ -520,7 +889,74 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      * @since 1
      */
     public final int columnSize() {
-        return table.columnKeySet().size();
+        return columnCount;
+    }
+
+    /**
+     * Returns if this {@link AbstractMatrix} is a shared zero matrix
+     *
+     * @return {@code true} if {@code form == ZERO}, {@code false} otherwise
+     * @since 1
+     */
+    protected final boolean zeroForm() {
+        return form == SpecialForm.ZERO;
+    }
+
+    /**
+     * Returns if this {@link AbstractMatrix} is a shared identity matrix
+     *
+     * @return {@code true} if {@code form == IDENTITY}, {@code false}
+     *         otherwise
+     * @since 1
+     */
+    protected final boolean identityForm() {
+        return form == SpecialForm.IDENTITY;
+    }
+
+    /**
+     * Returns the maximum of the given function over each row of this
+     * {@link AbstractMatrix}
+     * <p>
+     * The elements of a matrix of a {@link SpecialForm} are not inspected; their
+     * maxima are {@code 0}.
+     *
+     * @param function
+     *            {@link ToIntFunction}
+     * @return maxima indexed by {@code rowIndex - 1}
+     * @since 1
+     */
+    protected final int[] rowMaxima(final ToIntFunction<? super E> function) {
+        assert function != null;
+        final int[] maxima = new int[rowCount];
+        if (form == SpecialForm.GENERAL) {
+            Arrays.fill(maxima, Integer.MIN_VALUE);
+            table.cellSet().forEach(cell -> maxima[cell.getRowKey() - 1] =
+                Math.max(maxima[cell.getRowKey() - 1], function.applyAsInt(cell.getValue())));
+        }
+        return maxima;
+    }
+
+    /**
+     * Returns the maximum of the given function over each column of this
+     * {@link AbstractMatrix}
+     * <p>
+     * The elements of a matrix of a {@link SpecialForm} are not inspected; their
+     * maxima are {@code 0}.
+     *
+     * @param function
+     *            {@link ToIntFunction}
+     * @return maxima indexed by {@code columnIndex - 1}
+     * @since 1
+     */
+    protected final int[] columnMaxima(final ToIntFunction<? super E> function) {
+        assert function != null;
+        final int[] maxima = new int[columnCount];
+        if (form == SpecialForm.GENERAL) {
+            Arrays.fill(maxima, Integer.MIN_VALUE);
+            table.cellSet().forEach(cell -> maxima[cell.getColumnKey() - 1] =
+                Math.max(maxima[cell.getColumnKey() - 1], function.applyAsInt(cell.getValue())));
+        }
+        return maxima;
     }
 
     /**
@@ -530,7 +966,7 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     @Override
     public final int hashCode() {
-        return Objects.hash(table);
+        return Objects.hash(getTable());
     }
 
     /**
@@ -547,7 +983,13 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
             return false;
         }
         final AbstractMatrix<?, ?, ?, ?, ?> other = (AbstractMatrix<?, ?, ?, ?, ?>) object;
-        return Objects.equals(table, other.getTable());
+        if (rowCount != other.rowCount || columnCount != other.columnCount) {
+            return false;
+        }
+        if (form != SpecialForm.GENERAL && other.form != SpecialForm.GENERAL) {
+            return form == other.form;
+        }
+        return Objects.equals(getTable(), other.getTable());
     }
 
     /**
@@ -557,10 +999,183 @@ public abstract class AbstractMatrix<E, V extends AbstractVector<E, V, M, N, B>,
      */
     @Override
     public final String toString() {
-        return MoreObjects.toStringHelper(this).add("table", table).toString();
+        return MoreObjects.toStringHelper(this).add("table", getTable()).toString();
     }
 
+    /**
+     * Returns the {@link ImmutableTable} holding the elements of this
+     * {@link AbstractMatrix}
+     * <p>
+     * A matrix of a {@link SpecialForm} materializes its table on the first call
+     * and shares it with equal matrices through a bounded cache.
+     *
+     * @return {@link ImmutableTable}
+     * @since 1
+     */
     public final ImmutableTable<Integer, Integer, E> getTable() {
-        return table;
+        if (table != null) {
+            return table;
+        }
+        ImmutableTable<Integer, Integer, E> elements = materializedTable;
+        if (elements == null) {
+            elements = specialFormTable(form, rowCount, columnCount, zero, one);
+            materializedTable = elements;
+        }
+        return elements;
+    }
+
+    /**
+     * Returns an {@link ImmutableTable} containing the elements of the given
+     * array
+     *
+     * @param <E>
+     *            type of the elements
+     * @param elements
+     *            elements indexed by {@code [rowIndex - 1][columnIndex - 1]}
+     * @return {@link ImmutableTable}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty or not rectangular
+     * @since 1
+     */
+    @SafeVarargs
+    protected static <E> ImmutableTable<Integer, Integer, E> tableOf(final E[]... elements) {
+        requireNonNull(elements, "elements");
+        final List<List<E>> rows = new ArrayList<>(elements.length);
+        for (final E[] row : elements) {
+            rows.add(Arrays.asList(requireNonNull(row, "row")));
+        }
+        return tableOfRows(rows);
+    }
+
+    /**
+     * Returns an {@link ImmutableTable} whose elements are generated by the
+     * given {@link MatrixElementGenerator}
+     * <p>
+     * Sequentially the elements are put into the table in a single pass. In
+     * parallel the rows are generated concurrently and then put into the table.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @param parallel
+     *            {@code true} if the rows should be generated in parallel
+     * @return {@link ImmutableTable}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    protected static <E> ImmutableTable<Integer, Integer, E> tableOf(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends E> generator, final boolean parallel) {
+        requireNonNull(generator, "generator");
+        checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
+        checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
+        if (parallel) {
+            return tableOfRows(IntStream.rangeClosed(1, rowSize).parallel()
+                .mapToObj(rowIndex -> IntStream.rangeClosed(1, columnSize)
+                    .mapToObj(columnIndex -> generator.generate(rowIndex, columnIndex)).collect(Collectors.toList()))
+                .collect(Collectors.toList()));
+        }
+        final ImmutableTable.Builder<Integer, Integer, E> builder = ImmutableTable.builder();
+        for (int rowIndex = 1; rowIndex <= rowSize; rowIndex++) {
+            for (int columnIndex = 1; columnIndex <= columnSize; columnIndex++) {
+                builder.put(rowIndex, columnIndex,
+                    requireNonNull(generator.generate(rowIndex, columnIndex), "element"));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns an {@link ImmutableTable} containing the elements of the given
+     * rows
+     *
+     * @param <E>
+     *            type of the elements
+     * @param rows
+     *            rows ordered by row index containing the elements ordered by
+     *            column index
+     * @return {@link ImmutableTable}
+     * @throws NullPointerException
+     *             if {@code rows == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rows} is empty or not rectangular
+     * @since 1
+     */
+    protected static <E> ImmutableTable<Integer, Integer, E> tableOfRows(final List<? extends List<? extends E>> rows) {
+        requireNonNull(rows, "rows");
+        checkArgument(!rows.isEmpty(), "expected rowSize > 0 but actual %s", rows.size());
+        final int columnSize = requireNonNull(rows.get(0), "row").size();
+        checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
+        final ImmutableTable.Builder<Integer, Integer, E> builder = ImmutableTable.builder();
+        int rowIndex = 1;
+        for (final List<? extends E> row : rows) {
+            requireNonNull(row, "row");
+            checkArgument(row.size() == columnSize, "expected equal row sizes but actual %s != %s", columnSize,
+                row.size());
+            int columnIndex = 1;
+            for (final E element : row) {
+                builder.put(rowIndex, columnIndex, requireNonNull(element, "element"));
+                columnIndex++;
+            }
+            rowIndex++;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the table of a matrix of the given {@link SpecialForm}
+     * <p>
+     * Tables up to {@link Matrices#CACHE_MAXIMUM_ELEMENTS} elements in total are
+     * shared between equal matrices.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param form
+     *            {@link SpecialForm}
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param zero
+     *            zero element
+     * @param one
+     *            one element
+     * @return table
+     * @since 1
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> ImmutableTable<Integer, Integer, E> specialFormTable(final SpecialForm form, final int rowSize,
+        final int columnSize, final E zero, final E one) {
+        assert form != null;
+        assert zero != null;
+        assert one != null;
+        return (ImmutableTable<Integer, Integer, E>) SPECIAL_FORM_TABLES
+            .getUnchecked(ImmutableList.of(form, rowSize, columnSize, zero, one));
+    }
+
+    private static ImmutableTable<Integer, Integer, Object> specialFormTable(final ImmutableList<Object> key) {
+        assert key != null;
+        final boolean identity = key.get(0) == SpecialForm.IDENTITY;
+        final Object zero = key.get(3);
+        final Object one = key.get(4);
+        return tableOf((Integer) key.get(1), (Integer) key.get(2),
+            (rowIndex, columnIndex) -> identity && rowIndex == columnIndex ? one : zero, false);
     }
 }
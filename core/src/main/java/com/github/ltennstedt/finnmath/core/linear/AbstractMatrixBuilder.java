@@ -17,11 +17,13 @@
 package com.github.ltennstedt.finnmath.core.linear;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ArrayTable;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -50,6 +52,10 @@ public abstract class AbstractMatrixBuilder<E, M extends AbstractMatrix<E, ?, M,
      */
     protected final Table<Integer, Integer, E> table;
 
+    private final ArrayTable<Integer, Integer, E> arrayTable;
+
+    private boolean built;
+
     /**
      * Constructor
      *
@@ -67,7 +73,8 @@ public abstract class AbstractMatrixBuilder<E, M extends AbstractMatrix<E, ?, M,
         checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
         final List<Integer> rowIndexes = IntStream.rangeClosed(1, rowSize).boxed().collect(Collectors.toList());
         final List<Integer> columnIndexes = IntStream.rangeClosed(1, columnSize).boxed().collect(Collectors.toList());
-        table = ArrayTable.create(rowIndexes, columnIndexes);
+        arrayTable = ArrayTable.create(rowIndexes, columnIndexes);
+        table = arrayTable;
     }
 
     /**
@@ -94,19 +101,11 @@ public abstract class AbstractMatrixBuilder<E, M extends AbstractMatrix<E, ?, M,
      * @since 1
      */
     public final B put(final Integer rowIndex, final Integer columnIndex, final E element) {
+        checkNotBuilt();
         requireNonNull(element, "element");
         requireNonNull(rowIndex, "rowIndex");
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.rowKeySet().contains(rowIndex), "expected rowIndex in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
-        checkArgument(table.columnKeySet().contains(columnIndex), "expected columnIndex in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
-        table.put(rowIndex, columnIndex, element);
-
-        @SuppressWarnings("unchecked")
-        final B builder = (B) this;
-
-        return builder;
+        return set(rowIndex, columnIndex, element);
     }
 
     /**
@@ -121,6 +120,7 @@ public abstract class AbstractMatrixBuilder<E, M extends AbstractMatrix<E, ?, M,
      * @since 1
      */
     public final B nullsToElement(final E element) {
+        checkNotBuilt();
         requireNonNull(element, "element");
         table.cellSet().forEach(cell -> {
             if (cell.getValue() == null) {
@@ -135,19 +135,32 @@ public abstract class AbstractMatrixBuilder<E, M extends AbstractMatrix<E, ?, M,
     }
 
     /**
-     * Puts the given element on all indices and returns {@code this}
+     * Sets the given element dependent on the given row and column index
+     * <p>
+     * In contrast to {@link #put(Integer, Integer, Object)} the indexes are
+     * neither boxed nor looked up but only compared with the sizes.
      *
+     * @param rowIndex
+     *            the row index
+     * @param columnIndex
+     *            the column index
      * @param element
      *            the element
      * @return {@code this}
      * @throws NullPointerException
      *             if {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || rowSize < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || columnSize < columnIndex}
      * @since 1
      */
-    public final B putAll(final E element) {
+    public final B set(final int rowIndex, final int columnIndex, final E element) {
+        checkNotBuilt();
         requireNonNull(element, "element");
-        table.rowKeySet()
-            .forEach(rowKey -> table.columnKeySet().forEach(columnKey -> table.put(rowKey, columnKey, element)));
+        checkRowIndex(rowIndex);
+        checkColumnIndex(columnIndex);
+        arrayTable.set(rowIndex - 1, columnIndex - 1, element);
 
         @SuppressWarnings("unchecked")
         final B builder = (B) this;
@@ -155,6 +168,183 @@ public abstract class AbstractMatrixBuilder<E, M extends AbstractMatrix<E, ?, M,
         return builder;
     }
 
+    /**
+     * Sets the given elements on the row dependent on the given row index
+     *
+     * @param rowIndex
+     *            the row index
+     * @param elements
+     *            the elements ordered by column index
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || rowSize < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code elements.size != columnSize}
+     * @since 1
+     */
+    public final B setRow(final int rowIndex, final List<E> elements) {
+        checkNotBuilt();
+        requireNonNull(elements, "elements");
+        checkRowIndex(rowIndex);
+        final int columnSize = arrayTable.columnKeyList().size();
+        checkArgument(elements.size() == columnSize, "expected elements.size == columnSize but actual %s != %s",
+            elements.size(), columnSize);
+        for (int j = 0; j < columnSize; j++) {
+            arrayTable.set(rowIndex - 1, j, requireNonNull(elements.get(j), "element"));
+        }
+
+        @SuppressWarnings("unchecked")
+        final B builder = (B) this;
+
+        return builder;
+    }
+
+    /**
+     * Sets the given elements on the column dependent on the given column index
+     *
+     * @param columnIndex
+     *            the column index
+     * @param elements
+     *            the elements ordered by row index
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || columnSize < columnIndex}
+     * @throws IllegalArgumentException
+     *             if {@code elements.size != rowSize}
+     * @since 1
+     */
+    public final B setColumn(final int columnIndex, final List<E> elements) {
+        checkNotBuilt();
+        requireNonNull(elements, "elements");
+        checkColumnIndex(columnIndex);
+        final int rowSize = arrayTable.rowKeyList().size();
+        checkArgument(elements.size() == rowSize, "expected elements.size == rowSize but actual %s != %s",
+            elements.size(), rowSize);
+        for (int i = 0; i < rowSize; i++) {
+            arrayTable.set(i, columnIndex - 1, requireNonNull(elements.get(i), "element"));
+        }
+
+        @SuppressWarnings("unchecked")
+        final B builder = (B) this;
+
+        return builder;
+    }
+
+    /**
+     * Sets the given element on all indices and returns {@code this}
+     *
+     * @param element
+     *            the element
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code element == null}
+     * @since 1
+     */
+    public final B fill(final E element) {
+        checkNotBuilt();
+        requireNonNull(element, "element");
+        final int rowSize = arrayTable.rowKeyList().size();
+        final int columnSize = arrayTable.columnKeyList().size();
+        for (int i = 0; i < rowSize; i++) {
+            for (int j = 0; j < columnSize; j++) {
+                arrayTable.set(i, j, element);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        final B builder = (B) this;
+
+        return builder;
+    }
+
+    /**
+     * Sets the given element without any validation
+     * <p>
+     * Only for the arithmetic of this library where the indexes stem from
+     * matrices of matching sizes and the elements are never {@code null}.
+     *
+     * @param rowIndex
+     *            the row index
+     * @param columnIndex
+     *            the column index
+     * @param element
+     *            the element
+     * @since 1
+     */
+    protected final void setUnchecked(final int rowIndex, final int columnIndex, final E element) {
+        arrayTable.set(rowIndex - 1, columnIndex - 1, element);
+    }
+
+    /**
+     * Puts the given element on all indices and returns {@code this}
+     *
+     * @param element
+     *            the element
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code element == null}
+     * @since 1
+     */
+    public final B putAll(final E element) {
+        return fill(element);
+    }
+
+    /**
+     * Returns an {@link ImmutableTable} containing the elements and invalidates
+     * this {@link AbstractMatrixBuilder}
+     * <p>
+     * The elements are checked and copied in a single row-major pass over the
+     * backing array instead of a separate validation pass and
+     * {@link ImmutableTable#copyOf(Table)}. This is not an ownership transfer:
+     * {@link ImmutableTable.Builder} collects one cell per element before it
+     * builds the table, so the cells and the table are allocated in addition to
+     * the backing array.
+     *
+     * @param name
+     *            name used in the message of the {@link NullPointerException}
+     * @return {@link ImmutableTable}
+     * @throws NullPointerException
+     *             if one {@code cell.value == null}
+     * @throws IllegalStateException
+     *             if this {@link AbstractMatrixBuilder} has already been built
+     * @since 1
+     */
+    protected final ImmutableTable<Integer, Integer, E> buildTable(final String name) {
+        checkNotBuilt();
+        final ImmutableTable.Builder<Integer, Integer, E> builder = ImmutableTable.builder();
+        final int rowSize = arrayTable.rowKeyList().size();
+        final int columnSize = arrayTable.columnKeyList().size();
+        for (int i = 0; i < rowSize; i++) {
+            for (int j = 0; j < columnSize; j++) {
+                builder.put(i + 1, j + 1, requireNonNull(arrayTable.at(i, j), name));
+            }
+        }
+        built = true;
+        return builder.build();
+    }
+
+    private void checkRowIndex(final int rowIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= arrayTable.rowKeyList().size(),
+            "expected rowIndex in [1, %s] but actual %s", arrayTable.rowKeyList().size(), rowIndex);
+    }
+
+    private void checkColumnIndex(final int columnIndex) {
+        checkArgument(0 < columnIndex && columnIndex <= arrayTable.columnKeyList().size(),
+            "expected columnIndex in [1, %s] but actual %s", arrayTable.columnKeyList().size(), columnIndex);
+    }
+
+    private void checkNotBuilt() {
+        checkState(!built, "expected builder not built but actual built");
+    }
+
     /**
      * {@inheritDoc}
      *
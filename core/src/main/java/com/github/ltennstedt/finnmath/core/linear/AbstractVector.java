@@ -23,13 +23,22 @@ import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Base class for vectors
@@ -59,13 +68,38 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
     public static final SquareRootContext DEFAULT_SQUARE_ROOT_CONTEXT =
         SquareRootCalculator.DEFAULT_SQUARE_ROOT_CONTEXT;
 
+    private static final LoadingCache<ImmutableList<Object>, ImmutableMap<Integer, Object>> ZERO_MAPS =
+        CacheBuilder.newBuilder().maximumWeight(Vectors.CACHE_MAXIMUM_ELEMENTS)
+            .weigher((final ImmutableList<Object> key, final ImmutableMap<Integer, Object> map) -> map.size())
+            .build(CacheLoader.from(key -> mapOf((Integer) key.get(0), index -> key.get(1), false)));
+
     /**
      * {@link ImmutableMap} holding the elements of this {@link AbstractVector}
+     * <p>
+     * Shared zero vectors store no elements and hold {@code null};
+     * {@link #getMap()} returns the elements of every vector.
      *
      * @since 1
      */
     protected final ImmutableMap<Integer, E> map;
 
+    /**
+     * {@link ImmutableMap} materialized on first access for zero vectors
+     * <p>
+     * Racing threads may materialize equal maps; any of them may be kept.
+     */
+    private ImmutableMap<Integer, E> materializedMap;
+
+    private final SpecialForm form;
+
+    /**
+     * Zero element of a vector of a {@link SpecialForm}, {@code null} for
+     * general vectors
+     */
+    private final E zero;
+
+    private final int elementCount;
+
     /**
      * Required arguments constructor
      *
@@ -77,6 +111,32 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     protected AbstractVector(final ImmutableMap<Integer, E> map) {
         this.map = requireNonNull(map, "map");
+        zero = null;
+        elementCount = map.size();
+        form = SpecialForm.GENERAL;
+    }
+
+    /**
+     * Constructor for zero vectors which store no elements until they are
+     * requested as a map
+     *
+     * @param size
+     *            size
+     * @param zero
+     *            zero element
+     * @throws NullPointerException
+     *             if {@code zero == null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    protected AbstractVector(final int size, final E zero) {
+        requireNonNull(zero, "zero");
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        map = null;
+        this.zero = zero;
+        elementCount = size;
+        form = SpecialForm.ZERO;
     }
 
     /**
@@ -196,8 +256,8 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     public final N taxicabDistance(final V other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return subtract(other).taxicabNorm();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedTaxicabDistance(other);
     }
 
     /**
@@ -215,8 +275,8 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     public final P euclideanDistancePow2(final V other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return subtract(other).euclideanNormPow2();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedEuclideanDistancePow2(other);
     }
 
     /**
@@ -237,7 +297,7 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     public final BigDecimal euclideanDistance(final V other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return euclideanDistance(other, DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
@@ -260,8 +320,8 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
     public final BigDecimal euclideanDistance(final V other, final SquareRootContext squareRootContext) {
         requireNonNull(other, "other");
         requireNonNull(squareRootContext, "squareRootContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return subtract(other).euclideanNorm(squareRootContext);
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedEuclideanDistance(other, squareRootContext);
     }
 
     /**
@@ -279,7 +339,82 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     public final N maxDistance(final V other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return fusedMaxDistance(other);
+    }
+
+    /**
+     * Returns the taxicab distance from this {@link AbstractVector} to the given
+     * one of equal size
+     * <p>
+     * The default implementation computes the norm of the difference. Subclasses
+     * may override it with a single pass over the elements which does not
+     * allocate the difference vector.
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @return taxicab distance
+     * @since 1
+     */
+    protected N fusedTaxicabDistance(final V other) {
+        assert other != null;
+        return subtract(other).taxicabNorm();
+    }
+
+    /**
+     * Returns the square of the euclidean distance from this
+     * {@link AbstractVector} to the given one of equal size
+     * <p>
+     * The default implementation computes the norm of the difference. Subclasses
+     * may override it with a single pass over the elements which does not
+     * allocate the difference vector.
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    protected P fusedEuclideanDistancePow2(final V other) {
+        assert other != null;
+        return subtract(other).euclideanNormPow2();
+    }
+
+    /**
+     * Returns the euclidean distance from this {@link AbstractVector} to the
+     * given one of equal size
+     * <p>
+     * The default implementation computes the norm of the difference. Subclasses
+     * may override it with a single pass over the elements which does not
+     * allocate the difference vector.
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @param squareRootContext
+     *            {@link SquareRootContext}
+     * @return euclidean distance
+     * @since 1
+     */
+    protected BigDecimal fusedEuclideanDistance(final V other, final SquareRootContext squareRootContext) {
+        assert other != null;
+        assert squareRootContext != null;
+        return subtract(other).euclideanNorm(squareRootContext);
+    }
+
+    /**
+     * Returns the maximum distance from this {@link AbstractVector} to the given
+     * one of equal size
+     * <p>
+     * The default implementation computes the norm of the difference. Subclasses
+     * may override it with a single pass over the elements which does not
+     * allocate the difference vector.
+     *
+     * @param other
+     *            other {@link AbstractVector}
+     * @return maximum distance
+     * @since 1
+     */
+    protected N fusedMaxDistance(final V other) {
+        assert other != null;
         return subtract(other).maxNorm();
     }
 
@@ -308,8 +443,9 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     public final E element(final Integer index) {
         requireNonNull(index, "index");
-        checkArgument(map.containsKey(index), "expected index in [1, %s] but actual %s", map.size(), index);
-        return map.get(index);
+        checkArgument(0 < index && index <= elementCount, "expected index in [1, %s] but actual %s", elementCount,
+            index);
+        return form == SpecialForm.GENERAL ? map.get(index) : zero;
     }
 
     /**
@@ -320,7 +456,7 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      * @since 1
      */
     public final ImmutableSet<Entry<Integer, E>> entries() {
-        return map.entrySet();
+        return getMap().entrySet();
     }
 
     /**
@@ -330,7 +466,18 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      * @since 1
      */
     public final ImmutableCollection<E> elements() {
-        return map.values();
+        return getMap().values();
+    }
+
+    /**
+     * Returns the elements of this {@link AbstractVector} ordered by index so
+     * that the element with index {@code i} is at position {@code i - 1}
+     *
+     * @return elements as {@link ImmutableList}
+     * @since 1
+     */
+    protected final ImmutableList<E> elementList() {
+        return IntStream.rangeClosed(1, size()).mapToObj(getMap()::get).collect(ImmutableList.toImmutableList());
     }
 
     /**
@@ -340,7 +487,34 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      * @since 1
      */
     public final int size() {
-        return map.size();
+        return elementCount;
+    }
+
+    /**
+     * Returns if this {@link AbstractVector} is a shared zero vector
+     *
+     * @return {@code true} if {@code form == ZERO}, {@code false} otherwise
+     * @since 1
+     */
+    protected final boolean zeroForm() {
+        return form == SpecialForm.ZERO;
+    }
+
+    /**
+     * Returns the maximum of the given function over the elements of this
+     * {@link AbstractVector}
+     * <p>
+     * The elements of a zero vector are not inspected; their maximum is
+     * {@code 0}.
+     *
+     * @param function
+     *            {@link ToIntFunction}
+     * @return maximum
+     * @since 1
+     */
+    protected final int maximum(final ToIntFunction<? super E> function) {
+        assert function != null;
+        return form == SpecialForm.GENERAL ? map.values().stream().mapToInt(function).max().getAsInt() : 0;
     }
 
     /**
@@ -350,7 +524,7 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     @Override
     public final int hashCode() {
-        return Objects.hash(map);
+        return Objects.hash(getMap());
     }
 
     /**
@@ -367,7 +541,13 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
             return false;
         }
         final AbstractVector<?, ?, ?, ?, ?> other = (AbstractVector<?, ?, ?, ?, ?>) object;
-        return Objects.deepEquals(map, other.getMap());
+        if (elementCount != other.elementCount) {
+            return false;
+        }
+        if (form != SpecialForm.GENERAL && other.form != SpecialForm.GENERAL) {
+            return form == other.form;
+        }
+        return Objects.deepEquals(getMap(), other.getMap());
     }
 
     /**
@@ -377,10 +557,112 @@ public abstract class AbstractVector<E, V extends AbstractVector<E, V, M, N, P>,
      */
     @Override
     public final String toString() {
-        return MoreObjects.toStringHelper(this).add("map", map).toString();
+        return MoreObjects.toStringHelper(this).add("map", getMap()).toString();
     }
 
+    /**
+     * Returns the {@link ImmutableMap} holding the elements of this
+     * {@link AbstractVector}
+     * <p>
+     * A zero vector materializes its map on the first call and shares it with
+     * equal vectors through a bounded cache.
+     *
+     * @return {@link ImmutableMap}
+     * @since 1
+     */
     public final ImmutableMap<Integer, E> getMap() {
-        return map;
+        if (map != null) {
+            return map;
+        }
+        ImmutableMap<Integer, E> elements = materializedMap;
+        if (elements == null) {
+            elements = zeroMap(elementCount, zero);
+            materializedMap = elements;
+        }
+        return elements;
+    }
+
+    /**
+     * Returns an {@link ImmutableMap} whose elements are generated by the given
+     * {@link IntFunction}
+     *
+     * @param <E>
+     *            type of the elements
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     * @param parallel
+     *            {@code true} if the elements should be generated in parallel
+     * @return {@link ImmutableMap}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    protected static <E> ImmutableMap<Integer, E> mapOf(final int size, final IntFunction<? extends E> generator,
+        final boolean parallel) {
+        requireNonNull(generator, "generator");
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        if (parallel) {
+            return mapOf(IntStream.rangeClosed(1, size).parallel().mapToObj(generator).collect(Collectors.toList()));
+        }
+        final ImmutableMap.Builder<Integer, E> builder = ImmutableMap.builderWithExpectedSize(size);
+        for (int index = 1; index <= size; index++) {
+            builder.put(index, requireNonNull(generator.apply(index), "element"));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns an {@link ImmutableMap} containing the given elements
+     *
+     * @param <E>
+     *            type of the elements
+     * @param elements
+     *            elements ordered by index
+     * @return {@link ImmutableMap}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    protected static <E> ImmutableMap<Integer, E> mapOf(final List<? extends E> elements) {
+        requireNonNull(elements, "elements");
+        checkArgument(!elements.isEmpty(), "expected size > 0 but actual %s", elements.size());
+        final ImmutableMap.Builder<Integer, E> builder = ImmutableMap.builderWithExpectedSize(elements.size());
+        int index = 1;
+        for (final E element : elements) {
+            builder.put(index, requireNonNull(element, "element"));
+            index++;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the map of a zero vector
+     * <p>
+     * Maps up to {@link Vectors#CACHE_MAXIMUM_ELEMENTS} elements in total are
+     * shared between equal vectors.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param size
+     *            size
+     * @param zero
+     *            zero element
+     * @return map
+     * @since 1
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> ImmutableMap<Integer, E> zeroMap(final int size, final E zero) {
+        assert zero != null;
+        return (ImmutableMap<Integer, E>) ZERO_MAPS.getUnchecked(ImmutableList.of(size, zero));
     }
 }
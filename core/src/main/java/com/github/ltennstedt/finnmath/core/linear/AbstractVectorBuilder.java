@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.IntStream;
@@ -52,6 +53,8 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
      */
     protected final int size;
 
+    private boolean built;
+
     /**
      * Required arguments constructor
      *
@@ -98,6 +101,7 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
      * @since 1
      */
     public final B put(final E element) {
+        checkNotBuilt();
         requireNonNull(element, "element");
         final int index = addExact(map.size(), 1);
         checkState(map.size() < size, "expected index in [1, %s] but actual %s", size, index);
@@ -126,6 +130,7 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
      * @since 1
      */
     public final B put(final Integer index, final E element) {
+        checkNotBuilt();
         requireNonNull(index, "index");
         requireNonNull(element, "element");
         checkArgument(0 < index && index <= size, "expected index in [1, %s] but actual %s", size, index);
@@ -137,6 +142,51 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
         return builder;
     }
 
+    /**
+     * Sets the given element dependent on the given index
+     * <p>
+     * In contrast to {@link #put(Integer, Object)} the index is not boxed
+     * before it has been validated.
+     *
+     * @param index
+     *            the index
+     * @param element
+     *            the element
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code index < 1 || size < index}
+     * @since 1
+     */
+    public final B set(final int index, final E element) {
+        checkNotBuilt();
+        requireNonNull(element, "element");
+        checkArgument(0 < index && index <= size, "expected index in [1, %s] but actual %s", size, index);
+        map.put(index, element);
+
+        @SuppressWarnings("unchecked")
+        final B builder = (B) this;
+
+        return builder;
+    }
+
+    /**
+     * Sets the given element without any validation
+     * <p>
+     * Only for the arithmetic of this library where the indexes stem from
+     * vectors of matching sizes and the elements are never {@code null}.
+     *
+     * @param index
+     *            the index
+     * @param element
+     *            the element
+     * @since 1
+     */
+    protected final void setUnchecked(final int index, final E element) {
+        map.put(index, element);
+    }
+
     /**
      * Puts the given element on all indices and returns {@code this}
      *
@@ -148,6 +198,7 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
      * @since 1
      */
     public final B putAll(final E element) {
+        checkNotBuilt();
         requireNonNull(element, "element");
         IntStream.rangeClosed(1, size).forEach(index -> map.put(index, element));
 
@@ -169,6 +220,7 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
      * @since 1
      */
     public final B nullsToElement(final E element) {
+        checkNotBuilt();
         requireNonNull(element, "element");
         map.entrySet().forEach(entry -> {
             if (entry.getValue() == null) {
@@ -182,6 +234,35 @@ public abstract class AbstractVectorBuilder<E, V, B> implements Builder<V> {
         return builder;
     }
 
+    /**
+     * Returns an {@link ImmutableMap} containing the elements ordered by index
+     * and invalidates this {@link AbstractVectorBuilder}
+     * <p>
+     * The elements are checked and copied in a single pass.
+     *
+     * @param name
+     *            name used in the message of the {@link NullPointerException}
+     * @return {@link ImmutableMap}
+     * @throws NullPointerException
+     *             if one {@code map.value == null}
+     * @throws IllegalStateException
+     *             if this {@link AbstractVectorBuilder} has already been built
+     * @since 1
+     */
+    protected final ImmutableMap<Integer, E> buildMap(final String name) {
+        checkNotBuilt();
+        final ImmutableMap.Builder<Integer, E> builder = ImmutableMap.builderWithExpectedSize(size);
+        for (int index = 1; index <= size; index++) {
+            builder.put(index, requireNonNull(map.get(index), name));
+        }
+        built = true;
+        return builder.build();
+    }
+
+    private void checkNotBuilt() {
+        checkState(!built, "expected builder not built but actual built");
+    }
+
     /**
      * {@inheritDoc}
      *
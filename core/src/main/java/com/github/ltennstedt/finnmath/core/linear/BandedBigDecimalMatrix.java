@@ -0,0 +1,580 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * An immutable square band matrix which uses {@link BigDecimal} as type for
+ * its elements and stores only the diagonals of its band
+ * <p>
+ * The element in row {@code i} and column {@code j} is zero unless
+ * {@code -lowerBandwidth <= j - i <= upperBandwidth}. The diagonal with offset
+ * {@code d = j - i} is stored as array of length {@code size - |d|}, so a
+ * matrix with bandwidth {@code b = lowerBandwidth + upperBandwidth + 1} needs
+ * {@code O(size * b)} memory. The product with a vector and the sum need
+ * {@code O(size * b)} operations, the determinant {@code O(size * b^2)} and
+ * {@code O(size)} for tridiagonal matrices which can also be solved by the
+ * Thomas algorithm.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class BandedBigDecimalMatrix {
+    private final int rowCount;
+    private final int lowerWidth;
+    private final int upperWidth;
+    private final BigDecimal[][] diagonals;
+
+    private BandedBigDecimalMatrix(final int rowCount, final int lowerWidth, final int upperWidth) {
+        this.rowCount = rowCount;
+        this.lowerWidth = lowerWidth;
+        this.upperWidth = upperWidth;
+        diagonals = new BigDecimal[lowerWidth + upperWidth + 1][];
+    }
+
+    /**
+     * Returns a {@link BandedBigDecimalMatrix} whose elements inside the band
+     * are computed by the given {@link MatrixElementGenerator}
+     *
+     * @param size
+     *            number of rows and columns
+     * @param lowerBandwidth
+     *            number of diagonals below the main diagonal
+     * @param upperBandwidth
+     *            number of diagonals above the main diagonal
+     * @param generator
+     *            {@link MatrixElementGenerator} called only for
+     *            {@code -lowerBandwidth <= columnIndex - rowIndex <= upperBandwidth}
+     * @return band matrix
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @throws IllegalArgumentException
+     *             if {@code lowerBandwidth < 0 || size <= lowerBandwidth}
+     * @throws IllegalArgumentException
+     *             if {@code upperBandwidth < 0 || size <= upperBandwidth}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if the generator returns {@code null}
+     * @since 1
+     */
+    public static BandedBigDecimalMatrix fromFunction(final int size, final int lowerBandwidth,
+        final int upperBandwidth, final MatrixElementGenerator<? extends BigDecimal> generator) {
+        checkBandwidths(size, lowerBandwidth, upperBandwidth);
+        requireNonNull(generator, "generator");
+        final BandedBigDecimalMatrix matrix = new BandedBigDecimalMatrix(size, lowerBandwidth, upperBandwidth);
+        for (int offset = -lowerBandwidth; offset <= upperBandwidth; offset++) {
+            final BigDecimal[] diagonal = new BigDecimal[size - Math.abs(offset)];
+            for (int index = 0; index < diagonal.length; index++) {
+                final int rowIndex = offset < 0 ? index + 1 - offset : index + 1;
+                diagonal[index] = requireNonNull(generator.generate(rowIndex, rowIndex + offset), "element");
+            }
+            matrix.diagonals[offset + lowerBandwidth] = diagonal;
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns a {@link BandedBigDecimalMatrix} containing the band of the given
+     * square {@link BigDecimalMatrix}
+     *
+     * @param matrix
+     *            {@link BigDecimalMatrix}
+     * @param lowerBandwidth
+     *            number of diagonals below the main diagonal
+     * @param upperBandwidth
+     *            number of diagonals above the main diagonal
+     * @return band matrix
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @throws IllegalArgumentException
+     *             if {@code !matrix.square}
+     * @throws IllegalArgumentException
+     *             if an element outside of the band is not zero
+     * @throws IllegalArgumentException
+     *             if {@code lowerBandwidth < 0 || size <= lowerBandwidth}
+     * @throws IllegalArgumentException
+     *             if {@code upperBandwidth < 0 || size <= upperBandwidth}
+     * @since 1
+     */
+    public static BandedBigDecimalMatrix of(final BigDecimalMatrix matrix, final int lowerBandwidth,
+        final int upperBandwidth) {
+        requireNonNull(matrix, "matrix");
+        checkArgument(matrix.square(), "expected square matrix but actual %sx%s", matrix.rowSize(),
+            matrix.columnSize());
+        checkBandwidths(matrix.rowSize(), lowerBandwidth, upperBandwidth);
+        matrix.cells().forEach(cell -> {
+            final int offset = cell.getColumnKey() - cell.getRowKey();
+            checkArgument(-lowerBandwidth <= offset && offset <= upperBandwidth || cell.getValue().signum() == 0,
+                "expected zero outside of the band but actual %s at (%s, %s)", cell.getValue(), cell.getRowKey(),
+                cell.getColumnKey());
+        });
+        return fromFunction(matrix.rowSize(), lowerBandwidth, upperBandwidth, matrix::element);
+    }
+
+    /**
+     * Returns a tridiagonal {@link BandedBigDecimalMatrix} with the given
+     * diagonals
+     *
+     * @param lower
+     *            diagonal below the main diagonal
+     * @param diagonal
+     *            main diagonal
+     * @param upper
+     *            diagonal above the main diagonal
+     * @return tridiagonal matrix
+     * @throws NullPointerException
+     *             if {@code lower == null}
+     * @throws NullPointerException
+     *             if {@code diagonal == null}
+     * @throws NullPointerException
+     *             if {@code upper == null}
+     * @throws IllegalArgumentException
+     *             if {@code diagonal.length < 2}
+     * @throws IllegalArgumentException
+     *             if {@code lower.length != diagonal.length - 1}
+     * @throws IllegalArgumentException
+     *             if {@code upper.length != diagonal.length - 1}
+     * @throws NullPointerException
+     *             if one of the elements is {@code null}
+     * @since 1
+     */
+    public static BandedBigDecimalMatrix tridiagonal(final BigDecimal[] lower, final BigDecimal[] diagonal,
+        final BigDecimal... upper) {
+        requireNonNull(lower, "lower");
+        requireNonNull(diagonal, "diagonal");
+        requireNonNull(upper, "upper");
+        checkArgument(diagonal.length > 1, "expected diagonal.length > 1 but actual %s", diagonal.length);
+        checkArgument(lower.length == diagonal.length - 1, "expected lower.length == %s but actual %s",
+            diagonal.length - 1, lower.length);
+        checkArgument(upper.length == diagonal.length - 1, "expected upper.length == %s but actual %s",
+            diagonal.length - 1, upper.length);
+        return fromFunction(diagonal.length, 1, 1, (rowIndex, columnIndex) -> {
+            if (rowIndex > columnIndex) {
+                return lower[columnIndex - 1];
+            }
+            return rowIndex == columnIndex ? diagonal[rowIndex - 1] : upper[rowIndex - 1];
+        });
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if this
+     * {@link BandedBigDecimalMatrix} is tridiagonal
+     *
+     * @return {@code true} if {@code lowerBandwidth <= 1 && upperBandwidth <= 1},
+     *         {@code false} otherwise
+     * @since 1
+     */
+    public boolean tridiagonal() {
+        return lowerWidth <= 1 && upperWidth <= 1;
+    }
+
+    /**
+     * Returns the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            row index
+     * @param columnIndex
+     *            column index
+     * @return element which is {@link BigDecimal#ZERO} outside of the band
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || size < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || size < columnIndex}
+     * @since 1
+     */
+    public BigDecimal element(final int rowIndex, final int columnIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= rowCount, "expected rowIndex in [1, %s] but actual %s", rowCount,
+            rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= rowCount, "expected columnIndex in [1, %s] but actual %s",
+            rowCount, columnIndex);
+        return inBand(columnIndex - rowIndex) ? bandElement(rowIndex, columnIndex) : BigDecimal.ZERO;
+    }
+
+    /**
+     * Returns the sum of this {@link BandedBigDecimalMatrix} and the given one
+     * whose bandwidths are the maximum of both
+     *
+     * @param summand
+     *            summand
+     * @return sum
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != summand.size}
+     * @since 1
+     */
+    public BandedBigDecimalMatrix add(final BandedBigDecimalMatrix summand) {
+        requireNonNull(summand, "summand");
+        checkArgument(rowCount == summand.rowCount, "expected equal sizes but actual %s != %s", rowCount,
+            summand.rowCount);
+        final int lower = Math.max(lowerWidth, summand.lowerWidth);
+        final int upper = Math.max(upperWidth, summand.upperWidth);
+        final BandedBigDecimalMatrix sums = new BandedBigDecimalMatrix(rowCount, lower, upper);
+        for (int offset = -lower; offset <= upper; offset++) {
+            if (!inBand(offset)) {
+                sums.diagonals[offset + lower] = summand.diagonals[offset + summand.lowerWidth];
+            } else if (!summand.inBand(offset)) {
+                sums.diagonals[offset + lower] = diagonals[offset + lowerWidth];
+            } else {
+                final BigDecimal[] diagonal = diagonals[offset + lowerWidth];
+                final BigDecimal[] other = summand.diagonals[offset + summand.lowerWidth];
+                final BigDecimal[] sum = new BigDecimal[diagonal.length];
+                for (int index = 0; index < sum.length; index++) {
+                    sum[index] = diagonal[index].add(other[index]);
+                }
+                sums.diagonals[offset + lower] = sum;
+            }
+        }
+        return sums;
+    }
+
+    /**
+     * Returns the product of this {@link BandedBigDecimalMatrix} and the given
+     * {@link BigDecimalVector} visiting only the band
+     *
+     * @param vector
+     *            vector
+     * @return product
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != vector.size}
+     * @since 1
+     */
+    public BigDecimalVector multiplyVector(final BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(rowCount == vector.size(), "expected columnSize == vectorSize but actual %s != %s", rowCount,
+            vector.size());
+        final ImmutableList<BigDecimal> vectorElements = vector.elementList();
+        return new BigDecimalVector(AbstractVector.mapOf(rowCount, rowIndex -> {
+            final int from = Math.max(1, rowIndex - lowerWidth);
+            final int to = Math.min(rowCount, rowIndex + upperWidth);
+            BigDecimal result = bandElement(rowIndex, from).multiply(vectorElements.get(from - 1));
+            for (int columnIndex = from + 1; columnIndex <= to; columnIndex++) {
+                result = result.add(bandElement(rowIndex, columnIndex).multiply(vectorElements.get(columnIndex - 1)));
+            }
+            return result;
+        }, false));
+    }
+
+    /**
+     * Returns the solution {@code x} of {@code this * x = vector} computed by the
+     * Thomas algorithm
+     * <p>
+     * The algorithm is Gaussian elimination without pivoting in {@code O(size)}
+     * operations which are rounded according to the {@link MathContext}. It is
+     * stable for diagonally dominant matrices.
+     *
+     * @param vector
+     *            right-hand side
+     * @param mathContext
+     *            {@link MathContext}
+     * @return solution
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != vector.size}
+     * @throws IllegalStateException
+     *             if {@code !tridiagonal}
+     * @throws IllegalStateException
+     *             if a pivot of the elimination is zero
+     * @since 1
+     */
+    public BigDecimalVector solve(final BigDecimalVector vector, final MathContext mathContext) {
+        requireNonNull(vector, "vector");
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(rowCount == vector.size(), "expected equal sizes but actual %s != %s", rowCount, vector.size());
+        checkState(tridiagonal(), "expected tridiagonal matrix but actual bandwidths %s and %s", lowerWidth,
+            upperWidth);
+        final BigDecimal[] upperFactors = new BigDecimal[rowCount];
+        final BigDecimal[] solution = new BigDecimal[rowCount];
+        BigDecimal pivot = bandElement(1, 1);
+        checkState(pivot.signum() != 0, "expected non-zero pivot in row 1 but actual %s", pivot);
+        solution[0] = vector.element(1).divide(pivot, mathContext);
+        for (int rowIndex = 2; rowIndex <= rowCount; rowIndex++) {
+            final BigDecimal lower = element(rowIndex, rowIndex - 1);
+            upperFactors[rowIndex - 2] = element(rowIndex - 1, rowIndex).divide(pivot, mathContext);
+            pivot = bandElement(rowIndex, rowIndex).subtract(lower.multiply(upperFactors[rowIndex - 2]), mathContext);
+            checkState(pivot.signum() != 0, "expected non-zero pivot in row %s but actual %s", rowIndex, pivot);
+            solution[rowIndex - 1] = vector.element(rowIndex)
+                .subtract(lower.multiply(solution[rowIndex - 2]), mathContext).divide(pivot, mathContext);
+        }
+        for (int rowIndex = rowCount - 1; rowIndex > 0; rowIndex--) {
+            solution[rowIndex - 1] =
+                solution[rowIndex - 1].subtract(upperFactors[rowIndex - 1].multiply(solution[rowIndex]), mathContext);
+        }
+        return BigDecimalVector.of(solution);
+    }
+
+    /**
+     * Returns the determinant
+     * <p>
+     * Tridiagonal matrices use the three-term recurrence of the leading
+     * principal minors in {@code O(size)} multiplications. Otherwise the
+     * fraction-free elimination due to Bareiss runs on the band in
+     * {@code O(size * lowerBandwidth * (lowerBandwidth + upperBandwidth))}
+     * operations. Rows below the band are scaled lazily once they enter it. Both
+     * are exact.
+     *
+     * @return determinant
+     * @since 1
+     */
+    public BigDecimal determinant() {
+        if (rowCount == 1) {
+            return bandElement(1, 1);
+        }
+        if (lowerWidth == 0 || upperWidth == 0) {
+            BigDecimal result = bandElement(1, 1);
+            for (int index = 2; index <= rowCount; index++) {
+                result = result.multiply(bandElement(index, index));
+            }
+            return result;
+        }
+        if (tridiagonal()) {
+            BigDecimal previous = BigDecimal.ONE;
+            BigDecimal current = bandElement(1, 1);
+            for (int index = 2; index <= rowCount; index++) {
+                final BigDecimal next = bandElement(index, index).multiply(current).subtract(
+                    bandElement(index, index - 1).multiply(bandElement(index - 1, index)).multiply(previous));
+                previous = current;
+                current = next;
+            }
+            return current;
+        }
+        return bareiss();
+    }
+
+    /**
+     * Returns the transpose sharing the diagonals of this
+     * {@link BandedBigDecimalMatrix}
+     *
+     * @return transpose
+     * @since 1
+     */
+    public BandedBigDecimalMatrix transpose() {
+        final BandedBigDecimalMatrix transposed = new BandedBigDecimalMatrix(rowCount, upperWidth, lowerWidth);
+        for (int index = 0; index < diagonals.length; index++) {
+            transposed.diagonals[index] = diagonals[diagonals.length - 1 - index];
+        }
+        return transposed;
+    }
+
+    /**
+     * Returns a dense {@link BigDecimalMatrix} containing the elements of this
+     * {@link BandedBigDecimalMatrix}
+     *
+     * @return {@link BigDecimalMatrix}
+     * @since 1
+     */
+    public BigDecimalMatrix toBigDecimalMatrix() {
+        return BigDecimalMatrix.fromFunction(rowCount, rowCount, this::element);
+    }
+
+    /**
+     * Returns the number of rows and columns
+     *
+     * @return size
+     * @since 1
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of diagonals below the main diagonal
+     *
+     * @return lower bandwidth
+     * @since 1
+     */
+    public int lowerBandwidth() {
+        return lowerWidth;
+    }
+
+    /**
+     * Returns the number of diagonals above the main diagonal
+     *
+     * @return upper bandwidth
+     * @since 1
+     */
+    public int upperBandwidth() {
+        return upperWidth;
+    }
+
+    private static void checkBandwidths(final int size, final int lowerBandwidth, final int upperBandwidth) {
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        checkArgument(0 <= lowerBandwidth && lowerBandwidth < size, "expected lowerBandwidth in [0, %s] but actual %s",
+            size - 1, lowerBandwidth);
+        checkArgument(0 <= upperBandwidth && upperBandwidth < size, "expected upperBandwidth in [0, %s] but actual %s",
+            size - 1, upperBandwidth);
+    }
+
+    private BigDecimal bandElement(final int rowIndex, final int columnIndex) {
+        return diagonals[columnIndex - rowIndex + lowerWidth][Math.min(rowIndex, columnIndex) - 1];
+    }
+
+    private boolean inBand(final int offset) {
+        return -lowerWidth <= offset && offset <= upperWidth;
+    }
+
+    private BigDecimal bareiss() {
+        final int fill = lowerWidth + upperWidth;
+        final BigDecimal[][] work = work(fill);
+        boolean negative = false;
+        BigDecimal previousPivot = null;
+        int enteredRows = Math.min(rowCount, 1 + lowerWidth);
+        for (int k = 1; k < rowCount; k++) {
+            final int lastRow = Math.min(rowCount, k + lowerWidth);
+            for (; enteredRows < lastRow; enteredRows++) {
+                scaleRow(work, fill, enteredRows + 1, previousPivot);
+            }
+            final int lastColumn = Math.min(rowCount, k + fill);
+            if (work[fill][k - 1].signum() == 0) {
+                final int pivotRow = pivotRow(work, fill, k, lastRow);
+                if (pivotRow > lastRow) {
+                    return BigDecimal.ZERO;
+                }
+                swapRows(work, fill, k, pivotRow, lastColumn);
+                negative = !negative;
+            }
+            eliminate(work, fill, k, lastRow, lastColumn, previousPivot);
+            previousPivot = work[fill][k - 1];
+        }
+        for (; enteredRows < rowCount; enteredRows++) {
+            scaleRow(work, fill, enteredRows + 1, previousPivot);
+        }
+        final BigDecimal determinant = work[fill][rowCount - 1];
+        return negative ? determinant.negate() : determinant;
+    }
+
+    private BigDecimal[][] work(final int fill) {
+        // column-wise band storage with room for the fill-in of row swaps:
+        // element (i, j) is at work[i - j + fill][j - 1]
+        final BigDecimal[][] work = new BigDecimal[fill + lowerWidth + 1][rowCount];
+        for (final BigDecimal[] row : work) {
+            Arrays.fill(row, BigDecimal.ZERO);
+        }
+        for (int offset = -lowerWidth; offset <= upperWidth; offset++) {
+            final BigDecimal[] diagonal = diagonals[offset + lowerWidth];
+            for (int index = 0; index < diagonal.length; index++) {
+                final int rowIndex = offset < 0 ? index + 1 - offset : index + 1;
+                work[fill - offset][rowIndex + offset - 1] = diagonal[index];
+            }
+        }
+        return work;
+    }
+
+    private static int pivotRow(final BigDecimal[][] work, final int fill, final int k, final int lastRow) {
+        assert work != null;
+        int pivotRow = k + 1;
+        while (pivotRow <= lastRow && work[pivotRow - k + fill][k - 1].signum() == 0) {
+            pivotRow++;
+        }
+        return pivotRow;
+    }
+
+    private static void swapRows(final BigDecimal[][] work, final int fill, final int k, final int pivotRow,
+        final int lastColumn) {
+        assert work != null;
+        for (int columnIndex = k; columnIndex <= lastColumn; columnIndex++) {
+            final BigDecimal[] pivotDiagonal = work[k - columnIndex + fill];
+            final BigDecimal swap = pivotDiagonal[columnIndex - 1];
+            pivotDiagonal[columnIndex - 1] = work[pivotRow - columnIndex + fill][columnIndex - 1];
+            work[pivotRow - columnIndex + fill][columnIndex - 1] = swap;
+        }
+    }
+
+    private static void eliminate(final BigDecimal[][] work, final int fill, final int k, final int lastRow,
+        final int lastColumn, final BigDecimal previousPivot) {
+        assert work != null;
+        final BigDecimal pivot = work[fill][k - 1];
+        for (int rowIndex = k + 1; rowIndex <= lastRow; rowIndex++) {
+            final BigDecimal first = work[rowIndex - k + fill][k - 1];
+            for (int columnIndex = k + 1; columnIndex <= lastColumn; columnIndex++) {
+                final BigDecimal difference = work[rowIndex - columnIndex + fill][columnIndex - 1].multiply(pivot)
+                    .subtract(first.multiply(work[k - columnIndex + fill][columnIndex - 1]));
+                work[rowIndex - columnIndex + fill][columnIndex - 1] =
+                    previousPivot == null ? difference : difference.divide(previousPivot);
+            }
+        }
+    }
+
+    private void scaleRow(final BigDecimal[][] work, final int fill, final int rowIndex, final BigDecimal factor) {
+        assert work != null;
+        if (factor == null) {
+            return;
+        }
+        // a row below the band is only scaled by the eliminations, which telescope to the last pivot
+        final int to = Math.min(rowCount, rowIndex + upperWidth);
+        for (int columnIndex = rowIndex - lowerWidth; columnIndex <= to; columnIndex++) {
+            work[rowIndex - columnIndex + fill][columnIndex - 1] =
+                work[rowIndex - columnIndex + fill][columnIndex - 1].multiply(factor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * rowCount + lowerWidth) + upperWidth) + Arrays.deepHashCode(diagonals);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof BandedBigDecimalMatrix)) {
+            return false;
+        }
+        final BandedBigDecimalMatrix other = (BandedBigDecimalMatrix) object;
+        return rowCount == other.rowCount && lowerWidth == other.lowerWidth && upperWidth == other.upperWidth
+            && Arrays.deepEquals(diagonals, other.diagonals);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", rowCount).add("lowerBandwidth", lowerWidth)
+            .add("upperBandwidth", upperWidth).add("diagonals", Arrays.deepToString(diagonals)).toString();
+    }
+}
@@ -24,13 +24,20 @@ import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a matrix which uses {@link BigDecimal} as type
@@ -42,10 +49,23 @@ import java.util.Optional;
 @Beta
 public final class BigDecimalMatrix
     extends AbstractContextMatrix<BigDecimal, BigDecimalVector, BigDecimalMatrix, BigDecimal, BigDecimal, MathContext> {
-    private BigDecimalMatrix(final ImmutableTable<Integer, Integer, BigDecimal> table) {
+    /**
+     * Default {@link DeterminantThresholds} of {@link #determinant()}
+     *
+     * @since 1
+     */
+    public static final DeterminantThresholds DETERMINANT_THRESHOLDS = DeterminantThresholds.builder()
+        .put(3, DeterminantStrategy.RULE_OF_SARRUS).put(4, DeterminantStrategy.LAPLACE)
+        .put(12, DeterminantStrategy.BAREISS).build();
+
+    /* default */ BigDecimalMatrix(final ImmutableTable<Integer, Integer, BigDecimal> table) {
         super(table);
     }
 
+    /* default */ BigDecimalMatrix(final int rowSize, final int columnSize, final SpecialForm form) {
+        super(rowSize, columnSize, form, BigDecimal.ZERO, BigDecimal.ONE);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -60,15 +80,21 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimalMatrix add(final BigDecimalMatrix summand) {
         requireNonNull(summand, "summand");
-        checkArgument(table.rowKeySet().size() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), summand.rowSize());
-        checkArgument(table.columnKeySet().size() == summand.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), summand.columnSize());
+        checkArgument(rowSize() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), summand.rowSize());
+        checkArgument(columnSize() == summand.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), summand.columnSize());
+        if (summand.zeroForm()) {
+            return rescale((rowIndex, columnIndex) -> 0);
+        }
+        if (zeroForm()) {
+            return summand.rescale((rowIndex, columnIndex) -> 0);
+        }
         final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -90,15 +116,16 @@ public final class BigDecimalMatrix
     public BigDecimalMatrix add(final BigDecimalMatrix summand, final MathContext mathContext) {
         requireNonNull(summand, "summand");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.rowKeySet().size() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), summand.rowSize());
-        checkArgument(table.columnKeySet().size() == summand.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), summand.columnSize());
+        checkArgument(rowSize() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), summand.rowSize());
+        checkArgument(columnSize() == summand.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), summand.columnSize());
         final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey), mathContext));
+            builder.setUnchecked(rowKey, columnKey,
+                cell.getValue().add(summand.element(rowKey, columnKey), mathContext));
         });
         return builder.build();
     }
@@ -117,15 +144,18 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimalMatrix subtract(final BigDecimalMatrix subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(table.rowKeySet().size() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), subtrahend.rowSize());
-        checkArgument(table.columnKeySet().size() == subtrahend.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), subtrahend.columnSize());
+        checkArgument(rowSize() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), subtrahend.rowSize());
+        checkArgument(columnSize() == subtrahend.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), subtrahend.columnSize());
+        if (subtrahend.zeroForm()) {
+            return rescale((rowIndex, columnIndex) -> 0);
+        }
         final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -147,15 +177,15 @@ public final class BigDecimalMatrix
     public BigDecimalMatrix subtract(final BigDecimalMatrix subtrahend, final MathContext mathContext) {
         requireNonNull(subtrahend, "subtrahend");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.rowKeySet().size() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), subtrahend.rowSize());
-        checkArgument(table.columnKeySet().size() == subtrahend.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), subtrahend.columnSize());
+        checkArgument(rowSize() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), subtrahend.rowSize());
+        checkArgument(columnSize() == subtrahend.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), subtrahend.columnSize());
         final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey,
+            builder.setUnchecked(rowKey, columnKey,
                 cell.getValue().subtract(subtrahend.element(rowKey, columnKey), mathContext));
         });
         return builder.build();
@@ -163,6 +193,11 @@ public final class BigDecimalMatrix
 
     /**
      * {@inheritDoc}
+     * <p>
+     * If the elements of both matrices share a common scale, e.g. integer
+     * matrices of scale {@code 0}, the product is computed on the unscaled
+     * values with {@code long} or {@link java.math.BigInteger} arithmetic and
+     * rescaled once.
      *
      * @throws NullPointerException
      *             if {@code factor == null}
@@ -173,12 +208,28 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimalMatrix multiply(final BigDecimalMatrix factor) {
         requireNonNull(factor, "factor");
-        checkArgument(table.columnKeySet().size() == factor.rowSize(),
-            "expected columnSize == factor.rowSize but actual %s != %s", table.columnKeySet().size(), factor.rowSize());
-        final BigDecimalMatrixBuilder builder = builder(table.rowKeySet().size(), factor.columnSize());
+        checkArgument(columnSize() == factor.rowSize(),
+            "expected columnSize == factor.rowSize but actual %s != %s", columnSize(), factor.rowSize());
+        if (factor.identityForm()) {
+            final int[] rowScales = rowMaxima(BigDecimal::scale);
+            return rescale((rowIndex, columnIndex) -> rowScales[rowIndex - 1]);
+        }
+        if (identityForm()) {
+            final int[] columnScales = factor.columnMaxima(BigDecimal::scale);
+            return factor.rescale((rowIndex, columnIndex) -> columnScales[columnIndex - 1]);
+        }
+        if (zeroForm() || factor.zeroForm()) {
+            return zeroMatrix(rowMaxima(BigDecimal::scale), factor.columnMaxima(BigDecimal::scale));
+        }
+        final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
+        final OptionalInt productScale = ScaledIntegers.productScale(table, factor.getTable());
+        if (productScale.isPresent()) {
+            return new BigDecimalMatrix(ScaledIntegers.multiply(table, factor.getTable(), productScale.getAsInt()));
+        }
+        final BigDecimalMatrixBuilder builder = builder(rowSize(), factor.columnSize());
         table.rowMap().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
             final BigDecimal element = multiplyRowWithColumn(row, column);
-            builder.put(rowIndex, columnIndex, element);
+            builder.setUnchecked(rowIndex, columnIndex, element);
         }));
         return builder.build();
     }
@@ -198,12 +249,12 @@ public final class BigDecimalMatrix
     public BigDecimalMatrix multiply(final BigDecimalMatrix factor, final MathContext mathContext) {
         requireNonNull(factor, "factor");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.columnKeySet().size() == factor.rowSize(),
-            "expected columnSize == factor.rowSize but actual %s != %s", table.columnKeySet().size(), factor.rowSize());
-        final BigDecimalMatrixBuilder builder = builder(table.rowKeySet().size(), factor.columnSize());
-        table.rowMap().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
+        checkArgument(columnSize() == factor.rowSize(),
+            "expected columnSize == factor.rowSize but actual %s != %s", columnSize(), factor.rowSize());
+        final BigDecimalMatrixBuilder builder = builder(rowSize(), factor.columnSize());
+        rows().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
             final BigDecimal element = multiplyRowWithColumn(row, column, mathContext);
-            builder.put(rowIndex, columnIndex, element);
+            builder.setUnchecked(rowIndex, columnIndex, element);
         }));
         return builder.build();
     }
@@ -220,14 +271,15 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimalVector multiplyVector(final BigDecimalVector vector) {
         requireNonNull(vector, "vector");
-        checkArgument(table.columnKeySet().size() == vector.size(),
-            "expected columnSize == vectorSize but actual %s != %s", table.columnKeySet().size(), vector.size());
-        final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(table.rowKeySet().size());
-        table.rowMap().forEach((rowIndex, row) -> row.forEach((columnIndex, matrixEntry) -> {
-            final BigDecimal oldEntry = builder.element(rowIndex) != null ? builder.element(rowIndex) : BigDecimal.ZERO;
-            builder.put(rowIndex, oldEntry.add(matrixEntry.multiply(vector.element(columnIndex))));
-        }));
-        return builder.build();
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector.rescale(vector.maximum(BigDecimal::scale));
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return zeroVector(vector);
+        }
+        return multiplyVectorRowWise(vector, null, false);
     }
 
     /**
@@ -245,17 +297,155 @@ public final class BigDecimalMatrix
     public BigDecimalVector multiplyVector(final BigDecimalVector vector, final MathContext mathContext) {
         requireNonNull(vector, "vector");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.columnKeySet().size() == vector.size(),
-            "expected columnSize == vectorSize but actual %s != %s", table.columnKeySet().size(), vector.size());
-        final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(table.rowKeySet().size());
-        table.rowMap().forEach((rowIndex, row) -> row.forEach((columnIndex, matrixEntry) -> {
-            final BigDecimal oldEntry = builder.element(rowIndex) != null ? builder.element(rowIndex) : BigDecimal.ZERO;
-            builder.put(rowIndex,
-                oldEntry.add(matrixEntry.multiply(vector.element(columnIndex), mathContext), mathContext));
-        }));
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        return multiplyVectorRowWise(vector, mathContext, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size}
+     * @since 1
+     */
+    @Override
+    public BigDecimalVector multiplyVectorParallel(final BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector.rescale(vector.maximum(BigDecimal::scale));
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return zeroVector(vector);
+        }
+        return multiplyVectorRowWise(vector, null, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size}
+     * @since 1
+     */
+    @Override
+    public BigDecimalVector multiplyVectorParallel(final BigDecimalVector vector, final MathContext mathContext) {
+        requireNonNull(vector, "vector");
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        return multiplyVectorRowWise(vector, mathContext, true);
+    }
+
+    private BigDecimalVector multiplyVectorRowWise(final BigDecimalVector vector, final MathContext mathContext,
+        final boolean parallel) {
+        assert vector != null;
+        final ImmutableList<BigDecimal> elements = vector.elementList();
+        final Function<Integer, BigDecimal> column = index -> elements.get(index - 1);
+        final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(rowSize());
+        multiplyRows(row -> mathContext == null ? DotProducts.dotProduct(row, column)
+            : DotProducts.dotProduct(row, column, mathContext), parallel).forEach(builder::put);
         return builder.build();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<BigDecimalVector> multiplyVectors(final List<BigDecimalVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, null, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<BigDecimalVector> multiplyVectors(final List<BigDecimalVector> vectors,
+        final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return multiplyVectorsBlockwise(vectors, mathContext, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<BigDecimalVector> multiplyVectorsParallel(final List<BigDecimalVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, null, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<BigDecimalVector> multiplyVectorsParallel(final List<BigDecimalVector> vectors,
+        final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return multiplyVectorsBlockwise(vectors, mathContext, true);
+    }
+
+    private ImmutableList<BigDecimalVector> multiplyVectorsBlockwise(final List<BigDecimalVector> vectors,
+        final MathContext mathContext, final boolean parallel) {
+        final ImmutableList<ImmutableList<BigDecimal>> products = multiplyRowsWithVectors(vectors,
+            (row, column) -> mathContext == null ? DotProducts.dotProduct(row, column)
+                : DotProducts.dotProduct(row, column, mathContext),
+            parallel);
+        final int rowSize = rowSize();
+        return products.stream().map(elements -> {
+            final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(rowSize);
+            elements.forEach(builder::put);
+            return builder.build();
+        }).collect(ImmutableList.toImmutableList());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -266,9 +456,9 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimalMatrix scalarMultiply(final BigDecimal scalar) {
         requireNonNull(scalar, "scalar");
-        final BigDecimalMatrixBuilder builder = builder(table.rowKeySet().size(), table.columnKeySet().size());
-        table.cellSet()
-            .forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
+        final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(
+            cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
         return builder.build();
     }
 
@@ -285,9 +475,9 @@ public final class BigDecimalMatrix
     public BigDecimalMatrix scalarMultiply(final BigDecimal scalar, final MathContext mathContext) {
         requireNonNull(scalar, "scalar");
         requireNonNull(mathContext, "mathContext");
-        final BigDecimalMatrixBuilder builder = builder(table.rowKeySet().size(), table.columnKeySet().size());
-        table.cellSet().forEach(
-            cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue(), mathContext)));
+        final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(),
+            scalar.multiply(cell.getValue(), mathContext)));
         return builder.build();
     }
 
@@ -324,9 +514,8 @@ public final class BigDecimalMatrix
      */
     @Override
     public BigDecimal trace() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
             .map(Cell::getValue).reduce(BigDecimal::add).get();
     }
 
@@ -342,41 +531,92 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimal trace(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
             .map(Cell::getValue).reduce((element, other) -> element.add(other, mathContext)).get();
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * If all elements share a common scale the determinant is computed on the
+     * unscaled values with {@code long} or {@link java.math.BigInteger}
+     * arithmetic and rescaled once. Otherwise the strategy is selected by
+     * {@link #DETERMINANT_THRESHOLDS}.
      *
      * @throws IllegalStateException
      *             if this {@link BigDecimalMatrix} is not square
+     * @see #DETERMINANT_THRESHOLDS
      * @since 1
      */
     @Override
     public BigDecimal determinant() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        if (rowSize() > 2 && !identityForm() && !zeroForm()) {
+            final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
+            final OptionalInt scale = ScaledIntegers.determinantScale(table);
+            if (scale.isPresent()) {
+                return ScaledIntegers.determinant(table, scale.getAsInt());
+            }
+        }
+        return determinant(DETERMINANT_THRESHOLDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code thresholds == null}
+     * @throws IllegalStateException
+     *             if this {@link BigDecimalMatrix} is not square
+     * @since 1
+     */
+    @Override
+    public BigDecimal determinant(final DeterminantThresholds thresholds) {
+        requireNonNull(thresholds, "thresholds");
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        if (identityForm()) {
+            return BigDecimal.ONE;
+        }
+        if (zeroForm()) {
+            return BigDecimal.ZERO;
+        }
         if (triangular()) {
-            return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).reduce(BigDecimal::multiply).get();
         }
-        final int rowSize = table.rowKeySet().size();
-        if (rowSize > 3) {
-            return leibnizFormula();
-        }
-        if (rowSize == 3) {
-            return ruleOfSarrus();
+        final int rowSize = rowSize();
+        if (rowSize == 2) {
+            final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
+            return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
         }
+        return determinantWith(thresholds.strategy(rowSize), Determinants.BIG_DECIMAL);
+    }
 
-        // rowSize == 2
-        return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @throws IllegalStateException
+     *             if this {@link BigDecimalMatrix} is not square
+     * @throws IllegalArgumentException
+     *             if {@code strategy} does not support {@code rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code strategy == MODULAR}
+     * @since 1
+     */
+    @Override
+    public BigDecimal determinant(final DeterminantStrategy strategy) {
+        return determinantWith(strategy, Determinants.BIG_DECIMAL);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The determinant is computed exactly by {@link #determinant()} and rounded
+     * once so that the {@link #DETERMINANT_THRESHOLDS} apply to every precision
+     * and the result is the correctly rounded exact determinant.
      *
      * @throws NullPointerException
      *             if {@code mathContext == null}
@@ -387,23 +627,7 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimal determinant(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        if (triangular()) {
-            return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
-                .map(Cell::getValue).reduce((element, other) -> element.multiply(other, mathContext)).get();
-        }
-        final int rowSize = table.rowKeySet().size();
-        if (rowSize > 3) {
-            return leibnizFormula(mathContext);
-        }
-        if (rowSize == 3) {
-            return ruleOfSarrus(mathContext);
-        }
-
-        // rowSize == 2
-        return table.get(1, 1).multiply(table.get(2, 2), mathContext)
-            .subtract(table.get(1, 2).multiply(table.get(2, 1), mathContext), mathContext);
+        return determinant().round(mathContext);
     }
 
     /**
@@ -411,8 +635,8 @@ public final class BigDecimalMatrix
      */
     @Override
     public BigDecimalMatrix transpose() {
-        final BigDecimalMatrixBuilder builder = builder(table.columnKeySet().size(), table.rowKeySet().size());
-        table.cellSet().forEach(cell -> builder.put(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
+        final BigDecimalMatrixBuilder builder = builder(columnSize(), rowSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
         return builder.build();
     }
 
@@ -433,18 +657,18 @@ public final class BigDecimalMatrix
     public BigDecimalMatrix minor(final Integer rowIndex, final Integer columnIndex) {
         requireNonNull(rowIndex, "rowIndex");
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
+        final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
+        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s", rowSize(), rowIndex);
         checkArgument(table.containsColumn(columnIndex), "expected columnIndex in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
-        final BigDecimalMatrixBuilder builder = builder(table.rowKeySet().size() - 1, table.columnKeySet().size() - 1);
+            columnSize(), columnIndex);
+        final BigDecimalMatrixBuilder builder = builder(rowSize() - 1, columnSize() - 1);
         table.cellSet().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
             if (rowKey.compareTo(rowIndex) != 0 && columnKey.compareTo(columnIndex) != 0) {
                 final Integer newRowIndex = rowKey.compareTo(rowIndex) > 0 ? rowKey - 1 : rowKey;
                 final Integer newColumnIndex = columnKey.compareTo(columnIndex) > 0 ? columnKey - 1 : columnKey;
-                builder.put(newRowIndex, newColumnIndex, cell.getValue());
+                builder.setUnchecked(newRowIndex, newColumnIndex, cell.getValue());
             }
         });
         return builder.build();
@@ -457,7 +681,7 @@ public final class BigDecimalMatrix
      */
     @Override
     public BigDecimal maxAbsColumnSumNorm() {
-        return table.columnMap().values().asList().stream()
+        return columns().values().asList().stream()
             .map(column -> column.values().stream().map(BigDecimal::abs).reduce(BigDecimal::add)).map(Optional::get)
             .reduce(BigDecimal::max).get();
     }
@@ -472,7 +696,7 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimal maxAbsColumnSumNorm(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return table.columnMap().values().asList().stream()
+        return columns().values().asList().stream()
             .map(column -> column.values().stream().map(element -> element.abs(mathContext))
                 .reduce((element, other) -> element.add(other, mathContext)))
             .map(Optional::get).reduce(BigDecimal::max).get();
@@ -485,7 +709,7 @@ public final class BigDecimalMatrix
      */
     @Override
     public BigDecimal maxAbsRowSumNorm() {
-        return table.rowMap().values().asList().stream()
+        return rows().values().asList().stream()
             .map(column -> column.values().stream().map(BigDecimal::abs).reduce(BigDecimal::add)).map(Optional::get)
             .reduce(BigDecimal::max).get();
     }
@@ -500,7 +724,7 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimal maxAbsRowSumNorm(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return table.rowMap().values().asList().stream()
+        return rows().values().asList().stream()
             .map(column -> column.values().stream().map(element -> element.abs(mathContext))
                 .reduce((element, other) -> element.add(other, mathContext)))
             .map(Optional::get).reduce(BigDecimal::max).get();
@@ -513,7 +737,7 @@ public final class BigDecimalMatrix
      */
     @Override
     public BigDecimal frobeniusNormPow2() {
-        return table.values().stream().map(element -> element.pow(2)).reduce(BigDecimal::add).get();
+        return elements().stream().map(element -> element.pow(2)).reduce(BigDecimal::add).get();
     }
 
     /**
@@ -526,7 +750,7 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimal frobeniusNormPow2(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return table.values().stream().map(element -> element.pow(2, mathContext))
+        return elements().stream().map(element -> element.pow(2, mathContext))
             .reduce((element, other) -> element.add(other, mathContext)).get();
     }
 
@@ -550,7 +774,7 @@ public final class BigDecimalMatrix
      */
     @Override
     public BigDecimal maxNorm() {
-        return table.values().stream().map(BigDecimal::abs).reduce(BigDecimal::max).get();
+        return elements().stream().map(BigDecimal::abs).reduce(BigDecimal::max).get();
     }
 
     /**
@@ -563,7 +787,7 @@ public final class BigDecimalMatrix
     @Override
     public BigDecimal maxNorm(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return table.values().stream().map(element -> element.abs(mathContext)).reduce(BigDecimal::max).get();
+        return elements().stream().map(element -> element.abs(mathContext)).reduce(BigDecimal::max).get();
     }
 
     /**
@@ -573,7 +797,7 @@ public final class BigDecimalMatrix
      */
     @Override
     public boolean upperTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
             .map(Cell::getValue).anyMatch(value -> value.compareTo(BigDecimal.ZERO) != 0);
     }
 
@@ -584,7 +808,7 @@ public final class BigDecimalMatrix
      */
     @Override
     public boolean lowerTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
             .map(Cell::getValue).anyMatch(value -> value.compareTo(BigDecimal.ZERO) != 0);
     }
 
@@ -595,8 +819,11 @@ public final class BigDecimalMatrix
      */
     @Override
     public boolean identity() {
+        if (identityForm()) {
+            return true;
+        }
         return diagonal()
-            && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).anyMatch(value -> value.compareTo(BigDecimal.ONE) != 0);
     }
 
@@ -628,8 +855,7 @@ public final class BigDecimalMatrix
         requireNonNull(column, "column");
         checkArgument(row.size() == column.size(), "expected rowSize == columnSize but actual %s != %s", row.size(),
             column.size());
-        return row.entrySet().stream().map(rowEntry -> rowEntry.getValue().multiply(column.get(rowEntry.getKey())))
-            .reduce(BigDecimal::add).get();
+        return DotProducts.dotProduct(row, column::get);
     }
 
     /**
@@ -653,9 +879,7 @@ public final class BigDecimalMatrix
         requireNonNull(mathContext, "mathContext");
         checkArgument(row.size() == column.size(), "expected rowSize == columnSize but actual %s != %s", row.size(),
             column.size());
-        return row.entrySet().stream()
-            .map(rowEntry -> rowEntry.getValue().multiply(column.get(rowEntry.getKey()), mathContext))
-            .reduce(BigDecimal::add).get();
+        return DotProducts.dotProduct(row, column::get, mathContext);
     }
 
     /**
@@ -666,10 +890,11 @@ public final class BigDecimalMatrix
     @Override
     protected BigDecimal leibnizFormula() {
         BigDecimal result = BigDecimal.ZERO;
+        final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
         for (final List<Integer> permutation : Collections2.permutations(table.rowKeySet())) {
             BigDecimal product = BigDecimal.ONE;
             int inversions = 0;
-            final int size = table.rowKeySet().size();
+            final int size = rowSize();
             for (int i = 0; i < size; i++) {
                 final Integer sigma = permutation.get(i);
                 for (int j = i + 1; j < size; j++) {
@@ -695,10 +920,11 @@ public final class BigDecimalMatrix
     protected BigDecimal leibnizFormula(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
         BigDecimal result = BigDecimal.ZERO;
+        final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
         for (final List<Integer> permutation : Collections2.permutations(table.rowKeySet())) {
             BigDecimal product = BigDecimal.ONE;
             int inversions = 0;
-            final int size = table.rowKeySet().size();
+            final int size = rowSize();
             for (int i = 0; i < size; i++) {
                 final Integer sigma = permutation.get(i);
                 for (int j = i + 1; j < size; j++) {
@@ -722,6 +948,7 @@ public final class BigDecimalMatrix
      */
     @Override
     protected BigDecimal ruleOfSarrus() {
+        final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
         final BigDecimal first = table.get(1, 1).multiply(table.get(2, 2)).multiply(table.get(3, 3));
         final BigDecimal second = table.get(1, 2).multiply(table.get(2, 3)).multiply(table.get(3, 1));
         final BigDecimal third = table.get(1, 3).multiply(table.get(2, 1)).multiply(table.get(3, 2));
@@ -741,6 +968,7 @@ public final class BigDecimalMatrix
     @Override
     protected BigDecimal ruleOfSarrus(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
+        final ImmutableTable<Integer, Integer, BigDecimal> table = getTable();
         final BigDecimal first =
             table.get(1, 1).multiply(table.get(2, 2), mathContext).multiply(table.get(3, 3), mathContext);
         final BigDecimal second =
@@ -757,6 +985,177 @@ public final class BigDecimalMatrix
             .subtract(fifth, mathContext).subtract(sixth, mathContext);
     }
 
+    /**
+     * Returns a {@link BigDecimalMatrix} containing the elements of the given array
+     *
+     * @param elements
+     *            elements indexed by {@code [rowIndex - 1][columnIndex - 1]}
+     * @return {@link BigDecimalMatrix}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty or not rectangular
+     * @since 1
+     */
+    public static BigDecimalMatrix of(final BigDecimal[]... elements) {
+        return new BigDecimalMatrix(tableOf(elements));
+    }
+
+    /**
+     * Returns a {@link BigDecimalMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} in a single pass
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @return {@link BigDecimalMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static BigDecimalMatrix fromFunction(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends BigDecimal> generator) {
+        return new BigDecimalMatrix(tableOf(rowSize, columnSize, generator, false));
+    }
+
+    /**
+     * Returns a {@link BigDecimalMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} with the rows generated in parallel
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator} which is safe to be called
+     *            concurrently
+     * @return {@link BigDecimalMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static BigDecimalMatrix fromFunctionParallel(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends BigDecimal> generator) {
+        return new BigDecimalMatrix(tableOf(rowSize, columnSize, generator, true));
+    }
+
+    /**
+     * Returns a {@link BigDecimalMatrix} containing the rows of the given {@link Stream}
+     *
+     * @param rows
+     *            rows ordered by row index containing the elements ordered by
+     *            column index
+     * @return {@link BigDecimalMatrix}
+     * @throws NullPointerException
+     *             if {@code rows == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rows} is empty or not rectangular
+     * @since 1
+     */
+    public static BigDecimalMatrix fromRowStream(final Stream<? extends List<? extends BigDecimal>> rows) {
+        requireNonNull(rows, "rows");
+        return new BigDecimalMatrix(tableOfRows(rows.collect(Collectors.toList())));
+    }
+
+    /**
+     * Returns this {@link BigDecimalMatrix} whose elements are rescaled to at
+     * least the given scales
+     * <p>
+     * The short-circuits of the special forms use it so that they return the
+     * same scales as the full computation, e.g. each element of
+     * {@code a.multiply(identity)} has the maximum scale of its row.
+     *
+     * @param minimumScale
+     *            minimum scale dependent on the row and column index
+     * @return rescaled matrix, {@code this} if no element changes
+     * @since 1
+     */
+    private BigDecimalMatrix rescale(final IntBinaryOperator minimumScale) {
+        assert minimumScale != null;
+        if (zeroForm() || identityForm() || cells().stream().allMatch(cell -> cell.getValue()
+            .scale() >= minimumScale.applyAsInt(cell.getRowKey(), cell.getColumnKey()))) {
+            return this;
+        }
+        final BigDecimalMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(cell -> {
+            final BigDecimal element = cell.getValue();
+            final int scale = minimumScale.applyAsInt(cell.getRowKey(), cell.getColumnKey());
+            builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(),
+                element.scale() < scale ? element.setScale(scale) : element);
+        });
+        return builder.build();
+    }
+
+    /**
+     * Returns the zero product of this {@link BigDecimalMatrix} and the given
+     * vector with the scales of the full computation
+     *
+     * @param vector
+     *            vector
+     * @return zero vector
+     * @since 1
+     */
+    private BigDecimalVector zeroVector(final BigDecimalVector vector) {
+        assert vector != null;
+        final int[] rowScales = rowMaxima(BigDecimal::scale);
+        final int vectorScale = vector.maximum(BigDecimal::scale);
+        if (vectorScale == 0 && Arrays.stream(rowScales).allMatch(scale -> scale == 0)) {
+            return Vectors.buildZeroBigDecimalVector(rowScales.length);
+        }
+        final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(rowScales.length);
+        for (int index = 1; index <= rowScales.length; index++) {
+            builder.setUnchecked(index, BigDecimal.valueOf(0L, rowScales[index - 1] + vectorScale));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the zero product of matrices whose rows and columns have the given
+     * maximum scales with the scales of the full computation
+     *
+     * @param rowScales
+     *            maximum scales of the rows of the left factor
+     * @param columnScales
+     *            maximum scales of the columns of the right factor
+     * @return zero matrix
+     * @since 1
+     */
+    private static BigDecimalMatrix zeroMatrix(final int[] rowScales, final int... columnScales) {
+        assert rowScales != null;
+        assert columnScales != null;
+        if (Arrays.stream(rowScales).allMatch(scale -> scale == 0)
+            && Arrays.stream(columnScales).allMatch(scale -> scale == 0)) {
+            return Matrices.buildZeroBigDecimalMatrix(rowScales.length, columnScales.length);
+        }
+        final BigDecimalMatrixBuilder builder = builder(rowScales.length, columnScales.length);
+        for (int rowIndex = 1; rowIndex <= rowScales.length; rowIndex++) {
+            for (int columnIndex = 1; columnIndex <= columnScales.length; columnIndex++) {
+                builder.setUnchecked(rowIndex, columnIndex,
+                    BigDecimal.valueOf(0L, rowScales[rowIndex - 1] + columnScales[columnIndex - 1]));
+            }
+        }
+        return builder.build();
+    }
+
     /**
      * Returns a {@link BigDecimalMatrixBuilder}
      *
@@ -794,12 +1193,13 @@ public final class BigDecimalMatrix
          *
          * @throws NullPointerException
          *             if one {@code cell.value == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public BigDecimalMatrix build() {
-            table.cellSet().forEach(cell -> requireNonNull(cell.getValue(), "cell.value"));
-            return new BigDecimalMatrix(ImmutableTable.copyOf(table));
+            return new BigDecimalMatrix(buildTable("cell.value"));
         }
     }
 }
@@ -26,8 +26,10 @@ import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableMap;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a vector which uses {@link BigDecimal} as type
@@ -39,10 +41,97 @@ import java.util.stream.IntStream;
 @Beta
 public final class BigDecimalVector
     extends AbstractContextVector<BigDecimal, BigDecimalVector, BigDecimalMatrix, BigDecimal, BigDecimal, MathContext> {
-    private BigDecimalVector(final ImmutableMap<Integer, BigDecimal> map) {
+    /* default */ BigDecimalVector(final ImmutableMap<Integer, BigDecimal> map) {
         super(map);
     }
 
+    /* default */ BigDecimalVector(final int size) {
+        super(size, BigDecimal.ZERO);
+    }
+
+    /**
+     * Returns a {@link BigDecimalVector} containing the given elements
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link BigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static BigDecimalVector of(final BigDecimal... elements) {
+        requireNonNull(elements, "elements");
+        return new BigDecimalVector(mapOf(Arrays.asList(elements)));
+    }
+
+    /**
+     * Returns a {@link BigDecimalVector} whose elements are generated by the given
+     * {@link IntFunction} in a single pass
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     * @return {@link BigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static BigDecimalVector fromFunction(final int size, final IntFunction<? extends BigDecimal> generator) {
+        return new BigDecimalVector(mapOf(size, generator, false));
+    }
+
+    /**
+     * Returns a {@link BigDecimalVector} whose elements are generated by the given
+     * {@link IntFunction} in parallel
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     *            which is safe to be called concurrently
+     * @return {@link BigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static BigDecimalVector fromFunctionParallel(final int size,
+        final IntFunction<? extends BigDecimal> generator) {
+        return new BigDecimalVector(mapOf(size, generator, true));
+    }
+
+    /**
+     * Returns a {@link BigDecimalVector} containing the elements of the given
+     * {@link Stream}
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link BigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static BigDecimalVector fromStream(final Stream<? extends BigDecimal> elements) {
+        requireNonNull(elements, "elements");
+        return new BigDecimalVector(mapOf(elements.collect(Collectors.toList())));
+    }
+
     /**
      * Returns a {@link BigDecimalVectorBuilder}
      *
@@ -68,10 +157,16 @@ public final class BigDecimalVector
     @Override
     public BigDecimalVector add(final BigDecimalVector summand) {
         requireNonNull(summand, "summand");
-        checkArgument(map.size() == summand.size(), "expected equal sizes but actual %s != %s", map.size(),
+        checkArgument(size() == summand.size(), "expected equal sizes but actual %s != %s", size(),
             summand.size());
-        final BigDecimalVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.add(summand.element(index))));
+        if (summand.zeroForm()) {
+            return rescale(0);
+        }
+        if (zeroForm()) {
+            return summand.rescale(0);
+        }
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.add(summand.element(index))));
         return builder.build();
     }
 
@@ -90,10 +185,11 @@ public final class BigDecimalVector
     public BigDecimalVector add(final BigDecimalVector summand, final MathContext mathContext) {
         requireNonNull(summand, "summand");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == summand.size(), "expected equal sizes but actual %s != %s", map.size(),
+        checkArgument(size() == summand.size(), "expected equal sizes but actual %s != %s", size(),
             summand.size());
-        final BigDecimalVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.add(summand.element(index), mathContext)));
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach(
+            (index, element) -> builder.setUnchecked(index, element.add(summand.element(index), mathContext)));
         return builder.build();
     }
 
@@ -109,10 +205,13 @@ public final class BigDecimalVector
     @Override
     public BigDecimalVector subtract(final BigDecimalVector subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(map.size() == subtrahend.size(), "expected equal sizes but actual %s != %s", map.size(),
+        checkArgument(size() == subtrahend.size(), "expected equal sizes but actual %s != %s", size(),
             subtrahend.size());
-        final BigDecimalVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.subtract(subtrahend.element(index))));
+        if (subtrahend.zeroForm()) {
+            return rescale(0);
+        }
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.subtract(subtrahend.element(index))));
         return builder.build();
     }
 
@@ -131,10 +230,11 @@ public final class BigDecimalVector
     public BigDecimalVector subtract(final BigDecimalVector subtrahend, final MathContext mathContext) {
         requireNonNull(subtrahend, "subtrahend");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == subtrahend.size(), "expected equal sizes but actual %s != %s", map.size(),
+        checkArgument(size() == subtrahend.size(), "expected equal sizes but actual %s != %s", size(),
             subtrahend.size());
-        final BigDecimalVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.subtract(subtrahend.element(index), mathContext)));
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index,
+            element.subtract(subtrahend.element(index), mathContext)));
         return builder.build();
     }
 
@@ -150,9 +250,8 @@ public final class BigDecimalVector
     @Override
     public BigDecimal dotProduct(final BigDecimalVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return map.entrySet().stream().map(entry -> entry.getValue().multiply(other.element(entry.getKey())))
-            .reduce(BigDecimal::add).get();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return DotProducts.dotProduct(getMap(), other.getMap()::get);
     }
 
     /**
@@ -170,10 +269,8 @@ public final class BigDecimalVector
     public BigDecimal dotProduct(final BigDecimalVector other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return map.entrySet().stream()
-            .map(entry -> entry.getValue().multiply(other.element(entry.getKey()), mathContext))
-            .reduce((element, otherElement) -> element.add(otherElement, mathContext)).get();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return DotProducts.dotProduct(getMap(), other.getMap()::get, mathContext);
     }
 
     /**
@@ -186,8 +283,8 @@ public final class BigDecimalVector
     @Override
     public BigDecimalVector scalarMultiply(final BigDecimal scalar) {
         requireNonNull(scalar, "scalar");
-        final BigDecimalVectorBuilder builder = builder(map.size());
-        map.values().forEach(element -> builder.put(scalar.multiply(element)));
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, scalar.multiply(element)));
         return builder.build();
     }
 
@@ -204,8 +301,8 @@ public final class BigDecimalVector
     public BigDecimalVector scalarMultiply(final BigDecimal scalar, final MathContext mathContext) {
         requireNonNull(scalar, "scalar");
         requireNonNull(mathContext, "mathContext");
-        final BigDecimalVectorBuilder builder = builder(map.size());
-        map.values().forEach(element -> builder.put(scalar.multiply(element, mathContext)));
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, scalar.multiply(element, mathContext)));
         return builder.build();
     }
 
@@ -244,7 +341,7 @@ public final class BigDecimalVector
     @Override
     public boolean orthogonalTo(final BigDecimalVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return dotProduct(other).compareTo(BigDecimal.ZERO) == 0;
     }
 
@@ -263,7 +360,7 @@ public final class BigDecimalVector
     public boolean orthogonalTo(final BigDecimalVector other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return dotProduct(other, mathContext).compareTo(BigDecimal.ZERO) == 0;
     }
 
@@ -274,7 +371,7 @@ public final class BigDecimalVector
      */
     @Override
     protected BigDecimal taxicabNorm() {
-        return map.values().stream().map(BigDecimal::abs).reduce(BigDecimal::add).get();
+        return getMap().values().stream().map(BigDecimal::abs).reduce(BigDecimal::add).get();
     }
 
     /**
@@ -287,7 +384,7 @@ public final class BigDecimalVector
     @Override
     public BigDecimal taxicabNorm(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return map.values().stream().map(element -> element.abs(mathContext))
+        return getMap().values().stream().map(element -> element.abs(mathContext))
             .reduce((element, other) -> element.add(other, mathContext)).get();
     }
 
@@ -346,7 +443,7 @@ public final class BigDecimalVector
      */
     @Override
     public BigDecimal maxNorm() {
-        return map.values().stream().map(BigDecimal::abs).reduce(BigDecimal::max).get();
+        return getMap().values().stream().map(BigDecimal::abs).reduce(BigDecimal::max).get();
     }
 
     /**
@@ -359,7 +456,159 @@ public final class BigDecimalVector
     @Override
     public BigDecimal maxNorm(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return map.values().stream().map(element -> element.abs(mathContext)).reduce(BigDecimal::max).get();
+        return getMap().values().stream().map(element -> element.abs(mathContext)).reduce(BigDecimal::max).get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedTaxicabDistance(final BigDecimalVector other) {
+        assert other != null;
+        return Distances.taxicabDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedTaxicabDistance(final BigDecimalVector other, final MathContext mathContext) {
+        assert other != null;
+        assert mathContext != null;
+        return Distances.taxicabDistance(getMap(), other.getMap()::get, mathContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistancePow2(final BigDecimalVector other) {
+        assert other != null;
+        return Distances.euclideanDistancePow2(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistancePow2(final BigDecimalVector other, final MathContext mathContext) {
+        assert other != null;
+        assert mathContext != null;
+        return Distances.euclideanDistancePow2(getMap(), other.getMap()::get, mathContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistance(final BigDecimalVector other,
+        final SquareRootContext squareRootContext) {
+        assert other != null;
+        assert squareRootContext != null;
+        return SquareRootCalculator.sqrt(Distances.euclideanDistancePow2(getMap(), other.getMap()::get),
+            squareRootContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedMaxDistance(final BigDecimalVector other) {
+        assert other != null;
+        return Distances.maxDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedMaxDistance(final BigDecimalVector other, final MathContext mathContext) {
+        assert other != null;
+        assert mathContext != null;
+        return Distances.maxDistance(getMap(), other.getMap()::get, mathContext);
+    }
+
+    /**
+     * Returns an approximation of the taxicab distance from this
+     * {@link BigDecimalVector} to the given one
+     * <p>
+     * The elements are converted to {@code double} and the distance is computed
+     * in a single pass without allocating a difference vector. It is meant for
+     * prefiltering, for example before an exact {@link #taxicabDistance}.
+     *
+     * @param other
+     *            other {@link BigDecimalVector}
+     * @return approximate taxicab distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public double approximateTaxicabDistance(final BigDecimalVector other) {
+        requireNonNull(other, "other");
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return Distances.approximateTaxicabDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * Returns an approximation of the euclidean distance from this
+     * {@link BigDecimalVector} to the given one
+     * <p>
+     * The elements are converted to {@code double} and the distance is computed
+     * in a single pass without allocating a difference vector. Only if the sum
+     * of the squares overflows, a second pass scales the differences by their
+     * maximum.
+     *
+     * @param other
+     *            other {@link BigDecimalVector}
+     * @return approximate euclidean distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public double approximateEuclideanDistance(final BigDecimalVector other) {
+        requireNonNull(other, "other");
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return Distances.approximateEuclideanDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * Returns an approximation of the maximum distance from this
+     * {@link BigDecimalVector} to the given one
+     * <p>
+     * The elements are converted to {@code double} and the distance is computed
+     * in a single pass without allocating a difference vector.
+     *
+     * @param other
+     *            other {@link BigDecimalVector}
+     * @return approximate maximum distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public double approximateMaxDistance(final BigDecimalVector other) {
+        requireNonNull(other, "other");
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return Distances.approximateMaxDistance(getMap(), other.getMap()::get);
     }
 
     /**
@@ -374,9 +623,9 @@ public final class BigDecimalVector
     @Override
     public BigDecimalMatrix dyadicProduct(final BigDecimalVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(map.size(), other.size());
-        map.entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.put(entry.getKey(),
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(size(), other.size());
+        getMap().entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.setUnchecked(entry.getKey(),
             otherEntry.getKey(), entry.getValue().multiply(otherEntry.getValue()))));
         return builder.build();
     }
@@ -396,9 +645,9 @@ public final class BigDecimalVector
     public BigDecimalMatrix dyadicProduct(final BigDecimalVector other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(map.size(), other.size());
-        map.entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.put(entry.getKey(),
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(size(), other.size());
+        getMap().entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.setUnchecked(entry.getKey(),
             otherEntry.getKey(), entry.getValue().multiply(otherEntry.getValue(), mathContext))));
         return builder.build();
     }
@@ -414,10 +663,33 @@ public final class BigDecimalVector
      * @since 1
      */
     public boolean equalByComparingTo(final BigDecimalVector other) {
-        return !map.entrySet().stream()
+        return !getMap().entrySet().stream()
             .anyMatch(entry -> entry.getValue().compareTo(other.element(entry.getKey())) != 0);
     }
 
+    /**
+     * Returns this {@link BigDecimalVector} whose elements are rescaled to at
+     * least the given scale
+     * <p>
+     * The short-circuits of the special forms use it so that they return the
+     * same scales as the full computation, e.g. {@code v.add(zero)} has no
+     * negative scales.
+     *
+     * @param minimumScale
+     *            minimum scale
+     * @return rescaled vector, {@code this} if no element changes
+     * @since 1
+     */
+    protected BigDecimalVector rescale(final int minimumScale) {
+        if (zeroForm() || elements().stream().allMatch(element -> element.scale() >= minimumScale)) {
+            return this;
+        }
+        final BigDecimalVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index,
+            element.scale() < minimumScale ? element.setScale(minimumScale) : element));
+        return builder.build();
+    }
+
     /**
      * {@link AbstractVectorBuilder} for {@link BigDecimalVector BigDecimalVectors}
      *
@@ -436,13 +708,13 @@ public final class BigDecimalVector
          * @return The {@link BigDecimalVector}
          * @throws NullPointerException
          *             if one {@code element == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public BigDecimalVector build() {
-            IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList())
-                .forEach(index -> requireNonNull(map.get(index), "map.value"));
-            return new BigDecimalVector(ImmutableMap.copyOf(map));
+            return new BigDecimalVector(buildMap("map.value"));
         }
     }
 }
@@ -25,6 +25,7 @@ import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
@@ -32,6 +33,9 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a matrix which uses {@link BigInteger} as type
@@ -43,10 +47,23 @@ import java.util.Optional;
 @Beta
 public final class BigIntegerMatrix
     extends AbstractMatrix<BigInteger, BigIntegerVector, BigIntegerMatrix, BigInteger, BigInteger> {
-    private BigIntegerMatrix(final ImmutableTable<Integer, Integer, BigInteger> table) {
+    /**
+     * Default {@link DeterminantThresholds} of {@link #determinant()}
+     *
+     * @since 1
+     */
+    public static final DeterminantThresholds DETERMINANT_THRESHOLDS = DeterminantThresholds.builder()
+        .put(3, DeterminantStrategy.RULE_OF_SARRUS).put(4, DeterminantStrategy.LAPLACE)
+        .put(6, DeterminantStrategy.BAREISS).put(20, DeterminantStrategy.MODULAR).build();
+
+    /* default */ BigIntegerMatrix(final ImmutableTable<Integer, Integer, BigInteger> table) {
         super(table);
     }
 
+    /* default */ BigIntegerMatrix(final int rowSize, final int columnSize, final SpecialForm form) {
+        super(rowSize, columnSize, form, BigInteger.ZERO, BigInteger.ONE);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -61,15 +78,21 @@ public final class BigIntegerMatrix
     @Override
     public BigIntegerMatrix add(final BigIntegerMatrix summand) {
         requireNonNull(summand, "summand");
-        checkArgument(table.rowKeySet().size() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), summand.rowSize());
-        checkArgument(table.columnKeySet().size() == summand.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), summand.columnSize());
+        checkArgument(rowSize() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), summand.rowSize());
+        checkArgument(columnSize() == summand.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), summand.columnSize());
+        if (summand.zeroForm()) {
+            return this;
+        }
+        if (zeroForm()) {
+            return summand;
+        }
         final BigIntegerMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -88,15 +111,18 @@ public final class BigIntegerMatrix
     @Override
     public BigIntegerMatrix subtract(final BigIntegerMatrix subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(table.rowKeySet().size() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), subtrahend.rowSize());
-        checkArgument(table.columnKeySet().size() == subtrahend.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), subtrahend.columnSize());
+        checkArgument(rowSize() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), subtrahend.rowSize());
+        checkArgument(columnSize() == subtrahend.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), subtrahend.columnSize());
+        if (subtrahend.zeroForm()) {
+            return this;
+        }
         final BigIntegerMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -113,12 +139,21 @@ public final class BigIntegerMatrix
     @Override
     public BigIntegerMatrix multiply(final BigIntegerMatrix factor) {
         requireNonNull(factor, "factor");
-        checkArgument(table.columnKeySet().size() == factor.rowSize(),
-            "expected columnSize == factor.rowSize but actual %s != %s", table.columnKeySet().size(), factor.rowSize());
-        final BigIntegerMatrixBuilder builder = builder(table.rowKeySet().size(), factor.columnSize());
-        table.rowMap().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
+        checkArgument(columnSize() == factor.rowSize(),
+            "expected columnSize == factor.rowSize but actual %s != %s", columnSize(), factor.rowSize());
+        if (factor.identityForm()) {
+            return this;
+        }
+        if (identityForm()) {
+            return factor;
+        }
+        if (zeroForm() || factor.zeroForm()) {
+            return Matrices.buildZeroBigIntegerMatrix(rowSize(), factor.columnSize());
+        }
+        final BigIntegerMatrixBuilder builder = builder(rowSize(), factor.columnSize());
+        rows().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
             final BigInteger element = multiplyRowWithColumn(row, column);
-            builder.put(rowIndex, columnIndex, element);
+            builder.setUnchecked(rowIndex, columnIndex, element);
         }));
         return builder.build();
     }
@@ -135,18 +170,95 @@ public final class BigIntegerMatrix
     @Override
     public BigIntegerVector multiplyVector(final BigIntegerVector vector) {
         requireNonNull(vector, "vector");
-        checkArgument(table.columnKeySet().size() == vector.size(),
-            "expected columnSize == vectorSize but actual %s != %s", table.columnKeySet().size(), vector.size());
-        final BigIntegerVectorBuilder builder = BigIntegerVector.builder(table.rowKeySet().size());
-        table.rowMap().values().forEach(row -> {
-            final BigInteger element = table.columnKeySet().stream()
-                .map(columnIndex -> row.get(columnIndex).multiply(vector.element(columnIndex))).reduce(BigInteger::add)
-                .get();
-            builder.put(element);
-        });
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector;
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return Vectors.buildZeroBigIntegerVector(rowSize());
+        }
+        return multiplyVectorRowWise(vector, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size}
+     * @since 1
+     */
+    @Override
+    public BigIntegerVector multiplyVectorParallel(final BigIntegerVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector;
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return Vectors.buildZeroBigIntegerVector(rowSize());
+        }
+        return multiplyVectorRowWise(vector, true);
+    }
+
+    private BigIntegerVector multiplyVectorRowWise(final BigIntegerVector vector, final boolean parallel) {
+        assert vector != null;
+        final ImmutableList<BigInteger> elements = vector.elementList();
+        final Function<Integer, BigInteger> column = index -> elements.get(index - 1);
+        final BigIntegerVectorBuilder builder = BigIntegerVector.builder(rowSize());
+        multiplyRows(row -> DotProducts.bigIntegerDotProduct(row, column), parallel).forEach(builder::put);
         return builder.build();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<BigIntegerVector> multiplyVectors(final List<BigIntegerVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<BigIntegerVector> multiplyVectorsParallel(final List<BigIntegerVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, true);
+    }
+
+    private ImmutableList<BigIntegerVector> multiplyVectorsBlockwise(final List<BigIntegerVector> vectors,
+        final boolean parallel) {
+        final ImmutableList<ImmutableList<BigInteger>> products =
+            multiplyRowsWithVectors(vectors, DotProducts::bigIntegerDotProduct, parallel);
+        final int rowSize = rowSize();
+        return products.stream().map(elements -> {
+            final BigIntegerVectorBuilder builder = BigIntegerVector.builder(rowSize);
+            elements.forEach(builder::put);
+            return builder.build();
+        }).collect(ImmutableList.toImmutableList());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -165,8 +277,7 @@ public final class BigIntegerMatrix
         requireNonNull(column, "column");
         checkArgument(row.size() == column.size(), "expected rowSize == columnSize but actual %s != %s", row.size(),
             column.size());
-        return row.entrySet().stream().map(rowEntry -> rowEntry.getValue().multiply(column.get(rowEntry.getKey())))
-            .reduce(BigInteger::add).get();
+        return DotProducts.bigIntegerDotProduct(row, column::get);
     }
 
     /**
@@ -179,9 +290,9 @@ public final class BigIntegerMatrix
     @Override
     public BigIntegerMatrix scalarMultiply(final BigInteger scalar) {
         requireNonNull(scalar, "scalar");
-        final BigIntegerMatrixBuilder builder = builder(table.rowKeySet().size(), table.columnKeySet().size());
-        table.cellSet()
-            .forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
+        final BigIntegerMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(
+            cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
         return builder.build();
     }
 
@@ -204,9 +315,8 @@ public final class BigIntegerMatrix
      */
     @Override
     public BigInteger trace() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
             .map(Cell::getValue).reduce(BigInteger::add).get();
     }
 
@@ -215,26 +325,82 @@ public final class BigIntegerMatrix
      *
      * @throws IllegalStateException
      *             if this {@link BigIntegerMatrix} is not square
+     * @see #DETERMINANT_THRESHOLDS
      * @since 1
      */
     @Override
     public BigInteger determinant() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
+        return determinant(DETERMINANT_THRESHOLDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code thresholds == null}
+     * @throws IllegalStateException
+     *             if this {@link BigIntegerMatrix} is not square
+     * @since 1
+     */
+    @Override
+    public BigInteger determinant(final DeterminantThresholds thresholds) {
+        requireNonNull(thresholds, "thresholds");
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        if (identityForm()) {
+            return BigInteger.ONE;
+        }
+        if (zeroForm()) {
+            return BigInteger.ZERO;
+        }
         if (triangular()) {
-            return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).reduce(BigInteger::multiply).get();
         }
-        final int rowSize = table.rowKeySet().size();
-        if (rowSize > 3) {
-            return leibnizFormula();
-        }
-        if (rowSize == 3) {
-            return ruleOfSarrus();
+        final int rowSize = rowSize();
+        if (rowSize == 2) {
+            final ImmutableTable<Integer, Integer, BigInteger> table = getTable();
+            return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
         }
+        return determinantWith(thresholds.strategy(rowSize), Determinants.BIG_INTEGER);
+    }
 
-        // rowSize == 2
-        return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @throws IllegalStateException
+     *             if this {@link BigIntegerMatrix} is not square
+     * @throws IllegalArgumentException
+     *             if {@code strategy} does not support {@code rowSize}
+     * @since 1
+     */
+    @Override
+    public BigInteger determinant(final DeterminantStrategy strategy) {
+        return determinantWith(strategy, Determinants.BIG_INTEGER);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @since 1
+     */
+    @Override
+    public boolean supportsDeterminantStrategy(final DeterminantStrategy strategy) {
+        requireNonNull(strategy, "strategy");
+        return true;
+    }
+
+    @Override
+    protected BigInteger determinantWith(final DeterminantStrategy strategy,
+        final Determinants.Arithmetic<BigInteger> arithmetic) {
+        if (strategy == DeterminantStrategy.MODULAR) {
+            checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+            return ModularDeterminants.determinant(getTable());
+        }
+        return super.determinantWith(strategy, arithmetic);
     }
 
     /**
@@ -245,10 +411,11 @@ public final class BigIntegerMatrix
     @Override
     protected BigInteger leibnizFormula() {
         BigInteger result = BigInteger.ZERO;
+        final ImmutableTable<Integer, Integer, BigInteger> table = getTable();
         for (final List<Integer> permutation : Collections2.permutations(table.rowKeySet())) {
             BigInteger product = BigInteger.ONE;
             int inversions = 0;
-            final int size = table.rowKeySet().size();
+            final int size = rowSize();
             for (int i = 0; i < size; i++) {
                 final Integer sigma = permutation.get(i);
                 for (int j = i + 1; j < size; j++) {
@@ -270,6 +437,7 @@ public final class BigIntegerMatrix
      */
     @Override
     protected BigInteger ruleOfSarrus() {
+        final ImmutableTable<Integer, Integer, BigInteger> table = getTable();
         final BigInteger first = table.get(1, 1).multiply(table.get(2, 2)).multiply(table.get(3, 3));
         final BigInteger second = table.get(1, 2).multiply(table.get(2, 3)).multiply(table.get(3, 1));
         final BigInteger third = table.get(1, 3).multiply(table.get(2, 1)).multiply(table.get(3, 2));
@@ -286,8 +454,8 @@ public final class BigIntegerMatrix
      */
     @Override
     public BigIntegerMatrix transpose() {
-        final BigIntegerMatrixBuilder builder = builder(table.columnKeySet().size(), table.rowKeySet().size());
-        table.cellSet().forEach(cell -> builder.put(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
+        final BigIntegerMatrixBuilder builder = builder(columnSize(), rowSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
         return builder.build();
     }
 
@@ -308,18 +476,18 @@ public final class BigIntegerMatrix
     public BigIntegerMatrix minor(final Integer rowIndex, final Integer columnIndex) {
         requireNonNull(rowIndex, "rowIndex");
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
+        final ImmutableTable<Integer, Integer, BigInteger> table = getTable();
+        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s", rowSize(), rowIndex);
         checkArgument(table.containsColumn(columnIndex), "expected columnIndex in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
-        final BigIntegerMatrixBuilder builder = builder(table.rowKeySet().size() - 1, table.columnKeySet().size() - 1);
+            columnSize(), columnIndex);
+        final BigIntegerMatrixBuilder builder = builder(rowSize() - 1, columnSize() - 1);
         table.cellSet().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
             if (rowKey.compareTo(rowIndex) != 0 && columnKey.compareTo(columnIndex) != 0) {
                 final Integer newRowIndex = rowKey.compareTo(rowIndex) > 0 ? rowKey - 1 : rowKey;
                 final Integer newColumnIndex = columnKey.compareTo(columnIndex) > 0 ? columnKey - 1 : columnKey;
-                builder.put(newRowIndex, newColumnIndex, cell.getValue());
+                builder.setUnchecked(newRowIndex, newColumnIndex, cell.getValue());
             }
         });
         return builder.build();
@@ -332,7 +500,7 @@ public final class BigIntegerMatrix
      */
     @Override
     public BigInteger maxAbsColumnSumNorm() {
-        return table.columnMap().values().asList().stream()
+        return columns().values().asList().stream()
             .map(column -> column.values().stream().map(BigInteger::abs).reduce(BigInteger::add)).map(Optional::get)
             .reduce(BigInteger::max).get();
     }
@@ -344,7 +512,7 @@ public final class BigIntegerMatrix
      */
     @Override
     public BigInteger maxAbsRowSumNorm() {
-        return table.rowMap().values().asList().stream()
+        return rows().values().asList().stream()
             .map(row -> row.values().stream().map(BigInteger::abs).reduce(BigInteger::add)).map(Optional::get)
             .reduce(BigInteger::max).get();
     }
@@ -356,7 +524,7 @@ public final class BigIntegerMatrix
      */
     @Override
     public BigInteger frobeniusNormPow2() {
-        return table.values().stream().map(element -> element.pow(2)).reduce(BigInteger::add).get();
+        return elements().stream().map(element -> element.pow(2)).reduce(BigInteger::add).get();
     }
 
     /**
@@ -378,7 +546,7 @@ public final class BigIntegerMatrix
      */
     @Override
     public BigInteger maxNorm() {
-        return table.values().stream().map(BigInteger::abs).reduce(BigInteger::max).get();
+        return elements().stream().map(BigInteger::abs).reduce(BigInteger::max).get();
     }
 
     /**
@@ -388,7 +556,7 @@ public final class BigIntegerMatrix
      */
     @Override
     public boolean upperTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
             .map(Cell::getValue).anyMatch(it -> it.compareTo(BigInteger.ZERO) != 0);
     }
 
@@ -399,7 +567,7 @@ public final class BigIntegerMatrix
      */
     @Override
     public boolean lowerTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
             .map(Cell::getValue).anyMatch(value -> value.compareTo(BigInteger.ZERO) != 0);
     }
 
@@ -410,8 +578,11 @@ public final class BigIntegerMatrix
      */
     @Override
     public boolean identity() {
+        if (identityForm()) {
+            return true;
+        }
         return diagonal()
-            && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).anyMatch(value -> value.compareTo(BigInteger.ONE) != 0);
     }
 
@@ -429,6 +600,97 @@ public final class BigIntegerMatrix
         return false;
     }
 
+    /**
+     * Returns a {@link BigIntegerMatrix} containing the elements of the given array
+     *
+     * @param elements
+     *            elements indexed by {@code [rowIndex - 1][columnIndex - 1]}
+     * @return {@link BigIntegerMatrix}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty or not rectangular
+     * @since 1
+     */
+    public static BigIntegerMatrix of(final BigInteger[]... elements) {
+        return new BigIntegerMatrix(tableOf(elements));
+    }
+
+    /**
+     * Returns a {@link BigIntegerMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} in a single pass
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @return {@link BigIntegerMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static BigIntegerMatrix fromFunction(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends BigInteger> generator) {
+        return new BigIntegerMatrix(tableOf(rowSize, columnSize, generator, false));
+    }
+
+    /**
+     * Returns a {@link BigIntegerMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} with the rows generated in parallel
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator} which is safe to be called
+     *            concurrently
+     * @return {@link BigIntegerMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static BigIntegerMatrix fromFunctionParallel(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends BigInteger> generator) {
+        return new BigIntegerMatrix(tableOf(rowSize, columnSize, generator, true));
+    }
+
+    /**
+     * Returns a {@link BigIntegerMatrix} containing the rows of the given {@link Stream}
+     *
+     * @param rows
+     *            rows ordered by row index containing the elements ordered by
+     *            column index
+     * @return {@link BigIntegerMatrix}
+     * @throws NullPointerException
+     *             if {@code rows == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rows} is empty or not rectangular
+     * @since 1
+     */
+    public static BigIntegerMatrix fromRowStream(final Stream<? extends List<? extends BigInteger>> rows) {
+        requireNonNull(rows, "rows");
+        return new BigIntegerMatrix(tableOfRows(rows.collect(Collectors.toList())));
+    }
+
     /**
      * Returns a {@link BigIntegerMatrixBuilder}
      *
@@ -466,11 +728,12 @@ public final class BigIntegerMatrix
          *
          * @throws NullPointerException
          *             if one {@code element == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          */
         @Override
         public BigIntegerMatrix build() {
-            table.cellSet().forEach(cell -> requireNonNull(cell.getValue(), "element"));
-            return new BigIntegerMatrix(ImmutableTable.copyOf(table));
+            return new BigIntegerMatrix(buildTable("element"));
         }
     }
 }
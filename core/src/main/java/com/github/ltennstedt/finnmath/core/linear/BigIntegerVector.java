@@ -26,8 +26,10 @@ import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableMap;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a vector which uses {@link BigInteger} as type
@@ -39,10 +41,97 @@ import java.util.stream.IntStream;
 @Beta
 public final class BigIntegerVector
     extends AbstractVector<BigInteger, BigIntegerVector, BigIntegerMatrix, BigInteger, BigInteger> {
-    private BigIntegerVector(final ImmutableMap<Integer, BigInteger> map) {
+    /* default */ BigIntegerVector(final ImmutableMap<Integer, BigInteger> map) {
         super(map);
     }
 
+    /* default */ BigIntegerVector(final int size) {
+        super(size, BigInteger.ZERO);
+    }
+
+    /**
+     * Returns a {@link BigIntegerVector} containing the given elements
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link BigIntegerVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static BigIntegerVector of(final BigInteger... elements) {
+        requireNonNull(elements, "elements");
+        return new BigIntegerVector(mapOf(Arrays.asList(elements)));
+    }
+
+    /**
+     * Returns a {@link BigIntegerVector} whose elements are generated by the given
+     * {@link IntFunction} in a single pass
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     * @return {@link BigIntegerVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static BigIntegerVector fromFunction(final int size, final IntFunction<? extends BigInteger> generator) {
+        return new BigIntegerVector(mapOf(size, generator, false));
+    }
+
+    /**
+     * Returns a {@link BigIntegerVector} whose elements are generated by the given
+     * {@link IntFunction} in parallel
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     *            which is safe to be called concurrently
+     * @return {@link BigIntegerVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static BigIntegerVector fromFunctionParallel(final int size,
+        final IntFunction<? extends BigInteger> generator) {
+        return new BigIntegerVector(mapOf(size, generator, true));
+    }
+
+    /**
+     * Returns a {@link BigIntegerVector} containing the elements of the given
+     * {@link Stream}
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link BigIntegerVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static BigIntegerVector fromStream(final Stream<? extends BigInteger> elements) {
+        requireNonNull(elements, "elements");
+        return new BigIntegerVector(mapOf(elements.collect(Collectors.toList())));
+    }
+
     /**
      * Returns a {@link BigIntegerVectorBuilder}
      *
@@ -66,10 +155,16 @@ public final class BigIntegerVector
     @Override
     public BigIntegerVector add(final BigIntegerVector summand) {
         requireNonNull(summand, "summand");
-        checkArgument(map.size() == summand.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == summand.size(), "equal sizes expected but actual %s != %s", size(),
             summand.size());
-        final BigIntegerVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.add(summand.element(index))));
+        if (summand.zeroForm()) {
+            return this;
+        }
+        if (zeroForm()) {
+            return summand;
+        }
+        final BigIntegerVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.add(summand.element(index))));
         return builder.build();
     }
 
@@ -85,10 +180,13 @@ public final class BigIntegerVector
     @Override
     public BigIntegerVector subtract(final BigIntegerVector subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(map.size() == subtrahend.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == subtrahend.size(), "equal sizes expected but actual %s != %s", size(),
             subtrahend.size());
-        final BigIntegerVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.subtract(subtrahend.element(index))));
+        if (subtrahend.zeroForm()) {
+            return this;
+        }
+        final BigIntegerVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.subtract(subtrahend.element(index))));
         return builder.build();
     }
 
@@ -102,8 +200,8 @@ public final class BigIntegerVector
     @Override
     public BigIntegerVector scalarMultiply(final BigInteger scalar) {
         requireNonNull(scalar, "scalar");
-        final BigIntegerVectorBuilder builder = builder(map.size());
-        map.values().forEach(element -> builder.put(scalar.multiply(element)));
+        final BigIntegerVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, scalar.multiply(element)));
         return builder.build();
     }
 
@@ -129,7 +227,7 @@ public final class BigIntegerVector
     @Override
     public boolean orthogonalTo(final BigIntegerVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return dotProduct(other).compareTo(BigInteger.ZERO) == 0;
     }
 
@@ -140,7 +238,7 @@ public final class BigIntegerVector
      */
     @Override
     protected BigInteger taxicabNorm() {
-        return map.values().stream().map(BigInteger::abs).reduce(BigInteger::add).get();
+        return getMap().values().stream().map(BigInteger::abs).reduce(BigInteger::add).get();
     }
 
     /**
@@ -150,7 +248,7 @@ public final class BigIntegerVector
      */
     @Override
     public BigInteger euclideanNormPow2() {
-        return map.values().stream().map(value -> value.pow(2)).reduce(BigInteger::add).get();
+        return getMap().values().stream().map(value -> value.pow(2)).reduce(BigInteger::add).get();
     }
 
     /**
@@ -190,9 +288,8 @@ public final class BigIntegerVector
     @Override
     public BigInteger dotProduct(final BigIntegerVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return map.keySet().stream().map(index -> map.get(index).multiply(other.element(index))).reduce(BigInteger::add)
-            .get();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return DotProducts.bigIntegerDotProduct(getMap(), other.getMap()::get);
     }
 
     /**
@@ -202,7 +299,54 @@ public final class BigIntegerVector
      */
     @Override
     public BigInteger maxNorm() {
-        return map.values().stream().map(BigInteger::abs).reduce(BigInteger::max).get();
+        return getMap().values().stream().map(BigInteger::abs).reduce(BigInteger::max).get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigInteger fusedTaxicabDistance(final BigIntegerVector other) {
+        assert other != null;
+        return Distances.bigIntegerTaxicabDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigInteger fusedEuclideanDistancePow2(final BigIntegerVector other) {
+        assert other != null;
+        return Distances.bigIntegerEuclideanDistancePow2(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistance(final BigIntegerVector other,
+        final SquareRootContext squareRootContext) {
+        assert other != null;
+        assert squareRootContext != null;
+        final BigInteger distancePow2 = Distances.bigIntegerEuclideanDistancePow2(getMap(), other.getMap()::get);
+        return SquareRootCalculator.sqrt(distancePow2, squareRootContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigInteger fusedMaxDistance(final BigIntegerVector other) {
+        assert other != null;
+        return Distances.bigIntegerMaxDistance(getMap(), other.getMap()::get);
     }
 
     /**
@@ -217,9 +361,9 @@ public final class BigIntegerVector
     @Override
     public BigIntegerMatrix dyadicProduct(final BigIntegerVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        final BigIntegerMatrixBuilder builder = BigIntegerMatrix.builder(map.size(), other.size());
-        map.entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.put(entry.getKey(),
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        final BigIntegerMatrixBuilder builder = BigIntegerMatrix.builder(size(), other.size());
+        getMap().entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.setUnchecked(entry.getKey(),
             otherEntry.getKey(), entry.getValue().multiply(otherEntry.getValue()))));
         return builder.build();
     }
@@ -241,13 +385,13 @@ public final class BigIntegerVector
          *
          * @throws NullPointerException
          *             if one {@code element == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public BigIntegerVector build() {
-            IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList())
-                .forEach(index -> requireNonNull(map.get(index), "map.value"));
-            return new BigIntegerVector(ImmutableMap.copyOf(map));
+            return new BigIntegerVector(buildMap("map.value"));
         }
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Algorithms for the exact determinant of a square matrix
+ * <p>
+ * All strategies compute the same exact value. They only differ in their costs
+ * which depend on the size of the matrix and the type and magnitude of its
+ * elements. {@link DeterminantThresholds} select a strategy dependent on the
+ * size.
+ *
+ * @author Lars Tennstedt
+ * @see DeterminantThresholds
+ * @see DeterminantTuner
+ * @since 1
+ */
+@Beta
+public enum DeterminantStrategy {
+    /**
+     * Leibniz formula summing over all {@code n!} permutations
+     *
+     * @since 1
+     */
+    LEIBNIZ {
+        @Override
+        public boolean supports(final int size) {
+            return size > 0;
+        }
+    },
+
+    /**
+     * Rule of Sarrus which only exists for {@code 3x3} matrices
+     *
+     * @since 1
+     */
+    RULE_OF_SARRUS {
+        @Override
+        public boolean supports(final int size) {
+            return size == 3;
+        }
+    },
+
+    /**
+     * Laplace expansion along the rows where the minors are memoized by their
+     * remaining columns so that {@code n * 2^n} products are needed instead of
+     * {@code n!}
+     *
+     * @since 1
+     */
+    LAPLACE {
+        @Override
+        public boolean supports(final int size) {
+            return size > 0 && size <= LAPLACE_MAX_SIZE;
+        }
+    },
+
+    /**
+     * Fraction-free Gaussian elimination due to Bareiss which needs
+     * {@code O(n^3)} operations and whose divisions are always exact
+     *
+     * @since 1
+     */
+    BAREISS {
+        @Override
+        public boolean supports(final int size) {
+            return size > 0;
+        }
+    },
+
+    /**
+     * Gaussian elimination modulo many word-size primes whose results are
+     * combined by the Chinese remainder theorem up to the Hadamard bound
+     * <p>
+     * Only supported by {@link BigIntegerMatrix} because the elements have to
+     * be integers.
+     *
+     * @see AbstractMatrix#supportsDeterminantStrategy(DeterminantStrategy)
+     * @since 1
+     */
+    MODULAR {
+        @Override
+        public boolean supports(final int size) {
+            return size > 0;
+        }
+    };
+
+    /**
+     * Maximum size supported by {@link #LAPLACE} whose memory grows with
+     * {@code 2^n}
+     *
+     * @since 1
+     */
+    public static final int LAPLACE_MAX_SIZE = 20;
+
+    /**
+     * Returns if this {@link DeterminantStrategy} can be applied to square
+     * matrices of the given size
+     *
+     * @param size
+     *            row and column size
+     * @return {@code true} if supported, {@code false} otherwise
+     * @since 1
+     */
+    public abstract boolean supports(int size);
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedMap;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.apache.commons.lang3.builder.Builder;
+
+/**
+ * Crossover sizes at which the determinant switches from one
+ * {@link DeterminantStrategy} to another
+ * <p>
+ * Every entry maps the minimum size from which on a strategy is used. Sizes
+ * below the smallest minimum size use the first strategy. If the selected
+ * strategy does not {@link DeterminantStrategy#supports(int) support} a size
+ * {@link DeterminantStrategy#BAREISS} is used instead. The defaults of the
+ * matrices have been measured with the benchmarks and can be replaced by the
+ * results of the {@link DeterminantTuner}. No precision is recorded because
+ * the determinants with a {@link java.math.MathContext} are computed exactly
+ * and rounded once.
+ *
+ * @author Lars Tennstedt
+ * @see DeterminantTuner
+ * @since 1
+ */
+@Beta
+public final class DeterminantThresholds {
+    private final ImmutableSortedMap<Integer, DeterminantStrategy> strategies;
+
+    private DeterminantThresholds(final ImmutableSortedMap<Integer, DeterminantStrategy> strategies) {
+        assert strategies != null;
+        assert !strategies.isEmpty();
+        this.strategies = strategies;
+    }
+
+    /**
+     * Returns a {@link DeterminantThresholdsBuilder}
+     *
+     * @return {@link DeterminantThresholdsBuilder}
+     * @since 1
+     */
+    public static DeterminantThresholdsBuilder builder() {
+        return new DeterminantThresholdsBuilder();
+    }
+
+    /**
+     * Returns the {@link DeterminantStrategy} for square matrices of the given
+     * size
+     *
+     * @param size
+     *            row and column size
+     * @return {@link DeterminantStrategy}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public DeterminantStrategy strategy(final int size) {
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        final Entry<Integer, DeterminantStrategy> entry = strategies.floorEntry(size);
+        final DeterminantStrategy strategy = entry != null ? entry.getValue() : strategies.firstEntry().getValue();
+        return strategy.supports(size) ? strategy : DeterminantStrategy.BAREISS;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(strategies);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof DeterminantThresholds)) {
+            return false;
+        }
+        final DeterminantThresholds other = (DeterminantThresholds) object;
+        return strategies.equals(other.getStrategies());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("strategies", strategies).toString();
+    }
+
+    public ImmutableSortedMap<Integer, DeterminantStrategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * {@link Builder} for {@link DeterminantThresholds}
+     *
+     * @author Lars Tennstedt
+     * @since 1
+     */
+    @Beta
+    public static final class DeterminantThresholdsBuilder implements Builder<DeterminantThresholds> {
+        private final SortedMap<Integer, DeterminantStrategy> _strategies = new TreeMap<>();
+
+        /**
+         * Uses the given {@link DeterminantStrategy} from the given minimum
+         * size on and returns {@code this}
+         *
+         * @param minSize
+         *            minimum size
+         * @param strategy
+         *            {@link DeterminantStrategy}
+         * @return {@code this}
+         * @throws NullPointerException
+         *             if {@code strategy == null}
+         * @throws IllegalArgumentException
+         *             if {@code minSize < 1}
+         * @since 1
+         */
+        public DeterminantThresholdsBuilder put(final int minSize, final DeterminantStrategy strategy) {
+            requireNonNull(strategy, "strategy");
+            checkArgument(minSize > 0, "expected minSize > 0 but actual %s", minSize);
+            _strategies.put(minSize, strategy);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @throws IllegalStateException
+         *             if no {@link DeterminantStrategy} has been put
+         * @since 1
+         */
+        @Override
+        public DeterminantThresholds build() {
+            checkState(!_strategies.isEmpty(), "expected at least one strategy but actual none");
+            return new DeterminantThresholds(ImmutableSortedMap.copyOfSorted(_strategies));
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @since 1
+         */
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("_strategies", _strategies).toString();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.github.ltennstedt.finnmath.core.linear.DeterminantThresholds.DeterminantThresholdsBuilder;
+import com.google.common.annotations.Beta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the {@link DeterminantStrategy DeterminantStrategies} and records
+ * the crossover sizes as {@link DeterminantThresholds}
+ * <p>
+ * The costs of the strategies depend on the element type and on the magnitude
+ * and scale of the elements. The tuner therefore measures matrices from a
+ * generator which fixes both, e.g.
+ * {@code size -> mathRandom.nextBigDecimalMatrix(10, scale, size, size)}.
+ * Every size is measured after one warm up round and the fastest strategy
+ * wins. Strategies which the matrices do not support are skipped.
+ * {@link DeterminantStrategy#LEIBNIZ} is only measured up to
+ * {@link #LEIBNIZ_MAX_SIZE} because its costs grow factorially. The strategies
+ * are measured exactly which also covers the determinants with a
+ * {@link java.math.MathContext} since they round the exact result once. The
+ * results are rough compared to the JMH benchmarks but cheap enough to be
+ * recorded on the target machine.
+ *
+ * @author Lars Tennstedt
+ * @see DeterminantThresholds
+ * @since 1
+ */
+@Beta
+public final class DeterminantTuner {
+    /**
+     * Maximum size up to which {@link DeterminantStrategy#LEIBNIZ} is measured
+     *
+     * @since 1
+     */
+    public static final int LEIBNIZ_MAX_SIZE = 7;
+
+    private static final Logger log = LoggerFactory.getLogger(DeterminantTuner.class);
+
+    private DeterminantTuner() {
+    }
+
+    /**
+     * Returns the {@link DeterminantThresholds} measured with square matrices
+     * of the sizes {@code 3} to {@code maxSize}
+     *
+     * @param generator
+     *            {@link IntFunction} returning a square matrix of the given size
+     * @param maxSize
+     *            maximum size
+     * @param samples
+     *            number of matrices per size
+     * @param <M>
+     *            type of the matrices
+     * @return {@link DeterminantThresholds}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws IllegalArgumentException
+     *             if {@code maxSize < 3}
+     * @throws IllegalArgumentException
+     *             if {@code samples < 1}
+     * @since 1
+     */
+    public static <M extends AbstractMatrix<?, ?, M, ?, ?>> DeterminantThresholds tune(final IntFunction<M> generator,
+        final int maxSize, final int samples) {
+        requireNonNull(generator, "generator");
+        checkArgument(maxSize > 2, "expected maxSize > 2 but actual %s", maxSize);
+        checkArgument(samples > 0, "expected samples > 0 but actual %s", samples);
+        final DeterminantThresholdsBuilder builder = DeterminantThresholds.builder();
+        DeterminantStrategy previous = null;
+        for (int size = 3; size <= maxSize; size++) {
+            final List<M> matrices = new ArrayList<>(samples);
+            for (int i = 0; i < samples; i++) {
+                matrices.add(requireNonNull(generator.apply(size), "matrix"));
+            }
+            final DeterminantStrategy fastest = fastest(matrices, size);
+            log.debug("fastest strategy for size {}: {}", size, fastest);
+            if (fastest != previous) {
+                builder.put(size, fastest);
+                previous = fastest;
+            }
+        }
+        return builder.build();
+    }
+
+    private static <M extends AbstractMatrix<?, ?, M, ?, ?>> DeterminantStrategy fastest(final List<M> matrices,
+        final int size) {
+        assert matrices != null;
+        DeterminantStrategy fastest = DeterminantStrategy.BAREISS;
+        long fastestTime = Long.MAX_VALUE;
+        for (final DeterminantStrategy strategy : DeterminantStrategy.values()) {
+            if (!strategy.supports(size) || !matrices.get(0).supportsDeterminantStrategy(strategy)
+                || strategy == DeterminantStrategy.LEIBNIZ && size > LEIBNIZ_MAX_SIZE) {
+                continue;
+            }
+            matrices.forEach(matrix -> matrix.determinant(strategy));
+            final long start = System.nanoTime();
+            matrices.forEach(matrix -> matrix.determinant(strategy));
+            final long time = System.nanoTime() - start;
+            if (time < fastestTime) {
+                fastest = strategy;
+                fastestTime = time;
+            }
+        }
+        return fastest;
+    }
+}
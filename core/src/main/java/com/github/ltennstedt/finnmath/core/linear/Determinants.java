@@ -0,0 +1,358 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import com.google.common.collect.ImmutableTable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Exact determinant algorithms which are shared by all element types
+ * <p>
+ * The algorithms work on a row-major array copy of the matrix and use an
+ * {@link Arithmetic} for the element type. The divisions of
+ * {@link #bareiss(ImmutableTable, Arithmetic)} are exact by construction, so
+ * {@link Arithmetic#divideExact(Object, Object)} never needs to round.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class Determinants {
+    /**
+     * {@link Arithmetic} of {@link BigInteger}
+     *
+     * @since 1
+     */
+    public static final Arithmetic<BigInteger> BIG_INTEGER = new Arithmetic<BigInteger>() {
+        @Override
+        public BigInteger zero() {
+            return BigInteger.ZERO;
+        }
+
+        @Override
+        public BigInteger add(final BigInteger first, final BigInteger second) {
+            return first.add(second);
+        }
+
+        @Override
+        public BigInteger subtract(final BigInteger first, final BigInteger second) {
+            return first.subtract(second);
+        }
+
+        @Override
+        public BigInteger multiply(final BigInteger first, final BigInteger second) {
+            return first.multiply(second);
+        }
+
+        @Override
+        public BigInteger divideExact(final BigInteger dividend, final BigInteger divisor) {
+            return dividend.divide(divisor);
+        }
+
+        @Override
+        public BigInteger negate(final BigInteger element) {
+            return element.negate();
+        }
+
+        @Override
+        public boolean isZero(final BigInteger element) {
+            return element.signum() == 0;
+        }
+    };
+
+    /**
+     * {@link Arithmetic} of {@link BigDecimal}
+     *
+     * @since 1
+     */
+    public static final Arithmetic<BigDecimal> BIG_DECIMAL = new Arithmetic<BigDecimal>() {
+        @Override
+        public BigDecimal zero() {
+            return BigDecimal.ZERO;
+        }
+
+        @Override
+        public BigDecimal add(final BigDecimal first, final BigDecimal second) {
+            return first.add(second);
+        }
+
+        @Override
+        public BigDecimal subtract(final BigDecimal first, final BigDecimal second) {
+            return first.subtract(second);
+        }
+
+        @Override
+        public BigDecimal multiply(final BigDecimal first, final BigDecimal second) {
+            return first.multiply(second);
+        }
+
+        @Override
+        public BigDecimal divideExact(final BigDecimal dividend, final BigDecimal divisor) {
+            return dividend.divide(divisor);
+        }
+
+        @Override
+        public BigDecimal negate(final BigDecimal element) {
+            return element.negate();
+        }
+
+        @Override
+        public boolean isZero(final BigDecimal element) {
+            return element.signum() == 0;
+        }
+    };
+
+    /**
+     * {@link Arithmetic} of {@link SimpleComplexNumber}
+     *
+     * @since 1
+     */
+    public static final Arithmetic<SimpleComplexNumber> SIMPLE_COMPLEX_NUMBER = new Arithmetic<SimpleComplexNumber>() {
+        @Override
+        public SimpleComplexNumber zero() {
+            return SimpleComplexNumber.ZERO;
+        }
+
+        @Override
+        public SimpleComplexNumber add(final SimpleComplexNumber first, final SimpleComplexNumber second) {
+            return first.add(second);
+        }
+
+        @Override
+        public SimpleComplexNumber subtract(final SimpleComplexNumber first, final SimpleComplexNumber second) {
+            return first.subtract(second);
+        }
+
+        @Override
+        public SimpleComplexNumber multiply(final SimpleComplexNumber first, final SimpleComplexNumber second) {
+            return first.multiply(second);
+        }
+
+        @Override
+        public SimpleComplexNumber divideExact(final SimpleComplexNumber dividend,
+            final SimpleComplexNumber divisor) {
+            final SimpleComplexNumber numerator = dividend.multiply(divisor.conjugate());
+            final BigInteger denominator = divisor.absPow2();
+            return SimpleComplexNumber.of(numerator.getReal().divide(denominator),
+                numerator.getImaginary().divide(denominator));
+        }
+
+        @Override
+        public SimpleComplexNumber negate(final SimpleComplexNumber element) {
+            return element.negate();
+        }
+
+        @Override
+        public boolean isZero(final SimpleComplexNumber element) {
+            return element.getReal().signum() == 0 && element.getImaginary().signum() == 0;
+        }
+    };
+
+    /**
+     * {@link Arithmetic} of {@link RealComplexNumber}
+     *
+     * @since 1
+     */
+    public static final Arithmetic<RealComplexNumber> REAL_COMPLEX_NUMBER = new Arithmetic<RealComplexNumber>() {
+        @Override
+        public RealComplexNumber zero() {
+            return RealComplexNumber.ZERO;
+        }
+
+        @Override
+        public RealComplexNumber add(final RealComplexNumber first, final RealComplexNumber second) {
+            return first.add(second);
+        }
+
+        @Override
+        public RealComplexNumber subtract(final RealComplexNumber first, final RealComplexNumber second) {
+            return first.subtract(second);
+        }
+
+        @Override
+        public RealComplexNumber multiply(final RealComplexNumber first, final RealComplexNumber second) {
+            return first.multiply(second);
+        }
+
+        @Override
+        public RealComplexNumber divideExact(final RealComplexNumber dividend, final RealComplexNumber divisor) {
+            final RealComplexNumber numerator = dividend.multiply(divisor.conjugate());
+            final BigDecimal denominator = divisor.absPow2();
+            return RealComplexNumber.of(numerator.getReal().divide(denominator),
+                numerator.getImaginary().divide(denominator));
+        }
+
+        @Override
+        public RealComplexNumber negate(final RealComplexNumber element) {
+            return element.negate();
+        }
+
+        @Override
+        public boolean isZero(final RealComplexNumber element) {
+            return element.getReal().signum() == 0 && element.getImaginary().signum() == 0;
+        }
+    };
+
+    private Determinants() {
+    }
+
+    /**
+     * Returns the determinant computed by the Laplace expansion with memoized
+     * minors
+     * <p>
+     * The minor consisting of the last {@code k} rows and the columns of the
+     * bit set {@code columns} with {@code k} bits is stored at index
+     * {@code columns}. Every minor is expanded along its first row using the
+     * minors of the next smaller size, so the minors are computed in increasing
+     * order of their bit sets. Zero elements are expanded as well so that the
+     * scale of the result equals the one of the Leibniz formula.
+     *
+     * @param table
+     *            square table
+     * @param arithmetic
+     *            {@link Arithmetic}
+     * @param <E>
+     *            type of the elements
+     * @return determinant
+     * @since 1
+     */
+    public static <E> E laplace(final ImmutableTable<Integer, Integer, E> table, final Arithmetic<E> arithmetic) {
+        assert table != null;
+        assert arithmetic != null;
+        final int size = table.rowKeySet().size();
+        assert DeterminantStrategy.LAPLACE.supports(size);
+        final Object[][] elements = toArray(table);
+        final Object[] minors = new Object[1 << size];
+        for (int columns = 1; columns < minors.length; columns++) {
+            final Object[] row = elements[size - Integer.bitCount(columns)];
+            E minor = arithmetic.zero();
+            int position = 0;
+            for (int remaining = columns; remaining != 0; remaining &= remaining - 1) {
+                final int column = Integer.numberOfTrailingZeros(remaining);
+                @SuppressWarnings("unchecked")
+                final E element = (E) row[column];
+                final int rest = columns & ~(1 << column);
+                @SuppressWarnings("unchecked")
+                final E product = rest == 0 ? element : arithmetic.multiply(element, (E) minors[rest]);
+                minor = position % 2 == 0 ? arithmetic.add(minor, product) : arithmetic.subtract(minor, product);
+                position++;
+            }
+            minors[columns] = minor;
+        }
+        @SuppressWarnings("unchecked")
+        final E determinant = (E) minors[minors.length - 1];
+        return determinant;
+    }
+
+    /**
+     * Returns the determinant computed by the fraction-free Gaussian
+     * elimination due to Bareiss
+     * <p>
+     * After step {@code k} every remaining element is a {@code (k+1)x(k+1)}
+     * minor of the matrix, so dividing by the previous pivot is exact.
+     *
+     * @param table
+     *            square table
+     * @param arithmetic
+     *            {@link Arithmetic}
+     * @param <E>
+     *            type of the elements
+     * @return determinant
+     * @since 1
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> E bareiss(final ImmutableTable<Integer, Integer, E> table, final Arithmetic<E> arithmetic) {
+        assert table != null;
+        assert arithmetic != null;
+        final int size = table.rowKeySet().size();
+        final Object[][] elements = toArray(table);
+        boolean negative = false;
+        E previousPivot = null;
+        for (int k = 0; k < size - 1; k++) {
+            if (arithmetic.isZero((E) elements[k][k])) {
+                int pivotRow = k + 1;
+                while (pivotRow < size && arithmetic.isZero((E) elements[pivotRow][k])) {
+                    pivotRow++;
+                }
+                if (pivotRow == size) {
+                    return arithmetic.zero();
+                }
+                final Object[] swap = elements[k];
+                elements[k] = elements[pivotRow];
+                elements[pivotRow] = swap;
+                negative = !negative;
+            }
+            final E pivot = (E) elements[k][k];
+            for (int i = k + 1; i < size; i++) {
+                final E first = (E) elements[i][k];
+                for (int j = k + 1; j < size; j++) {
+                    final E difference = arithmetic.subtract(arithmetic.multiply((E) elements[i][j], pivot),
+                        arithmetic.multiply(first, (E) elements[k][j]));
+                    elements[i][j] =
+                        previousPivot == null ? difference : arithmetic.divideExact(difference, previousPivot);
+                }
+            }
+            previousPivot = pivot;
+        }
+        final E determinant = (E) elements[size - 1][size - 1];
+        return negative ? arithmetic.negate(determinant) : determinant;
+    }
+
+    private static <E> Object[][] toArray(final ImmutableTable<Integer, Integer, E> table) {
+        assert table != null;
+        final int size = table.rowKeySet().size();
+        final Object[][] elements = new Object[size][size];
+        table.cellSet().forEach(cell -> elements[cell.getRowKey() - 1][cell.getColumnKey() - 1] = cell.getValue());
+        return elements;
+    }
+
+    /**
+     * Exact arithmetic of the elements needed by the determinant algorithms
+     *
+     * @param <E>
+     *            type of the elements
+     * @author Lars Tennstedt
+     * @since 1
+     */
+    public interface Arithmetic<E> {
+        E zero();
+
+        E add(E first, E second);
+
+        E subtract(E first, E second);
+
+        E multiply(E first, E second);
+
+        /**
+         * Returns the quotient which is known to be exact
+         *
+         * @param dividend
+         *            dividend
+         * @param divisor
+         *            divisor
+         * @return quotient
+         * @since 1
+         */
+        E divideExact(E dividend, E divisor);
+
+        E negate(E element);
+
+        boolean isZero(E element);
+    }
+}
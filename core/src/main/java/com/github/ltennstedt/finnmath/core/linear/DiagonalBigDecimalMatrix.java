@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * An immutable diagonal matrix which uses {@link BigDecimal} as type for its
+ * elements and stores only its {@code n} diagonal elements
+ * <p>
+ * The product with a vector, the solution of a linear system and the
+ * determinant need {@code O(n)} operations and the transpose is the matrix
+ * itself.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class DiagonalBigDecimalMatrix {
+    private final BigDecimal[] diagonal;
+
+    private DiagonalBigDecimalMatrix(final int size) {
+        diagonal = new BigDecimal[size];
+    }
+
+    /**
+     * Returns a {@link DiagonalBigDecimalMatrix} with the given diagonal
+     *
+     * @param diagonal
+     *            diagonal
+     * @return diagonal matrix
+     * @throws NullPointerException
+     *             if {@code diagonal == null}
+     * @throws NullPointerException
+     *             if one of the elements is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code diagonal.length < 1}
+     * @since 1
+     */
+    public static DiagonalBigDecimalMatrix of(final BigDecimal... diagonal) {
+        requireNonNull(diagonal, "diagonal");
+        checkArgument(diagonal.length > 0, "expected diagonal.length > 0 but actual %s", diagonal.length);
+        final DiagonalBigDecimalMatrix result = new DiagonalBigDecimalMatrix(diagonal.length);
+        for (int index = 0; index < diagonal.length; index++) {
+            result.diagonal[index] = requireNonNull(diagonal[index], "element");
+        }
+        return result;
+    }
+
+    /**
+     * Returns a {@link DiagonalBigDecimalMatrix} containing the diagonal of the
+     * given diagonal {@link BigDecimalMatrix}
+     *
+     * @param matrix
+     *            {@link BigDecimalMatrix}
+     * @return diagonal matrix
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @throws IllegalArgumentException
+     *             if {@code !matrix.diagonal}
+     * @since 1
+     */
+    public static DiagonalBigDecimalMatrix of(final BigDecimalMatrix matrix) {
+        requireNonNull(matrix, "matrix");
+        checkArgument(matrix.diagonal(), "expected diagonal matrix but actual %s", matrix);
+        final DiagonalBigDecimalMatrix result = new DiagonalBigDecimalMatrix(matrix.rowSize());
+        for (int index = 1; index <= matrix.rowSize(); index++) {
+            result.diagonal[index - 1] = matrix.element(index, index);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            row index
+     * @param columnIndex
+     *            column index
+     * @return element which is {@link BigDecimal#ZERO} outside of the diagonal
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || size < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || size < columnIndex}
+     * @since 1
+     */
+    public BigDecimal element(final int rowIndex, final int columnIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= diagonal.length, "expected rowIndex in [1, %s] but actual %s",
+            diagonal.length, rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= diagonal.length,
+            "expected columnIndex in [1, %s] but actual %s", diagonal.length, columnIndex);
+        return rowIndex == columnIndex ? diagonal[rowIndex - 1] : BigDecimal.ZERO;
+    }
+
+    /**
+     * Returns the product of this {@link DiagonalBigDecimalMatrix} and the given
+     * {@link BigDecimalVector}
+     *
+     * @param vector
+     *            vector
+     * @return product
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != vector.size}
+     * @since 1
+     */
+    public BigDecimalVector multiplyVector(final BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(diagonal.length == vector.size(), "expected columnSize == vectorSize but actual %s != %s",
+            diagonal.length, vector.size());
+        return new BigDecimalVector(
+            AbstractVector.mapOf(diagonal.length, index -> diagonal[index - 1].multiply(vector.element(index)), false));
+    }
+
+    /**
+     * Returns the solution {@code x} of {@code this * x = vector} dividing every
+     * element of the vector by the diagonal element rounded according to the
+     * {@link MathContext}
+     *
+     * @param vector
+     *            right-hand side
+     * @param mathContext
+     *            {@link MathContext}
+     * @return solution
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != vector.size}
+     * @throws IllegalStateException
+     *             if {@code !invertible}
+     * @since 1
+     */
+    public BigDecimalVector solve(final BigDecimalVector vector, final MathContext mathContext) {
+        requireNonNull(vector, "vector");
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(diagonal.length == vector.size(), "expected equal sizes but actual %s != %s", diagonal.length,
+            vector.size());
+        checkState(invertible(), "expected to be invertible but actual %s", this);
+        return new BigDecimalVector(AbstractVector.mapOf(diagonal.length,
+            index -> vector.element(index).divide(diagonal[index - 1], mathContext), false));
+    }
+
+    /**
+     * Returns the determinant which is the product of the diagonal
+     *
+     * @return determinant
+     * @since 1
+     */
+    public BigDecimal determinant() {
+        return Arrays.stream(diagonal).reduce(BigDecimal::multiply).get();
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if this
+     * {@link DiagonalBigDecimalMatrix} is invertible
+     *
+     * @return {@code true} if no element of the diagonal is zero, {@code false}
+     *         otherwise
+     * @since 1
+     */
+    public boolean invertible() {
+        return Arrays.stream(diagonal).noneMatch(element -> element.signum() == 0);
+    }
+
+    /**
+     * Returns the transpose which is {@code this} {@link DiagonalBigDecimalMatrix}
+     * itself
+     *
+     * @return {@code this}
+     * @since 1
+     */
+    public DiagonalBigDecimalMatrix transpose() {
+        return this;
+    }
+
+    /**
+     * Returns a dense {@link BigDecimalMatrix} containing the elements of this
+     * {@link DiagonalBigDecimalMatrix}
+     *
+     * @return {@link BigDecimalMatrix}
+     * @since 1
+     */
+    public BigDecimalMatrix toBigDecimalMatrix() {
+        return BigDecimalMatrix.fromFunction(diagonal.length, diagonal.length, this::element);
+    }
+
+    /**
+     * Returns the number of rows and columns
+     *
+     * @return size
+     * @since 1
+     */
+    public int size() {
+        return diagonal.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(diagonal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof DiagonalBigDecimalMatrix)) {
+            return false;
+        }
+        final DiagonalBigDecimalMatrix other = (DiagonalBigDecimalMatrix) object;
+        return Arrays.equals(diagonal, other.diagonal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("diagonal", Arrays.toString(diagonal)).toString();
+    }
+}
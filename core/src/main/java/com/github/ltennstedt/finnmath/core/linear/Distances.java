@@ -0,0 +1,503 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * Fused kernels for the distances of vectors
+ * <p>
+ * The distances are computed in a single pass over the elements without
+ * building the difference vector first. Only the difference of every pair of
+ * elements is allocated. The exact kernels accumulate in the same order as the
+ * norms of the difference vector, so their results are equal including the
+ * scale. The variants with a {@link MathContext} round only once at the end.
+ * The approximate kernels use {@code double} arithmetic and allocate nothing.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class Distances {
+    private Distances() {
+    }
+
+    /**
+     * Returns the exact taxicab distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return taxicab distance
+     * @since 1
+     */
+    public static BigDecimal taxicabDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, BigDecimal>> iterator = left.entrySet().iterator();
+        final Entry<Integer, BigDecimal> first = iterator.next();
+        BigDecimal result = first.getValue().subtract(right.apply(first.getKey())).abs();
+        while (iterator.hasNext()) {
+            final Entry<Integer, BigDecimal> entry = iterator.next();
+            result = result.add(entry.getValue().subtract(right.apply(entry.getKey())).abs());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the taxicab distance of the given maps rounded once to the
+     * {@link MathContext}
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return taxicab distance
+     * @since 1
+     */
+    public static BigDecimal taxicabDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right, final MathContext mathContext) {
+        assert mathContext != null;
+        return taxicabDistance(left, right).round(mathContext);
+    }
+
+    /**
+     * Returns the exact square of the euclidean distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    public static BigDecimal euclideanDistancePow2(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, BigDecimal>> iterator = left.entrySet().iterator();
+        final Entry<Integer, BigDecimal> first = iterator.next();
+        final BigDecimal firstDifference = first.getValue().subtract(right.apply(first.getKey()));
+        BigDecimal result = firstDifference.multiply(firstDifference);
+        while (iterator.hasNext()) {
+            final Entry<Integer, BigDecimal> entry = iterator.next();
+            final BigDecimal difference = entry.getValue().subtract(right.apply(entry.getKey()));
+            result = result.add(difference.multiply(difference));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the square of the euclidean distance of the given maps rounded
+     * once to the {@link MathContext}
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    public static BigDecimal euclideanDistancePow2(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right, final MathContext mathContext) {
+        assert mathContext != null;
+        return euclideanDistancePow2(left, right).round(mathContext);
+    }
+
+    /**
+     * Returns the exact maximum distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return maximum distance
+     * @since 1
+     */
+    public static BigDecimal maxDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, BigDecimal>> iterator = left.entrySet().iterator();
+        final Entry<Integer, BigDecimal> first = iterator.next();
+        BigDecimal result = first.getValue().subtract(right.apply(first.getKey())).abs();
+        while (iterator.hasNext()) {
+            final Entry<Integer, BigDecimal> entry = iterator.next();
+            result = result.max(entry.getValue().subtract(right.apply(entry.getKey())).abs());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum distance of the given maps rounded to the
+     * {@link MathContext}
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return maximum distance
+     * @since 1
+     */
+    public static BigDecimal maxDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right, final MathContext mathContext) {
+        assert mathContext != null;
+        return maxDistance(left, right).round(mathContext);
+    }
+
+    /**
+     * Returns the taxicab distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return taxicab distance
+     * @since 1
+     */
+    public static BigInteger bigIntegerTaxicabDistance(final Map<Integer, BigInteger> left,
+        final Function<Integer, BigInteger> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger result = BigInteger.ZERO;
+        for (final Entry<Integer, BigInteger> entry : left.entrySet()) {
+            result = result.add(entry.getValue().subtract(right.apply(entry.getKey())).abs());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the square of the euclidean distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    public static BigInteger bigIntegerEuclideanDistancePow2(final Map<Integer, BigInteger> left,
+        final Function<Integer, BigInteger> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger result = BigInteger.ZERO;
+        for (final Entry<Integer, BigInteger> entry : left.entrySet()) {
+            final BigInteger difference = entry.getValue().subtract(right.apply(entry.getKey()));
+            result = result.add(difference.multiply(difference));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return maximum distance
+     * @since 1
+     */
+    public static BigInteger bigIntegerMaxDistance(final Map<Integer, BigInteger> left,
+        final Function<Integer, BigInteger> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger result = BigInteger.ZERO;
+        for (final Entry<Integer, BigInteger> entry : left.entrySet()) {
+            result = result.max(entry.getValue().subtract(right.apply(entry.getKey())).abs());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the taxicab distance of the given maps
+     * <p>
+     * The absolute values of the differences are computed with the default
+     * {@link com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext
+     * SquareRootContext} like {@link SimpleComplexNumber#abs()}.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return taxicab distance
+     * @since 1
+     */
+    public static BigDecimal simpleComplexNumberTaxicabDistance(final Map<Integer, SimpleComplexNumber> left,
+        final Function<Integer, SimpleComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, SimpleComplexNumber>> iterator = left.entrySet().iterator();
+        final Entry<Integer, SimpleComplexNumber> first = iterator.next();
+        BigDecimal result = first.getValue().subtract(right.apply(first.getKey())).abs();
+        while (iterator.hasNext()) {
+            final Entry<Integer, SimpleComplexNumber> entry = iterator.next();
+            result = result.add(entry.getValue().subtract(right.apply(entry.getKey())).abs());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the square of the euclidean distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    public static BigInteger simpleComplexNumberEuclideanDistancePow2(final Map<Integer, SimpleComplexNumber> left,
+        final Function<Integer, SimpleComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger result = BigInteger.ZERO;
+        for (final Entry<Integer, SimpleComplexNumber> entry : left.entrySet()) {
+            result = result.add(entry.getValue().subtract(right.apply(entry.getKey())).absPow2());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum distance of the given maps
+     * <p>
+     * Compares the squares of the absolute values and calculates only one square
+     * root.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return maximum distance
+     * @since 1
+     */
+    public static BigDecimal simpleComplexNumberMaxDistance(final Map<Integer, SimpleComplexNumber> left,
+        final Function<Integer, SimpleComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger maxAbsPow2 = BigInteger.ZERO;
+        for (final Entry<Integer, SimpleComplexNumber> entry : left.entrySet()) {
+            maxAbsPow2 = maxAbsPow2.max(entry.getValue().subtract(right.apply(entry.getKey())).absPow2());
+        }
+        return SquareRootCalculator.sqrt(maxAbsPow2);
+    }
+
+    /**
+     * Returns the taxicab distance of the given maps
+     * <p>
+     * The absolute values of the differences are computed with the default
+     * {@link com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext
+     * SquareRootContext} like {@link RealComplexNumber#abs()}.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return taxicab distance
+     * @since 1
+     */
+    public static BigDecimal realComplexNumberTaxicabDistance(final Map<Integer, RealComplexNumber> left,
+        final Function<Integer, RealComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, RealComplexNumber>> iterator = left.entrySet().iterator();
+        final Entry<Integer, RealComplexNumber> first = iterator.next();
+        BigDecimal result = first.getValue().subtract(right.apply(first.getKey())).abs();
+        while (iterator.hasNext()) {
+            final Entry<Integer, RealComplexNumber> entry = iterator.next();
+            result = result.add(entry.getValue().subtract(right.apply(entry.getKey())).abs());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exact square of the euclidean distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return square of the euclidean distance
+     * @since 1
+     */
+    public static BigDecimal realComplexNumberEuclideanDistancePow2(final Map<Integer, RealComplexNumber> left,
+        final Function<Integer, RealComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, RealComplexNumber>> iterator = left.entrySet().iterator();
+        final Entry<Integer, RealComplexNumber> first = iterator.next();
+        BigDecimal result = first.getValue().subtract(right.apply(first.getKey())).absPow2();
+        while (iterator.hasNext()) {
+            final Entry<Integer, RealComplexNumber> entry = iterator.next();
+            result = result.add(entry.getValue().subtract(right.apply(entry.getKey())).absPow2());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exact square of the maximum distance of the given maps
+     * <p>
+     * The caller calculates the only square root.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return square of the maximum distance
+     * @since 1
+     */
+    public static BigDecimal realComplexNumberMaxDistancePow2(final Map<Integer, RealComplexNumber> left,
+        final Function<Integer, RealComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, RealComplexNumber>> iterator = left.entrySet().iterator();
+        final Entry<Integer, RealComplexNumber> first = iterator.next();
+        BigDecimal result = first.getValue().subtract(right.apply(first.getKey())).absPow2();
+        while (iterator.hasNext()) {
+            final Entry<Integer, RealComplexNumber> entry = iterator.next();
+            result = result.max(entry.getValue().subtract(right.apply(entry.getKey())).absPow2());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the approximate taxicab distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return approximate taxicab distance
+     * @since 1
+     */
+    public static double approximateTaxicabDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        double result = 0.0;
+        for (final Entry<Integer, BigDecimal> entry : left.entrySet()) {
+            result += Math.abs(entry.getValue().doubleValue() - right.apply(entry.getKey()).doubleValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the approximate euclidean distance of the given maps
+     * <p>
+     * If the sum of the squares overflows, the differences are scaled by their
+     * maximum in a second pass.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return approximate euclidean distance
+     * @since 1
+     */
+    public static double approximateEuclideanDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        double result = 0.0;
+        for (final Entry<Integer, BigDecimal> entry : left.entrySet()) {
+            final double difference = entry.getValue().doubleValue() - right.apply(entry.getKey()).doubleValue();
+            result += difference * difference;
+        }
+        if (!Double.isInfinite(result)) {
+            return Math.sqrt(result);
+        }
+        final double max = approximateMaxDistance(left, right);
+        if (Double.isInfinite(max)) {
+            return max;
+        }
+        double scaled = 0.0;
+        for (final Entry<Integer, BigDecimal> entry : left.entrySet()) {
+            final double difference =
+                (entry.getValue().doubleValue() - right.apply(entry.getKey()).doubleValue()) / max;
+            scaled += difference * difference;
+        }
+        return max * Math.sqrt(scaled);
+    }
+
+    /**
+     * Returns the approximate maximum distance of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return approximate maximum distance
+     * @since 1
+     */
+    public static double approximateMaxDistance(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        double result = 0.0;
+        for (final Entry<Integer, BigDecimal> entry : left.entrySet()) {
+            result = Math.max(result,
+                Math.abs(entry.getValue().doubleValue() - right.apply(entry.getKey()).doubleValue()));
+        }
+        return result;
+    }
+}
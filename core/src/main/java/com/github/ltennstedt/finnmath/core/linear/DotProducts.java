@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
+import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * Fused multiply-accumulate kernels for dot products of rows, columns and
+ * vectors
+ * <p>
+ * The products are accumulated exactly in a single loop without
+ * {@link java.util.stream.Stream Streams}. The right operand is given as lookup
+ * function so that rows can be multiplied with a {@link Map} as well as with a
+ * {@link java.util.List List} indexed by {@code key - 1}. The variants with a
+ * {@link MathContext} round only once at the end instead of after every
+ * multiplication and addition.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class DotProducts {
+    private DotProducts() {
+    }
+
+    /**
+     * Returns the exact dot product of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return dot product
+     * @since 1
+     */
+    public static BigDecimal dotProduct(final Map<Integer, BigDecimal> left,
+        final Function<Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, BigDecimal>> iterator = left.entrySet().iterator();
+        final Entry<Integer, BigDecimal> first = iterator.next();
+        BigDecimal result = first.getValue().multiply(right.apply(first.getKey()));
+        while (iterator.hasNext()) {
+            final Entry<Integer, BigDecimal> entry = iterator.next();
+            result = result.add(entry.getValue().multiply(right.apply(entry.getKey())));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dot product of the given maps rounded once to the
+     * {@link MathContext}
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return dot product
+     * @since 1
+     */
+    public static BigDecimal dotProduct(final Map<Integer, BigDecimal> left, final Function<Integer, BigDecimal> right,
+        final MathContext mathContext) {
+        assert mathContext != null;
+        return dotProduct(left, right).round(mathContext);
+    }
+
+    /**
+     * Returns the dot product of the given maps
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return dot product
+     * @since 1
+     */
+    public static BigInteger bigIntegerDotProduct(final Map<Integer, BigInteger> left,
+        final Function<Integer, BigInteger> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger result = BigInteger.ZERO;
+        for (final Entry<Integer, BigInteger> entry : left.entrySet()) {
+            result = result.add(entry.getValue().multiply(right.apply(entry.getKey())));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exact dot product of the given maps
+     * <p>
+     * The real and imaginary parts are accumulated separately so that no
+     * intermediate sums are allocated as {@link RealComplexNumber
+     * RealComplexNumbers}.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return dot product
+     * @since 1
+     */
+    public static RealComplexNumber realComplexNumberDotProduct(final Map<Integer, RealComplexNumber> left,
+        final Function<Integer, RealComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        final Iterator<Entry<Integer, RealComplexNumber>> iterator = left.entrySet().iterator();
+        final Entry<Integer, RealComplexNumber> first = iterator.next();
+        final RealComplexNumber firstProduct = first.getValue().multiply(right.apply(first.getKey()));
+        BigDecimal real = firstProduct.getReal();
+        BigDecimal imaginary = firstProduct.getImaginary();
+        while (iterator.hasNext()) {
+            final Entry<Integer, RealComplexNumber> entry = iterator.next();
+            final RealComplexNumber product = entry.getValue().multiply(right.apply(entry.getKey()));
+            real = real.add(product.getReal());
+            imaginary = imaginary.add(product.getImaginary());
+        }
+        return RealComplexNumber.of(real, imaginary);
+    }
+
+    /**
+     * Returns the dot product of the given maps rounded once to the
+     * {@link MathContext}
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return dot product
+     * @since 1
+     */
+    public static RealComplexNumber realComplexNumberDotProduct(final Map<Integer, RealComplexNumber> left,
+        final Function<Integer, RealComplexNumber> right, final MathContext mathContext) {
+        assert mathContext != null;
+        final RealComplexNumber exact = realComplexNumberDotProduct(left, right);
+        return RealComplexNumber.of(exact.getReal().round(mathContext), exact.getImaginary().round(mathContext));
+    }
+
+    /**
+     * Returns the dot product of the given maps
+     * <p>
+     * The real and imaginary parts are accumulated separately so that no
+     * intermediate sums are allocated as {@link SimpleComplexNumber
+     * SimpleComplexNumbers}.
+     *
+     * @param left
+     *            left operand
+     * @param right
+     *            function returning the element of the right operand for a key
+     *            of {@code left}
+     * @return dot product
+     * @since 1
+     */
+    public static SimpleComplexNumber simpleComplexNumberDotProduct(final Map<Integer, SimpleComplexNumber> left,
+        final Function<Integer, SimpleComplexNumber> right) {
+        assert left != null;
+        assert right != null;
+        assert !left.isEmpty();
+        BigInteger real = BigInteger.ZERO;
+        BigInteger imaginary = BigInteger.ZERO;
+        for (final Entry<Integer, SimpleComplexNumber> entry : left.entrySet()) {
+            final SimpleComplexNumber product = entry.getValue().multiply(right.apply(entry.getKey()));
+            real = real.add(product.getReal());
+            imaginary = imaginary.add(product.getImaginary());
+        }
+        return SimpleComplexNumber.of(real, imaginary);
+    }
+}
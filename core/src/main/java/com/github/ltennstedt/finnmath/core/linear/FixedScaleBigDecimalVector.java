@@ -0,0 +1,1121 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix.BigDecimalMatrixBuilder;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Map.Entry;
+
+/**
+ * An immutable vector of {@link BigDecimal BigDecimals} which share a fixed
+ * scale
+ * <p>
+ * The elements are stored as unscaled {@code long} values with one implicit
+ * scale, e.g. amounts of money with scale {@code 2}. The element operations run
+ * in primitive loops without allocating a {@link BigDecimal} per element. Every
+ * operation checks for overflow and falls back to unscaled
+ * {@link BigInteger BigIntegers} if a result does not fit into a {@code long},
+ * so the results are always exact. Norms and dot products only carry their
+ * overflowing partial sums into a {@link BigInteger}. The results are equal to
+ * those of the corresponding operations of {@link BigDecimalVector} including
+ * the scale.
+ * <p>
+ * The methods mirror the API of {@link AbstractContextVector}. Scalar results
+ * with a {@link MathContext} are computed exactly and rounded once. Vector
+ * results with a {@link MathContext} are returned as {@link BigDecimalVector
+ * BigDecimalVectors} because their rounded elements do not share a scale.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class FixedScaleBigDecimalVector {
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+        10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+        100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+
+    private final int fixedScale;
+    private final long[] unscaled;
+    private final BigInteger[] bigUnscaled;
+
+    private FixedScaleBigDecimalVector(final int fixedScale, final int size, final boolean longBacked) {
+        this.fixedScale = fixedScale;
+        if (longBacked) {
+            unscaled = new long[size];
+            bigUnscaled = null;
+        } else {
+            unscaled = null;
+            bigUnscaled = new BigInteger[size];
+        }
+    }
+
+    /**
+     * Returns a {@link FixedScaleBigDecimalVector} containing the elements of
+     * the given {@link BigDecimalVector} with their maximum scale
+     * <p>
+     * Elements with a smaller scale are rescaled exactly.
+     *
+     * @param vector
+     *            {@link BigDecimalVector}
+     * @return {@link FixedScaleBigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @since 1
+     */
+    public static FixedScaleBigDecimalVector of(final BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        return of(vector, vector.getMap().values().stream().mapToInt(BigDecimal::scale).max().getAsInt());
+    }
+
+    /**
+     * Returns a {@link FixedScaleBigDecimalVector} containing the elements of
+     * the given {@link BigDecimalVector} rescaled exactly to the given scale
+     *
+     * @param vector
+     *            {@link BigDecimalVector}
+     * @param scale
+     *            scale
+     * @return {@link FixedScaleBigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws ArithmeticException
+     *             if an element cannot be represented with {@code scale}
+     *             without rounding
+     * @since 1
+     */
+    public static FixedScaleBigDecimalVector of(final BigDecimalVector vector, final int scale) {
+        requireNonNull(vector, "vector");
+        final BigInteger[] values = new BigInteger[vector.size()];
+        vector.getMap().forEach((index, element) -> values[index - 1] = element.setScale(scale).unscaledValue());
+        return ofBigIntegers(values, scale);
+    }
+
+    /**
+     * Returns a {@link FixedScaleBigDecimalVector} whose elements are the given
+     * unscaled values with the given scale
+     *
+     * @param unscaled
+     *            unscaled values
+     * @param scale
+     *            scale
+     * @return {@link FixedScaleBigDecimalVector}
+     * @throws NullPointerException
+     *             if {@code unscaled == null}
+     * @throws IllegalArgumentException
+     *             if {@code unscaled} is empty
+     * @since 1
+     */
+    public static FixedScaleBigDecimalVector ofUnscaled(final long[] unscaled, final int scale) {
+        requireNonNull(unscaled, "unscaled");
+        checkArgument(unscaled.length > 0, "expected size > 0 but actual %s", unscaled.length);
+        final FixedScaleBigDecimalVector vector = new FixedScaleBigDecimalVector(scale, unscaled.length, true);
+        System.arraycopy(unscaled, 0, vector.unscaled, 0, unscaled.length);
+        return vector;
+    }
+
+    /**
+     * Returns a {@link FixedScaleBigDecimalVector} whose elements are all zero
+     * with the given scale
+     *
+     * @param size
+     *            size
+     * @param scale
+     *            scale
+     * @return zero vector
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static FixedScaleBigDecimalVector zero(final int size, final int scale) {
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        return new FixedScaleBigDecimalVector(scale, size, true);
+    }
+
+    /**
+     * Returns the sum of this {@link FixedScaleBigDecimalVector} and the given
+     * one
+     * <p>
+     * The scale of the sum is the maximum of both scales.
+     *
+     * @param summand
+     *            summand
+     * @return sum
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != summand.size}
+     * @since 1
+     */
+    public FixedScaleBigDecimalVector add(final FixedScaleBigDecimalVector summand) {
+        requireNonNull(summand, "summand");
+        checkEqualSizes(summand);
+        final int resultScale = Math.max(fixedScale, summand.fixedScale);
+        final long[] first = longs(resultScale);
+        final long[] second = summand.longs(resultScale);
+        if (first != null && second != null) {
+            final FixedScaleBigDecimalVector vector = new FixedScaleBigDecimalVector(resultScale, first.length, true);
+            final long[] result = vector.unscaled;
+            for (int i = 0; i < result.length; i++) {
+                final long sum = first[i] + second[i];
+                if (((first[i] ^ sum) & (second[i] ^ sum)) < 0) {
+                    return addBig(summand, resultScale);
+                }
+                result[i] = sum;
+            }
+            return vector;
+        }
+        return addBig(summand, resultScale);
+    }
+
+    /**
+     * Returns the sum of this {@link FixedScaleBigDecimalVector} and the given
+     * one whose elements are rounded once according to the given
+     * {@link MathContext}
+     * <p>
+     * The rounded elements do not share a scale, so the sum is returned as a
+     * {@link BigDecimalVector}.
+     *
+     * @param summand
+     *            summand
+     * @param mathContext
+     *            {@link MathContext}
+     * @return sum
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != summand.size}
+     * @since 1
+     */
+    public BigDecimalVector add(final FixedScaleBigDecimalVector summand, final MathContext mathContext) {
+        requireNonNull(summand, "summand");
+        requireNonNull(mathContext, "mathContext");
+        return add(summand).round(mathContext);
+    }
+
+    /**
+     * Returns the difference of this {@link FixedScaleBigDecimalVector} and the
+     * given one
+     * <p>
+     * The scale of the difference is the maximum of both scales.
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @return difference
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != subtrahend.size}
+     * @since 1
+     */
+    public FixedScaleBigDecimalVector subtract(final FixedScaleBigDecimalVector subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        checkEqualSizes(subtrahend);
+        final int resultScale = Math.max(fixedScale, subtrahend.fixedScale);
+        final long[] first = longs(resultScale);
+        final long[] second = subtrahend.longs(resultScale);
+        if (first != null && second != null) {
+            final FixedScaleBigDecimalVector vector = new FixedScaleBigDecimalVector(resultScale, first.length, true);
+            final long[] result = vector.unscaled;
+            for (int i = 0; i < result.length; i++) {
+                final long difference = first[i] - second[i];
+                if (((first[i] ^ second[i]) & (first[i] ^ difference)) < 0) {
+                    return subtractBig(subtrahend, resultScale);
+                }
+                result[i] = difference;
+            }
+            return vector;
+        }
+        return subtractBig(subtrahend, resultScale);
+    }
+
+    /**
+     * Returns the difference of this {@link FixedScaleBigDecimalVector} and the
+     * given one whose elements are rounded once according to the given
+     * {@link MathContext}
+     * <p>
+     * The rounded elements do not share a scale, so the difference is returned
+     * as a {@link BigDecimalVector}.
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @param mathContext
+     *            {@link MathContext}
+     * @return difference
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != subtrahend.size}
+     * @since 1
+     */
+    public BigDecimalVector subtract(final FixedScaleBigDecimalVector subtrahend, final MathContext mathContext) {
+        requireNonNull(subtrahend, "subtrahend");
+        requireNonNull(mathContext, "mathContext");
+        return subtract(subtrahend).round(mathContext);
+    }
+
+    /**
+     * Returns the product of this {@link FixedScaleBigDecimalVector} and the
+     * given scalar
+     * <p>
+     * The scale of the product is the sum of the scale of this vector and the
+     * scale of the scalar.
+     *
+     * @param scalar
+     *            scalar
+     * @return scalar product
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @throws ArithmeticException
+     *             if the scale of the product overflows
+     * @since 1
+     */
+    public FixedScaleBigDecimalVector scalarMultiply(final BigDecimal scalar) {
+        requireNonNull(scalar, "scalar");
+        final int resultScale = Math.addExact(fixedScale, scalar.scale());
+        final BigInteger bigFactor = scalar.unscaledValue();
+        if (unscaled != null && bigFactor.bitLength() < Long.SIZE) {
+            final long factor = bigFactor.longValue();
+            final FixedScaleBigDecimalVector vector =
+                new FixedScaleBigDecimalVector(resultScale, unscaled.length, true);
+            final long[] result = vector.unscaled;
+            for (int i = 0; i < result.length; i++) {
+                final long product = unscaled[i] * factor;
+                if (multiplyOverflows(unscaled[i], factor, product)) {
+                    return scalarMultiplyBig(bigFactor, resultScale);
+                }
+                result[i] = product;
+            }
+            return vector;
+        }
+        return scalarMultiplyBig(bigFactor, resultScale);
+    }
+
+    /**
+     * Returns the product of this {@link FixedScaleBigDecimalVector} and the
+     * given scalar whose elements are rounded once according to the given
+     * {@link MathContext}
+     * <p>
+     * The rounded elements do not share a scale, so the product is returned as
+     * a {@link BigDecimalVector}.
+     *
+     * @param scalar
+     *            scalar
+     * @param mathContext
+     *            {@link MathContext}
+     * @return scalar product
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws ArithmeticException
+     *             if the scale of the product overflows
+     * @since 1
+     */
+    public BigDecimalVector scalarMultiply(final BigDecimal scalar, final MathContext mathContext) {
+        requireNonNull(scalar, "scalar");
+        requireNonNull(mathContext, "mathContext");
+        return scalarMultiply(scalar).round(mathContext);
+    }
+
+    /**
+     * Returns the negated {@link FixedScaleBigDecimalVector}
+     *
+     * @return negated vector
+     * @since 1
+     */
+    public FixedScaleBigDecimalVector negate() {
+        if (unscaled != null) {
+            final FixedScaleBigDecimalVector vector = new FixedScaleBigDecimalVector(fixedScale, unscaled.length, true);
+            final long[] result = vector.unscaled;
+            for (int i = 0; i < result.length; i++) {
+                if (unscaled[i] == Long.MIN_VALUE) {
+                    return scalarMultiplyBig(BigInteger.ONE.negate(), fixedScale);
+                }
+                result[i] = -unscaled[i];
+            }
+            return vector;
+        }
+        return scalarMultiplyBig(BigInteger.ONE.negate(), fixedScale);
+    }
+
+    /**
+     * Returns the negated {@link FixedScaleBigDecimalVector} whose elements are
+     * rounded according to the given {@link MathContext}
+     * <p>
+     * The rounded elements do not share a scale, so the negated vector is
+     * returned as a {@link BigDecimalVector}.
+     *
+     * @param mathContext
+     *            {@link MathContext}
+     * @return negated vector
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @since 1
+     */
+    public BigDecimalVector negate(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return negate().round(mathContext);
+    }
+
+    /**
+     * Returns the dot product of this {@link FixedScaleBigDecimalVector} and
+     * the given one
+     * <p>
+     * The scale of the dot product is the sum of both scales.
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return dot product
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @throws ArithmeticException
+     *             if the scale of the dot product overflows
+     * @since 1
+     */
+    public BigDecimal dotProduct(final FixedScaleBigDecimalVector other) {
+        requireNonNull(other, "other");
+        checkEqualSizes(other);
+        final int resultScale = Math.addExact(fixedScale, other.fixedScale);
+        if (unscaled != null && other.unscaled != null) {
+            BigInteger carry = BigInteger.ZERO;
+            long result = 0;
+            for (int i = 0; i < unscaled.length; i++) {
+                final long product = unscaled[i] * other.unscaled[i];
+                if (multiplyOverflows(unscaled[i], other.unscaled[i], product)) {
+                    return dotProductBig(other, resultScale);
+                }
+                final long sum = result + product;
+                if (((result ^ sum) & (product ^ sum)) < 0) {
+                    carry = carry.add(BigInteger.valueOf(result));
+                    result = product;
+                } else {
+                    result = sum;
+                }
+            }
+            return carry.signum() == 0 ? BigDecimal.valueOf(result, resultScale)
+                : new BigDecimal(carry.add(BigInteger.valueOf(result)), resultScale);
+        }
+        return dotProductBig(other, resultScale);
+    }
+
+    /**
+     * Returns the dot product of this {@link FixedScaleBigDecimalVector} and
+     * the given one rounded once according to the given {@link MathContext}
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return dot product
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public BigDecimal dotProduct(final FixedScaleBigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(other, "other");
+        requireNonNull(mathContext, "mathContext");
+        return dotProduct(other).round(mathContext);
+    }
+
+    /**
+     * Returns if this {@link FixedScaleBigDecimalVector} is orthogonal to the
+     * given one
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return {@code true} if {@code this} is orthogonal to {@code other},
+     *         {@code false} otherwise
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public boolean orthogonalTo(final FixedScaleBigDecimalVector other) {
+        return dotProduct(other).signum() == 0;
+    }
+
+    /**
+     * Returns if this {@link FixedScaleBigDecimalVector} is orthogonal to the
+     * given one
+     * <p>
+     * The dot product is exact, so rounding it cannot change the result.
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code true} if {@code this} is orthogonal to {@code other},
+     *         {@code false} otherwise
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public boolean orthogonalTo(final FixedScaleBigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(other, "other");
+        requireNonNull(mathContext, "mathContext");
+        return orthogonalTo(other);
+    }
+
+    /**
+     * Returns the taxicab norm of this {@link FixedScaleBigDecimalVector}
+     *
+     * @return taxicab norm
+     * @since 1
+     */
+    public BigDecimal taxicabNorm() {
+        if (unscaled != null) {
+            BigInteger carry = BigInteger.ZERO;
+            long result = 0;
+            for (final long element : unscaled) {
+                final long abs = Math.abs(element);
+                if (abs < 0) {
+                    return taxicabNormBig();
+                }
+                final long sum = result + abs;
+                if (sum < 0) {
+                    carry = carry.add(BigInteger.valueOf(result));
+                    result = abs;
+                } else {
+                    result = sum;
+                }
+            }
+            return carry.signum() == 0 ? BigDecimal.valueOf(result, fixedScale)
+                : new BigDecimal(carry.add(BigInteger.valueOf(result)), fixedScale);
+        }
+        return taxicabNormBig();
+    }
+
+    /**
+     * Returns the taxicab norm of this {@link FixedScaleBigDecimalVector}
+     * rounded once according to the given {@link MathContext}
+     *
+     * @param mathContext
+     *            {@link MathContext}
+     * @return taxicab norm
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @since 1
+     */
+    public BigDecimal taxicabNorm(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return taxicabNorm().round(mathContext);
+    }
+
+    /**
+     * Returns the square of the euclidean norm of this
+     * {@link FixedScaleBigDecimalVector}
+     *
+     * @return square of the euclidean norm
+     * @throws ArithmeticException
+     *             if the scale of the result overflows
+     * @since 1
+     */
+    public BigDecimal euclideanNormPow2() {
+        return dotProduct(this);
+    }
+
+    /**
+     * Returns the square of the euclidean norm of this
+     * {@link FixedScaleBigDecimalVector} rounded once according to the given
+     * {@link MathContext}
+     *
+     * @param mathContext
+     *            {@link MathContext}
+     * @return square of the euclidean norm
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @since 1
+     */
+    public BigDecimal euclideanNormPow2(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return dotProduct(this, mathContext);
+    }
+
+    /**
+     * Returns the euclidean norm of this {@link FixedScaleBigDecimalVector}
+     *
+     * @return euclidean norm
+     * @since 1
+     * @see SquareRootCalculator#sqrt(BigDecimal)
+     */
+    public BigDecimal euclideanNorm() {
+        return SquareRootCalculator.sqrt(euclideanNormPow2());
+    }
+
+    /**
+     * Returns the euclidean norm of this {@link FixedScaleBigDecimalVector}
+     *
+     * @param squareRootContext
+     *            {@link SquareRootContext}
+     * @return euclidean norm
+     * @throws NullPointerException
+     *             if {@code squareRootContext == null}
+     * @since 1
+     * @see SquareRootCalculator#sqrt(BigDecimal, SquareRootContext)
+     */
+    public BigDecimal euclideanNorm(final SquareRootContext squareRootContext) {
+        requireNonNull(squareRootContext, "squareRootContext");
+        return SquareRootCalculator.sqrt(euclideanNormPow2(), squareRootContext);
+    }
+
+    /**
+     * Returns the maximum norm of this {@link FixedScaleBigDecimalVector}
+     *
+     * @return maximum norm
+     * @since 1
+     */
+    public BigDecimal maxNorm() {
+        if (unscaled != null) {
+            long result = 0;
+            for (final long element : unscaled) {
+                if (element == Long.MIN_VALUE) {
+                    return new BigDecimal(BigInteger.valueOf(element).negate(), fixedScale);
+                }
+                result = Math.max(result, Math.abs(element));
+            }
+            return BigDecimal.valueOf(result, fixedScale);
+        }
+        return new BigDecimal(Arrays.stream(bigUnscaled).map(BigInteger::abs).reduce(BigInteger::max).get(),
+            fixedScale);
+    }
+
+    /**
+     * Returns the maximum norm of this {@link FixedScaleBigDecimalVector}
+     * rounded once according to the given {@link MathContext}
+     *
+     * @param mathContext
+     *            {@link MathContext}
+     * @return maximum norm
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @since 1
+     */
+    public BigDecimal maxNorm(final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return maxNorm().round(mathContext);
+    }
+
+    /**
+     * Returns the taxicab distance from this {@link FixedScaleBigDecimalVector}
+     * to the given one
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return taxicab distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public BigDecimal taxicabDistance(final FixedScaleBigDecimalVector other) {
+        requireNonNull(other, "other");
+        return subtract(other).taxicabNorm();
+    }
+
+    /**
+     * Returns the taxicab distance from this {@link FixedScaleBigDecimalVector}
+     * to the given one rounded once according to the given {@link MathContext}
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return taxicab distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public BigDecimal taxicabDistance(final FixedScaleBigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(other, "other");
+        requireNonNull(mathContext, "mathContext");
+        return taxicabDistance(other).round(mathContext);
+    }
+
+    /**
+     * Returns the square of the euclidean distance from this
+     * {@link FixedScaleBigDecimalVector} to the given one
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return square of the euclidean distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @throws ArithmeticException
+     *             if the scale of the result overflows
+     * @since 1
+     */
+    public BigDecimal euclideanDistancePow2(final FixedScaleBigDecimalVector other) {
+        requireNonNull(other, "other");
+        return subtract(other).euclideanNormPow2();
+    }
+
+    /**
+     * Returns the square of the euclidean distance from this
+     * {@link FixedScaleBigDecimalVector} to the given one rounded once
+     * according to the given {@link MathContext}
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return square of the euclidean distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public BigDecimal euclideanDistancePow2(final FixedScaleBigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(other, "other");
+        requireNonNull(mathContext, "mathContext");
+        return euclideanDistancePow2(other).round(mathContext);
+    }
+
+    /**
+     * Returns the euclidean distance from this
+     * {@link FixedScaleBigDecimalVector} to the given one
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return euclidean distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     * @see SquareRootCalculator#sqrt(BigDecimal)
+     */
+    public BigDecimal euclideanDistance(final FixedScaleBigDecimalVector other) {
+        return SquareRootCalculator.sqrt(euclideanDistancePow2(other));
+    }
+
+    /**
+     * Returns the euclidean distance from this
+     * {@link FixedScaleBigDecimalVector} to the given one
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param squareRootContext
+     *            {@link SquareRootContext}
+     * @return euclidean distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code squareRootContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     * @see SquareRootCalculator#sqrt(BigDecimal, SquareRootContext)
+     */
+    public BigDecimal euclideanDistance(final FixedScaleBigDecimalVector other,
+        final SquareRootContext squareRootContext) {
+        requireNonNull(other, "other");
+        requireNonNull(squareRootContext, "squareRootContext");
+        return SquareRootCalculator.sqrt(euclideanDistancePow2(other), squareRootContext);
+    }
+
+    /**
+     * Returns the maximum distance from this {@link FixedScaleBigDecimalVector}
+     * to the given one
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return maximum distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public BigDecimal maxDistance(final FixedScaleBigDecimalVector other) {
+        requireNonNull(other, "other");
+        return subtract(other).maxNorm();
+    }
+
+    /**
+     * Returns the maximum distance from this {@link FixedScaleBigDecimalVector}
+     * to the given one rounded once according to the given {@link MathContext}
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return maximum distance
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @since 1
+     */
+    public BigDecimal maxDistance(final FixedScaleBigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(other, "other");
+        requireNonNull(mathContext, "mathContext");
+        return maxDistance(other).round(mathContext);
+    }
+
+    /**
+     * Returns the dyadic product of this {@link FixedScaleBigDecimalVector} and
+     * the given one
+     * <p>
+     * The scale of every element is the sum of both scales.
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @return dyadic product
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @throws ArithmeticException
+     *             if the scale of the product overflows
+     * @since 1
+     */
+    public BigDecimalMatrix dyadicProduct(final FixedScaleBigDecimalVector other) {
+        requireNonNull(other, "other");
+        checkEqualSizes(other);
+        final int resultScale = Math.addExact(fixedScale, other.fixedScale);
+        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(size(), other.size());
+        for (int i = 1; i <= size(); i++) {
+            for (int j = 1; j <= other.size(); j++) {
+                builder.setUnchecked(i, j, product(other, i, j, resultScale));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the dyadic product of this {@link FixedScaleBigDecimalVector} and
+     * the given one whose elements are rounded once according to the given
+     * {@link MathContext}
+     *
+     * @param other
+     *            other {@link FixedScaleBigDecimalVector}
+     * @param mathContext
+     *            {@link MathContext}
+     * @return dyadic product
+     * @throws NullPointerException
+     *             if {@code other == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != other.size}
+     * @throws ArithmeticException
+     *             if the scale of the product overflows
+     * @since 1
+     */
+    public BigDecimalMatrix dyadicProduct(final FixedScaleBigDecimalVector other, final MathContext mathContext) {
+        requireNonNull(other, "other");
+        requireNonNull(mathContext, "mathContext");
+        checkEqualSizes(other);
+        final int resultScale = Math.addExact(fixedScale, other.fixedScale);
+        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(size(), other.size());
+        for (int i = 1; i <= size(); i++) {
+            for (int j = 1; j <= other.size(); j++) {
+                builder.setUnchecked(i, j, product(other, i, j, resultScale).round(mathContext));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the element dependent on the given index
+     *
+     * @param index
+     *            index
+     * @return element
+     * @throws IllegalArgumentException
+     *             if {@code index < 1 || size < index}
+     * @since 1
+     */
+    public BigDecimal element(final int index) {
+        checkArgument(0 < index && index <= size(), "expected index in [1, %s] but actual %s", size(), index);
+        return unscaled != null ? BigDecimal.valueOf(unscaled[index - 1], fixedScale)
+            : new BigDecimal(bigUnscaled[index - 1], fixedScale);
+    }
+
+    /**
+     * Returns the indexed elements
+     *
+     * @return entries
+     * @since 1
+     */
+    public ImmutableSet<Entry<Integer, BigDecimal>> entries() {
+        final ImmutableSet.Builder<Entry<Integer, BigDecimal>> builder = ImmutableSet.builderWithExpectedSize(size());
+        for (int index = 1; index <= size(); index++) {
+            builder.add(Maps.immutableEntry(index, element(index)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the elements ordered by index
+     *
+     * @return elements
+     * @since 1
+     */
+    public ImmutableList<BigDecimal> elements() {
+        final ImmutableList.Builder<BigDecimal> builder = ImmutableList.builderWithExpectedSize(size());
+        for (int index = 1; index <= size(); index++) {
+            builder.add(element(index));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a {@link BigDecimalVector} containing the elements of this
+     * {@link FixedScaleBigDecimalVector}
+     *
+     * @return {@link BigDecimalVector}
+     * @since 1
+     */
+    public BigDecimalVector toBigDecimalVector() {
+        return new BigDecimalVector(AbstractVector.mapOf(size(), this::element, false));
+    }
+
+    /**
+     * Returns the size
+     *
+     * @return size
+     * @since 1
+     */
+    public int size() {
+        return unscaled != null ? unscaled.length : bigUnscaled.length;
+    }
+
+    /**
+     * Returns the scale shared by all elements
+     *
+     * @return scale
+     * @since 1
+     */
+    public int scale() {
+        return fixedScale;
+    }
+
+    /**
+     * Returns if the unscaled values are stored as {@code long} values
+     *
+     * @return {@code true} if stored as {@code long} values, {@code false}
+     *         otherwise
+     * @since 1
+     */
+    @VisibleForTesting
+    boolean longBacked() {
+        return unscaled != null;
+    }
+
+    private static FixedScaleBigDecimalVector ofBigIntegers(final BigInteger[] values, final int scale) {
+        assert values != null;
+        final boolean longBacked = Arrays.stream(values).allMatch(value -> value.bitLength() < Long.SIZE);
+        final FixedScaleBigDecimalVector vector = new FixedScaleBigDecimalVector(scale, values.length, longBacked);
+        if (longBacked) {
+            for (int i = 0; i < values.length; i++) {
+                vector.unscaled[i] = values[i].longValue();
+            }
+        } else {
+            System.arraycopy(values, 0, vector.bigUnscaled, 0, values.length);
+        }
+        return vector;
+    }
+
+    private static boolean multiplyOverflows(final long first, final long second, final long product) {
+        return first != 0 && (product / first != second || first == -1 && second == Long.MIN_VALUE);
+    }
+
+    private BigDecimalVector round(final MathContext mathContext) {
+        assert mathContext != null;
+        return new BigDecimalVector(AbstractVector.mapOf(size(), index -> element(index).round(mathContext), false));
+    }
+
+    private BigDecimal product(final FixedScaleBigDecimalVector other, final int index, final int otherIndex,
+        final int resultScale) {
+        assert other != null;
+        if (unscaled != null && other.unscaled != null) {
+            final long first = unscaled[index - 1];
+            final long second = other.unscaled[otherIndex - 1];
+            final long product = first * second;
+            if (!multiplyOverflows(first, second, product)) {
+                return BigDecimal.valueOf(product, resultScale);
+            }
+        }
+        return new BigDecimal(element(index).unscaledValue().multiply(other.element(otherIndex).unscaledValue()),
+            resultScale);
+    }
+
+    private long[] longs(final int targetScale) {
+        assert targetScale >= fixedScale;
+        if (unscaled == null) {
+            return null;
+        }
+        if (targetScale == fixedScale) {
+            return unscaled;
+        }
+        final int difference = targetScale - fixedScale;
+        final long[] result = new long[unscaled.length];
+        for (int i = 0; i < result.length; i++) {
+            if (unscaled[i] != 0) {
+                if (difference >= POWERS_OF_TEN.length) {
+                    return null;
+                }
+                final long product = unscaled[i] * POWERS_OF_TEN[difference];
+                if (multiplyOverflows(unscaled[i], POWERS_OF_TEN[difference], product)) {
+                    return null;
+                }
+                result[i] = product;
+            }
+        }
+        return result;
+    }
+
+    private BigInteger[] bigIntegers(final int targetScale) {
+        assert targetScale >= fixedScale;
+        final BigInteger factor = BigInteger.TEN.pow(targetScale - fixedScale);
+        final BigInteger[] result = new BigInteger[size()];
+        for (int i = 0; i < result.length; i++) {
+            final BigInteger value = unscaled != null ? BigInteger.valueOf(unscaled[i]) : bigUnscaled[i];
+            result[i] = value.multiply(factor);
+        }
+        return result;
+    }
+
+    private FixedScaleBigDecimalVector addBig(final FixedScaleBigDecimalVector summand, final int resultScale) {
+        final BigInteger[] first = bigIntegers(resultScale);
+        final BigInteger[] second = summand.bigIntegers(resultScale);
+        for (int i = 0; i < first.length; i++) {
+            first[i] = first[i].add(second[i]);
+        }
+        return ofBigIntegers(first, resultScale);
+    }
+
+    private FixedScaleBigDecimalVector subtractBig(final FixedScaleBigDecimalVector subtrahend,
+        final int resultScale) {
+        final BigInteger[] first = bigIntegers(resultScale);
+        final BigInteger[] second = subtrahend.bigIntegers(resultScale);
+        for (int i = 0; i < first.length; i++) {
+            first[i] = first[i].subtract(second[i]);
+        }
+        return ofBigIntegers(first, resultScale);
+    }
+
+    private FixedScaleBigDecimalVector scalarMultiplyBig(final BigInteger factor, final int resultScale) {
+        final BigInteger[] result = bigIntegers(fixedScale);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = result[i].multiply(factor);
+        }
+        return ofBigIntegers(result, resultScale);
+    }
+
+    private BigDecimal dotProductBig(final FixedScaleBigDecimalVector other, final int resultScale) {
+        final BigInteger[] first = bigIntegers(fixedScale);
+        final BigInteger[] second = other.bigIntegers(other.fixedScale);
+        BigInteger result = BigInteger.ZERO;
+        for (int i = 0; i < first.length; i++) {
+            result = result.add(first[i].multiply(second[i]));
+        }
+        return new BigDecimal(result, resultScale);
+    }
+
+    private BigDecimal taxicabNormBig() {
+        return new BigDecimal(Arrays.stream(bigIntegers(fixedScale)).map(BigInteger::abs).reduce(BigInteger::add).get(),
+            fixedScale);
+    }
+
+    private void checkEqualSizes(final FixedScaleBigDecimalVector other) {
+        assert other != null;
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public int hashCode() {
+        return 31 * fixedScale + (unscaled != null ? Arrays.hashCode(unscaled) : Arrays.hashCode(bigUnscaled));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof FixedScaleBigDecimalVector)) {
+            return false;
+        }
+        final FixedScaleBigDecimalVector other = (FixedScaleBigDecimalVector) object;
+        return fixedScale == other.fixedScale && Arrays.equals(unscaled, other.unscaled)
+            && Arrays.equals(bigUnscaled, other.bigUnscaled);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("scale", fixedScale)
+            .add("unscaled", unscaled != null ? Arrays.toString(unscaled) : Arrays.toString(bigUnscaled)).toString();
+    }
+}
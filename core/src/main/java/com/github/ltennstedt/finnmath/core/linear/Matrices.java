@@ -18,25 +18,30 @@ package com.github.ltennstedt.finnmath.core.linear;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix.BigDecimalMatrixBuilder;
-import com.github.ltennstedt.finnmath.core.linear.BigIntegerMatrix.BigIntegerMatrixBuilder;
-import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberMatrix.RealComplexNumberMatrixBuilder;
-import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberMatrix.SimpleComplexNumberMatrixBuilder;
-import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
-import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
 import com.google.common.annotations.Beta;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.util.stream.IntStream;
 
 /**
  * Utility class for building zero and identity matrices
+ * <p>
+ * The returned matrices are constant-size special forms which store no
+ * elements. They are marked as zero or identity matrix so that the arithmetic of
+ * the matrices can short-circuit, e.g. {@code a.multiply(identity)} returns
+ * {@code a} if the result is equal to the full product. Their tables are only
+ * materialized on request and shared through a bounded cache.
  *
  * @author Lars Tennstedt
  * @since 1
  */
 @Beta
 public final class Matrices {
+    /**
+     * Maximum number of elements of the materialized tables of zero and
+     * identity matrices which are cached in total
+     *
+     * @since 1
+     */
+    public static final int CACHE_MAXIMUM_ELEMENTS = 1 << 20;
+
     private Matrices() {
     }
 
@@ -57,7 +62,7 @@ public final class Matrices {
     public static BigIntegerMatrix buildZeroBigIntegerMatrix(final int rowSize, final int columnSize) {
         checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
         checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
-        return BigIntegerMatrix.builder(rowSize, columnSize).putAll(BigInteger.ZERO).build();
+        return new BigIntegerMatrix(rowSize, columnSize, SpecialForm.ZERO);
     }
 
     /**
@@ -72,9 +77,7 @@ public final class Matrices {
      */
     public static BigIntegerMatrix buildIdentityBigIntegerMatrix(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        final BigIntegerMatrixBuilder builder = BigIntegerMatrix.builder(size, size);
-        IntStream.rangeClosed(1, size).forEach(index -> builder.put(index, index, BigInteger.ONE));
-        return builder.nullsToElement(BigInteger.ZERO).build();
+        return new BigIntegerMatrix(size, size, SpecialForm.IDENTITY);
     }
 
     /**
@@ -94,7 +97,7 @@ public final class Matrices {
     public static BigDecimalMatrix buildZeroBigDecimalMatrix(final int rowSize, final int columnSize) {
         checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
         checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
-        return BigDecimalMatrix.builder(rowSize, columnSize).putAll(BigDecimal.ZERO).build();
+        return new BigDecimalMatrix(rowSize, columnSize, SpecialForm.ZERO);
     }
 
     /**
@@ -109,9 +112,7 @@ public final class Matrices {
      */
     public static BigDecimalMatrix buildIdentityBigDecimalMatrix(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(size, size);
-        IntStream.rangeClosed(1, size).forEach(index -> builder.put(index, index, BigDecimal.ONE));
-        return builder.nullsToElement(BigDecimal.ZERO).build();
+        return new BigDecimalMatrix(size, size, SpecialForm.IDENTITY);
     }
 
     /**
@@ -132,7 +133,7 @@ public final class Matrices {
         final int columnSize) {
         checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
         checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
-        return SimpleComplexNumberMatrix.builder(rowSize, columnSize).putAll(SimpleComplexNumber.ZERO).build();
+        return new SimpleComplexNumberMatrix(rowSize, columnSize, SpecialForm.ZERO);
     }
 
     /**
@@ -147,9 +148,7 @@ public final class Matrices {
      */
     public static SimpleComplexNumberMatrix buildIdentitySimpleComplexNumberMatrix(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        final SimpleComplexNumberMatrixBuilder builder = SimpleComplexNumberMatrix.builder(size, size);
-        IntStream.rangeClosed(1, size).forEach(index -> builder.put(index, index, SimpleComplexNumber.ONE));
-        return builder.nullsToElement(SimpleComplexNumber.ZERO).build();
+        return new SimpleComplexNumberMatrix(size, size, SpecialForm.IDENTITY);
     }
 
     /**
@@ -169,7 +168,7 @@ public final class Matrices {
     public static RealComplexNumberMatrix buildZeroRealComplexNumberMatrix(final int rowSize, final int columnSize) {
         checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
         checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
-        return RealComplexNumberMatrix.builder(rowSize, columnSize).putAll(RealComplexNumber.ZERO).build();
+        return new RealComplexNumberMatrix(rowSize, columnSize, SpecialForm.ZERO);
     }
 
     /**
@@ -184,8 +183,6 @@ public final class Matrices {
      */
     public static RealComplexNumberMatrix buildIdentityRealComplexNumberMatrix(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        final RealComplexNumberMatrixBuilder builder = RealComplexNumberMatrix.builder(size, size);
-        IntStream.rangeClosed(1, size).forEach(index -> builder.put(index, index, RealComplexNumber.ONE));
-        return builder.nullsToElement(RealComplexNumber.ZERO).build();
+        return new RealComplexNumberMatrix(size, size, SpecialForm.IDENTITY);
     }
 }
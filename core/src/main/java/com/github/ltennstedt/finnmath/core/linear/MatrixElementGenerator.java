@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Generator for the elements of a matrix dependent on their row and column
+ * index
+ *
+ * @param <E>
+ *            type of the elements
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+@FunctionalInterface
+public interface MatrixElementGenerator<E> {
+    /**
+     * Returns the element for the given row and column index starting from
+     * {@code 1}
+     *
+     * @param rowIndex
+     *            row index
+     * @param columnIndex
+     *            column index
+     * @return element
+     * @since 1
+     */
+    E generate(int rowIndex, int columnIndex);
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.google.common.collect.ImmutableTable;
+import com.google.common.math.LongMath;
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-modular determinant of integer matrices
+ * <p>
+ * The determinant is computed modulo word-size primes by Gaussian elimination
+ * with {@code long} arithmetic. The primes are below {@code 2^31} so that every
+ * product of two residues fits into a {@code long}. Their number is chosen so
+ * that their product exceeds twice the Hadamard bound of the determinant, so
+ * the residues determine the signed determinant uniquely. The eliminations for
+ * the single primes are independent and run in parallel. The residues are
+ * combined incrementally by Garner's form of the Chinese remainder theorem.
+ * <p>
+ * Unlike {@link Determinants#bareiss(ImmutableTable, Determinants.Arithmetic)}
+ * the costs of the eliminations do not grow with the magnitude of the
+ * intermediate results but only with the number of primes.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class ModularDeterminants {
+    /**
+     * Largest prime used for the residues
+     *
+     * @since 1
+     */
+    public static final long MAX_PRIME = Integer.MAX_VALUE;
+
+    /**
+     * Lower bound of the bit length contributed by every prime
+     *
+     * @since 1
+     */
+    public static final int PRIME_BITS = 30;
+
+    private ModularDeterminants() {
+    }
+
+    /**
+     * Returns the exact determinant of the given square table
+     *
+     * @param table
+     *            square table
+     * @return determinant
+     * @since 1
+     */
+    public static BigInteger determinant(final ImmutableTable<Integer, Integer, BigInteger> table) {
+        assert table != null;
+        final int size = table.rowKeySet().size();
+        final BigInteger[][] elements = new BigInteger[size][size];
+        table.cellSet().forEach(cell -> elements[cell.getRowKey() - 1][cell.getColumnKey() - 1] = cell.getValue());
+        final int hadamardBits = hadamardBits(elements);
+        if (hadamardBits < 0) {
+            return BigInteger.ZERO;
+        }
+        final long[] primes = primes((hadamardBits + 1) / PRIME_BITS + 1);
+        final long[] residues =
+            IntStream.range(0, primes.length).parallel().mapToLong(i -> determinant(elements, primes[i])).toArray();
+        return reconstruct(residues, primes);
+    }
+
+    /**
+     * Returns the determinant of the given square array modulo the given prime
+     *
+     * @param elements
+     *            square array
+     * @param prime
+     *            prime below {@code 2^31}
+     * @return residue in {@code [0, prime)}
+     * @since 1
+     */
+    public static long determinant(final BigInteger[][] elements, final long prime) {
+        assert elements != null;
+        assert prime <= MAX_PRIME;
+        final int size = elements.length;
+        final BigInteger modulus = BigInteger.valueOf(prime);
+        final long[][] residues = new long[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                residues[i][j] = elements[i][j].mod(modulus).longValue();
+            }
+        }
+        long result = 1;
+        for (int k = 0; k < size; k++) {
+            int pivotIndex = k;
+            while (pivotIndex < size && residues[pivotIndex][k] == 0) {
+                pivotIndex++;
+            }
+            if (pivotIndex == size) {
+                return 0;
+            }
+            if (pivotIndex != k) {
+                final long[] row = residues[pivotIndex];
+                residues[pivotIndex] = residues[k];
+                residues[k] = row;
+                result = prime - result;
+            }
+            final long[] pivotRow = residues[k];
+            result = result * pivotRow[k] % prime;
+            final long inverse = inverse(pivotRow[k], prime);
+            for (int i = k + 1; i < size; i++) {
+                final long[] row = residues[i];
+                if (row[k] != 0) {
+                    final long factor = prime - row[k] * inverse % prime;
+                    for (int j = k + 1; j < size; j++) {
+                        row[j] = (row[j] + factor * pivotRow[j]) % prime;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bit length of the Hadamard bound so that
+     * {@code |det| < 2^hadamardBits}
+     *
+     * @param elements
+     *            square array
+     * @return bit length or {@code -1} if a row is zero
+     * @since 1
+     */
+    public static int hadamardBits(final BigInteger[]... elements) {
+        assert elements != null;
+        int bits = 0;
+        for (final BigInteger[] row : elements) {
+            BigInteger squareSum = BigInteger.ZERO;
+            for (final BigInteger element : row) {
+                squareSum = squareSum.add(element.multiply(element));
+            }
+            if (squareSum.signum() == 0) {
+                return -1;
+            }
+            bits += (squareSum.bitLength() + 1) / 2;
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the given number of the largest primes below {@code 2^31} in
+     * descending order
+     *
+     * @param howMany
+     *            number of primes
+     * @return primes
+     * @since 1
+     */
+    public static long[] primes(final int howMany) {
+        assert howMany > 0;
+        final long[] primes = new long[howMany];
+        long candidate = MAX_PRIME;
+        for (int i = 0; i < howMany; candidate -= 2) {
+            if (LongMath.isPrime(candidate)) {
+                primes[i++] = candidate;
+            }
+        }
+        return primes;
+    }
+
+    /**
+     * Returns the signed integer in {@code (-M/2, M/2]} congruent to the
+     * residues modulo the primes where {@code M} is the product of the primes
+     *
+     * @param residues
+     *            residues
+     * @param primes
+     *            pairwise distinct primes
+     * @return signed integer
+     * @since 1
+     */
+    public static BigInteger reconstruct(final long[] residues, final long... primes) {
+        assert residues != null;
+        assert primes != null;
+        assert residues.length == primes.length;
+        BigInteger result = BigInteger.valueOf(residues[0]);
+        BigInteger modulus = BigInteger.valueOf(primes[0]);
+        for (int i = 1; i < primes.length; i++) {
+            final long prime = primes[i];
+            final BigInteger bigPrime = BigInteger.valueOf(prime);
+            final long difference = Math.floorMod(residues[i] - result.mod(bigPrime).longValue(), prime);
+            final long coefficient = difference * inverse(modulus.mod(bigPrime).longValue(), prime) % prime;
+            result = result.add(modulus.multiply(BigInteger.valueOf(coefficient)));
+            modulus = modulus.multiply(bigPrime);
+        }
+        return result.shiftLeft(1).compareTo(modulus) > 0 ? result.subtract(modulus) : result;
+    }
+
+    private static long inverse(final long element, final long prime) {
+        assert 0 < element && element < prime;
+        long oldRemainder = element;
+        long remainder = prime;
+        long oldCoefficient = 1;
+        long coefficient = 0;
+        while (remainder != 0) {
+            final long quotient = oldRemainder / remainder;
+            final long nextRemainder = oldRemainder - quotient * remainder;
+            oldRemainder = remainder;
+            remainder = nextRemainder;
+            final long nextCoefficient = oldCoefficient - quotient * coefficient;
+            oldCoefficient = coefficient;
+            coefficient = nextCoefficient;
+        }
+        return Math.floorMod(oldCoefficient, prime);
+    }
+}
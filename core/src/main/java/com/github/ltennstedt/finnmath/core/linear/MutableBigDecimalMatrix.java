@@ -0,0 +1,444 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A mutable matrix which uses {@link BigDecimal} as type for its elements
+ * <p>
+ * The operations modify this {@link MutableBigDecimalMatrix} in place and
+ * return {@code this} so that iterative algorithms like {@code X = X + A * B}
+ * do not allocate a new matrix per step. {@link #freeze()} returns the result
+ * as {@link BigDecimalMatrix}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class MutableBigDecimalMatrix {
+    private final BigDecimal[][] elements;
+
+    private MutableBigDecimalMatrix(final int rowSize, final int columnSize) {
+        elements = new BigDecimal[rowSize][columnSize];
+    }
+
+    /**
+     * Returns a {@link MutableBigDecimalMatrix} whose elements are all
+     * {@link BigDecimal#ZERO}
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @return zero matrix
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static MutableBigDecimalMatrix zero(final int rowSize, final int columnSize) {
+        checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
+        checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
+        final MutableBigDecimalMatrix zero = new MutableBigDecimalMatrix(rowSize, columnSize);
+        for (final BigDecimal[] row : zero.elements) {
+            Arrays.fill(row, BigDecimal.ZERO);
+        }
+        return zero;
+    }
+
+    /**
+     * Returns a {@link MutableBigDecimalMatrix} containing the elements of the
+     * given {@link BigDecimalMatrix}
+     *
+     * @param matrix
+     *            {@link BigDecimalMatrix}
+     * @return mutable copy
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @since 1
+     */
+    public static MutableBigDecimalMatrix copyOf(final BigDecimalMatrix matrix) {
+        requireNonNull(matrix, "matrix");
+        final MutableBigDecimalMatrix copy = new MutableBigDecimalMatrix(matrix.rowSize(), matrix.columnSize());
+        matrix.cells()
+            .forEach(cell -> copy.elements[cell.getRowKey() - 1][cell.getColumnKey() - 1] = cell.getValue());
+        return copy;
+    }
+
+    /**
+     * Adds the given {@link BigDecimalMatrix} to this one
+     *
+     * @param summand
+     *            summand
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != summand.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != summand.columnSize}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix addInPlace(final BigDecimalMatrix summand) {
+        requireNonNull(summand, "summand");
+        checkEqualSizes(summand);
+        summand.cells().forEach(cell -> {
+            final int rowIndex = cell.getRowKey() - 1;
+            final int columnIndex = cell.getColumnKey() - 1;
+            elements[rowIndex][columnIndex] = elements[rowIndex][columnIndex].add(cell.getValue());
+        });
+        return this;
+    }
+
+    /**
+     * Adds the given {@link BigDecimalMatrix} to this one rounding the sums
+     * according to the given {@link MathContext}
+     *
+     * @param summand
+     *            summand
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != summand.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != summand.columnSize}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix addInPlace(final BigDecimalMatrix summand, final MathContext mathContext) {
+        requireNonNull(summand, "summand");
+        requireNonNull(mathContext, "mathContext");
+        checkEqualSizes(summand);
+        summand.cells().forEach(cell -> {
+            final int rowIndex = cell.getRowKey() - 1;
+            final int columnIndex = cell.getColumnKey() - 1;
+            elements[rowIndex][columnIndex] = elements[rowIndex][columnIndex].add(cell.getValue(), mathContext);
+        });
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link BigDecimalMatrix} from this one
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != subtrahend.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != subtrahend.columnSize}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix subtractInPlace(final BigDecimalMatrix subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        checkEqualSizes(subtrahend);
+        subtrahend.cells().forEach(cell -> {
+            final int rowIndex = cell.getRowKey() - 1;
+            final int columnIndex = cell.getColumnKey() - 1;
+            elements[rowIndex][columnIndex] = elements[rowIndex][columnIndex].subtract(cell.getValue());
+        });
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link BigDecimalMatrix} from this one rounding the
+     * differences according to the given {@link MathContext}
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != subtrahend.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != subtrahend.columnSize}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix subtractInPlace(final BigDecimalMatrix subtrahend, final MathContext mathContext) {
+        requireNonNull(subtrahend, "subtrahend");
+        requireNonNull(mathContext, "mathContext");
+        checkEqualSizes(subtrahend);
+        subtrahend.cells().forEach(cell -> {
+            final int rowIndex = cell.getRowKey() - 1;
+            final int columnIndex = cell.getColumnKey() - 1;
+            elements[rowIndex][columnIndex] = elements[rowIndex][columnIndex].subtract(cell.getValue(), mathContext);
+        });
+        return this;
+    }
+
+    /**
+     * Multiplies all elements of this {@link MutableBigDecimalMatrix} with the
+     * given scalar
+     *
+     * @param scalar
+     *            scalar
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix scaleInPlace(final BigDecimal scalar) {
+        requireNonNull(scalar, "scalar");
+        for (final BigDecimal[] row : elements) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = row[i].multiply(scalar);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all elements of this {@link MutableBigDecimalMatrix} with the
+     * given scalar rounding the products according to the given
+     * {@link MathContext}
+     *
+     * @param scalar
+     *            scalar
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix scaleInPlace(final BigDecimal scalar, final MathContext mathContext) {
+        requireNonNull(scalar, "scalar");
+        requireNonNull(mathContext, "mathContext");
+        for (final BigDecimal[] row : elements) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = row[i].multiply(scalar, mathContext);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the product of the given {@link BigDecimalMatrix BigDecimalMatrices}
+     * to this one without allocating the product
+     *
+     * @param first
+     *            first factor
+     * @param second
+     *            second factor
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code first == null}
+     * @throws NullPointerException
+     *             if {@code second == null}
+     * @throws IllegalArgumentException
+     *             if {@code first.columnSize != second.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != first.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != second.columnSize}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix fma(final BigDecimalMatrix first, final BigDecimalMatrix second) {
+        requireNonNull(first, "first");
+        requireNonNull(second, "second");
+        checkProductSizes(first, second);
+        final ImmutableMap<Integer, Map<Integer, BigDecimal>> columns = second.columns();
+        first.rows().forEach((rowIndex, row) -> columns.forEach((columnIndex, column) -> {
+            final BigDecimal[] elementRow = elements[rowIndex - 1];
+            elementRow[columnIndex - 1] = elementRow[columnIndex - 1].add(DotProducts.dotProduct(row, column::get));
+        }));
+        return this;
+    }
+
+    /**
+     * Adds the product of the given {@link BigDecimalMatrix BigDecimalMatrices}
+     * to this one without allocating the product and rounds every element once
+     * according to the given {@link MathContext}
+     *
+     * @param first
+     *            first factor
+     * @param second
+     *            second factor
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code first == null}
+     * @throws NullPointerException
+     *             if {@code second == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code first.columnSize != second.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != first.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != second.columnSize}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix fma(final BigDecimalMatrix first, final BigDecimalMatrix second,
+        final MathContext mathContext) {
+        requireNonNull(first, "first");
+        requireNonNull(second, "second");
+        requireNonNull(mathContext, "mathContext");
+        checkProductSizes(first, second);
+        final ImmutableMap<Integer, Map<Integer, BigDecimal>> columns = second.columns();
+        first.rows().forEach((rowIndex, row) -> columns.forEach((columnIndex, column) -> {
+            final BigDecimal[] elementRow = elements[rowIndex - 1];
+            elementRow[columnIndex - 1] =
+                elementRow[columnIndex - 1].add(DotProducts.dotProduct(row, column::get), mathContext);
+        }));
+        return this;
+    }
+
+    /**
+     * Returns the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            the row index
+     * @param columnIndex
+     *            the column index
+     * @return element
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || rowSize < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || columnSize < columnIndex}
+     * @since 1
+     */
+    public BigDecimal element(final int rowIndex, final int columnIndex) {
+        checkIndexes(rowIndex, columnIndex);
+        return elements[rowIndex - 1][columnIndex - 1];
+    }
+
+    /**
+     * Sets the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            the row index
+     * @param columnIndex
+     *            the column index
+     * @param element
+     *            the element
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || rowSize < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || columnSize < columnIndex}
+     * @since 1
+     */
+    public MutableBigDecimalMatrix set(final int rowIndex, final int columnIndex, final BigDecimal element) {
+        requireNonNull(element, "element");
+        checkIndexes(rowIndex, columnIndex);
+        elements[rowIndex - 1][columnIndex - 1] = element;
+        return this;
+    }
+
+    /**
+     * Returns a {@link BigDecimalMatrix} containing the current elements of
+     * this {@link MutableBigDecimalMatrix}
+     * <p>
+     * This is not zero-copy: the elements are copied once through an
+     * {@link ImmutableTable.Builder}, which collects one cell per element before
+     * it builds the table. This {@link MutableBigDecimalMatrix} stays usable, and its later
+     * changes do not affect the returned matrix.
+     *
+     * @return {@link BigDecimalMatrix}
+     * @since 1
+     */
+    public BigDecimalMatrix freeze() {
+        final ImmutableTable.Builder<Integer, Integer, BigDecimal> builder = ImmutableTable.builder();
+        for (int i = 0; i < elements.length; i++) {
+            for (int j = 0; j < elements[i].length; j++) {
+                builder.put(i + 1, j + 1, elements[i][j]);
+            }
+        }
+        return new BigDecimalMatrix(builder.build());
+    }
+
+    /**
+     * Returns the row size
+     *
+     * @return row size
+     * @since 1
+     */
+    public int rowSize() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the column size
+     *
+     * @return column size
+     * @since 1
+     */
+    public int columnSize() {
+        return elements[0].length;
+    }
+
+    private void checkEqualSizes(final BigDecimalMatrix other) {
+        assert other != null;
+        checkArgument(rowSize() == other.rowSize(), "expected equal row sizes but actual %s != %s", rowSize(),
+            other.rowSize());
+        checkArgument(columnSize() == other.columnSize(), "expected equal column sizes but actual %s != %s",
+            columnSize(), other.columnSize());
+    }
+
+    private void checkProductSizes(final BigDecimalMatrix first, final BigDecimalMatrix second) {
+        assert first != null;
+        assert second != null;
+        checkArgument(first.columnSize() == second.rowSize(),
+            "expected first.columnSize == second.rowSize but actual %s != %s", first.columnSize(), second.rowSize());
+        checkArgument(rowSize() == first.rowSize(), "expected rowSize == first.rowSize but actual %s != %s",
+            rowSize(), first.rowSize());
+        checkArgument(columnSize() == second.columnSize(),
+            "expected columnSize == second.columnSize but actual %s != %s", columnSize(), second.columnSize());
+    }
+
+    private void checkIndexes(final int rowIndex, final int columnIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= rowSize(), "expected rowIndex in [1, %s] but actual %s", rowSize(),
+            rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= columnSize(),
+            "expected columnIndex in [1, %s] but actual %s", columnSize(), columnIndex);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("elements", Arrays.deepToString(elements)).toString();
+    }
+}
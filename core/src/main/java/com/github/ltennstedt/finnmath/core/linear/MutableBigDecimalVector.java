@@ -0,0 +1,377 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A mutable vector which uses {@link BigDecimal} as type for its elements
+ * <p>
+ * The operations modify this {@link MutableBigDecimalVector} in place and
+ * return {@code this} so that iterative algorithms like {@code x = x + A * y}
+ * do not allocate a new vector per step. {@link #freeze()} returns the result
+ * as {@link BigDecimalVector}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class MutableBigDecimalVector {
+    private final BigDecimal[] elements;
+
+    private MutableBigDecimalVector(final int size) {
+        elements = new BigDecimal[size];
+    }
+
+    /**
+     * Returns a {@link MutableBigDecimalVector} whose elements are all
+     * {@link BigDecimal#ZERO}
+     *
+     * @param size
+     *            size
+     * @return zero vector
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static MutableBigDecimalVector zero(final int size) {
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        final MutableBigDecimalVector zero = new MutableBigDecimalVector(size);
+        Arrays.fill(zero.elements, BigDecimal.ZERO);
+        return zero;
+    }
+
+    /**
+     * Returns a {@link MutableBigDecimalVector} containing the elements of the
+     * given {@link BigDecimalVector}
+     *
+     * @param vector
+     *            {@link BigDecimalVector}
+     * @return mutable copy
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @since 1
+     */
+    public static MutableBigDecimalVector copyOf(final BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        final MutableBigDecimalVector copy = new MutableBigDecimalVector(vector.size());
+        vector.getMap().forEach((index, element) -> copy.elements[index - 1] = element);
+        return copy;
+    }
+
+    /**
+     * Adds the given {@link BigDecimalVector} to this one
+     *
+     * @param summand
+     *            summand
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != summand.size}
+     * @since 1
+     */
+    public MutableBigDecimalVector addInPlace(final BigDecimalVector summand) {
+        requireNonNull(summand, "summand");
+        checkEqualSizes(summand);
+        summand.getMap().forEach((index, element) -> elements[index - 1] = elements[index - 1].add(element));
+        return this;
+    }
+
+    /**
+     * Adds the given {@link BigDecimalVector} to this one rounding the sums
+     * according to the given {@link MathContext}
+     *
+     * @param summand
+     *            summand
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != summand.size}
+     * @since 1
+     */
+    public MutableBigDecimalVector addInPlace(final BigDecimalVector summand, final MathContext mathContext) {
+        requireNonNull(summand, "summand");
+        requireNonNull(mathContext, "mathContext");
+        checkEqualSizes(summand);
+        summand.getMap()
+            .forEach((index, element) -> elements[index - 1] = elements[index - 1].add(element, mathContext));
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link BigDecimalVector} from this one
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != subtrahend.size}
+     * @since 1
+     */
+    public MutableBigDecimalVector subtractInPlace(final BigDecimalVector subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        checkEqualSizes(subtrahend);
+        subtrahend.getMap().forEach((index, element) -> elements[index - 1] = elements[index - 1].subtract(element));
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link BigDecimalVector} from this one rounding the
+     * differences according to the given {@link MathContext}
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != subtrahend.size}
+     * @since 1
+     */
+    public MutableBigDecimalVector subtractInPlace(final BigDecimalVector subtrahend, final MathContext mathContext) {
+        requireNonNull(subtrahend, "subtrahend");
+        requireNonNull(mathContext, "mathContext");
+        checkEqualSizes(subtrahend);
+        subtrahend.getMap().forEach(
+            (index, element) -> elements[index - 1] = elements[index - 1].subtract(element, mathContext));
+        return this;
+    }
+
+    /**
+     * Multiplies all elements of this {@link MutableBigDecimalVector} with the
+     * given scalar
+     *
+     * @param scalar
+     *            scalar
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @since 1
+     */
+    public MutableBigDecimalVector scaleInPlace(final BigDecimal scalar) {
+        requireNonNull(scalar, "scalar");
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = elements[i].multiply(scalar);
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies all elements of this {@link MutableBigDecimalVector} with the
+     * given scalar rounding the products according to the given
+     * {@link MathContext}
+     *
+     * @param scalar
+     *            scalar
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @since 1
+     */
+    public MutableBigDecimalVector scaleInPlace(final BigDecimal scalar, final MathContext mathContext) {
+        requireNonNull(scalar, "scalar");
+        requireNonNull(mathContext, "mathContext");
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = elements[i].multiply(scalar, mathContext);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the product of the given {@link BigDecimalMatrix} and
+     * {@link BigDecimalVector} to this one without allocating the product
+     *
+     * @param matrix
+     *            matrix
+     * @param vector
+     *            vector
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code matrix.columnSize != vector.size}
+     * @throws IllegalArgumentException
+     *             if {@code size != matrix.rowSize}
+     * @since 1
+     */
+    public MutableBigDecimalVector fma(final BigDecimalMatrix matrix, final BigDecimalVector vector) {
+        requireNonNull(matrix, "matrix");
+        requireNonNull(vector, "vector");
+        checkProductSizes(matrix, vector);
+        final ImmutableList<BigDecimal> vectorElements = vector.elementList();
+        final Function<Integer, BigDecimal> column = index -> vectorElements.get(index - 1);
+        matrix.rows().forEach((rowIndex, row) -> elements[rowIndex - 1] =
+            elements[rowIndex - 1].add(DotProducts.dotProduct(row, column)));
+        return this;
+    }
+
+    /**
+     * Adds the product of the given {@link BigDecimalMatrix} and
+     * {@link BigDecimalVector} to this one without allocating the product and
+     * rounds every element once according to the given {@link MathContext}
+     *
+     * @param matrix
+     *            matrix
+     * @param vector
+     *            vector
+     * @param mathContext
+     *            {@link MathContext}
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code matrix.columnSize != vector.size}
+     * @throws IllegalArgumentException
+     *             if {@code size != matrix.rowSize}
+     * @since 1
+     */
+    public MutableBigDecimalVector fma(final BigDecimalMatrix matrix, final BigDecimalVector vector,
+        final MathContext mathContext) {
+        requireNonNull(matrix, "matrix");
+        requireNonNull(vector, "vector");
+        requireNonNull(mathContext, "mathContext");
+        checkProductSizes(matrix, vector);
+        final ImmutableList<BigDecimal> vectorElements = vector.elementList();
+        final Function<Integer, BigDecimal> column = index -> vectorElements.get(index - 1);
+        matrix.rows().forEach((rowIndex, row) -> elements[rowIndex - 1] =
+            elements[rowIndex - 1].add(DotProducts.dotProduct(row, column), mathContext));
+        return this;
+    }
+
+    /**
+     * Returns the element dependent on the given index
+     *
+     * @param index
+     *            index
+     * @return element
+     * @throws IllegalArgumentException
+     *             if {@code index < 1 || size < index}
+     * @since 1
+     */
+    public BigDecimal element(final int index) {
+        checkIndex(index);
+        return elements[index - 1];
+    }
+
+    /**
+     * Sets the element dependent on the given index
+     *
+     * @param index
+     *            index
+     * @param element
+     *            element
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code index < 1 || size < index}
+     * @since 1
+     */
+    public MutableBigDecimalVector set(final int index, final BigDecimal element) {
+        requireNonNull(element, "element");
+        checkIndex(index);
+        elements[index - 1] = element;
+        return this;
+    }
+
+    /**
+     * Returns a {@link BigDecimalVector} containing the current elements of
+     * this {@link MutableBigDecimalVector}
+     * <p>
+     * This is not zero-copy: the elements are copied once through an
+     * {@link ImmutableMap.Builder} sized to this vector. This
+     * {@link MutableBigDecimalVector} stays usable, and its later changes do not affect
+     * the returned vector.
+     *
+     * @return {@link BigDecimalVector}
+     * @since 1
+     */
+    public BigDecimalVector freeze() {
+        final ImmutableMap.Builder<Integer, BigDecimal> builder = ImmutableMap.builderWithExpectedSize(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            builder.put(i + 1, elements[i]);
+        }
+        return new BigDecimalVector(builder.build());
+    }
+
+    /**
+     * Returns the size
+     *
+     * @return size
+     * @since 1
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    private void checkEqualSizes(final BigDecimalVector other) {
+        assert other != null;
+        checkArgument(elements.length == other.size(), "expected equal sizes but actual %s != %s", elements.length,
+            other.size());
+    }
+
+    private void checkProductSizes(final BigDecimalMatrix matrix, final BigDecimalVector vector) {
+        assert matrix != null;
+        assert vector != null;
+        checkArgument(matrix.columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", matrix.columnSize(), vector.size());
+        checkArgument(elements.length == matrix.rowSize(), "expected size == matrix.rowSize but actual %s != %s",
+            elements.length, matrix.rowSize());
+    }
+
+    private void checkIndex(final int index) {
+        checkArgument(0 < index && index <= elements.length, "expected index in [1, %s] but actual %s",
+            elements.length, index);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("elements", Arrays.toString(elements)).toString();
+    }
+}
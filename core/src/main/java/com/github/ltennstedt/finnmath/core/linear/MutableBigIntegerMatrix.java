@@ -0,0 +1,314 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A mutable matrix which uses {@link BigInteger} as type for its elements
+ * <p>
+ * The operations modify this {@link MutableBigIntegerMatrix} in place and
+ * return {@code this} so that iterative algorithms like {@code X = X + A * B}
+ * do not allocate a new matrix per step. {@link #freeze()} returns the result
+ * as {@link BigIntegerMatrix}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class MutableBigIntegerMatrix {
+    private final BigInteger[][] elements;
+
+    private MutableBigIntegerMatrix(final int rowSize, final int columnSize) {
+        elements = new BigInteger[rowSize][columnSize];
+    }
+
+    /**
+     * Returns a {@link MutableBigIntegerMatrix} whose elements are all
+     * {@link BigInteger#ZERO}
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @return zero matrix
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static MutableBigIntegerMatrix zero(final int rowSize, final int columnSize) {
+        checkArgument(rowSize > 0, "expected rowSize > 0 but actual %s", rowSize);
+        checkArgument(columnSize > 0, "expected columnSize > 0 but actual %s", columnSize);
+        final MutableBigIntegerMatrix zero = new MutableBigIntegerMatrix(rowSize, columnSize);
+        for (final BigInteger[] row : zero.elements) {
+            Arrays.fill(row, BigInteger.ZERO);
+        }
+        return zero;
+    }
+
+    /**
+     * Returns a {@link MutableBigIntegerMatrix} containing the elements of the
+     * given {@link BigIntegerMatrix}
+     *
+     * @param matrix
+     *            {@link BigIntegerMatrix}
+     * @return mutable copy
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @since 1
+     */
+    public static MutableBigIntegerMatrix copyOf(final BigIntegerMatrix matrix) {
+        requireNonNull(matrix, "matrix");
+        final MutableBigIntegerMatrix copy = new MutableBigIntegerMatrix(matrix.rowSize(), matrix.columnSize());
+        matrix.cells()
+            .forEach(cell -> copy.elements[cell.getRowKey() - 1][cell.getColumnKey() - 1] = cell.getValue());
+        return copy;
+    }
+
+    /**
+     * Adds the given {@link BigIntegerMatrix} to this one
+     *
+     * @param summand
+     *            summand
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != summand.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != summand.columnSize}
+     * @since 1
+     */
+    public MutableBigIntegerMatrix addInPlace(final BigIntegerMatrix summand) {
+        requireNonNull(summand, "summand");
+        checkEqualSizes(summand);
+        summand.cells().forEach(cell -> {
+            final int rowIndex = cell.getRowKey() - 1;
+            final int columnIndex = cell.getColumnKey() - 1;
+            elements[rowIndex][columnIndex] = elements[rowIndex][columnIndex].add(cell.getValue());
+        });
+        return this;
+    }
+
+    /**
+     * Subtracts the given {@link BigIntegerMatrix} from this one
+     *
+     * @param subtrahend
+     *            subtrahend
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != subtrahend.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != subtrahend.columnSize}
+     * @since 1
+     */
+    public MutableBigIntegerMatrix subtractInPlace(final BigIntegerMatrix subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        checkEqualSizes(subtrahend);
+        subtrahend.cells().forEach(cell -> {
+            final int rowIndex = cell.getRowKey() - 1;
+            final int columnIndex = cell.getColumnKey() - 1;
+            elements[rowIndex][columnIndex] = elements[rowIndex][columnIndex].subtract(cell.getValue());
+        });
+        return this;
+    }
+
+    /**
+     * Multiplies all elements of this {@link MutableBigIntegerMatrix} with the
+     * given scalar
+     *
+     * @param scalar
+     *            scalar
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code scalar == null}
+     * @since 1
+     */
+    public MutableBigIntegerMatrix scaleInPlace(final BigInteger scalar) {
+        requireNonNull(scalar, "scalar");
+        for (final BigInteger[] row : elements) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = row[i].multiply(scalar);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds the product of the given {@link BigIntegerMatrix BigIntegerMatrices}
+     * to this one without allocating the product
+     *
+     * @param first
+     *            first factor
+     * @param second
+     *            second factor
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code first == null}
+     * @throws NullPointerException
+     *             if {@code second == null}
+     * @throws IllegalArgumentException
+     *             if {@code first.columnSize != second.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize != first.rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != second.columnSize}
+     * @since 1
+     */
+    public MutableBigIntegerMatrix fma(final BigIntegerMatrix first, final BigIntegerMatrix second) {
+        requireNonNull(first, "first");
+        requireNonNull(second, "second");
+        checkProductSizes(first, second);
+        final ImmutableMap<Integer, Map<Integer, BigInteger>> columns = second.columns();
+        first.rows().forEach((rowIndex, row) -> columns.forEach((columnIndex, column) -> {
+            final BigInteger[] elementRow = elements[rowIndex - 1];
+            elementRow[columnIndex - 1] =
+                elementRow[columnIndex - 1].add(DotProducts.bigIntegerDotProduct(row, column::get));
+        }));
+        return this;
+    }
+
+    /**
+     * Returns the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            the row index
+     * @param columnIndex
+     *            the column index
+     * @return element
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || rowSize < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || columnSize < columnIndex}
+     * @since 1
+     */
+    public BigInteger element(final int rowIndex, final int columnIndex) {
+        checkIndexes(rowIndex, columnIndex);
+        return elements[rowIndex - 1][columnIndex - 1];
+    }
+
+    /**
+     * Sets the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            the row index
+     * @param columnIndex
+     *            the column index
+     * @param element
+     *            the element
+     * @return {@code this}
+     * @throws NullPointerException
+     *             if {@code element == null}
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || rowSize < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || columnSize < columnIndex}
+     * @since 1
+     */
+    public MutableBigIntegerMatrix set(final int rowIndex, final int columnIndex, final BigInteger element) {
+        requireNonNull(element, "element");
+        checkIndexes(rowIndex, columnIndex);
+        elements[rowIndex - 1][columnIndex - 1] = element;
+        return this;
+    }
+
+    /**
+     * Returns a {@link BigIntegerMatrix} containing the current elements of
+     * this {@link MutableBigIntegerMatrix}
+     * <p>
+     * This is not zero-copy: the elements are copied once through an
+     * {@link ImmutableTable.Builder}, which collects one cell per element before
+     * it builds the table. This {@link MutableBigIntegerMatrix} stays usable, and its later
+     * changes do not affect the returned matrix.
+     *
+     * @return {@link BigIntegerMatrix}
+     * @since 1
+     */
+    public BigIntegerMatrix freeze() {
+        final ImmutableTable.Builder<Integer, Integer, BigInteger> builder = ImmutableTable.builder();
+        for (int i = 0; i < elements.length; i++) {
+            for (int j = 0; j < elements[i].length; j++) {
+                builder.put(i + 1, j + 1, elements[i][j]);
+            }
+        }
+        return new BigIntegerMatrix(builder.build());
+    }
+
+    /**
+     * Returns the row size
+     *
+     * @return row size
+     * @since 1
+     */
+    public int rowSize() {
+        return elements.length;
+    }
+
+    /**
+     * Returns the column size
+     *
+     * @return column size
+     * @since 1
+     */
+    public int columnSize() {
+        return elements[0].length;
+    }
+
+    private void checkEqualSizes(final BigIntegerMatrix other) {
+        assert other != null;
+        checkArgument(rowSize() == other.rowSize(), "expected equal row sizes but actual %s != %s", rowSize(),
+            other.rowSize());
+        checkArgument(columnSize() == other.columnSize(), "expected equal column sizes but actual %s != %s",
+            columnSize(), other.columnSize());
+    }
+
+    private void checkProductSizes(final BigIntegerMatrix first, final BigIntegerMatrix second) {
+        assert first != null;
+        assert second != null;
+        checkArgument(first.columnSize() == second.rowSize(),
+            "expected first.columnSize == second.rowSize but actual %s != %s", first.columnSize(), second.rowSize());
+        checkArgument(rowSize() == first.rowSize(), "expected rowSize == first.rowSize but actual %s != %s",
+            rowSize(), first.rowSize());
+        checkArgument(columnSize() == second.columnSize(),
+            "expected columnSize == second.columnSize but actual %s != %s", columnSize(), second.columnSize());
+    }
+
+    private void checkIndexes(final int rowIndex, final int columnIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= rowSize(), "expected rowIndex in [1, %s] but actual %s", rowSize(),
+            rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= columnSize(),
+            "expected columnIndex in [1, %s] but actual %s", columnSize(), columnIndex);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("elements", Arrays.deepToString(elements)).toString();
+    }
+}
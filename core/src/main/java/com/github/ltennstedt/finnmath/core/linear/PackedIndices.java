@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+/**
+ * Index arithmetic for upper triangles which are packed column by column into
+ * a single array
+ * <p>
+ * The element in row {@code i} and column {@code j} with {@code i <= j} is at
+ * {@code j * (j - 1) / 2 + i - 1}. It is shared by
+ * {@link PackedSymmetricMatrix} and {@link TriangularBigDecimalMatrix}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class PackedIndices {
+    private PackedIndices() {
+    }
+
+    /**
+     * Returns the number of elements on and above the diagonal
+     *
+     * @param size
+     *            number of rows and columns
+     * @return {@code size * (size + 1) / 2}
+     * @since 1
+     */
+    public static int packedSize(final int size) {
+        return (int) ((long) size * (size + 1) / 2);
+    }
+
+    /**
+     * Returns the position of the given row and column index in the packed
+     * array
+     *
+     * @param rowIndex
+     *            row index starting from {@code 1}
+     * @param columnIndex
+     *            column index starting from {@code 1}
+     * @return position
+     * @since 1
+     */
+    public static int packedIndex(final int rowIndex, final int columnIndex) {
+        final int row = Math.min(rowIndex, columnIndex);
+        final int column = Math.max(rowIndex, columnIndex);
+        return (int) ((long) column * (column - 1) / 2) + row - 1;
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable symmetric matrix which stores only its upper triangle
+ * <p>
+ * The {@code n * (n + 1) / 2} elements on and above the diagonal are packed
+ * column by column into a single array, so the element in row {@code i} and
+ * column {@code j} with {@code i <= j} is at {@code j * (j - 1) / 2 + i - 1}.
+ * The elements below the diagonal are read from their mirrored position. A
+ * dense matrix can be built with e.g.
+ * {@code BigDecimalMatrix.fromFunction(size, size, packed::element)}.
+ *
+ * @param <E>
+ *            type of the elements
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class PackedSymmetricMatrix<E> {
+    /**
+     * Maximum size whose packed elements fit into an array
+     *
+     * @since 1
+     */
+    public static final int MAX_SIZE = 65535;
+
+    /**
+     * Number of rows and columns of the tiles in which
+     * {@link #fromFunctionParallel(int, MatrixElementGenerator)} computes the
+     * upper triangle
+     *
+     * @since 1
+     */
+    public static final int TILE_SIZE = 32;
+
+    private final int rowCount;
+    private final Object[] elements;
+
+    private PackedSymmetricMatrix(final int rowCount) {
+        this.rowCount = rowCount;
+        elements = new Object[PackedIndices.packedSize(rowCount)];
+    }
+
+    /**
+     * Returns a {@link PackedSymmetricMatrix} whose elements on and above the
+     * diagonal are computed by the given {@link MatrixElementGenerator}
+     * <p>
+     * The generator is called only for {@code rowIndex <= columnIndex}.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param size
+     *            number of rows and columns
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @return {@link PackedSymmetricMatrix}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1 || MAX_SIZE < size}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if the generator returns {@code null}
+     * @since 1
+     */
+    public static <E> PackedSymmetricMatrix<E> fromFunction(final int size,
+        final MatrixElementGenerator<? extends E> generator) {
+        checkSize(size);
+        requireNonNull(generator, "generator");
+        return tiled(size, generator, false);
+    }
+
+    /**
+     * Returns a {@link PackedSymmetricMatrix} whose elements on and above the
+     * diagonal are computed by the given {@link MatrixElementGenerator} in
+     * parallel
+     * <p>
+     * The upper triangle is split into tiles of {@link #TILE_SIZE} rows and
+     * columns which are processed on the common
+     * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. The generator is
+     * called only for {@code rowIndex <= columnIndex} and has to be thread-safe.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param size
+     *            number of rows and columns
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @return {@link PackedSymmetricMatrix}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1 || MAX_SIZE < size}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if the generator returns {@code null}
+     * @since 1
+     */
+    public static <E> PackedSymmetricMatrix<E> fromFunctionParallel(final int size,
+        final MatrixElementGenerator<? extends E> generator) {
+        checkSize(size);
+        requireNonNull(generator, "generator");
+        return tiled(size, generator, true);
+    }
+
+    /**
+     * Returns a {@link PackedSymmetricMatrix} containing the upper triangle of the
+     * given symmetric {@link AbstractMatrix}
+     *
+     * @param <E>
+     *            type of the elements
+     * @param matrix
+     *            {@link AbstractMatrix}
+     * @return {@link PackedSymmetricMatrix}
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @throws IllegalArgumentException
+     *             if {@code !matrix.symmetric}
+     * @throws IllegalArgumentException
+     *             if {@code MAX_SIZE < matrix.rowSize}
+     * @since 1
+     */
+    public static <E> PackedSymmetricMatrix<E> of(final AbstractMatrix<E, ?, ?, ?, ?> matrix) {
+        requireNonNull(matrix, "matrix");
+        checkArgument(matrix.symmetric(), "expected symmetric matrix but actual %s", matrix);
+        checkSize(matrix.rowSize());
+        return tiled(matrix.rowSize(), matrix::element, false);
+    }
+
+    /**
+     * Returns the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            row index
+     * @param columnIndex
+     *            column index
+     * @return element
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || size < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || size < columnIndex}
+     * @since 1
+     */
+    @SuppressWarnings("unchecked")
+    public E element(final int rowIndex, final int columnIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= rowCount, "expected rowIndex in [1, %s] but actual %s", rowCount,
+            rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= rowCount, "expected columnIndex in [1, %s] but actual %s",
+            rowCount, columnIndex);
+        return (E) elements[PackedIndices.packedIndex(rowIndex, columnIndex)];
+    }
+
+    /**
+     * Returns the transpose which is {@code this} {@link PackedSymmetricMatrix}
+     * itself
+     *
+     * @return {@code this}
+     * @since 1
+     */
+    public PackedSymmetricMatrix<E> transpose() {
+        return this;
+    }
+
+    /**
+     * Returns the number of rows and columns
+     *
+     * @return size
+     * @since 1
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the number of stored elements
+     *
+     * @return {@code size * (size + 1) / 2}
+     * @since 1
+     */
+    public int packedSize() {
+        return elements.length;
+    }
+
+    private static void checkSize(final int size) {
+        checkArgument(0 < size && size <= MAX_SIZE, "expected size in [1, %s] but actual %s", MAX_SIZE, size);
+    }
+
+    private static <E> PackedSymmetricMatrix<E> tiled(final int size,
+        final MatrixElementGenerator<? extends E> generator, final boolean parallel) {
+        assert generator != null;
+        final PackedSymmetricMatrix<E> matrix = new PackedSymmetricMatrix<>(size);
+        final List<int[]> tiles = new ArrayList<>();
+        for (int rowStart = 1; rowStart <= size; rowStart += TILE_SIZE) {
+            for (int columnStart = rowStart; columnStart <= size; columnStart += TILE_SIZE) {
+                tiles.add(new int[] {rowStart, columnStart});
+            }
+        }
+        (parallel ? tiles.parallelStream() : tiles.stream()).forEach(tile -> {
+            final int rowEnd = Math.min(tile[0] + TILE_SIZE - 1, size);
+            final int columnEnd = Math.min(tile[1] + TILE_SIZE - 1, size);
+            for (int columnIndex = tile[1]; columnIndex <= columnEnd; columnIndex++) {
+                final int offset = (int) ((long) columnIndex * (columnIndex - 1) / 2) - 1;
+                for (int rowIndex = tile[0]; rowIndex <= Math.min(rowEnd, columnIndex); rowIndex++) {
+                    matrix.elements[offset + rowIndex] =
+                        requireNonNull(generator.generate(rowIndex, columnIndex), "element");
+                }
+            }
+        });
+        return matrix;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public int hashCode() {
+        return 31 * rowCount + Arrays.hashCode(elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof PackedSymmetricMatrix)) {
+            return false;
+        }
+        final PackedSymmetricMatrix<?> other = (PackedSymmetricMatrix<?>) object;
+        return rowCount == other.rowCount && Arrays.equals(elements, other.elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", rowCount).add("elements", Arrays.toString(elements))
+            .toString();
+    }
+}
@@ -25,14 +25,18 @@ import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a matrix which uses {@link RealComplexNumber}
@@ -44,10 +48,23 @@ import java.util.Optional;
 @Beta
 public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealComplexNumber, RealComplexNumberVector,
     RealComplexNumberMatrix, BigDecimal, BigDecimal, SquareRootContext> {
-    private RealComplexNumberMatrix(final ImmutableTable<Integer, Integer, RealComplexNumber> table) {
+    /**
+     * Default {@link DeterminantThresholds} of {@link #determinant()}
+     *
+     * @since 1
+     */
+    public static final DeterminantThresholds DETERMINANT_THRESHOLDS = DeterminantThresholds.builder()
+        .put(3, DeterminantStrategy.RULE_OF_SARRUS).put(4, DeterminantStrategy.LAPLACE)
+        .put(12, DeterminantStrategy.BAREISS).build();
+
+    /* default */ RealComplexNumberMatrix(final ImmutableTable<Integer, Integer, RealComplexNumber> table) {
         super(table);
     }
 
+    /* default */ RealComplexNumberMatrix(final int rowSize, final int columnSize, final SpecialForm form) {
+        super(rowSize, columnSize, form, RealComplexNumber.ZERO, RealComplexNumber.ONE);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -62,15 +79,21 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumberMatrix add(final RealComplexNumberMatrix summand) {
         requireNonNull(summand, "summand");
-        checkArgument(table.rowKeySet().size() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), summand.rowSize());
-        checkArgument(table.columnKeySet().size() == summand.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), summand.columnSize());
+        checkArgument(rowSize() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), summand.rowSize());
+        checkArgument(columnSize() == summand.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), summand.columnSize());
+        if (summand.zeroForm()) {
+            return rescale((rowIndex, columnIndex) -> 0);
+        }
+        if (zeroForm()) {
+            return summand.rescale((rowIndex, columnIndex) -> 0);
+        }
         final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -92,15 +115,16 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     public RealComplexNumberMatrix add(final RealComplexNumberMatrix summand, final MathContext mathContext) {
         requireNonNull(summand, "summand");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.rowKeySet().size() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), summand.rowSize());
-        checkArgument(table.columnKeySet().size() == summand.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), summand.columnSize());
+        checkArgument(rowSize() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), summand.rowSize());
+        checkArgument(columnSize() == summand.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), summand.columnSize());
         final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey), mathContext));
+            builder.setUnchecked(rowKey, columnKey,
+                cell.getValue().add(summand.element(rowKey, columnKey), mathContext));
         });
         return builder.build();
     }
@@ -119,15 +143,18 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumberMatrix subtract(final RealComplexNumberMatrix subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(table.rowKeySet().size() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), subtrahend.rowSize());
-        checkArgument(table.columnKeySet().size() == subtrahend.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), subtrahend.columnSize());
+        checkArgument(rowSize() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), subtrahend.rowSize());
+        checkArgument(columnSize() == subtrahend.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), subtrahend.columnSize());
+        if (subtrahend.zeroForm()) {
+            return rescale((rowIndex, columnIndex) -> 0);
+        }
         final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -149,15 +176,15 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     public RealComplexNumberMatrix subtract(final RealComplexNumberMatrix subtrahend, final MathContext mathContext) {
         requireNonNull(subtrahend, "subtrahend");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.rowKeySet().size() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), subtrahend.rowSize());
-        checkArgument(table.columnKeySet().size() == subtrahend.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), subtrahend.columnSize());
+        checkArgument(rowSize() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), subtrahend.rowSize());
+        checkArgument(columnSize() == subtrahend.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), subtrahend.columnSize());
         final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey,
+            builder.setUnchecked(rowKey, columnKey,
                 cell.getValue().subtract(subtrahend.element(rowKey, columnKey), mathContext));
         });
         return builder.build();
@@ -175,12 +202,24 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumberMatrix multiply(final RealComplexNumberMatrix factor) {
         requireNonNull(factor, "factor");
-        checkArgument(table.columnKeySet().size() == factor.rowSize(),
-            "expected columnSize == factor.rowSize but actual %s != %s", table.columnKeySet().size(), factor.rowSize());
-        final RealComplexNumberMatrixBuilder builder = builder(table.rowKeySet().size(), factor.columnSize());
-        table.rowMap().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
+        checkArgument(columnSize() == factor.rowSize(),
+            "expected columnSize == factor.rowSize but actual %s != %s", columnSize(), factor.rowSize());
+        if (factor.identityForm()) {
+            final int[] rowScales = rowMaxima(RealComplexNumberVector::productScale);
+            return rescale((rowIndex, columnIndex) -> rowScales[rowIndex - 1]);
+        }
+        if (identityForm()) {
+            final int[] columnScales = factor.columnMaxima(RealComplexNumberVector::productScale);
+            return factor.rescale((rowIndex, columnIndex) -> columnScales[columnIndex - 1]);
+        }
+        if (zeroForm() || factor.zeroForm()) {
+            return zeroMatrix(rowMaxima(RealComplexNumberVector::productScale),
+                factor.columnMaxima(RealComplexNumberVector::productScale));
+        }
+        final RealComplexNumberMatrixBuilder builder = builder(rowSize(), factor.columnSize());
+        rows().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
             final RealComplexNumber element = multiplyRowWithColumn(row, column);
-            builder.put(rowIndex, columnIndex, element);
+            builder.setUnchecked(rowIndex, columnIndex, element);
         }));
         return builder.build();
     }
@@ -200,12 +239,12 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     public RealComplexNumberMatrix multiply(final RealComplexNumberMatrix factor, final MathContext mathContext) {
         requireNonNull(factor, "factor");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.columnKeySet().size() == factor.rowSize(),
-            "expected columnSize == factor.rowSize but actual %s != %s", table.columnKeySet().size(), factor.rowSize());
-        final RealComplexNumberMatrixBuilder builder = builder(table.rowKeySet().size(), factor.columnSize());
-        table.rowMap().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
-            final RealComplexNumber element = multiplyRowWithColumn(row, column);
-            builder.put(rowIndex, columnIndex, element);
+        checkArgument(columnSize() == factor.rowSize(),
+            "expected columnSize == factor.rowSize but actual %s != %s", columnSize(), factor.rowSize());
+        final RealComplexNumberMatrixBuilder builder = builder(rowSize(), factor.columnSize());
+        rows().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
+            final RealComplexNumber element = multiplyRowWithColumn(row, column, mathContext);
+            builder.setUnchecked(rowIndex, columnIndex, element);
         }));
         return builder.build();
     }
@@ -222,16 +261,15 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumberVector multiplyVector(final RealComplexNumberVector vector) {
         requireNonNull(vector, "vector");
-        checkArgument(table.columnKeySet().size() == vector.size(),
-            "expected columnSize == vectorSize but actual %s != %s", table.columnKeySet().size(), vector.size());
-        final RealComplexNumberVector.RealComplexNumberVectorBuilder builder =
-            RealComplexNumberVector.builder(table.rowKeySet().size());
-        table.rowMap().forEach((rowIndex, row) -> row.forEach((columnIndex, matrixEntry) -> {
-            final RealComplexNumber oldEntry =
-                builder.element(rowIndex) != null ? builder.element(rowIndex) : RealComplexNumber.ZERO;
-            builder.put(rowIndex, oldEntry.add(matrixEntry.multiply(vector.element(columnIndex))));
-        }));
-        return builder.build();
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector.rescale(vector.maximum(RealComplexNumberVector::productScale));
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return zeroVector(vector);
+        }
+        return multiplyVectorRowWise(vector, null, false);
     }
 
     /**
@@ -249,19 +287,158 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     public RealComplexNumberVector multiplyVector(final RealComplexNumberVector vector, final MathContext mathContext) {
         requireNonNull(vector, "vector");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(table.columnKeySet().size() == vector.size(),
-            "expected columnSize == vectorSize but actual %s != %s", table.columnKeySet().size(), vector.size());
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        return multiplyVectorRowWise(vector, mathContext, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size}
+     * @since 1
+     */
+    @Override
+    public RealComplexNumberVector multiplyVectorParallel(final RealComplexNumberVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector.rescale(vector.maximum(RealComplexNumberVector::productScale));
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return zeroVector(vector);
+        }
+        return multiplyVectorRowWise(vector, null, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size}
+     * @since 1
+     */
+    @Override
+    public RealComplexNumberVector multiplyVectorParallel(final RealComplexNumberVector vector,
+        final MathContext mathContext) {
+        requireNonNull(vector, "vector");
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        return multiplyVectorRowWise(vector, mathContext, true);
+    }
+
+    private RealComplexNumberVector multiplyVectorRowWise(final RealComplexNumberVector vector,
+        final MathContext mathContext, final boolean parallel) {
+        assert vector != null;
+        final ImmutableList<RealComplexNumber> elements = vector.elementList();
+        final Function<Integer, RealComplexNumber> column = index -> elements.get(index - 1);
         final RealComplexNumberVector.RealComplexNumberVectorBuilder builder =
-            RealComplexNumberVector.builder(table.rowKeySet().size());
-        table.rowMap().forEach((rowIndex, row) -> row.forEach((columnIndex, matrixEntry) -> {
-            final RealComplexNumber oldEntry =
-                builder.element(rowIndex) != null ? builder.element(rowIndex) : RealComplexNumber.ZERO;
-            builder.put(rowIndex,
-                oldEntry.add(matrixEntry.multiply(vector.element(columnIndex), mathContext), mathContext));
-        }));
+            RealComplexNumberVector.builder(rowSize());
+        multiplyRows(row -> mathContext == null ? DotProducts.realComplexNumberDotProduct(row, column)
+            : DotProducts.realComplexNumberDotProduct(row, column, mathContext), parallel).forEach(builder::put);
         return builder.build();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<RealComplexNumberVector> multiplyVectors(final List<RealComplexNumberVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, null, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<RealComplexNumberVector> multiplyVectors(final List<RealComplexNumberVector> vectors,
+        final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return multiplyVectorsBlockwise(vectors, mathContext, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<RealComplexNumberVector> multiplyVectorsParallel(final List<RealComplexNumberVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, null, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<RealComplexNumberVector> multiplyVectorsParallel(final List<RealComplexNumberVector> vectors,
+        final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        return multiplyVectorsBlockwise(vectors, mathContext, true);
+    }
+
+    private ImmutableList<RealComplexNumberVector> multiplyVectorsBlockwise(final List<RealComplexNumberVector> vectors,
+        final MathContext mathContext, final boolean parallel) {
+        final ImmutableList<ImmutableList<RealComplexNumber>> products = multiplyRowsWithVectors(vectors,
+            (row, column) -> mathContext == null ? DotProducts.realComplexNumberDotProduct(row, column)
+                : DotProducts.realComplexNumberDotProduct(row, column, mathContext),
+            parallel);
+        final int rowSize = rowSize();
+        return products.stream().map(elements -> {
+            final RealComplexNumberVector.RealComplexNumberVectorBuilder builder =
+                RealComplexNumberVector.builder(rowSize);
+            elements.forEach(builder::put);
+            return builder.build();
+        }).collect(ImmutableList.toImmutableList());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -272,9 +449,9 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumberMatrix scalarMultiply(final RealComplexNumber scalar) {
         requireNonNull(scalar, "scalar");
-        final RealComplexNumberMatrixBuilder builder = builder(table.rowKeySet().size(), table.columnKeySet().size());
-        table.cellSet()
-            .forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
+        final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(
+            cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
         return builder.build();
     }
 
@@ -291,9 +468,9 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     public RealComplexNumberMatrix scalarMultiply(final RealComplexNumber scalar, final MathContext mathContext) {
         requireNonNull(scalar, "scalar");
         requireNonNull(mathContext, "mathContext");
-        final RealComplexNumberMatrixBuilder builder = builder(table.rowKeySet().size(), table.columnKeySet().size());
-        table.cellSet().forEach(
-            cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue(), mathContext)));
+        final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(),
+            scalar.multiply(cell.getValue(), mathContext)));
         return builder.build();
     }
 
@@ -329,9 +506,8 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public RealComplexNumber trace() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
             .map(Cell::getValue).reduce(RealComplexNumber::add).get();
     }
 
@@ -347,9 +523,8 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumber trace(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
             .map(Cell::getValue).reduce((element, other) -> element.add(other, mathContext)).get();
     }
 
@@ -358,30 +533,69 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      *
      * @throws IllegalStateException
      *             if this {@link RealComplexNumberMatrix} is not square
+     * @see #DETERMINANT_THRESHOLDS
      * @since 1
      */
     @Override
     public RealComplexNumber determinant() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
+        return determinant(DETERMINANT_THRESHOLDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code thresholds == null}
+     * @throws IllegalStateException
+     *             if this {@link RealComplexNumberMatrix} is not square
+     * @since 1
+     */
+    @Override
+    public RealComplexNumber determinant(final DeterminantThresholds thresholds) {
+        requireNonNull(thresholds, "thresholds");
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        if (identityForm()) {
+            return RealComplexNumber.ONE;
+        }
+        if (zeroForm()) {
+            return RealComplexNumber.ZERO;
+        }
         if (triangular()) {
-            return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).reduce(RealComplexNumber::multiply).get();
         }
-        final int rowSize = table.rowKeySet().size();
-        if (rowSize > 3) {
-            return leibnizFormula();
-        }
-        if (rowSize == 3) {
-            return ruleOfSarrus();
+        final int rowSize = rowSize();
+        if (rowSize == 2) {
+            final ImmutableTable<Integer, Integer, RealComplexNumber> table = getTable();
+            return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
         }
+        return determinantWith(thresholds.strategy(rowSize), Determinants.REAL_COMPLEX_NUMBER);
+    }
 
-        // rowSize == 2
-        return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @throws IllegalStateException
+     *             if this {@link RealComplexNumberMatrix} is not square
+     * @throws IllegalArgumentException
+     *             if {@code strategy} does not support {@code rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code strategy == MODULAR}
+     * @since 1
+     */
+    @Override
+    public RealComplexNumber determinant(final DeterminantStrategy strategy) {
+        return determinantWith(strategy, Determinants.REAL_COMPLEX_NUMBER);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The determinant is computed exactly by {@link #determinant()} and rounded
+     * once so that the {@link #DETERMINANT_THRESHOLDS} apply to every precision
+     * and the result is the correctly rounded exact determinant.
      *
      * @throws NullPointerException
      *             if {@code mathContext == null}
@@ -392,23 +606,9 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public RealComplexNumber determinant(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        if (triangular()) {
-            return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
-                .map(Cell::getValue).reduce((element, other) -> element.multiply(other, mathContext)).get();
-        }
-        final int rowSize = table.rowKeySet().size();
-        if (rowSize > 3) {
-            return leibnizFormula();
-        }
-        if (rowSize == 3) {
-            return ruleOfSarrus();
-        }
-
-        // rowSize == 2
-        return table.get(1, 1).multiply(table.get(2, 2), mathContext)
-            .subtract(table.get(1, 2).multiply(table.get(2, 1), mathContext), mathContext);
+        final RealComplexNumber determinant = determinant();
+        return RealComplexNumber.of(determinant.getReal().round(mathContext),
+            determinant.getImaginary().round(mathContext));
     }
 
     /**
@@ -418,8 +618,8 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public RealComplexNumberMatrix transpose() {
-        final RealComplexNumberMatrixBuilder builder = builder(table.columnKeySet().size(), table.rowKeySet().size());
-        table.cellSet().forEach(cell -> builder.put(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
+        final RealComplexNumberMatrixBuilder builder = builder(columnSize(), rowSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
         return builder.build();
     }
 
@@ -440,19 +640,19 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     public RealComplexNumberMatrix minor(final Integer rowIndex, final Integer columnIndex) {
         requireNonNull(rowIndex, "rowIndex");
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
+        final ImmutableTable<Integer, Integer, RealComplexNumber> table = getTable();
+        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s", rowSize(), rowIndex);
         checkArgument(table.containsColumn(columnIndex), "expected columnIndex in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
+            columnSize(), columnIndex);
         final RealComplexNumberMatrixBuilder builder =
-            builder(table.rowKeySet().size() - 1, table.columnKeySet().size() - 1);
+            builder(rowSize() - 1, columnSize() - 1);
         table.cellSet().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
             if (rowKey.compareTo(rowIndex) != 0 && columnKey.compareTo(columnIndex) != 0) {
                 final Integer newRowIndex = rowKey.compareTo(rowIndex) > 0 ? rowKey - 1 : rowKey;
                 final Integer newColumnIndex = columnKey.compareTo(columnIndex) > 0 ? columnKey - 1 : columnKey;
-                builder.put(newRowIndex, newColumnIndex, cell.getValue());
+                builder.setUnchecked(newRowIndex, newColumnIndex, cell.getValue());
             }
         });
         return builder.build();
@@ -465,9 +665,8 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public BigDecimal maxAbsColumnSumNorm() {
-        return table.columnMap().values().asList().stream()
-            .map(column -> column.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::add))
-            .map(Optional::get).reduce(BigDecimal::max).get();
+        return maxAbsSumNorm(columns().values(), RealComplexNumberMatrix::approximateAbs,
+            RealComplexNumber::abs, BigDecimal::add, DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
     /**
@@ -480,10 +679,9 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public BigDecimal maxAbsColumnSumNorm(final SquareRootContext squareRootContext) {
         requireNonNull(squareRootContext, "squareRootContext");
-        return table.columnMap().values().asList().stream()
-            .map(column -> column.values().stream().map(element -> element.abs(squareRootContext))
-                .reduce((element, other) -> element.add(other, squareRootContext.getMathContext())))
-            .map(Optional::get).reduce(BigDecimal::max).get();
+        return maxAbsSumNorm(columns().values(), RealComplexNumberMatrix::approximateAbs,
+            element -> element.abs(squareRootContext),
+            (element, other) -> element.add(other, squareRootContext.getMathContext()), squareRootContext);
     }
 
     /**
@@ -493,9 +691,8 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public BigDecimal maxAbsRowSumNorm() {
-        return table.rowMap().values().asList().stream()
-            .map(row -> row.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::add)).map(Optional::get)
-            .reduce(BigDecimal::max).get();
+        return maxAbsSumNorm(rows().values(), RealComplexNumberMatrix::approximateAbs, RealComplexNumber::abs,
+            BigDecimal::add, DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
     /**
@@ -508,10 +705,9 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public BigDecimal maxAbsRowSumNorm(final SquareRootContext squareRootContext) {
         requireNonNull(squareRootContext, "squareRootContext");
-        return table.rowMap().values().asList().stream()
-            .map(row -> row.values().stream().map(element -> element.abs(squareRootContext))
-                .reduce((element, other) -> element.add(other, squareRootContext.getMathContext())))
-            .map(Optional::get).reduce(BigDecimal::max).get();
+        return maxAbsSumNorm(rows().values(), RealComplexNumberMatrix::approximateAbs,
+            element -> element.abs(squareRootContext),
+            (element, other) -> element.add(other, squareRootContext.getMathContext()), squareRootContext);
     }
 
     /**
@@ -521,7 +717,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public BigDecimal frobeniusNormPow2() {
-        return table.values().stream().map(RealComplexNumber::absPow2).reduce(BigDecimal::add).get();
+        return elements().stream().map(RealComplexNumber::absPow2).reduce(BigDecimal::add).get();
     }
 
     /**
@@ -534,7 +730,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public BigDecimal frobeniusNormPow2(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return table.values().stream().map(element -> element.absPow2(mathContext))
+        return elements().stream().map(element -> element.absPow2(mathContext))
             .reduce((element, other) -> element.add(other, mathContext)).get();
     }
 
@@ -552,12 +748,15 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Compares the squares of the absolute values and calculates only one square
+     * root.
      *
      * @since 1
      */
     @Override
     public BigDecimal maxNorm() {
-        return table.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::max).get();
+        return maxNorm(DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
     /**
@@ -570,7 +769,23 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     public BigDecimal maxNorm(final SquareRootContext squareRootContext) {
         requireNonNull(squareRootContext, "squareRootContext");
-        return table.values().stream().map(element -> element.abs(squareRootContext)).reduce(BigDecimal::max).get();
+        return SquareRootCalculator.sqrt(
+            elements().stream().map(RealComplexNumber::absPow2).reduce(BigDecimal::max).get(),
+            squareRootContext);
+    }
+
+    /**
+     * Returns an approximation of the absolute value of the given
+     * {@link RealComplexNumber} with {@code double} precision
+     *
+     * @param complexNumber
+     *            {@link RealComplexNumber}
+     * @return approximated absolute value
+     * @since 1
+     */
+    private static double approximateAbs(final RealComplexNumber complexNumber) {
+        assert complexNumber != null;
+        return Math.hypot(complexNumber.getReal().doubleValue(), complexNumber.getImaginary().doubleValue());
     }
 
     /**
@@ -580,7 +795,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public boolean upperTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
             .map(Cell::getValue).anyMatch(value -> !value.equals(RealComplexNumber.ZERO));
     }
 
@@ -591,7 +806,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public boolean lowerTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
             .map(Cell::getValue).anyMatch(value -> !value.equals(RealComplexNumber.ZERO));
     }
 
@@ -602,8 +817,11 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     public boolean identity() {
+        if (identityForm()) {
+            return true;
+        }
         return diagonal()
-            && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).anyMatch(value -> !value.equals(RealComplexNumber.ONE));
     }
 
@@ -640,11 +858,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
         requireNonNull(column, "column");
         checkArgument(row.size() == column.size(), "expected rowSize == columnSize but actual %s != %s", row.size(),
             column.size());
-        RealComplexNumber result = RealComplexNumber.ZERO;
-        for (final Entry<Integer, RealComplexNumber> rowEntry : row.entrySet()) {
-            result = result.add(rowEntry.getValue().multiply(column.get(rowEntry.getKey())));
-        }
-        return result;
+        return DotProducts.realComplexNumberDotProduct(row, column::get);
     }
 
     /**
@@ -668,11 +882,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
         requireNonNull(mathContext, "mathContext");
         checkArgument(row.size() == column.size(), "expected rowSize == columnSize but actual %s != %s", row.size(),
             column.size());
-        RealComplexNumber result = RealComplexNumber.ZERO;
-        for (final Entry<Integer, RealComplexNumber> rowEntry : row.entrySet()) {
-            result = result.add(rowEntry.getValue().multiply(column.get(rowEntry.getKey()), mathContext), mathContext);
-        }
-        return result;
+        return DotProducts.realComplexNumberDotProduct(row, column::get, mathContext);
     }
 
     /**
@@ -683,10 +893,11 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     protected RealComplexNumber leibnizFormula() {
         RealComplexNumber result = RealComplexNumber.ZERO;
+        final ImmutableTable<Integer, Integer, RealComplexNumber> table = getTable();
         for (final List<Integer> permutation : Collections2.permutations(table.rowKeySet())) {
             RealComplexNumber product = RealComplexNumber.ONE;
             int inversions = 0;
-            final int size = table.rowKeySet().size();
+            final int size = rowSize();
             for (int i = 0; i < size; i++) {
                 final Integer sigma = permutation.get(i);
                 for (int j = i + 1; j < size; j++) {
@@ -712,10 +923,11 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     protected RealComplexNumber leibnizFormula(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
         RealComplexNumber result = RealComplexNumber.ZERO;
+        final ImmutableTable<Integer, Integer, RealComplexNumber> table = getTable();
         for (final List<Integer> permutation : Collections2.permutations(table.rowKeySet())) {
             RealComplexNumber product = RealComplexNumber.ONE;
             int inversions = 0;
-            final int size = table.rowKeySet().size();
+            final int size = rowSize();
             for (int i = 0; i < size; i++) {
                 final Integer sigma = permutation.get(i);
                 for (int j = i + 1; j < size; j++) {
@@ -739,6 +951,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
      */
     @Override
     protected RealComplexNumber ruleOfSarrus() {
+        final ImmutableTable<Integer, Integer, RealComplexNumber> table = getTable();
         final RealComplexNumber first = table.get(1, 1).multiply(table.get(2, 2)).multiply(table.get(3, 3));
         final RealComplexNumber second = table.get(1, 2).multiply(table.get(2, 3)).multiply(table.get(3, 1));
         final RealComplexNumber third = table.get(1, 3).multiply(table.get(2, 1)).multiply(table.get(3, 2));
@@ -758,6 +971,7 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
     @Override
     protected RealComplexNumber ruleOfSarrus(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
+        final ImmutableTable<Integer, Integer, RealComplexNumber> table = getTable();
         final RealComplexNumber first =
             table.get(1, 1).multiply(table.get(2, 2), mathContext).multiply(table.get(3, 3), mathContext);
         final RealComplexNumber second =
@@ -774,6 +988,181 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
             .subtract(fifth, mathContext).subtract(sixth, mathContext);
     }
 
+    /**
+     * Returns a {@link RealComplexNumberMatrix} containing the elements of the given array
+     *
+     * @param elements
+     *            elements indexed by {@code [rowIndex - 1][columnIndex - 1]}
+     * @return {@link RealComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty or not rectangular
+     * @since 1
+     */
+    public static RealComplexNumberMatrix of(final RealComplexNumber[]... elements) {
+        return new RealComplexNumberMatrix(tableOf(elements));
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} in a single pass
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @return {@link RealComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static RealComplexNumberMatrix fromFunction(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends RealComplexNumber> generator) {
+        return new RealComplexNumberMatrix(tableOf(rowSize, columnSize, generator, false));
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} with the rows generated in parallel
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator} which is safe to be called
+     *            concurrently
+     * @return {@link RealComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static RealComplexNumberMatrix fromFunctionParallel(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends RealComplexNumber> generator) {
+        return new RealComplexNumberMatrix(tableOf(rowSize, columnSize, generator, true));
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberMatrix} containing the rows of the given {@link Stream}
+     *
+     * @param rows
+     *            rows ordered by row index containing the elements ordered by
+     *            column index
+     * @return {@link RealComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code rows == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rows} is empty or not rectangular
+     * @since 1
+     */
+    public static RealComplexNumberMatrix fromRowStream(
+        final Stream<? extends List<? extends RealComplexNumber>> rows) {
+        requireNonNull(rows, "rows");
+        return new RealComplexNumberMatrix(tableOfRows(rows.collect(Collectors.toList())));
+    }
+
+    /**
+     * Returns this {@link RealComplexNumberMatrix} whose real and imaginary
+     * parts are rescaled to at least the given scales
+     * <p>
+     * The short-circuits of the special forms use it so that they return the
+     * same scales as the full computation, e.g. both parts of each element of
+     * {@code a.multiply(identity)} have the maximum scale of its row.
+     *
+     * @param minimumScale
+     *            minimum scale dependent on the row and column index
+     * @return rescaled matrix, {@code this} if no element changes
+     * @since 1
+     */
+    private RealComplexNumberMatrix rescale(final IntBinaryOperator minimumScale) {
+        assert minimumScale != null;
+        if (zeroForm() || identityForm() || cells().stream().allMatch(cell -> RealComplexNumberVector
+            .rescale(cell.getValue(), minimumScale.applyAsInt(cell.getRowKey(), cell.getColumnKey())) == cell
+                .getValue())) {
+            return this;
+        }
+        final RealComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(), RealComplexNumberVector
+            .rescale(cell.getValue(), minimumScale.applyAsInt(cell.getRowKey(), cell.getColumnKey()))));
+        return builder.build();
+    }
+
+    /**
+     * Returns the zero product of this {@link RealComplexNumberMatrix} and the
+     * given vector with the scales of the full computation
+     *
+     * @param vector
+     *            vector
+     * @return zero vector
+     * @since 1
+     */
+    private RealComplexNumberVector zeroVector(final RealComplexNumberVector vector) {
+        assert vector != null;
+        final int[] rowScales = rowMaxima(RealComplexNumberVector::productScale);
+        final int vectorScale = vector.maximum(RealComplexNumberVector::productScale);
+        if (vectorScale == 0 && Arrays.stream(rowScales).allMatch(scale -> scale == 0)) {
+            return Vectors.buildZeroRealComplexNumberVector(rowScales.length);
+        }
+        final RealComplexNumberVector.RealComplexNumberVectorBuilder builder =
+            RealComplexNumberVector.builder(rowScales.length);
+        for (int index = 1; index <= rowScales.length; index++) {
+            builder.setUnchecked(index, zero(rowScales[index - 1] + vectorScale));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the zero product of matrices whose rows and columns have the given
+     * maximum scales with the scales of the full computation
+     *
+     * @param rowScales
+     *            maximum scales of the rows of the left factor
+     * @param columnScales
+     *            maximum scales of the columns of the right factor
+     * @return zero matrix
+     * @since 1
+     */
+    private static RealComplexNumberMatrix zeroMatrix(final int[] rowScales, final int... columnScales) {
+        assert rowScales != null;
+        assert columnScales != null;
+        if (Arrays.stream(rowScales).allMatch(scale -> scale == 0)
+            && Arrays.stream(columnScales).allMatch(scale -> scale == 0)) {
+            return Matrices.buildZeroRealComplexNumberMatrix(rowScales.length, columnScales.length);
+        }
+        final RealComplexNumberMatrixBuilder builder = builder(rowScales.length, columnScales.length);
+        for (int rowIndex = 1; rowIndex <= rowScales.length; rowIndex++) {
+            for (int columnIndex = 1; columnIndex <= columnScales.length; columnIndex++) {
+                builder.setUnchecked(rowIndex, columnIndex,
+                    zero(rowScales[rowIndex - 1] + columnScales[columnIndex - 1]));
+            }
+        }
+        return builder.build();
+    }
+
+    private static RealComplexNumber zero(final int scale) {
+        final BigDecimal zero = BigDecimal.valueOf(0L, scale);
+        return RealComplexNumber.of(zero, zero);
+    }
+
     /**
      * Returns a {@link RealComplexNumberMatrixBuilder}
      *
@@ -812,12 +1201,13 @@ public final class RealComplexNumberMatrix extends AbstractContextMatrix<RealCom
          *
          * @throws NullPointerException
          *             if one {@code cell.value == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public RealComplexNumberMatrix build() {
-            table.cellSet().forEach(cell -> requireNonNull(cell.getValue(), "cell.value"));
-            return new RealComplexNumberMatrix(ImmutableTable.copyOf(table));
+            return new RealComplexNumberMatrix(buildTable("cell.value"));
         }
     }
 }
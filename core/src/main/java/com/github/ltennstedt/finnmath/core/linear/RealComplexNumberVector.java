@@ -27,8 +27,10 @@ import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableMap;
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.Arrays;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a vector which uses {@link RealComplexNumber}
@@ -40,10 +42,98 @@ import java.util.stream.IntStream;
 @Beta
 public final class RealComplexNumberVector extends AbstractContextVector<RealComplexNumber, RealComplexNumberVector,
     RealComplexNumberMatrix, BigDecimal, BigDecimal, SquareRootContext> {
-    private RealComplexNumberVector(final ImmutableMap<Integer, RealComplexNumber> map) {
+    /* default */ RealComplexNumberVector(final ImmutableMap<Integer, RealComplexNumber> map) {
         super(map);
     }
 
+    /* default */ RealComplexNumberVector(final int size) {
+        super(size, RealComplexNumber.ZERO);
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberVector} containing the given elements
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link RealComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static RealComplexNumberVector of(final RealComplexNumber... elements) {
+        requireNonNull(elements, "elements");
+        return new RealComplexNumberVector(mapOf(Arrays.asList(elements)));
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberVector} whose elements are generated by the given
+     * {@link IntFunction} in a single pass
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     * @return {@link RealComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static RealComplexNumberVector fromFunction(final int size,
+        final IntFunction<? extends RealComplexNumber> generator) {
+        return new RealComplexNumberVector(mapOf(size, generator, false));
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberVector} whose elements are generated by the given
+     * {@link IntFunction} in parallel
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     *            which is safe to be called concurrently
+     * @return {@link RealComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static RealComplexNumberVector fromFunctionParallel(final int size,
+        final IntFunction<? extends RealComplexNumber> generator) {
+        return new RealComplexNumberVector(mapOf(size, generator, true));
+    }
+
+    /**
+     * Returns a {@link RealComplexNumberVector} containing the elements of the given
+     * {@link Stream}
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link RealComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static RealComplexNumberVector fromStream(final Stream<? extends RealComplexNumber> elements) {
+        requireNonNull(elements, "elements");
+        return new RealComplexNumberVector(mapOf(elements.collect(Collectors.toList())));
+    }
+
     /**
      * Returns a {@link RealComplexNumberVectorBuilder}
      *
@@ -69,10 +159,16 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public RealComplexNumberVector add(final RealComplexNumberVector summand) {
         requireNonNull(summand, "summand");
-        checkArgument(map.size() == summand.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == summand.size(), "equal sizes expected but actual %s != %s", size(),
             summand.size());
-        final RealComplexNumberVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.add(summand.element(index))));
+        if (summand.zeroForm()) {
+            return rescale(0);
+        }
+        if (zeroForm()) {
+            return summand.rescale(0);
+        }
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.add(summand.element(index))));
         return builder.build();
     }
 
@@ -91,10 +187,11 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     public RealComplexNumberVector add(final RealComplexNumberVector summand, final MathContext mathContext) {
         requireNonNull(summand, "summand");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == summand.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == summand.size(), "equal sizes expected but actual %s != %s", size(),
             summand.size());
-        final RealComplexNumberVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.add(summand.element(index), mathContext)));
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach(
+            (index, element) -> builder.setUnchecked(index, element.add(summand.element(index), mathContext)));
         return builder.build();
     }
 
@@ -110,10 +207,13 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public RealComplexNumberVector subtract(final RealComplexNumberVector subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(map.size() == subtrahend.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == subtrahend.size(), "equal sizes expected but actual %s != %s", size(),
             subtrahend.size());
-        final RealComplexNumberVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.subtract(subtrahend.element(index))));
+        if (subtrahend.zeroForm()) {
+            return rescale(0);
+        }
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.subtract(subtrahend.element(index))));
         return builder.build();
     }
 
@@ -132,10 +232,11 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     public RealComplexNumberVector subtract(final RealComplexNumberVector subtrahend, final MathContext mathContext) {
         requireNonNull(subtrahend, "subtrahend");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == subtrahend.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == subtrahend.size(), "equal sizes expected but actual %s != %s", size(),
             subtrahend.size());
-        final RealComplexNumberVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.subtract(subtrahend.element(index), mathContext)));
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index,
+            element.subtract(subtrahend.element(index), mathContext)));
         return builder.build();
     }
 
@@ -151,9 +252,8 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public RealComplexNumber dotProduct(final RealComplexNumberVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return map.entrySet().stream().map(entry -> entry.getValue().multiply(other.element(entry.getKey())))
-            .reduce(RealComplexNumber::add).get();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return DotProducts.realComplexNumberDotProduct(getMap(), other.getMap()::get);
     }
 
     /**
@@ -171,10 +271,8 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     public RealComplexNumber dotProduct(final RealComplexNumberVector other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return map.entrySet().stream()
-            .map(entry -> entry.getValue().multiply(other.element(entry.getKey()), mathContext))
-            .reduce((element, otherElement) -> element.add(otherElement, mathContext)).get();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return DotProducts.realComplexNumberDotProduct(getMap(), other.getMap()::get, mathContext);
     }
 
     /**
@@ -187,8 +285,8 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public RealComplexNumberVector scalarMultiply(final RealComplexNumber scalar) {
         requireNonNull(scalar, "scalar");
-        final RealComplexNumberVectorBuilder builder = builder(map.size());
-        map.values().forEach(element -> builder.put(scalar.multiply(element)));
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, scalar.multiply(element)));
         return builder.build();
     }
 
@@ -205,8 +303,8 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     public RealComplexNumberVector scalarMultiply(final RealComplexNumber scalar, final MathContext mathContext) {
         requireNonNull(scalar, "scalar");
         requireNonNull(mathContext, "mathContext");
-        final RealComplexNumberVectorBuilder builder = builder(map.size());
-        map.values().forEach(element -> builder.put(scalar.multiply(element, mathContext)));
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, scalar.multiply(element, mathContext)));
         return builder.build();
     }
 
@@ -245,7 +343,7 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public boolean orthogonalTo(final RealComplexNumberVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return dotProduct(other).equalsByComparingFields(RealComplexNumber.ZERO);
     }
 
@@ -264,7 +362,7 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     public boolean orthogonalTo(final RealComplexNumberVector other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return dotProduct(other, mathContext).equalsByComparingFields(RealComplexNumber.ZERO);
     }
 
@@ -275,7 +373,7 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
      */
     @Override
     public BigDecimal taxicabNorm() {
-        return map.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::add).get();
+        return getMap().values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::add).get();
     }
 
     /**
@@ -288,7 +386,7 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public BigDecimal taxicabNorm(final SquareRootContext squareRootContext) {
         requireNonNull(squareRootContext, "squareRootContext");
-        return map.values().stream().map(element -> element.abs(squareRootContext))
+        return getMap().values().stream().map(element -> element.abs(squareRootContext))
             .reduce((element, other) -> element.add(other, squareRootContext.getMathContext())).get();
     }
 
@@ -299,7 +397,7 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
      */
     @Override
     public BigDecimal euclideanNormPow2() {
-        return map.values().stream().map(RealComplexNumber::absPow2).reduce(BigDecimal::add).get();
+        return getMap().values().stream().map(RealComplexNumber::absPow2).reduce(BigDecimal::add).get();
     }
 
     /**
@@ -312,7 +410,7 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public BigDecimal euclideanNormPow2(final MathContext mathContext) {
         requireNonNull(mathContext, "mathContext");
-        return map.values().stream().map(element -> element.absPow2(mathContext))
+        return getMap().values().stream().map(element -> element.absPow2(mathContext))
             .reduce((element, other) -> element.add(other, mathContext)).get();
     }
 
@@ -343,12 +441,15 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Compares the squares of the absolute values and calculates only one square
+     * root.
      *
      * @since 1
      */
     @Override
     public BigDecimal maxNorm() {
-        return map.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::max).get();
+        return maxNorm(DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
     /**
@@ -361,7 +462,100 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public BigDecimal maxNorm(final SquareRootContext squareRootContext) {
         requireNonNull(squareRootContext, "squareRootContext");
-        return map.values().stream().map(element -> element.abs(squareRootContext)).reduce(BigDecimal::max).get();
+        final BigDecimal maxAbsPow2 =
+            getMap().values().stream().map(RealComplexNumber::absPow2).reduce(BigDecimal::max).get();
+        return SquareRootCalculator.sqrt(maxAbsPow2, squareRootContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedTaxicabDistance(final RealComplexNumberVector other) {
+        assert other != null;
+        return Distances.realComplexNumberTaxicabDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedTaxicabDistance(final RealComplexNumberVector other, final MathContext mathContext) {
+        assert other != null;
+        assert mathContext != null;
+        return Distances.realComplexNumberTaxicabDistance(getMap(), other.getMap()::get).round(mathContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistancePow2(final RealComplexNumberVector other) {
+        assert other != null;
+        return Distances.realComplexNumberEuclideanDistancePow2(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistancePow2(final RealComplexNumberVector other,
+        final SquareRootContext squareRootContext) {
+        assert other != null;
+        assert squareRootContext != null;
+        return Distances.realComplexNumberEuclideanDistancePow2(getMap(), other.getMap()::get)
+            .round(squareRootContext.getMathContext());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistance(final RealComplexNumberVector other,
+        final SquareRootContext squareRootContext) {
+        assert other != null;
+        assert squareRootContext != null;
+        final BigDecimal distancePow2 = Distances.realComplexNumberEuclideanDistancePow2(getMap(), other.getMap()::get);
+        return SquareRootCalculator.sqrt(distancePow2, squareRootContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedMaxDistance(final RealComplexNumberVector other) {
+        assert other != null;
+        return SquareRootCalculator.sqrt(Distances.realComplexNumberMaxDistancePow2(getMap(), other.getMap()::get),
+            DEFAULT_SQUARE_ROOT_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The square root of the exact maximum of the squared absolute values is
+     * calculated with the precision of the {@link MathContext}.
+     *
+     * @since 1
+     * @see SquareRootCalculator#nthRoot(BigDecimal, int, SquareRootContext)
+     */
+    @Override
+    protected BigDecimal fusedMaxDistance(final RealComplexNumberVector other, final MathContext mathContext) {
+        assert other != null;
+        assert mathContext != null;
+        return SquareRootCalculator.nthRoot(Distances.realComplexNumberMaxDistancePow2(getMap(), other.getMap()::get),
+            2, SquareRootContext.builder().mathContext(mathContext).build());
     }
 
     /**
@@ -376,9 +570,9 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     @Override
     public RealComplexNumberMatrix dyadicProduct(final RealComplexNumberVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        final RealComplexNumberMatrixBuilder builder = RealComplexNumberMatrix.builder(map.size(), other.size());
-        map.entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.put(entry.getKey(),
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        final RealComplexNumberMatrixBuilder builder = RealComplexNumberMatrix.builder(size(), other.size());
+        getMap().entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.setUnchecked(entry.getKey(),
             otherEntry.getKey(), entry.getValue().multiply(otherEntry.getValue()))));
         return builder.build();
     }
@@ -398,13 +592,72 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
     public RealComplexNumberMatrix dyadicProduct(final RealComplexNumberVector other, final MathContext mathContext) {
         requireNonNull(other, "other");
         requireNonNull(mathContext, "mathContext");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        final RealComplexNumberMatrixBuilder builder = RealComplexNumberMatrix.builder(map.size(), other.size());
-        map.entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.put(entry.getKey(),
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        final RealComplexNumberMatrixBuilder builder = RealComplexNumberMatrix.builder(size(), other.size());
+        getMap().entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.setUnchecked(entry.getKey(),
             otherEntry.getKey(), entry.getValue().multiply(otherEntry.getValue(), mathContext))));
         return builder.build();
     }
 
+    /**
+     * Returns this {@link RealComplexNumberVector} whose real and imaginary
+     * parts are rescaled to at least the given scale
+     * <p>
+     * The short-circuits of the special forms use it so that they return the
+     * same scales as the full computation, e.g. {@code v.add(zero)} has no
+     * negative scales.
+     *
+     * @param minimumScale
+     *            minimum scale
+     * @return rescaled vector, {@code this} if no element changes
+     * @since 1
+     */
+    protected RealComplexNumberVector rescale(final int minimumScale) {
+        if (zeroForm() || elements().stream().allMatch(element -> element.getReal().scale() >= minimumScale
+            && element.getImaginary().scale() >= minimumScale)) {
+            return this;
+        }
+        final RealComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, rescale(element, minimumScale)));
+        return builder.build();
+    }
+
+    /**
+     * Returns the given {@link RealComplexNumber} whose real and imaginary part
+     * are rescaled to at least the given scale
+     *
+     * @param number
+     *            {@link RealComplexNumber}
+     * @param minimumScale
+     *            minimum scale
+     * @return rescaled {@link RealComplexNumber}
+     * @since 1
+     */
+    protected static RealComplexNumber rescale(final RealComplexNumber number, final int minimumScale) {
+        assert number != null;
+        final BigDecimal real = number.getReal();
+        final BigDecimal imaginary = number.getImaginary();
+        if (real.scale() >= minimumScale && imaginary.scale() >= minimumScale) {
+            return number;
+        }
+        return RealComplexNumber.of(real.setScale(Math.max(real.scale(), minimumScale)),
+            imaginary.setScale(Math.max(imaginary.scale(), minimumScale)));
+    }
+
+    /**
+     * Returns the scale of the product of the given {@link RealComplexNumber}
+     * and zero or one
+     *
+     * @param number
+     *            {@link RealComplexNumber}
+     * @return maximum scale of the real and imaginary part
+     * @since 1
+     */
+    protected static int productScale(final RealComplexNumber number) {
+        assert number != null;
+        return Math.max(number.getReal().scale(), number.getImaginary().scale());
+    }
+
     /**
      * {@link AbstractVectorBuilder} for {@link RealComplexNumberVector
      * RealComplexNumberVectors}
@@ -423,13 +676,13 @@ public final class RealComplexNumberVector extends AbstractContextVector<RealCom
          *
          * @throws NullPointerException
          *             if one {@code element == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public RealComplexNumberVector build() {
-            IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList())
-                .forEach(index -> requireNonNull(map.get(index), "map.value"));
-            return new RealComplexNumberVector(ImmutableMap.copyOf(map));
+            return new RealComplexNumberVector(buildMap("map.value"));
         }
     }
 }
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import com.google.common.collect.ImmutableTable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.OptionalInt;
+
+/**
+ * Kernels for {@link BigDecimalMatrix BigDecimalMatrices} whose elements share
+ * a common scale
+ * <p>
+ * Such a matrix is an integer matrix of the unscaled values multiplied with
+ * {@code 10^-scale}. Products and determinants are computed on the unscaled
+ * values and rescaled once at the end. They are equal to the results of the
+ * {@link BigDecimal} arithmetic including the scale. If the unscaled values are
+ * small enough that no intermediate result can overflow, the kernels use
+ * {@code long} arithmetic, otherwise {@link BigInteger}.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class ScaledIntegers {
+    /**
+     * Maximum bit length of the Hadamard bound for which the determinant is
+     * computed with {@code long} arithmetic
+     *
+     * @since 1
+     */
+    public static final int LONG_DETERMINANT_MAX_BITS = 31;
+
+    private ScaledIntegers() {
+    }
+
+    /**
+     * Returns the scale shared by all elements of the given table
+     *
+     * @param table
+     *            table
+     * @return common scale or {@link OptionalInt#empty()} if the scales differ
+     * @since 1
+     */
+    public static OptionalInt commonScale(final ImmutableTable<Integer, Integer, BigDecimal> table) {
+        assert table != null;
+        int scale = 0;
+        boolean first = true;
+        for (final BigDecimal element : table.values()) {
+            if (first) {
+                scale = element.scale();
+                first = false;
+            } else if (element.scale() != scale) {
+                return OptionalInt.empty();
+            }
+        }
+        return first ? OptionalInt.empty() : OptionalInt.of(scale);
+    }
+
+    /**
+     * Returns the scale of the product of the given tables if both have a
+     * common scale
+     *
+     * @param left
+     *            left factor
+     * @param right
+     *            right factor
+     * @return scale or {@link OptionalInt#empty()} if the scales differ or the
+     *         scale of the product exceeds the range of {@code int}
+     * @since 1
+     */
+    public static OptionalInt productScale(final ImmutableTable<Integer, Integer, BigDecimal> left,
+        final ImmutableTable<Integer, Integer, BigDecimal> right) {
+        assert left != null;
+        assert right != null;
+        final OptionalInt leftScale = commonScale(left);
+        if (!leftScale.isPresent()) {
+            return leftScale;
+        }
+        final OptionalInt rightScale = commonScale(right);
+        if (!rightScale.isPresent()) {
+            return rightScale;
+        }
+        return checkedScale((long) leftScale.getAsInt() + rightScale.getAsInt());
+    }
+
+    /**
+     * Returns the scale of the determinant of the given square table if it has
+     * a common scale
+     *
+     * @param table
+     *            square table
+     * @return scale or {@link OptionalInt#empty()} if the scales differ or the
+     *         scale of the determinant exceeds the range of {@code int}
+     * @since 1
+     */
+    public static OptionalInt determinantScale(final ImmutableTable<Integer, Integer, BigDecimal> table) {
+        assert table != null;
+        final OptionalInt scale = commonScale(table);
+        if (!scale.isPresent()) {
+            return scale;
+        }
+        return checkedScale((long) scale.getAsInt() * table.rowKeySet().size());
+    }
+
+    /**
+     * Returns the product of the given tables whose elements have the given
+     * common scale
+     *
+     * @param left
+     *            left factor
+     * @param right
+     *            right factor
+     * @param scale
+     *            scale of the product
+     * @return product
+     * @since 1
+     */
+    public static ImmutableTable<Integer, Integer, BigDecimal> multiply(
+        final ImmutableTable<Integer, Integer, BigDecimal> left,
+        final ImmutableTable<Integer, Integer, BigDecimal> right, final int scale) {
+        assert left != null;
+        assert right != null;
+        final BigInteger[][] leftValues = unscaledValues(left);
+        final BigInteger[][] rightValues = unscaledValues(right);
+        final int innerSize = rightValues.length;
+        final int bits = maxBitLength(leftValues) + maxBitLength(rightValues) + bitLength(innerSize);
+        if (bits < Long.SIZE - 1) {
+            final long[][] product = multiply(toLongs(leftValues), toLongs(rightValues));
+            return AbstractMatrix.tableOf(leftValues.length, rightValues[0].length,
+                (rowIndex, columnIndex) -> BigDecimal.valueOf(product[rowIndex - 1][columnIndex - 1], scale), false);
+        }
+        return AbstractMatrix.tableOf(leftValues.length, rightValues[0].length, (rowIndex, columnIndex) -> {
+            final BigInteger[] row = leftValues[rowIndex - 1];
+            BigInteger element = BigInteger.ZERO;
+            for (int k = 0; k < innerSize; k++) {
+                element = element.add(row[k].multiply(rightValues[k][columnIndex - 1]));
+            }
+            return new BigDecimal(element, scale);
+        }, false);
+    }
+
+    private static long[][] multiply(final long[][] left, final long[]... right) {
+        assert left != null;
+        assert right != null;
+        final long[][] product = new long[left.length][right[0].length];
+        for (int i = 0; i < left.length; i++) {
+            final long[] productRow = product[i];
+            for (int k = 0; k < right.length; k++) {
+                final long element = left[i][k];
+                final long[] rightRow = right[k];
+                for (int j = 0; j < productRow.length; j++) {
+                    productRow[j] += element * rightRow[j];
+                }
+            }
+        }
+        return product;
+    }
+
+    /**
+     * Returns the determinant of the given square table whose elements have a
+     * common scale
+     *
+     * @param table
+     *            square table
+     * @param scale
+     *            scale of the determinant
+     * @return determinant
+     * @since 1
+     */
+    public static BigDecimal determinant(final ImmutableTable<Integer, Integer, BigDecimal> table, final int scale) {
+        assert table != null;
+        final BigInteger[][] values = unscaledValues(table);
+        final int hadamardBits = ModularDeterminants.hadamardBits(values);
+        if (hadamardBits < 0) {
+            return BigDecimal.valueOf(0, scale);
+        }
+        if (hadamardBits <= LONG_DETERMINANT_MAX_BITS) {
+            return BigDecimal.valueOf(bareiss(toLongs(values)), scale);
+        }
+        final BigIntegerMatrix matrix = new BigIntegerMatrix(
+            AbstractMatrix.tableOf(values.length, values.length, (rowIndex, columnIndex) ->
+                values[rowIndex - 1][columnIndex - 1], false));
+        return new BigDecimal(matrix.determinant(), scale);
+    }
+
+    private static OptionalInt checkedScale(final long scale) {
+        return Integer.MIN_VALUE <= scale && scale <= Integer.MAX_VALUE ? OptionalInt.of((int) scale)
+            : OptionalInt.empty();
+    }
+
+    private static long bareiss(final long[]... elements) {
+        assert elements != null;
+        final int size = elements.length;
+        long sign = 1;
+        long previous = 1;
+        for (int k = 0; k < size - 1; k++) {
+            if (elements[k][k] == 0) {
+                int pivotIndex = k + 1;
+                while (pivotIndex < size && elements[pivotIndex][k] == 0) {
+                    pivotIndex++;
+                }
+                if (pivotIndex == size) {
+                    return 0;
+                }
+                final long[] row = elements[pivotIndex];
+                elements[pivotIndex] = elements[k];
+                elements[k] = row;
+                sign = -sign;
+            }
+            final long[] pivotRow = elements[k];
+            for (int i = k + 1; i < size; i++) {
+                final long[] row = elements[i];
+                for (int j = k + 1; j < size; j++) {
+                    row[j] = (row[j] * pivotRow[k] - row[k] * pivotRow[j]) / previous;
+                }
+            }
+            previous = pivotRow[k];
+        }
+        return sign * elements[size - 1][size - 1];
+    }
+
+    private static BigInteger[][] unscaledValues(final ImmutableTable<Integer, Integer, BigDecimal> table) {
+        assert table != null;
+        final BigInteger[][] values = new BigInteger[table.rowKeySet().size()][table.columnKeySet().size()];
+        table.cellSet()
+            .forEach(cell -> values[cell.getRowKey() - 1][cell.getColumnKey() - 1] = cell.getValue().unscaledValue());
+        return values;
+    }
+
+    private static long[][] toLongs(final BigInteger[]... values) {
+        assert values != null;
+        final long[][] longs = new long[values.length][values[0].length];
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values[i].length; j++) {
+                longs[i][j] = values[i][j].longValue();
+            }
+        }
+        return longs;
+    }
+
+    private static int maxBitLength(final BigInteger[]... values) {
+        assert values != null;
+        int maxBitLength = 0;
+        for (final BigInteger[] row : values) {
+            for (final BigInteger value : row) {
+                maxBitLength = Math.max(maxBitLength, value.bitLength());
+            }
+        }
+        return maxBitLength;
+    }
+
+    private static int bitLength(final int value) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(value);
+    }
+}
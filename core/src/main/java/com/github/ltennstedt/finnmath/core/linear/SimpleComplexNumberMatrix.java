@@ -26,14 +26,16 @@ import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a matrix which uses
@@ -45,10 +47,23 @@ import java.util.Optional;
 @Beta
 public final class SimpleComplexNumberMatrix extends
     AbstractMatrix<SimpleComplexNumber, SimpleComplexNumberVector, SimpleComplexNumberMatrix, BigDecimal, BigInteger> {
-    private SimpleComplexNumberMatrix(final ImmutableTable<Integer, Integer, SimpleComplexNumber> table) {
+    /**
+     * Default {@link DeterminantThresholds} of {@link #determinant()}
+     *
+     * @since 1
+     */
+    public static final DeterminantThresholds DETERMINANT_THRESHOLDS = DeterminantThresholds.builder()
+        .put(3, DeterminantStrategy.RULE_OF_SARRUS).put(4, DeterminantStrategy.LAPLACE)
+        .put(7, DeterminantStrategy.BAREISS).build();
+
+    /* default */ SimpleComplexNumberMatrix(final ImmutableTable<Integer, Integer, SimpleComplexNumber> table) {
         super(table);
     }
 
+    /* default */ SimpleComplexNumberMatrix(final int rowSize, final int columnSize, final SpecialForm form) {
+        super(rowSize, columnSize, form, SimpleComplexNumber.ZERO, SimpleComplexNumber.ONE);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -63,15 +78,21 @@ public final class SimpleComplexNumberMatrix extends
     @Override
     public SimpleComplexNumberMatrix add(final SimpleComplexNumberMatrix summand) {
         requireNonNull(summand, "summand");
-        checkArgument(table.rowKeySet().size() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), summand.rowSize());
-        checkArgument(table.columnKeySet().size() == summand.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), summand.columnSize());
+        checkArgument(rowSize() == summand.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), summand.rowSize());
+        checkArgument(columnSize() == summand.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), summand.columnSize());
+        if (summand.zeroForm()) {
+            return this;
+        }
+        if (zeroForm()) {
+            return summand;
+        }
         final SimpleComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().add(summand.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -90,15 +111,18 @@ public final class SimpleComplexNumberMatrix extends
     @Override
     public SimpleComplexNumberMatrix subtract(final SimpleComplexNumberMatrix subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(table.rowKeySet().size() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
-            table.rowKeySet().size(), subtrahend.rowSize());
-        checkArgument(table.columnKeySet().size() == subtrahend.columnSize(),
-            "expected equal column sizes but actual %s != %s", table.columnKeySet().size(), subtrahend.columnSize());
+        checkArgument(rowSize() == subtrahend.rowSize(), "expected equal row sizes but actual %s != %s",
+            rowSize(), subtrahend.rowSize());
+        checkArgument(columnSize() == subtrahend.columnSize(),
+            "expected equal column sizes but actual %s != %s", columnSize(), subtrahend.columnSize());
+        if (subtrahend.zeroForm()) {
+            return this;
+        }
         final SimpleComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
-        table.cellSet().forEach(cell -> {
+        cells().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
-            builder.put(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
+            builder.setUnchecked(rowKey, columnKey, cell.getValue().subtract(subtrahend.element(rowKey, columnKey)));
         });
         return builder.build();
     }
@@ -115,12 +139,21 @@ public final class SimpleComplexNumberMatrix extends
     @Override
     public SimpleComplexNumberMatrix multiply(final SimpleComplexNumberMatrix factor) {
         requireNonNull(factor, "factor");
-        checkArgument(table.columnKeySet().size() == factor.rowSize(),
-            "expected columnSize == factor.rowSize but actual %s != %s", table.columnKeySet().size(), factor.rowSize());
-        final SimpleComplexNumberMatrixBuilder builder = builder(table.rowKeySet().size(), factor.columnSize());
-        table.rowMap().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
+        checkArgument(columnSize() == factor.rowSize(),
+            "expected columnSize == factor.rowSize but actual %s != %s", columnSize(), factor.rowSize());
+        if (factor.identityForm()) {
+            return this;
+        }
+        if (identityForm()) {
+            return factor;
+        }
+        if (zeroForm() || factor.zeroForm()) {
+            return Matrices.buildZeroSimpleComplexNumberMatrix(rowSize(), factor.columnSize());
+        }
+        final SimpleComplexNumberMatrixBuilder builder = builder(rowSize(), factor.columnSize());
+        rows().forEach((rowIndex, row) -> factor.columns().forEach((columnIndex, column) -> {
             final SimpleComplexNumber element = multiplyRowWithColumn(row, column);
-            builder.put(rowIndex, columnIndex, element);
+            builder.setUnchecked(rowIndex, columnIndex, element);
         }));
         return builder.build();
     }
@@ -137,18 +170,97 @@ public final class SimpleComplexNumberMatrix extends
     @Override
     public SimpleComplexNumberVector multiplyVector(final SimpleComplexNumberVector vector) {
         requireNonNull(vector, "vector");
-        checkArgument(table.columnKeySet().size() == vector.size(),
-            "expected columnSize == vectorSize but actual %s != %s", table.columnKeySet().size(), vector.size());
-        final SimpleComplexNumberVectorBuilder builder = SimpleComplexNumberVector.builder(table.rowKeySet().size());
-        table.rowMap().values().forEach(row -> {
-            final SimpleComplexNumber element = table.columnKeySet().stream()
-                .map(columnIndex -> row.get(columnIndex).multiply(vector.element(columnIndex)))
-                .reduce(SimpleComplexNumber::add).get();
-            builder.put(element);
-        });
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector;
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return Vectors.buildZeroSimpleComplexNumberVector(rowSize());
+        }
+        return multiplyVectorRowWise(vector, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size}
+     * @since 1
+     */
+    @Override
+    public SimpleComplexNumberVector multiplyVectorParallel(final SimpleComplexNumberVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(columnSize() == vector.size(),
+            "expected columnSize == vectorSize but actual %s != %s", columnSize(), vector.size());
+        if (identityForm()) {
+            return vector;
+        }
+        if (zeroForm() || vector.zeroForm()) {
+            return Vectors.buildZeroSimpleComplexNumberVector(rowSize());
+        }
+        return multiplyVectorRowWise(vector, true);
+    }
+
+    private SimpleComplexNumberVector multiplyVectorRowWise(final SimpleComplexNumberVector vector,
+        final boolean parallel) {
+        assert vector != null;
+        final ImmutableList<SimpleComplexNumber> elements = vector.elementList();
+        final Function<Integer, SimpleComplexNumber> column = index -> elements.get(index - 1);
+        final SimpleComplexNumberVectorBuilder builder = SimpleComplexNumberVector.builder(rowSize());
+        multiplyRows(row -> DotProducts.simpleComplexNumberDotProduct(row, column), parallel).forEach(builder::put);
         return builder.build();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<SimpleComplexNumberVector> multiplyVectors(final List<SimpleComplexNumberVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize != vector.size} for one of the
+     *             {@code vectors}
+     * @since 1
+     */
+    @Override
+    public ImmutableList<SimpleComplexNumberVector> multiplyVectorsParallel(
+        final List<SimpleComplexNumberVector> vectors) {
+        return multiplyVectorsBlockwise(vectors, true);
+    }
+
+    private ImmutableList<SimpleComplexNumberVector> multiplyVectorsBlockwise(
+        final List<SimpleComplexNumberVector> vectors, final boolean parallel) {
+        final ImmutableList<ImmutableList<SimpleComplexNumber>> products =
+            multiplyRowsWithVectors(vectors, DotProducts::simpleComplexNumberDotProduct, parallel);
+        final int rowSize = rowSize();
+        return products.stream().map(elements -> {
+            final SimpleComplexNumberVectorBuilder builder = SimpleComplexNumberVector.builder(rowSize);
+            elements.forEach(builder::put);
+            return builder.build();
+        }).collect(ImmutableList.toImmutableList());
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -167,11 +279,7 @@ public final class SimpleComplexNumberMatrix extends
         requireNonNull(column, "column");
         checkArgument(row.size() == column.size(), "expected rowSize == columnSize but actual %s != %s", row.size(),
             column.size());
-        SimpleComplexNumber result = SimpleComplexNumber.ZERO;
-        for (final Entry<Integer, SimpleComplexNumber> rowEntry : row.entrySet()) {
-            result = result.add(rowEntry.getValue().multiply(column.get(rowEntry.getKey())));
-        }
-        return result;
+        return DotProducts.simpleComplexNumberDotProduct(row, column::get);
     }
 
     /**
@@ -184,9 +292,9 @@ public final class SimpleComplexNumberMatrix extends
     @Override
     public SimpleComplexNumberMatrix scalarMultiply(final SimpleComplexNumber scalar) {
         requireNonNull(scalar, "scalar");
-        final SimpleComplexNumberMatrixBuilder builder = builder(table.rowKeySet().size(), table.columnKeySet().size());
-        table.cellSet()
-            .forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
+        final SimpleComplexNumberMatrixBuilder builder = builder(rowSize(), columnSize());
+        cells().forEach(
+            cell -> builder.setUnchecked(cell.getRowKey(), cell.getColumnKey(), scalar.multiply(cell.getValue())));
         return builder.build();
     }
 
@@ -209,9 +317,8 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public SimpleComplexNumber trace() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
-        return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
             .map(Cell::getValue).reduce(SimpleComplexNumber::add).get();
     }
 
@@ -220,26 +327,61 @@ public final class SimpleComplexNumberMatrix extends
      *
      * @throws IllegalStateException
      *             if this {@link SimpleComplexNumberMatrix} is not square
+     * @see #DETERMINANT_THRESHOLDS
      * @since 1
      */
     @Override
     public SimpleComplexNumber determinant() {
-        checkState(square(), "expected square matrix but was a %sx%s matrix", table.rowKeySet().size(),
-            table.columnKeySet().size());
+        return determinant(DETERMINANT_THRESHOLDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code thresholds == null}
+     * @throws IllegalStateException
+     *             if this {@link SimpleComplexNumberMatrix} is not square
+     * @since 1
+     */
+    @Override
+    public SimpleComplexNumber determinant(final DeterminantThresholds thresholds) {
+        requireNonNull(thresholds, "thresholds");
+        checkState(square(), "expected square matrix but was a %sx%s matrix", rowSize(), columnSize());
+        if (identityForm()) {
+            return SimpleComplexNumber.ONE;
+        }
+        if (zeroForm()) {
+            return SimpleComplexNumber.ZERO;
+        }
         if (triangular()) {
-            return table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            return cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).reduce(SimpleComplexNumber::multiply).get();
         }
-        final int rowSize = table.rowKeySet().size();
-        if (rowSize > 3) {
-            return leibnizFormula();
-        }
-        if (rowSize == 3) {
-            return ruleOfSarrus();
+        final int rowSize = rowSize();
+        if (rowSize == 2) {
+            final ImmutableTable<Integer, Integer, SimpleComplexNumber> table = getTable();
+            return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
         }
+        return determinantWith(thresholds.strategy(rowSize), Determinants.SIMPLE_COMPLEX_NUMBER);
+    }
 
-        // rowSize == 2
-        return table.get(1, 1).multiply(table.get(2, 2)).subtract(table.get(1, 2).multiply(table.get(2, 1)));
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException
+     *             if {@code strategy == null}
+     * @throws IllegalStateException
+     *             if this {@link SimpleComplexNumberMatrix} is not square
+     * @throws IllegalArgumentException
+     *             if {@code strategy} does not support {@code rowSize}
+     * @throws IllegalArgumentException
+     *             if {@code strategy == MODULAR}
+     * @since 1
+     */
+    @Override
+    public SimpleComplexNumber determinant(final DeterminantStrategy strategy) {
+        return determinantWith(strategy, Determinants.SIMPLE_COMPLEX_NUMBER);
     }
 
     /**
@@ -250,10 +392,11 @@ public final class SimpleComplexNumberMatrix extends
     @Override
     protected SimpleComplexNumber leibnizFormula() {
         SimpleComplexNumber result = SimpleComplexNumber.ZERO;
+        final ImmutableTable<Integer, Integer, SimpleComplexNumber> table = getTable();
         for (final List<Integer> permutation : Collections2.permutations(table.rowKeySet())) {
             SimpleComplexNumber product = SimpleComplexNumber.ONE;
             int inversions = 0;
-            final int size = table.rowKeySet().size();
+            final int size = rowSize();
             for (int i = 0; i < size; i++) {
                 final Integer sigma = permutation.get(i);
                 for (int j = i + 1; j < size; j++) {
@@ -275,6 +418,7 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     protected SimpleComplexNumber ruleOfSarrus() {
+        final ImmutableTable<Integer, Integer, SimpleComplexNumber> table = getTable();
         final SimpleComplexNumber first = table.get(1, 1).multiply(table.get(2, 2)).multiply(table.get(3, 3));
         final SimpleComplexNumber second = table.get(1, 2).multiply(table.get(2, 3)).multiply(table.get(3, 1));
         final SimpleComplexNumber third = table.get(1, 3).multiply(table.get(2, 1)).multiply(table.get(3, 2));
@@ -291,8 +435,8 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public SimpleComplexNumberMatrix transpose() {
-        final SimpleComplexNumberMatrixBuilder builder = builder(table.columnKeySet().size(), table.rowKeySet().size());
-        table.cellSet().forEach(cell -> builder.put(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
+        final SimpleComplexNumberMatrixBuilder builder = builder(columnSize(), rowSize());
+        cells().forEach(cell -> builder.setUnchecked(cell.getColumnKey(), cell.getRowKey(), cell.getValue()));
         return builder.build();
     }
 
@@ -305,19 +449,19 @@ public final class SimpleComplexNumberMatrix extends
     public SimpleComplexNumberMatrix minor(final Integer rowIndex, final Integer columnIndex) {
         requireNonNull(rowIndex, "rowIndex");
         requireNonNull(columnIndex, "columnIndex");
-        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s",
-            table.rowKeySet().size(), rowIndex);
+        final ImmutableTable<Integer, Integer, SimpleComplexNumber> table = getTable();
+        checkArgument(table.containsRow(rowIndex), "expected rowIndex in [1, %s] but actual %s", rowSize(), rowIndex);
         checkArgument(table.containsColumn(columnIndex), "expected columnIndex in [1, %s] but actual %s",
-            table.columnKeySet().size(), columnIndex);
+            columnSize(), columnIndex);
         final SimpleComplexNumberMatrixBuilder builder =
-            builder(table.rowKeySet().size() - 1, table.columnKeySet().size() - 1);
+            builder(rowSize() - 1, columnSize() - 1);
         table.cellSet().forEach(cell -> {
             final Integer rowKey = cell.getRowKey();
             final Integer columnKey = cell.getColumnKey();
             if (rowKey.compareTo(rowIndex) != 0 && columnKey.compareTo(columnIndex) != 0) {
                 final Integer newRowIndex = rowKey.compareTo(rowIndex) > 0 ? rowKey - 1 : rowKey;
                 final Integer newColumnIndex = columnKey.compareTo(columnIndex) > 0 ? columnKey - 1 : columnKey;
-                builder.put(newRowIndex, newColumnIndex, cell.getValue());
+                builder.setUnchecked(newRowIndex, newColumnIndex, cell.getValue());
             }
         });
         return builder.build();
@@ -330,9 +474,8 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public BigDecimal maxAbsColumnSumNorm() {
-        return table.columnMap().values().asList().stream()
-            .map(column -> column.values().stream().map(SimpleComplexNumber::abs).reduce(BigDecimal::add))
-            .map(Optional::get).reduce(BigDecimal::max).get();
+        return maxAbsSumNorm(columns().values(), SimpleComplexNumberMatrix::approximateAbs,
+            SimpleComplexNumber::abs, BigDecimal::add, DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
     /**
@@ -342,9 +485,8 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public BigDecimal maxAbsRowSumNorm() {
-        return table.rowMap().values().asList().stream()
-            .map(column -> column.values().stream().map(SimpleComplexNumber::abs).reduce(BigDecimal::add))
-            .map(Optional::get).reduce(BigDecimal::max).get();
+        return maxAbsSumNorm(rows().values(), SimpleComplexNumberMatrix::approximateAbs,
+            SimpleComplexNumber::abs, BigDecimal::add, DEFAULT_SQUARE_ROOT_CONTEXT);
     }
 
     /**
@@ -354,7 +496,7 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public BigInteger frobeniusNormPow2() {
-        return table.values().stream().map(SimpleComplexNumber::absPow2).reduce(BigInteger::add).get();
+        return elements().stream().map(SimpleComplexNumber::absPow2).reduce(BigInteger::add).get();
     }
 
     /**
@@ -371,12 +513,31 @@ public final class SimpleComplexNumberMatrix extends
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Compares the squares of the absolute values and calculates only one square
+     * root.
      *
      * @since 1
      */
     @Override
     public BigDecimal maxNorm() {
-        return table.values().stream().map(SimpleComplexNumber::abs).reduce(BigDecimal::max).get();
+        return SquareRootCalculator.sqrt(
+            elements().stream().map(SimpleComplexNumber::absPow2).reduce(BigInteger::max).get(),
+            DEFAULT_SQUARE_ROOT_CONTEXT);
+    }
+
+    /**
+     * Returns an approximation of the absolute value of the given
+     * {@link SimpleComplexNumber} with {@code double} precision
+     *
+     * @param complexNumber
+     *            {@link SimpleComplexNumber}
+     * @return approximated absolute value
+     * @since 1
+     */
+    private static double approximateAbs(final SimpleComplexNumber complexNumber) {
+        assert complexNumber != null;
+        return Math.hypot(complexNumber.getReal().doubleValue(), complexNumber.getImaginary().doubleValue());
     }
 
     /**
@@ -386,7 +547,7 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public boolean upperTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) > 0)
             .map(Cell::getValue).anyMatch(value -> !value.equals(SimpleComplexNumber.ZERO));
     }
 
@@ -397,7 +558,7 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public boolean lowerTriangular() {
-        return square() && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
+        return square() && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) < 0)
             .map(Cell::getValue).anyMatch(value -> !value.equals(SimpleComplexNumber.ZERO));
     }
 
@@ -408,8 +569,11 @@ public final class SimpleComplexNumberMatrix extends
      */
     @Override
     public boolean identity() {
+        if (identityForm()) {
+            return true;
+        }
         return diagonal()
-            && !table.cellSet().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
+            && !cells().stream().filter(cell -> cell.getRowKey().compareTo(cell.getColumnKey()) == 0)
                 .map(Cell::getValue).anyMatch(value -> !value.equals(SimpleComplexNumber.ONE));
     }
 
@@ -429,6 +593,98 @@ public final class SimpleComplexNumberMatrix extends
         return false;
     }
 
+    /**
+     * Returns a {@link SimpleComplexNumberMatrix} containing the elements of the given array
+     *
+     * @param elements
+     *            elements indexed by {@code [rowIndex - 1][columnIndex - 1]}
+     * @return {@link SimpleComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty or not rectangular
+     * @since 1
+     */
+    public static SimpleComplexNumberMatrix of(final SimpleComplexNumber[]... elements) {
+        return new SimpleComplexNumberMatrix(tableOf(elements));
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} in a single pass
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator}
+     * @return {@link SimpleComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static SimpleComplexNumberMatrix fromFunction(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends SimpleComplexNumber> generator) {
+        return new SimpleComplexNumberMatrix(tableOf(rowSize, columnSize, generator, false));
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberMatrix} whose elements are generated by the given
+     * {@link MatrixElementGenerator} with the rows generated in parallel
+     *
+     * @param rowSize
+     *            row size
+     * @param columnSize
+     *            column size
+     * @param generator
+     *            {@link MatrixElementGenerator} which is safe to be called
+     *            concurrently
+     * @return {@link SimpleComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rowSize < 1}
+     * @throws IllegalArgumentException
+     *             if {@code columnSize < 1}
+     * @since 1
+     */
+    public static SimpleComplexNumberMatrix fromFunctionParallel(final int rowSize, final int columnSize,
+        final MatrixElementGenerator<? extends SimpleComplexNumber> generator) {
+        return new SimpleComplexNumberMatrix(tableOf(rowSize, columnSize, generator, true));
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberMatrix} containing the rows of the given {@link Stream}
+     *
+     * @param rows
+     *            rows ordered by row index containing the elements ordered by
+     *            column index
+     * @return {@link SimpleComplexNumberMatrix}
+     * @throws NullPointerException
+     *             if {@code rows == null}
+     * @throws NullPointerException
+     *             if one row or element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code rows} is empty or not rectangular
+     * @since 1
+     */
+    public static SimpleComplexNumberMatrix fromRowStream(
+        final Stream<? extends List<? extends SimpleComplexNumber>> rows) {
+        requireNonNull(rows, "rows");
+        return new SimpleComplexNumberMatrix(tableOfRows(rows.collect(Collectors.toList())));
+    }
+
     /**
      * Returns a {@link SimpleComplexNumberMatrixBuilder}
      *
@@ -464,12 +720,15 @@ public final class SimpleComplexNumberMatrix extends
         /**
          * {@inheritDoc}
          *
+         * @throws NullPointerException
+         *             if one {@code cell.value == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public SimpleComplexNumberMatrix build() {
-            table.cellSet().forEach(cell -> requireNonNull(cell.getValue(), "cell.value"));
-            return new SimpleComplexNumberMatrix(ImmutableTable.copyOf(table));
+            return new SimpleComplexNumberMatrix(buildTable("cell.value"));
         }
     }
 }
@@ -27,7 +27,10 @@ import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableMap;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An immutable implementation of a vector which uses
@@ -39,10 +42,98 @@ import java.util.Objects;
 @Beta
 public final class SimpleComplexNumberVector extends
     AbstractVector<SimpleComplexNumber, SimpleComplexNumberVector, SimpleComplexNumberMatrix, BigDecimal, BigInteger> {
-    private SimpleComplexNumberVector(final ImmutableMap<Integer, SimpleComplexNumber> map) {
+    /* default */ SimpleComplexNumberVector(final ImmutableMap<Integer, SimpleComplexNumber> map) {
         super(map);
     }
 
+    /* default */ SimpleComplexNumberVector(final int size) {
+        super(size, SimpleComplexNumber.ZERO);
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberVector} containing the given elements
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link SimpleComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static SimpleComplexNumberVector of(final SimpleComplexNumber... elements) {
+        requireNonNull(elements, "elements");
+        return new SimpleComplexNumberVector(mapOf(Arrays.asList(elements)));
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberVector} whose elements are generated by the given
+     * {@link IntFunction} in a single pass
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     * @return {@link SimpleComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static SimpleComplexNumberVector fromFunction(final int size,
+        final IntFunction<? extends SimpleComplexNumber> generator) {
+        return new SimpleComplexNumberVector(mapOf(size, generator, false));
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberVector} whose elements are generated by the given
+     * {@link IntFunction} in parallel
+     *
+     * @param size
+     *            size
+     * @param generator
+     *            {@link IntFunction} taking the index starting from {@code 1}
+     *            which is safe to be called concurrently
+     * @return {@link SimpleComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if one generated element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @since 1
+     */
+    public static SimpleComplexNumberVector fromFunctionParallel(final int size,
+        final IntFunction<? extends SimpleComplexNumber> generator) {
+        return new SimpleComplexNumberVector(mapOf(size, generator, true));
+    }
+
+    /**
+     * Returns a {@link SimpleComplexNumberVector} containing the elements of the given
+     * {@link Stream}
+     *
+     * @param elements
+     *            elements ordered by index
+     * @return {@link SimpleComplexNumberVector}
+     * @throws NullPointerException
+     *             if {@code elements == null}
+     * @throws NullPointerException
+     *             if one element is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code elements} is empty
+     * @since 1
+     */
+    public static SimpleComplexNumberVector fromStream(final Stream<? extends SimpleComplexNumber> elements) {
+        requireNonNull(elements, "elements");
+        return new SimpleComplexNumberVector(mapOf(elements.collect(Collectors.toList())));
+    }
+
     /**
      * Returns a {@link SimpleComplexNumberVectorBuilder}
      *
@@ -67,10 +158,16 @@ public final class SimpleComplexNumberVector extends
     @Override
     public SimpleComplexNumberVector add(final SimpleComplexNumberVector summand) {
         requireNonNull(summand, "summand");
-        checkArgument(map.size() == summand.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == summand.size(), "equal sizes expected but actual %s != %s", size(),
             summand.size());
-        final SimpleComplexNumberVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.add(summand.element(index))));
+        if (summand.zeroForm()) {
+            return this;
+        }
+        if (zeroForm()) {
+            return summand;
+        }
+        final SimpleComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.add(summand.element(index))));
         return builder.build();
     }
 
@@ -86,10 +183,13 @@ public final class SimpleComplexNumberVector extends
     @Override
     public SimpleComplexNumberVector subtract(final SimpleComplexNumberVector subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        checkArgument(map.size() == subtrahend.size(), "equal sizes expected but actual %s != %s", map.size(),
+        checkArgument(size() == subtrahend.size(), "equal sizes expected but actual %s != %s", size(),
             subtrahend.size());
-        final SimpleComplexNumberVectorBuilder builder = builder(map.size());
-        map.forEach((index, element) -> builder.put(element.subtract(subtrahend.element(index))));
+        if (subtrahend.zeroForm()) {
+            return this;
+        }
+        final SimpleComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, element.subtract(subtrahend.element(index))));
         return builder.build();
     }
 
@@ -103,8 +203,8 @@ public final class SimpleComplexNumberVector extends
     @Override
     public SimpleComplexNumberVector scalarMultiply(final SimpleComplexNumber scalar) {
         requireNonNull(scalar, "scalar");
-        final SimpleComplexNumberVectorBuilder builder = builder(map.size());
-        map.values().forEach(element -> builder.put(scalar.multiply(element)));
+        final SimpleComplexNumberVectorBuilder builder = builder(size());
+        getMap().forEach((index, element) -> builder.setUnchecked(index, scalar.multiply(element)));
         return builder.build();
     }
 
@@ -130,7 +230,7 @@ public final class SimpleComplexNumberVector extends
     @Override
     public boolean orthogonalTo(final SimpleComplexNumberVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
         return dotProduct(other).equals(SimpleComplexNumber.ZERO);
     }
 
@@ -141,7 +241,7 @@ public final class SimpleComplexNumberVector extends
      */
     @Override
     protected BigDecimal taxicabNorm() {
-        return map.values().stream().map(SimpleComplexNumber::abs).reduce(BigDecimal::add).get();
+        return getMap().values().stream().map(SimpleComplexNumber::abs).reduce(BigDecimal::add).get();
     }
 
     /**
@@ -151,7 +251,7 @@ public final class SimpleComplexNumberVector extends
      */
     @Override
     public BigInteger euclideanNormPow2() {
-        return map.values().stream().map(SimpleComplexNumber::absPow2).reduce(BigInteger::add).get();
+        return getMap().values().stream().map(SimpleComplexNumber::absPow2).reduce(BigInteger::add).get();
     }
 
     /**
@@ -191,19 +291,71 @@ public final class SimpleComplexNumberVector extends
     @Override
     public SimpleComplexNumber dotProduct(final SimpleComplexNumberVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        return map.entrySet().stream().map(entry -> entry.getValue().multiply(other.element(entry.getKey())))
-            .reduce(SimpleComplexNumber::add).get();
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        return DotProducts.simpleComplexNumberDotProduct(getMap(), other.getMap()::get);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Compares the squares of the absolute values and calculates only one square
+     * root.
      *
      * @since 1
      */
     @Override
     protected BigDecimal maxNorm() {
-        return map.values().stream().map(SimpleComplexNumber::abs).reduce(BigDecimal::max).get();
+        return SquareRootCalculator.sqrt(
+            getMap().values().stream().map(SimpleComplexNumber::absPow2).reduce(BigInteger::max).get(),
+            DEFAULT_SQUARE_ROOT_CONTEXT);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedTaxicabDistance(final SimpleComplexNumberVector other) {
+        assert other != null;
+        return Distances.simpleComplexNumberTaxicabDistance(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigInteger fusedEuclideanDistancePow2(final SimpleComplexNumberVector other) {
+        assert other != null;
+        return Distances.simpleComplexNumberEuclideanDistancePow2(getMap(), other.getMap()::get);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedEuclideanDistance(final SimpleComplexNumberVector other,
+        final SquareRootContext squareRootContext) {
+        assert other != null;
+        assert squareRootContext != null;
+        final BigInteger distancePow2 =
+            Distances.simpleComplexNumberEuclideanDistancePow2(getMap(), other.getMap()::get);
+        return SquareRootCalculator.sqrt(distancePow2, squareRootContext);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    protected BigDecimal fusedMaxDistance(final SimpleComplexNumberVector other) {
+        assert other != null;
+        return Distances.simpleComplexNumberMaxDistance(getMap(), other.getMap()::get);
     }
 
     /**
@@ -218,9 +370,9 @@ public final class SimpleComplexNumberVector extends
     @Override
     public SimpleComplexNumberMatrix dyadicProduct(final SimpleComplexNumberVector other) {
         requireNonNull(other, "other");
-        checkArgument(map.size() == other.size(), "expected equal sizes but actual %s != %s", map.size(), other.size());
-        final SimpleComplexNumberMatrixBuilder builder = SimpleComplexNumberMatrix.builder(map.size(), other.size());
-        map.entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.put(entry.getKey(),
+        checkArgument(size() == other.size(), "expected equal sizes but actual %s != %s", size(), other.size());
+        final SimpleComplexNumberMatrixBuilder builder = SimpleComplexNumberMatrix.builder(size(), other.size());
+        getMap().entrySet().forEach(entry -> other.entries().forEach(otherEntry -> builder.setUnchecked(entry.getKey(),
             otherEntry.getKey(), entry.getValue().multiply(otherEntry.getValue()))));
         return builder.build();
     }
@@ -243,14 +395,13 @@ public final class SimpleComplexNumberVector extends
          *
          * @throws NullPointerException
          *             if one {@code element == null}
+         * @throws IllegalStateException
+         *             if this builder has already been built
          * @since 1
          */
         @Override
         public SimpleComplexNumberVector build() {
-            if (map.values().stream().anyMatch(Objects::isNull)) {
-                throw new NullPointerException("element");
-            }
-            return new SimpleComplexNumberVector(ImmutableMap.copyOf(map));
+            return new SimpleComplexNumberVector(buildMap("element"));
         }
     }
 }
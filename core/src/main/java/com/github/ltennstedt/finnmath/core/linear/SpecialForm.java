@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+/**
+ * Marks matrices and vectors which are known to be zero or identity by
+ * construction
+ * <p>
+ * The shared instances of {@link Matrices} and {@link Vectors} carry their form
+ * so that the arithmetic can recognize them in constant time instead of
+ * inspecting every element.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+enum SpecialForm {
+    /**
+     * No known special form
+     *
+     * @since 1
+     */
+    GENERAL,
+
+    /**
+     * All elements are zero
+     *
+     * @since 1
+     */
+    ZERO,
+
+    /**
+     * Square matrix with ones on the diagonal and zeros elsewhere
+     *
+     * @since 1
+     */
+    IDENTITY
+}
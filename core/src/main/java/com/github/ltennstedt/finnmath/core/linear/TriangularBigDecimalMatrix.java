@@ -0,0 +1,368 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * An immutable upper or lower triangular matrix which uses {@link BigDecimal}
+ * as type for its elements and stores only its triangle
+ * <p>
+ * The {@code n * (n + 1) / 2} elements of the triangle are packed into a single
+ * array like the upper triangle of a {@link PackedSymmetricMatrix}. An upper
+ * and a lower triangular matrix share the layout, so {@link #transpose()} only
+ * flips the orientation in {@code O(1)}. The determinant is the product of the
+ * diagonal and linear systems are solved by substitution.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+@Beta
+public final class TriangularBigDecimalMatrix {
+    private final int rowCount;
+    private final boolean upperTriangle;
+    private final BigDecimal[] elements;
+
+    private TriangularBigDecimalMatrix(final int rowCount, final boolean upperTriangle) {
+        this.rowCount = rowCount;
+        this.upperTriangle = upperTriangle;
+        elements = new BigDecimal[PackedIndices.packedSize(rowCount)];
+    }
+
+    private TriangularBigDecimalMatrix(final TriangularBigDecimalMatrix original) {
+        rowCount = original.rowCount;
+        upperTriangle = !original.upperTriangle;
+        elements = original.elements;
+    }
+
+    /**
+     * Returns an upper triangular {@link TriangularBigDecimalMatrix} whose
+     * elements on and above the diagonal are computed by the given
+     * {@link MatrixElementGenerator}
+     *
+     * @param size
+     *            number of rows and columns
+     * @param generator
+     *            {@link MatrixElementGenerator} called only for
+     *            {@code rowIndex <= columnIndex}
+     * @return upper triangular matrix
+     * @throws IllegalArgumentException
+     *             if {@code size < 1 || PackedSymmetricMatrix.MAX_SIZE < size}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if the generator returns {@code null}
+     * @since 1
+     */
+    public static TriangularBigDecimalMatrix upperFromFunction(final int size,
+        final MatrixElementGenerator<? extends BigDecimal> generator) {
+        requireNonNull(generator, "generator");
+        return fromFunction(size, true, generator);
+    }
+
+    /**
+     * Returns a lower triangular {@link TriangularBigDecimalMatrix} whose
+     * elements on and below the diagonal are computed by the given
+     * {@link MatrixElementGenerator}
+     *
+     * @param size
+     *            number of rows and columns
+     * @param generator
+     *            {@link MatrixElementGenerator} called only for
+     *            {@code rowIndex >= columnIndex}
+     * @return lower triangular matrix
+     * @throws IllegalArgumentException
+     *             if {@code size < 1 || PackedSymmetricMatrix.MAX_SIZE < size}
+     * @throws NullPointerException
+     *             if {@code generator == null}
+     * @throws NullPointerException
+     *             if the generator returns {@code null}
+     * @since 1
+     */
+    public static TriangularBigDecimalMatrix lowerFromFunction(final int size,
+        final MatrixElementGenerator<? extends BigDecimal> generator) {
+        requireNonNull(generator, "generator");
+        return fromFunction(size, false, generator);
+    }
+
+    /**
+     * Returns a {@link TriangularBigDecimalMatrix} containing the triangle of the
+     * given triangular {@link BigDecimalMatrix}
+     * <p>
+     * If the matrix is upper and lower triangular, i.e. diagonal, the result is
+     * upper triangular.
+     *
+     * @param matrix
+     *            {@link BigDecimalMatrix}
+     * @return triangular matrix
+     * @throws NullPointerException
+     *             if {@code matrix == null}
+     * @throws IllegalArgumentException
+     *             if {@code !matrix.triangular}
+     * @throws IllegalArgumentException
+     *             if {@code PackedSymmetricMatrix.MAX_SIZE < matrix.rowSize}
+     * @since 1
+     */
+    public static TriangularBigDecimalMatrix of(final BigDecimalMatrix matrix) {
+        requireNonNull(matrix, "matrix");
+        if (matrix.upperTriangular()) {
+            return fromFunction(matrix.rowSize(), true, matrix::element);
+        }
+        checkArgument(matrix.lowerTriangular(), "expected triangular matrix but actual %s", matrix);
+        return fromFunction(matrix.rowSize(), false, matrix::element);
+    }
+
+    /**
+     * Returns the element dependent on the given row and column index
+     *
+     * @param rowIndex
+     *            row index
+     * @param columnIndex
+     *            column index
+     * @return element which is {@link BigDecimal#ZERO} outside of the triangle
+     * @throws IllegalArgumentException
+     *             if {@code rowIndex < 1 || size < rowIndex}
+     * @throws IllegalArgumentException
+     *             if {@code columnIndex < 1 || size < columnIndex}
+     * @since 1
+     */
+    public BigDecimal element(final int rowIndex, final int columnIndex) {
+        checkArgument(0 < rowIndex && rowIndex <= rowCount, "expected rowIndex in [1, %s] but actual %s", rowCount,
+            rowIndex);
+        checkArgument(0 < columnIndex && columnIndex <= rowCount, "expected columnIndex in [1, %s] but actual %s",
+            rowCount, columnIndex);
+        return inTriangle(rowIndex, columnIndex) ? elements[PackedIndices.packedIndex(rowIndex, columnIndex)]
+            : BigDecimal.ZERO;
+    }
+
+    /**
+     * Returns the product of this {@link TriangularBigDecimalMatrix} and the
+     * given {@link BigDecimalVector} visiting only the triangle
+     *
+     * @param vector
+     *            vector
+     * @return product
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != vector.size}
+     * @since 1
+     */
+    public BigDecimalVector multiplyVector(final BigDecimalVector vector) {
+        requireNonNull(vector, "vector");
+        checkArgument(rowCount == vector.size(), "expected columnSize == vectorSize but actual %s != %s", rowCount,
+            vector.size());
+        final ImmutableList<BigDecimal> vectorElements = vector.elementList();
+        return new BigDecimalVector(AbstractVector.mapOf(rowCount, rowIndex -> {
+            final int from = upperTriangle ? rowIndex : 1;
+            final int to = upperTriangle ? rowCount : rowIndex;
+            BigDecimal result = elements[PackedIndices.packedIndex(rowIndex, from)]
+                .multiply(vectorElements.get(from - 1));
+            for (int columnIndex = from + 1; columnIndex <= to; columnIndex++) {
+                result = result.add(elements[PackedIndices.packedIndex(rowIndex, columnIndex)]
+                    .multiply(vectorElements.get(columnIndex - 1)));
+            }
+            return result;
+        }, false));
+    }
+
+    /**
+     * Returns the solution {@code x} of {@code this * x = vector} computed by
+     * back substitution for upper and forward substitution for lower triangular
+     * matrices
+     * <p>
+     * The sums are exact. Only the division by the diagonal element is rounded
+     * according to the {@link MathContext} once per row.
+     *
+     * @param vector
+     *            right-hand side
+     * @param mathContext
+     *            {@link MathContext}
+     * @return solution
+     * @throws NullPointerException
+     *             if {@code vector == null}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code size != vector.size}
+     * @throws IllegalStateException
+     *             if {@code !invertible}
+     * @since 1
+     */
+    public BigDecimalVector solve(final BigDecimalVector vector, final MathContext mathContext) {
+        requireNonNull(vector, "vector");
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(rowCount == vector.size(), "expected equal sizes but actual %s != %s", rowCount, vector.size());
+        checkState(invertible(), "expected to be invertible but actual %s", this);
+        final BigDecimal[] solution = new BigDecimal[rowCount];
+        for (int step = 0; step < rowCount; step++) {
+            final int rowIndex = upperTriangle ? rowCount - step : step + 1;
+            BigDecimal sum = vector.element(rowIndex);
+            final int from = upperTriangle ? rowIndex + 1 : 1;
+            final int to = upperTriangle ? rowCount : rowIndex - 1;
+            for (int columnIndex = from; columnIndex <= to; columnIndex++) {
+                sum = sum.subtract(elements[PackedIndices.packedIndex(rowIndex, columnIndex)]
+                    .multiply(solution[columnIndex - 1]));
+            }
+            solution[rowIndex - 1] =
+                sum.divide(elements[PackedIndices.packedIndex(rowIndex, rowIndex)], mathContext);
+        }
+        return BigDecimalVector.of(solution);
+    }
+
+    /**
+     * Returns the determinant which is the product of the diagonal
+     *
+     * @return determinant
+     * @since 1
+     */
+    public BigDecimal determinant() {
+        BigDecimal result = elements[0];
+        for (int index = 2; index <= rowCount; index++) {
+            result = result.multiply(elements[PackedIndices.packedIndex(index, index)]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if this
+     * {@link TriangularBigDecimalMatrix} is invertible
+     *
+     * @return {@code true} if no element of the diagonal is zero, {@code false}
+     *         otherwise
+     * @since 1
+     */
+    public boolean invertible() {
+        for (int index = 1; index <= rowCount; index++) {
+            if (elements[PackedIndices.packedIndex(index, index)].signum() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the transpose sharing the elements of this
+     * {@link TriangularBigDecimalMatrix}
+     *
+     * @return transpose
+     * @since 1
+     */
+    public TriangularBigDecimalMatrix transpose() {
+        return new TriangularBigDecimalMatrix(this);
+    }
+
+    /**
+     * Returns a dense {@link BigDecimalMatrix} containing the elements of this
+     * {@link TriangularBigDecimalMatrix}
+     *
+     * @return {@link BigDecimalMatrix}
+     * @since 1
+     */
+    public BigDecimalMatrix toBigDecimalMatrix() {
+        return BigDecimalMatrix.fromFunction(rowCount, rowCount, this::element);
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if this
+     * {@link TriangularBigDecimalMatrix} is upper triangular
+     *
+     * @return {@code true} if upper triangular, {@code false} if lower triangular
+     * @since 1
+     */
+    public boolean upper() {
+        return upperTriangle;
+    }
+
+    /**
+     * Returns the number of rows and columns
+     *
+     * @return size
+     * @since 1
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    private boolean inTriangle(final int rowIndex, final int columnIndex) {
+        return upperTriangle ? rowIndex <= columnIndex : rowIndex >= columnIndex;
+    }
+
+    private static TriangularBigDecimalMatrix fromFunction(final int size, final boolean upper,
+        final MatrixElementGenerator<? extends BigDecimal> generator) {
+        assert generator != null;
+        checkArgument(0 < size && size <= PackedSymmetricMatrix.MAX_SIZE, "expected size in [1, %s] but actual %s",
+            PackedSymmetricMatrix.MAX_SIZE, size);
+        final TriangularBigDecimalMatrix matrix = new TriangularBigDecimalMatrix(size, upper);
+        for (int columnIndex = 1; columnIndex <= size; columnIndex++) {
+            for (int rowIndex = 1; rowIndex <= columnIndex; rowIndex++) {
+                matrix.elements[PackedIndices.packedIndex(rowIndex, columnIndex)] = requireNonNull(
+                    upper ? generator.generate(rowIndex, columnIndex) : generator.generate(columnIndex, rowIndex),
+                    "element");
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rowCount + Boolean.hashCode(upperTriangle)) + Arrays.hashCode(elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TriangularBigDecimalMatrix)) {
+            return false;
+        }
+        final TriangularBigDecimalMatrix other = (TriangularBigDecimalMatrix) object;
+        return rowCount == other.rowCount && upperTriangle == other.upperTriangle
+            && Arrays.equals(elements, other.elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1
+     */
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("size", rowCount).add("upper", upperTriangle)
+            .add("elements", Arrays.toString(elements)).toString();
+    }
+}
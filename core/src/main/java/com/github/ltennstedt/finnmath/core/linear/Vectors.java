@@ -17,21 +17,38 @@
 package com.github.ltennstedt.finnmath.core.linear;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
-import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
-import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
 import com.google.common.annotations.Beta;
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.function.BiFunction;
 
 /**
- * Utility class for building zero vectors
+ * Utility class for building zero vectors and pairwise matrices of vectors
+ * <p>
+ * The returned vectors are constant-size special forms which store no elements.
+ * They are marked as zero vector so that the arithmetic of the vectors can
+ * short-circuit, e.g. {@code v.add(zero)} returns {@code v} if the result is
+ * equal to the full sum. Their maps are only materialized on request and
+ * shared through a bounded cache.
+ * <p>
+ * The Gram and distance matrices are symmetric, so only their upper triangles
+ * are computed and stored as {@link PackedSymmetricMatrix}.
  *
  * @author Lars Tennstedt
  * @since 1
  */
 @Beta
 public final class Vectors {
+    /**
+     * Maximum number of elements of the materialized maps of zero vectors which
+     * are cached in total
+     *
+     * @since 1
+     */
+    public static final int CACHE_MAXIMUM_ELEMENTS = 1 << 20;
+
     private Vectors() {
     }
 
@@ -47,7 +64,7 @@ public final class Vectors {
      */
     public static BigIntegerVector buildZeroBigIntegerVector(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        return BigIntegerVector.builder(size).putAll(BigInteger.ZERO).build();
+        return new BigIntegerVector(size);
     }
 
     /**
@@ -62,7 +79,7 @@ public final class Vectors {
      */
     public static BigDecimalVector buildZeroBigDecimalVector(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        return BigDecimalVector.builder(size).putAll(BigDecimal.ZERO).build();
+        return new BigDecimalVector(size);
     }
 
     /**
@@ -77,7 +94,7 @@ public final class Vectors {
      */
     public static SimpleComplexNumberVector buildZeroSimpleComplexNumberVector(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        return SimpleComplexNumberVector.builder(size).putAll(SimpleComplexNumber.ZERO).build();
+        return new SimpleComplexNumberVector(size);
     }
 
     /**
@@ -92,6 +109,90 @@ public final class Vectors {
      */
     public static RealComplexNumberVector buildZeroRealComplexNumberVector(final int size) {
         checkArgument(size > 0, "expected size > 0 but actual %s", size);
-        return RealComplexNumberVector.builder(size).putAll(RealComplexNumber.ZERO).build();
+        return new RealComplexNumberVector(size);
+    }
+
+    /**
+     * Returns the Gram matrix of the given vectors whose element in row
+     * {@code i} and column {@code j} is the dot product of the vectors
+     * {@code i} and {@code j}
+     * <p>
+     * Only the upper triangle is computed. From
+     * {@link AbstractMatrix#PARALLEL_ROW_THRESHOLD} vectors on it is computed in
+     * tiles in parallel.
+     *
+     * @param <E>
+     *            type of the elements
+     * @param <V>
+     *            type of the vectors
+     * @param vectors
+     *            vectors
+     * @return Gram matrix
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws IllegalArgumentException
+     *             if {@code vectors} is empty
+     * @throws IllegalArgumentException
+     *             if the sizes of the {@code vectors} are not equal
+     * @since 1
+     */
+    public static <E, V extends AbstractVector<E, V, ?, ?, ?>> PackedSymmetricMatrix<E> gramMatrix(
+        final List<V> vectors) {
+        return pairwise(vectors, AbstractVector::dotProduct);
+    }
+
+    /**
+     * Returns the distance matrix of the given vectors whose element in row
+     * {@code i} and column {@code j} is the distance of the vectors {@code i}
+     * and {@code j} according to the given metric, e.g.
+     * {@code BigDecimalVector::euclideanDistance}
+     * <p>
+     * Only the upper triangle is computed, so the metric has to be symmetric.
+     * From {@link AbstractMatrix#PARALLEL_ROW_THRESHOLD} vectors on it is
+     * computed in tiles in parallel, so the metric has to be thread-safe.
+     *
+     * @param <V>
+     *            type of the vectors
+     * @param <R>
+     *            type of the distances
+     * @param vectors
+     *            vectors
+     * @param metric
+     *            metric
+     * @return distance matrix
+     * @throws NullPointerException
+     *             if {@code vectors == null}
+     * @throws NullPointerException
+     *             if one of the {@code vectors} is {@code null}
+     * @throws NullPointerException
+     *             if {@code metric == null}
+     * @throws IllegalArgumentException
+     *             if {@code vectors} is empty
+     * @throws IllegalArgumentException
+     *             if the sizes of the {@code vectors} are not equal
+     * @since 1
+     */
+    public static <V extends AbstractVector<?, V, ?, ?, ?>, R> PackedSymmetricMatrix<R> distanceMatrix(
+        final List<V> vectors, final BiFunction<? super V, ? super V, ? extends R> metric) {
+        requireNonNull(metric, "metric");
+        return pairwise(vectors, metric);
+    }
+
+    private static <V extends AbstractVector<?, V, ?, ?, ?>, R> PackedSymmetricMatrix<R> pairwise(
+        final List<V> vectors, final BiFunction<? super V, ? super V, ? extends R> function) {
+        requireNonNull(vectors, "vectors");
+        assert function != null;
+        checkArgument(!vectors.isEmpty(), "expected vectors not empty but actual %s", vectors);
+        final ImmutableList<V> copy = ImmutableList.copyOf(vectors);
+        final int size = copy.get(0).size();
+        copy.forEach(vector -> checkArgument(vector.size() == size, "expected equal sizes but actual %s != %s", size,
+            vector.size()));
+        final MatrixElementGenerator<R> generator =
+            (rowIndex, columnIndex) -> function.apply(copy.get(rowIndex - 1), copy.get(columnIndex - 1));
+        return copy.size() < AbstractMatrix.PARALLEL_ROW_THRESHOLD
+            ? PackedSymmetricMatrix.fromFunction(copy.size(), generator)
+            : PackedSymmetricMatrix.fromFunctionParallel(copy.size(), generator);
     }
 }
@@ -20,9 +20,14 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import com.google.common.annotations.Beta;
 import com.google.common.base.MoreObjects;
+import com.google.common.math.LongMath;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.Objects;
 
 /**
@@ -30,7 +35,10 @@ import java.util.Objects;
  * type for its numerator and denominator
  * <p>
  * The returned {@link Fraction Fractions} of most methods are neither
- * normalized nor reduced
+ * normalized nor reduced. The methods {@link #addReduced(Fraction)},
+ * {@link #subtractReduced(Fraction)}, {@link #multiplyReduced(Fraction)} and
+ * {@link #divideReduced(Fraction)} keep their results normalized and reduced
+ * incrementally and should be preferred for long chains of operations.
  *
  * @see #normalize()
  * @see #reduce()
@@ -44,28 +52,61 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      *
      * @since 1
      */
-    public static final Fraction ZERO = new Fraction(BigInteger.ZERO, BigInteger.ONE);
+    public static final Fraction ZERO = new Fraction(BigInteger.ZERO, BigInteger.ONE, true);
 
     /**
      * {@code 1} as {@link Fraction}
      *
      * @since 1
      */
-    public static final Fraction ONE = new Fraction(BigInteger.ONE, BigInteger.ONE);
+    public static final Fraction ONE = new Fraction(BigInteger.ONE, BigInteger.ONE, true);
 
     /**
-     * Numerator
+     * Numerator or {@code null} until it is requested from a {@link Fraction}
+     * created from {@code long} values
+     * <p>
+     * The lazy initialization is a benign data race because {@link BigInteger}
+     * is immutable.
+     *
+     * @since 1
+     */
+    private BigInteger numerator;
+
+    /**
+     * Denominator or {@code null} until it is requested from a {@link Fraction}
+     * created from {@code long} values
+     *
+     * @since 1
+     */
+    private BigInteger denominator;
+
+    /**
+     * Indicates if this {@link Fraction} is known to be normalized and reduced
      *
      * @since 1
      */
-    private final BigInteger numerator;
+    private final boolean knownCanonical;
 
     /**
-     * Denominator
+     * Indicates if the numerator and the denominator fit into a {@code long}
      *
      * @since 1
      */
-    private final BigInteger denominator;
+    private final boolean fitsInLong;
+
+    /**
+     * Numerator as {@code long} if {@link #fitsInLong} is {@code true}
+     *
+     * @since 1
+     */
+    private final long longNumerator;
+
+    /**
+     * Denominator as {@code long} if {@link #fitsInLong} is {@code true}
+     *
+     * @since 1
+     */
+    private final long longDenominator;
 
     /**
      * Required arguments constructor
@@ -77,10 +118,45 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      * @since 1
      */
     private Fraction(final BigInteger numerator, final BigInteger denominator) {
+        this(numerator, denominator, false);
+    }
+
+    /**
+     * All arguments constructor
+     *
+     * @param numerator
+     *            numerator
+     * @param denominator
+     *            denominator
+     * @param knownCanonical
+     *            if the {@link Fraction} is known to be normalized and reduced
+     * @since 1
+     */
+    private Fraction(final BigInteger numerator, final BigInteger denominator, final boolean knownCanonical) {
         assert numerator != null;
         assert denominator != null;
         this.numerator = numerator;
         this.denominator = denominator;
+        this.knownCanonical = knownCanonical;
+        fitsInLong = numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE;
+        longNumerator = fitsInLong ? numerator.longValue() : 0L;
+        longDenominator = fitsInLong ? denominator.longValue() : 0L;
+    }
+
+    /**
+     * Required arguments constructor for {@code long} values
+     *
+     * @param numerator
+     *            numerator
+     * @param denominator
+     *            denominator
+     * @since 1
+     */
+    private Fraction(final long numerator, final long denominator) {
+        knownCanonical = false;
+        fitsInLong = true;
+        longNumerator = numerator;
+        longDenominator = denominator;
     }
 
     /**
@@ -100,7 +176,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public static Fraction of(final long numerator, final long denominator) {
         checkArgument(denominator != 0L, "expected denominator != 0 but actual %s", denominator);
-        return of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        return new Fraction(numerator, denominator);
     }
 
     /**
@@ -140,9 +216,13 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
     @Override
     public Fraction add(final Fraction summand) {
         requireNonNull(summand, "summand");
+        if (fitsInLong && summand.fitsInLong && sumOfCrossProductsFits(summand)) {
+            return new Fraction(summand.longDenominator * longNumerator + longDenominator * summand.longNumerator,
+                longDenominator * summand.longDenominator);
+        }
         final BigInteger newNumerator =
-            summand.getDenominator().multiply(numerator).add(denominator.multiply(summand.getNumerator()));
-        final BigInteger newDenominator = denominator.multiply(summand.getDenominator());
+            summand.getDenominator().multiply(getNumerator()).add(getDenominator().multiply(summand.getNumerator()));
+        final BigInteger newDenominator = getDenominator().multiply(summand.getDenominator());
         return new Fraction(newNumerator, newDenominator);
     }
 
@@ -156,9 +236,14 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
     @Override
     public Fraction subtract(final Fraction subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
-        final BigInteger newNumerator =
-            subtrahend.getDenominator().multiply(numerator).subtract(denominator.multiply(subtrahend.getNumerator()));
-        final BigInteger newDenominator = denominator.multiply(subtrahend.getDenominator());
+        if (fitsInLong && subtrahend.fitsInLong && sumOfCrossProductsFits(subtrahend)) {
+            return new Fraction(
+                subtrahend.longDenominator * longNumerator - longDenominator * subtrahend.longNumerator,
+                longDenominator * subtrahend.longDenominator);
+        }
+        final BigInteger newNumerator = subtrahend.getDenominator().multiply(getNumerator())
+            .subtract(getDenominator().multiply(subtrahend.getNumerator()));
+        final BigInteger newDenominator = getDenominator().multiply(subtrahend.getDenominator());
         return new Fraction(newNumerator, newDenominator);
     }
 
@@ -172,8 +257,12 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
     @Override
     public Fraction multiply(final Fraction factor) {
         requireNonNull(factor, "factor");
-        final BigInteger newNumerator = numerator.multiply(factor.getNumerator());
-        final BigInteger newDenominator = denominator.multiply(factor.getDenominator());
+        if (fitsInLong && factor.fitsInLong && LongFastPath.productFits(longNumerator, factor.longNumerator)
+            && LongFastPath.productFits(longDenominator, factor.longDenominator)) {
+            return new Fraction(longNumerator * factor.longNumerator, longDenominator * factor.longDenominator);
+        }
+        final BigInteger newNumerator = getNumerator().multiply(factor.getNumerator());
+        final BigInteger newDenominator = getDenominator().multiply(factor.getDenominator());
         return new Fraction(newNumerator, newDenominator);
     }
 
@@ -193,16 +282,208 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
         return multiply(divisor.invert());
     }
 
+    /**
+     * Returns the sum of this {@link Fraction} and the given one
+     * <p>
+     * The returned {@link Fraction} is normalized and reduced. Uses the gcd of
+     * the denominators to keep the intermediate values small (Henrici).
+     *
+     * @param summand
+     *            the summand
+     * @return sum
+     * @throws NullPointerException
+     *             if {@code summand == null}
+     * @since 1
+     */
+    public Fraction addReduced(final Fraction summand) {
+        requireNonNull(summand, "summand");
+        final Fraction canonicalThis = canonical();
+        final Fraction canonicalSummand = summand.canonical();
+        return henriciAdd(canonicalThis.getNumerator(), canonicalThis.getDenominator(),
+            canonicalSummand.getNumerator(), canonicalSummand.getDenominator());
+    }
+
+    /**
+     * Returns the difference of this {@link Fraction} and the given one
+     * <p>
+     * The returned {@link Fraction} is normalized and reduced.
+     *
+     * @param subtrahend
+     *            the subtrahend
+     * @return difference
+     * @throws NullPointerException
+     *             if {@code subtrahend == null}
+     * @see #addReduced(Fraction)
+     * @since 1
+     */
+    public Fraction subtractReduced(final Fraction subtrahend) {
+        requireNonNull(subtrahend, "subtrahend");
+        final Fraction canonicalThis = canonical();
+        final Fraction canonicalSubtrahend = subtrahend.canonical();
+        return henriciAdd(canonicalThis.getNumerator(), canonicalThis.getDenominator(),
+            canonicalSubtrahend.getNumerator().negate(), canonicalSubtrahend.getDenominator());
+    }
+
+    /**
+     * Returns the product of this {@link Fraction} and the given one
+     * <p>
+     * The returned {@link Fraction} is normalized and reduced. The numerators
+     * and denominators are cross-cancelled before they are multiplied
+     * (Henrici).
+     *
+     * @param factor
+     *            the factor
+     * @return product
+     * @throws NullPointerException
+     *             if {@code factor == null}
+     * @since 1
+     */
+    public Fraction multiplyReduced(final Fraction factor) {
+        requireNonNull(factor, "factor");
+        final Fraction canonicalThis = canonical();
+        final Fraction canonicalFactor = factor.canonical();
+        return henriciMultiply(canonicalThis.getNumerator(), canonicalThis.getDenominator(),
+            canonicalFactor.getNumerator(), canonicalFactor.getDenominator());
+    }
+
+    /**
+     * Returns the quotient of this {@link Fraction} and the given one
+     * <p>
+     * The returned {@link Fraction} is normalized and reduced.
+     *
+     * @param divisor
+     *            the divisor
+     * @return quotient
+     * @throws NullPointerException
+     *             if {@code divisor == null}
+     * @throws IllegalArgumentException
+     *             if {@code !divisor.invertible()}
+     * @see #multiplyReduced(Fraction)
+     * @since 1
+     */
+    public Fraction divideReduced(final Fraction divisor) {
+        requireNonNull(divisor, "divisor");
+        checkArgument(divisor.invertible(), "expected divisor to be invertible but actual %s", divisor);
+        final Fraction canonicalThis = canonical();
+        final Fraction canonicalDivisor = divisor.canonical();
+        final BigInteger divisorNumerator = canonicalDivisor.getNumerator();
+        return henriciMultiply(canonicalThis.getNumerator(), canonicalThis.getDenominator(),
+            canonicalDivisor.getDenominator().multiply(BigInteger.valueOf(divisorNumerator.signum())),
+            divisorNumerator.abs());
+    }
+
+    /**
+     * Returns the normalized and reduced sum of two normalized and reduced
+     * fractions
+     *
+     * @param numerator
+     *            numerator of the first fraction
+     * @param denominator
+     *            positive denominator of the first fraction
+     * @param otherNumerator
+     *            numerator of the second fraction
+     * @param otherDenominator
+     *            positive denominator of the second fraction
+     * @return sum
+     * @since 1
+     */
+    private static Fraction henriciAdd(final BigInteger numerator, final BigInteger denominator,
+        final BigInteger otherNumerator, final BigInteger otherDenominator) {
+        assert numerator != null;
+        assert denominator != null;
+        assert otherNumerator != null;
+        assert otherDenominator != null;
+        final BigInteger gcd = denominator.gcd(otherDenominator);
+        if (gcd.equals(BigInteger.ONE)) {
+            final BigInteger newNumerator =
+                numerator.multiply(otherDenominator).add(otherNumerator.multiply(denominator));
+            if (newNumerator.signum() == 0) {
+                return ZERO;
+            }
+            return new Fraction(newNumerator, denominator.multiply(otherDenominator), true);
+        }
+        final BigInteger reducedDenominator = denominator.divide(gcd);
+        final BigInteger temporary =
+            numerator.multiply(otherDenominator.divide(gcd)).add(otherNumerator.multiply(reducedDenominator));
+        if (temporary.signum() == 0) {
+            return ZERO;
+        }
+        final BigInteger secondGcd = temporary.gcd(gcd);
+        final BigInteger newDenominator = reducedDenominator.multiply(otherDenominator.divide(secondGcd));
+        return new Fraction(temporary.divide(secondGcd), newDenominator, true);
+    }
+
+    /**
+     * Returns the normalized and reduced product of two normalized and reduced
+     * fractions
+     *
+     * @param numerator
+     *            numerator of the first fraction
+     * @param denominator
+     *            positive denominator of the first fraction
+     * @param otherNumerator
+     *            numerator of the second fraction
+     * @param otherDenominator
+     *            positive denominator of the second fraction
+     * @return product
+     * @since 1
+     */
+    private static Fraction henriciMultiply(final BigInteger numerator, final BigInteger denominator,
+        final BigInteger otherNumerator, final BigInteger otherDenominator) {
+        assert numerator != null;
+        assert denominator != null;
+        assert otherNumerator != null;
+        assert otherDenominator != null;
+        if (numerator.signum() == 0 || otherNumerator.signum() == 0) {
+            return ZERO;
+        }
+        final BigInteger gcd = numerator.gcd(otherDenominator);
+        final BigInteger otherGcd = otherNumerator.gcd(denominator);
+        final BigInteger newNumerator = numerator.divide(gcd).multiply(otherNumerator.divide(otherGcd));
+        final BigInteger newDenominator = denominator.divide(otherGcd).multiply(otherDenominator.divide(gcd));
+        return new Fraction(newNumerator, newDenominator, true);
+    }
+
+    /**
+     * Returns the normalized and reduced {@link Fraction} of this one without
+     * recalculating it if this {@link Fraction} is already known to be
+     * normalized and reduced
+     *
+     * @return normalized and reduced {@link Fraction}
+     * @since 1
+     */
+    private Fraction canonical() {
+        if (knownCanonical) {
+            return this;
+        }
+        final Fraction reduced = normalize().reduce();
+        return new Fraction(reduced.getNumerator(), reduced.getDenominator(), true);
+    }
+
     /**
      * {@inheritDoc}
-     * 
+     * <p>
+     * Raises the numerator and the denominator separately. Negative exponents are
+     * supported for invertible {@link Fraction Fractions} and raise the inverted
+     * {@link Fraction} instead.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code exponent < 0 && !invertible()}
      * @since 1
      */
     @Override
     public Fraction pow(final int exponent) {
-        checkArgument(exponent > -1, "expected exponent > -1 but actual %s", exponent);
+        checkArgument(exponent > -1 || invertible(), "expected exponent > -1 for non-invertible %s but actual %s",
+            this, exponent);
+        if (exponent < 0) {
+            final Fraction inverted = invert();
+            if (exponent == Integer.MIN_VALUE) {
+                return inverted.pow(Integer.MAX_VALUE).multiply(inverted);
+            }
+            return inverted.pow(-exponent);
+        }
         if (exponent > 1) {
-            return multiply(pow(exponent - 1));
+            return new Fraction(getNumerator().pow(exponent), getDenominator().pow(exponent));
         } else if (exponent == 1) {
             return this;
         }
@@ -216,7 +497,10 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     @Override
     public Fraction negate() {
-        return new Fraction(numerator.negate(), denominator);
+        if (fitsInLong && longNumerator != Long.MIN_VALUE) {
+            return new Fraction(-longNumerator, longDenominator);
+        }
+        return new Fraction(getNumerator().negate(), getDenominator());
     }
 
     /**
@@ -227,6 +511,9 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
     @Override
     public Fraction invert() {
         checkState(invertible(), "expected to be invertible but actual %s", this);
+        if (fitsInLong) {
+            return new Fraction(longDenominator, longNumerator);
+        }
         return new Fraction(denominator, numerator);
     }
 
@@ -237,7 +524,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     @Override
     public boolean invertible() {
-        return numerator.compareTo(BigInteger.ZERO) != 0;
+        return numeratorSignum() != 0;
     }
 
     /**
@@ -247,7 +534,10 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     @Override
     public Fraction abs() {
-        return new Fraction(numerator.abs(), denominator.abs());
+        if (fitsInLong && longNumerator != Long.MIN_VALUE && longDenominator != Long.MIN_VALUE) {
+            return new Fraction(Math.abs(longNumerator), Math.abs(longDenominator));
+        }
+        return new Fraction(getNumerator().abs(), getDenominator().abs());
     }
 
     /**
@@ -260,11 +550,16 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
     @Override
     public boolean equalsByComparingFields(final Fraction other) {
         requireNonNull(other, "other");
-        return numerator.compareTo(other.getNumerator()) == 0 && denominator.compareTo(other.getDenominator()) == 0;
+        return equals(other);
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Compares the signs first and the absolute values afterwards. Fractions with
+     * equal denominators are compared by their numerators and the cross products
+     * are only calculated if their bit lengths do not decide the comparison.
+     * Neither {@code this} nor {@code other} is normalized or reduced.
      *
      * @throws NullPointerException
      *             if {@code other == null}
@@ -273,13 +568,51 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
     @Override
     public int compareTo(final Fraction other) {
         requireNonNull(other, "other");
-        if (lessThan(other)) {
+        final int signum = signum();
+        final int otherSignum = other.signum();
+        if (signum != otherSignum) {
+            return signum < otherSignum ? -1 : 1;
+        }
+        if (signum == 0) {
+            return 0;
+        }
+        if (fitsInLong && other.fitsInLong && LongFastPath.productFits(longNumerator, other.longDenominator)
+            && LongFastPath.productFits(other.longNumerator, longDenominator)) {
+            final int comparison =
+                Long.compare(longNumerator * other.longDenominator, other.longNumerator * longDenominator);
+            return Long.signum(longDenominator) * Long.signum(other.longDenominator) * comparison;
+        }
+        return signum * compareAbsoluteValues(other);
+    }
+
+    /**
+     * Compares the absolute values of this {@link Fraction} and the given one
+     *
+     * @param other
+     *            another {@link Fraction}
+     * @return {@code -1}, {@code 0} or {@code 1} if {@code |this|} is less than,
+     *         equal to or greater than {@code |other|}
+     * @since 1
+     */
+    private int compareAbsoluteValues(final Fraction other) {
+        assert other != null;
+        final BigInteger absNumerator = getNumerator().abs();
+        final BigInteger absDenominator = getDenominator().abs();
+        final BigInteger otherAbsNumerator = other.getNumerator().abs();
+        final BigInteger otherAbsDenominator = other.getDenominator().abs();
+        if (absDenominator.equals(otherAbsDenominator)) {
+            return absNumerator.compareTo(otherAbsNumerator);
+        }
+        // bitLength(x * y) is either bitLength(x) + bitLength(y) or one less
+        final int leftBitLength = absNumerator.bitLength() + otherAbsDenominator.bitLength();
+        final int rightBitLength = otherAbsNumerator.bitLength() + absDenominator.bitLength();
+        if (leftBitLength < rightBitLength - 1) {
             return -1;
         }
-        if (greaterThan(other)) {
+        if (leftBitLength - 1 > rightBitLength) {
             return 1;
         }
-        return 0;
+        return absNumerator.multiply(otherAbsDenominator).compareTo(otherAbsNumerator.multiply(absDenominator));
     }
 
     /**
@@ -295,11 +628,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public boolean lessThanOrEqualTo(final Fraction other) {
         requireNonNull(other, "other");
-        final Fraction normalized = normalize();
-        final Fraction normalizedOther = other.normalize();
-        final BigInteger left = normalizedOther.getDenominator().multiply(normalized.getNumerator());
-        final BigInteger right = normalized.getDenominator().multiply(normalizedOther.getNumerator());
-        return left.compareTo(right) < 1;
+        return compareTo(other) < 1;
     }
 
     /**
@@ -315,7 +644,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public boolean greaterThanOrEqualTo(final Fraction other) {
         requireNonNull(other, "other");
-        return !lessThanOrEqualTo(other) || equivalent(other);
+        return compareTo(other) > -1;
     }
 
     /**
@@ -331,7 +660,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public boolean lessThan(final Fraction other) {
         requireNonNull(other, "other");
-        return !greaterThanOrEqualTo(other);
+        return compareTo(other) < 0;
     }
 
     /**
@@ -347,7 +676,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public boolean greaterThan(final Fraction other) {
         requireNonNull(other, "other");
-        return !lessThanOrEqualTo(other);
+        return compareTo(other) > 0;
     }
 
     /**
@@ -394,12 +723,12 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public Fraction normalize() {
         if (signum() < 0) {
-            return new Fraction(numerator.abs().negate(), denominator.abs());
+            return new Fraction(getNumerator().abs().negate(), getDenominator().abs());
         }
         if (signum() == 0) {
             return ZERO;
         }
-        if (numerator.compareTo(BigInteger.ZERO) < 0) {
+        if (numeratorSignum() < 0) {
             return abs();
         }
         return this;
@@ -414,8 +743,90 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      * @since 1
      */
     public Fraction reduce() {
-        final BigInteger gcd = numerator.gcd(denominator);
-        return new Fraction(numerator.divide(gcd), denominator.divide(gcd));
+        if (fitsInLong && longNumerator != Long.MIN_VALUE && longDenominator != Long.MIN_VALUE) {
+            final long gcd = LongMath.gcd(Math.abs(longNumerator), Math.abs(longDenominator));
+            return new Fraction(longNumerator / gcd, longDenominator / gcd);
+        }
+        final BigInteger gcd = getNumerator().gcd(getDenominator());
+        return new Fraction(getNumerator().divide(gcd), getDenominator().divide(gcd));
+    }
+
+    /**
+     * Returns if this {@link Fraction} is a perfect square
+     * <p>
+     * A {@link Fraction} is a perfect square if the numerator and the denominator
+     * of its normalized and reduced {@link Fraction} are perfect squares.
+     *
+     * @return {@code true} if {@code this} is a perfect square, {@code false}
+     *         otherwise
+     * @see SquareRootCalculator#perfectSquare(BigInteger)
+     * @since 1
+     */
+    public boolean perfectSquare() {
+        if (signum() < 0) {
+            return false;
+        }
+        final Fraction reduced = normalize().reduce();
+        return SquareRootCalculator.perfectSquare(reduced.getNumerator())
+            && SquareRootCalculator.perfectSquare(reduced.getDenominator());
+    }
+
+    /**
+     * Returns the exact square root of this {@link Fraction} which has to be a
+     * perfect square
+     * <p>
+     * The returned {@link Fraction} is normalized and reduced.
+     *
+     * @return square root
+     * @throws IllegalStateException
+     *             if {@code this < 0}
+     * @throws IllegalStateException
+     *             if {@code !perfectSquare}
+     * @see #perfectSquare()
+     * @since 1
+     */
+    public Fraction sqrt() {
+        checkState(signum() > -1, "expected this >= 0 but actual %s", this);
+        final Fraction reduced = normalize().reduce();
+        final BigInteger numeratorRoot = SquareRootCalculator.isqrt(reduced.getNumerator());
+        final BigInteger denominatorRoot = SquareRootCalculator.isqrt(reduced.getDenominator());
+        checkState(
+            numeratorRoot.pow(2).equals(reduced.getNumerator())
+                && denominatorRoot.pow(2).equals(reduced.getDenominator()),
+            "expected perfect square but actual %s", this);
+        return new Fraction(numeratorRoot, denominatorRoot);
+    }
+
+    /**
+     * Returns the square root of this {@link Fraction} as {@link BigDecimal}
+     * <p>
+     * Uses {@code sqrt(numerator / denominator) = sqrt(numerator * denominator) /
+     * denominator} so that only the square root of an integer has to be
+     * calculated. The result is exact up to the {@link MathContext} if this
+     * {@link Fraction} is a perfect square.
+     *
+     * @param squareRootContext
+     *            {@link SquareRootContext}
+     * @return square root
+     * @throws NullPointerException
+     *             if {@code squareRootContext == null}
+     * @throws IllegalStateException
+     *             if {@code this < 0}
+     * @see SquareRootCalculator#sqrt(BigInteger, SquareRootContext)
+     * @since 1
+     */
+    public BigDecimal sqrt(final SquareRootContext squareRootContext) {
+        requireNonNull(squareRootContext, "squareRootContext");
+        checkState(signum() > -1, "expected this >= 0 but actual %s", this);
+        final Fraction reduced = normalize().reduce();
+        final MathContext mathContext = squareRootContext.getMathContext();
+        final BigDecimal divisor = new BigDecimal(reduced.getDenominator());
+        final BigInteger product = reduced.getNumerator().multiply(reduced.getDenominator());
+        final BigInteger root = SquareRootCalculator.isqrt(product);
+        if (root.pow(2).equals(product)) {
+            return new BigDecimal(root).divide(divisor, mathContext);
+        }
+        return SquareRootCalculator.sqrt(product, squareRootContext).divide(divisor, mathContext);
     }
 
     /**
@@ -426,6 +837,9 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      * @since 1
      */
     public int signum() {
+        if (fitsInLong) {
+            return Long.signum(longNumerator) * Long.signum(longDenominator);
+        }
         return numerator.signum() * denominator.signum();
     }
 
@@ -443,7 +857,7 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     public boolean equivalent(final Fraction other) {
         requireNonNull(other, "other");
-        return normalize().reduce().equals(other.normalize().reduce());
+        return compareTo(other) == 0;
     }
 
     /**
@@ -453,6 +867,11 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     @Override
     public int hashCode() {
+        if (fitsInLong) {
+            // equal to Objects.hash of the BigInteger representation
+            return 31 * (31 + LongFastPath.bigIntegerHashCode(longNumerator))
+                + LongFastPath.bigIntegerHashCode(longDenominator);
+        }
         return Objects.hash(numerator, denominator);
     }
 
@@ -470,7 +889,11 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
             return false;
         }
         final Fraction other = (Fraction) object;
-        return numerator.equals(other.getNumerator()) && denominator.equals(other.getDenominator());
+        if (fitsInLong || other.fitsInLong) {
+            return fitsInLong == other.fitsInLong && longNumerator == other.longNumerator
+                && longDenominator == other.longDenominator;
+        }
+        return numerator.equals(other.numerator) && denominator.equals(other.denominator);
     }
 
     /**
@@ -480,7 +903,8 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      */
     @Override
     public String toString() {
-        return MoreObjects.toStringHelper(this).add("numerator", numerator).add("denominator", denominator).toString();
+        return MoreObjects.toStringHelper(this).add("numerator", getNumerator()).add("denominator", getDenominator())
+            .toString();
     }
 
     /**
@@ -490,7 +914,12 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      * @since 1
      */
     public BigInteger getNumerator() {
-        return numerator;
+        BigInteger result = numerator;
+        if (result == null) {
+            result = BigInteger.valueOf(longNumerator);
+            numerator = result;
+        }
+        return result;
     }
 
     /**
@@ -500,6 +929,21 @@ public final class Fraction implements MathNumber<Fraction, Fraction, Fraction>,
      * @since 1
      */
     public BigInteger getDenominator() {
-        return denominator;
+        BigInteger result = denominator;
+        if (result == null) {
+            result = BigInteger.valueOf(longDenominator);
+            denominator = result;
+        }
+        return result;
+    }
+
+    private int numeratorSignum() {
+        return fitsInLong ? Long.signum(longNumerator) : numerator.signum();
+    }
+
+    private boolean sumOfCrossProductsFits(final Fraction other) {
+        assert other != null;
+        return LongFastPath.sumOfProductsFits(other.longDenominator, longNumerator, longDenominator,
+            other.longNumerator) && LongFastPath.productFits(longDenominator, other.longDenominator);
     }
 }
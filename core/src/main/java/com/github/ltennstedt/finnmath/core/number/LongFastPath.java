@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.number;
+
+/**
+ * Helpers for the {@code long} fast paths of {@link Fraction} and
+ * {@link SimpleComplexNumber}
+ * <p>
+ * The overflow checks compare bit lengths instead of catching the
+ * {@link ArithmeticException} of {@link Math#multiplyExact(long, long)} and
+ * friends, so operands close to {@code 63} bits fall back to
+ * {@link java.math.BigInteger BigInteger} without throwing. They are
+ * conservative: a {@code false} result does not imply an overflow.
+ *
+ * @author Lars Tennstedt
+ * @since 1
+ */
+final class LongFastPath {
+    private LongFastPath() {
+    }
+
+    /**
+     * Returns the bit length of the given value in the sense of
+     * {@link java.math.BigInteger#bitLength()}
+     *
+     * @param value
+     *            value
+     * @return bit length
+     * @since 1
+     */
+    public static int bitLength(final long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value < 0L ? ~value : value);
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if the sum of the given values
+     * fits into a {@code long}
+     *
+     * @param left
+     *            left summand
+     * @param right
+     *            right summand
+     * @return {@code true} if the sum cannot overflow, {@code false} otherwise
+     * @since 1
+     */
+    public static boolean sumFits(final long left, final long right) {
+        // |left|, |right| <= 2^62
+        return bitLength(left) < Long.SIZE - 1 && bitLength(right) < Long.SIZE - 1;
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if the product of the given
+     * values fits into a {@code long}
+     *
+     * @param left
+     *            left factor
+     * @param right
+     *            right factor
+     * @return {@code true} if the product cannot overflow, {@code false}
+     *         otherwise
+     * @since 1
+     */
+    public static boolean productFits(final long left, final long right) {
+        // |left * right| <= 2^(bitLength(left) + bitLength(right)) <= 2^62
+        return bitLength(left) + bitLength(right) < Long.SIZE - 1;
+    }
+
+    /**
+     * Returns a {@code boolean} which indicates if {@code a * b + c * d} and
+     * {@code a * b - c * d} fit into a {@code long}
+     *
+     * @param a
+     *            first factor of the first product
+     * @param b
+     *            second factor of the first product
+     * @param c
+     *            first factor of the second product
+     * @param d
+     *            second factor of the second product
+     * @return {@code true} if neither the products nor their sum or difference
+     *         can overflow, {@code false} otherwise
+     * @since 1
+     */
+    public static boolean sumOfProductsFits(final long a, final long b, final long c, final long d) {
+        // both products are bounded by 2^61
+        return bitLength(a) + bitLength(b) < Long.SIZE - 2 && bitLength(c) + bitLength(d) < Long.SIZE - 2;
+    }
+
+    /**
+     * Returns the {@link java.math.BigInteger#hashCode() hash code} of the
+     * {@link java.math.BigInteger BigInteger} with the given value without
+     * creating it
+     *
+     * @param value
+     *            value
+     * @return hash code
+     * @since 1
+     */
+    public static int bigIntegerHashCode(final long value) {
+        if (value == 0L) {
+            return 0;
+        }
+        // the magnitude of Long.MIN_VALUE is 2^63 when read as unsigned value
+        final long magnitude = value < 0L ? -value : value;
+        final int high = (int) (magnitude >>> Integer.SIZE);
+        final int low = (int) magnitude;
+        final int hashCode = high == 0 ? low : 31 * high + low;
+        return value < 0L ? -hashCode : hashCode;
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.github.ltennstedt.finnmath.core.number;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import ch.obermuhlner.math.big.BigFloat;
@@ -44,6 +45,14 @@ public final class PolarForm {
      */
     public static final int DEFAULT_PRECISION = 100;
 
+    /**
+     * Number of digits which {@link #pow(int, MathContext)} computes beyond the
+     * precision of the {@link MathContext} and the digits of the exponent
+     *
+     * @since 1
+     */
+    public static final int GUARD_DIGITS = 5;
+
     /**
      * Radial coordinate
      *
@@ -102,6 +111,61 @@ public final class PolarForm {
         return complexNumer(BigFloat.context(mathContext));
     }
 
+    /**
+     * Returns the power of this {@link PolarForm} raised by the given exponent
+     * considering the {@link MathContext}
+     * <p>
+     * Uses de Moivre's formula: the radial coordinate is raised with
+     * {@link #GUARD_DIGITS} more digits than the exponent has and then rounded
+     * to the {@link MathContext}. The angular coordinate is multiplied exactly
+     * so that no digits of the angle are lost for large exponents.
+     *
+     * @param exponent
+     *            exponent
+     * @param mathContext
+     *            {@link MathContext}
+     * @return power
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code exponent < 0 && radial == 0}
+     * @since 1
+     */
+    public PolarForm pow(final int exponent, final MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext");
+        checkArgument(exponent > -1 || radial.compareTo(BigDecimal.ZERO) != 0,
+            "expected exponent > -1 for radial == 0 but actual %s", exponent);
+        return new PolarForm(radial.pow(exponent, workingContext(exponent, mathContext)).round(mathContext),
+            angular.multiply(BigDecimal.valueOf(exponent)));
+    }
+
+    /**
+     * Returns the {@link MathContext} in which a power with the given exponent
+     * has to be computed so that it can be rounded to the given
+     * {@link MathContext}
+     * <p>
+     * Raising a value multiplies its relative error by the exponent, so the
+     * precision is increased by the number of digits of the exponent and
+     * {@link #GUARD_DIGITS}. An unlimited {@link MathContext} is returned
+     * unchanged.
+     *
+     * @param exponent
+     *            exponent
+     * @param mathContext
+     *            {@link MathContext}
+     * @return working {@link MathContext}
+     * @since 1
+     */
+    static MathContext workingContext(final int exponent, final MathContext mathContext) {
+        assert mathContext != null;
+        if (mathContext.getPrecision() == 0) {
+            return mathContext;
+        }
+        final int exponentDigits = Long.toString(Math.abs((long) exponent)).length();
+        return new MathContext(mathContext.getPrecision() + exponentDigits + GUARD_DIGITS,
+            mathContext.getRoundingMode());
+    }
+
     private RealComplexNumber complexNumer(final Context context) {
         assert context != null;
         final BigDecimal real = radial.multiply(BigFloat.cos(context.valueOf(angular)).toBigDecimal());
@@ -69,6 +69,15 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
      */
     public static final RealComplexNumberComparator REAL_COMPLEX_NUMBER_COMPARATOR = new RealComplexNumberComparator();
 
+    /**
+     * Minimal precision of all parts of both factors from which on
+     * {@link #multiply(RealComplexNumber)} uses Gauss's multiplication with three
+     * instead of four multiplications
+     *
+     * @since 1
+     */
+    public static final int GAUSS_MULTIPLICATION_THRESHOLD = 300;
+
     /**
      * Required arguments constructor
      *
@@ -249,6 +258,11 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
     @Override
     public RealComplexNumber multiply(final RealComplexNumber factor) {
         requireNonNull(factor, "factor");
+        final int minPrecision = Math.min(Math.min(real.precision(), imaginary.precision()),
+            Math.min(factor.getReal().precision(), factor.getImaginary().precision()));
+        if (minPrecision >= GAUSS_MULTIPLICATION_THRESHOLD) {
+            return gaussMultiply(factor);
+        }
         final BigDecimal newReal = real.multiply(factor.getReal()).subtract(imaginary.multiply(factor.getImaginary()));
         final BigDecimal newImaginary = real.multiply(factor.getImaginary()).add(imaginary.multiply(factor.getReal()));
         return new RealComplexNumber(newReal, newImaginary);
@@ -278,6 +292,35 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
         return new RealComplexNumber(newReal, newImaginary);
     }
 
+    /**
+     * Returns the product of this {@link RealComplexNumber} and the given one
+     * using Gauss's multiplication
+     * <p>
+     * {@code (a + bi)(c + di) = (k1 - k3) + (k1 + k2)i} with
+     * {@code k1 = c(a + b)}, {@code k2 = a(d - c)} and {@code k3 = b(c + d)}
+     * needs three instead of four multiplications. The parts of the product are
+     * rescaled so that they are equal to the ones of the schoolbook
+     * multiplication.
+     *
+     * @param factor
+     *            factor
+     * @return product
+     * @since 1
+     */
+    private RealComplexNumber gaussMultiply(final RealComplexNumber factor) {
+        assert factor != null;
+        final BigDecimal otherReal = factor.getReal();
+        final BigDecimal otherImaginary = factor.getImaginary();
+        final BigDecimal first = otherReal.multiply(real.add(imaginary));
+        final BigDecimal second = real.multiply(otherImaginary.subtract(otherReal));
+        final BigDecimal third = imaginary.multiply(otherReal.add(otherImaginary));
+        final int realScale = Math.max(real.scale() + otherReal.scale(), imaginary.scale() + otherImaginary.scale());
+        final int imaginaryScale =
+            Math.max(real.scale() + otherImaginary.scale(), imaginary.scale() + otherReal.scale());
+        return new RealComplexNumber(first.subtract(third).setScale(realScale, RoundingMode.UNNECESSARY),
+            first.add(second).setScale(imaginaryScale, RoundingMode.UNNECESSARY));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -352,6 +395,10 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Uses binary exponentiation so that only {@code O(log(exponent))}
+     * multiplications are needed. Negative exponents need a rounded inverse
+     * and are therefore only supported by {@link #pow(int, MathContext)}.
      *
      * @since 1
      */
@@ -359,7 +406,7 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
     public RealComplexNumber pow(final int exponent) {
         checkArgument(exponent > -1, "expected exponent > -1 but actual %s", exponent);
         if (exponent > 1) {
-            return multiply(pow(exponent - 1));
+            return powBySquaring(exponent, null);
         } else if (exponent == 1) {
             return this;
         }
@@ -369,6 +416,11 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
     /**
      * Returns the power of this {@link RealComplexNumber} raised by the given
      * exponent
+     * <p>
+     * Uses binary exponentiation so that only {@code O(log(exponent))}
+     * multiplications are needed. Negative exponents are supported for
+     * invertible {@link RealComplexNumber RealComplexNumbers} and raise the
+     * inverted {@link RealComplexNumber} instead.
      *
      * @param exponent
      *            exponent
@@ -376,22 +428,115 @@ public final class RealComplexNumber extends AbstractComplexNumber<BigDecimal, R
      *            {@link MathContext}
      * @return power
      * @throws IllegalArgumentException
-     *             if {@code exponent < 0}
+     *             if {@code exponent < 0 && !invertible()}
      * @throws NullPointerException
      *             if {@code mathContext == null}
      * @since 1
      */
     public RealComplexNumber pow(final int exponent, final MathContext mathContext) {
-        checkArgument(exponent > -1, "expected exponent > -1 but actual %s", exponent);
+        checkArgument(exponent > -1 || invertible(), "expected exponent > -1 for non-invertible %s but actual %s",
+            this, exponent);
         requireNonNull(mathContext, "mathContext");
+        if (exponent < 0) {
+            return invert(mathContext).powBySquaring(-(long) exponent, mathContext);
+        }
         if (exponent > 1) {
-            return multiply(pow(exponent - 1, mathContext), mathContext);
+            return powBySquaring(exponent, mathContext);
         } else if (exponent == 1) {
             return this;
         }
         return ONE;
     }
 
+    /**
+     * Returns the power of this {@link RealComplexNumber} raised by the given
+     * exponent using its {@link PolarForm}
+     * <p>
+     * The cost does not depend on the size of the exponent which makes this
+     * method preferable to {@link #pow(int, MathContext)} for very large
+     * exponents. The absolute value, the argument, the power and its sine and
+     * cosine are computed with {@link PolarForm#GUARD_DIGITS} more digits than
+     * the {@link MathContext} and the exponent have, and the real and the
+     * imaginary part are then rounded to the {@link MathContext}.
+     *
+     * @param exponent
+     *            exponent
+     * @param mathContext
+     *            {@link MathContext}
+     * @return power
+     * @throws IllegalArgumentException
+     *             if {@code exponent < 0 && !invertible()}
+     * @throws NullPointerException
+     *             if {@code mathContext == null}
+     * @see PolarForm#pow(int, MathContext)
+     * @since 1
+     */
+    public RealComplexNumber powPolar(final int exponent, final MathContext mathContext) {
+        checkArgument(exponent > -1 || invertible(), "expected exponent > -1 for non-invertible %s but actual %s",
+            this, exponent);
+        requireNonNull(mathContext, "mathContext");
+        if (exponent == 0) {
+            return ONE;
+        }
+        if (equals(ZERO)) {
+            return ZERO;
+        }
+        final MathContext workingContext = PolarForm.workingContext(exponent, mathContext);
+        final BigDecimal radial = BigFloat.sqrt(BigFloat.context(workingContext).valueOf(absPow2())).toBigDecimal();
+        final RealComplexNumber power = new PolarForm(radial, argument(workingContext))
+            .pow(exponent, workingContext).complexNumber(workingContext);
+        return new RealComplexNumber(power.getReal().round(mathContext), power.getImaginary().round(mathContext));
+    }
+
+    /**
+     * Returns the power of this {@link RealComplexNumber} raised by the given
+     * positive exponent using binary exponentiation
+     *
+     * @param exponent
+     *            positive exponent
+     * @param mathContext
+     *            {@link MathContext} or {@code null} for exact multiplications
+     * @return power
+     * @since 1
+     */
+    private RealComplexNumber powBySquaring(final long exponent, final MathContext mathContext) {
+        assert exponent > 0;
+        RealComplexNumber result = null;
+        RealComplexNumber square = this;
+        long remaining = exponent;
+        while (true) {
+            if ((remaining & 1L) == 1L) {
+                result = result == null ? square : product(result, square, mathContext);
+            }
+            remaining >>>= 1;
+            if (remaining == 0L) {
+                return result;
+            }
+            square = product(square, square, mathContext);
+        }
+    }
+
+    /**
+     * Returns the product of the given {@link RealComplexNumber
+     * RealComplexNumbers} considering the {@link MathContext} if it is not
+     * {@code null}
+     *
+     * @param first
+     *            first factor
+     * @param second
+     *            second factor
+     * @param mathContext
+     *            {@link MathContext} or {@code null} for an exact multiplication
+     * @return product
+     * @since 1
+     */
+    private static RealComplexNumber product(final RealComplexNumber first, final RealComplexNumber second,
+        final MathContext mathContext) {
+        assert first != null;
+        assert second != null;
+        return mathContext == null ? first.multiply(second) : first.multiply(second, mathContext);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -60,6 +60,15 @@ public final class SimpleComplexNumber
      */
     public static final SimpleComplexNumber IMAGINARY = new SimpleComplexNumber(BigInteger.ZERO, BigInteger.ONE);
 
+    /**
+     * Minimal bit length of all parts of both factors from which on
+     * {@link #multiply(SimpleComplexNumber)} uses Gauss's multiplication with
+     * three instead of four multiplications
+     *
+     * @since 1
+     */
+    public static final int GAUSS_MULTIPLICATION_THRESHOLD = 1024;
+
     private SimpleComplexNumber(final BigInteger real, final BigInteger imaginary) {
         super(real, imaginary);
     }
@@ -80,7 +89,7 @@ public final class SimpleComplexNumber
      * @since 1
      */
     public static SimpleComplexNumber of(final long real, final long imaginary) {
-        return SimpleComplexNumber.of(BigInteger.valueOf(real), BigInteger.valueOf(imaginary));
+        return new SimpleComplexNumber(BigInteger.valueOf(real), BigInteger.valueOf(imaginary));
     }
 
     /**
@@ -114,6 +123,16 @@ public final class SimpleComplexNumber
     @Override
     public SimpleComplexNumber add(final SimpleComplexNumber summand) {
         requireNonNull(summand, "summand");
+        if (fitsInLong(real) && fitsInLong(imaginary) && fitsInLong(summand.getReal())
+            && fitsInLong(summand.getImaginary())) {
+            final long summandReal = summand.getReal().longValue();
+            final long summandImaginary = summand.getImaginary().longValue();
+            if (LongFastPath.sumFits(real.longValue(), summandReal)
+                && LongFastPath.sumFits(imaginary.longValue(), summandImaginary)) {
+                return new SimpleComplexNumber(BigInteger.valueOf(real.longValue() + summandReal),
+                    BigInteger.valueOf(imaginary.longValue() + summandImaginary));
+            }
+        }
         return new SimpleComplexNumber(real.add(summand.getReal()), imaginary.add(summand.getImaginary()));
     }
 
@@ -127,6 +146,16 @@ public final class SimpleComplexNumber
     @Override
     public SimpleComplexNumber subtract(final SimpleComplexNumber subtrahend) {
         requireNonNull(subtrahend, "subtrahend");
+        if (fitsInLong(real) && fitsInLong(imaginary) && fitsInLong(subtrahend.getReal())
+            && fitsInLong(subtrahend.getImaginary())) {
+            final long subtrahendReal = subtrahend.getReal().longValue();
+            final long subtrahendImaginary = subtrahend.getImaginary().longValue();
+            if (LongFastPath.sumFits(real.longValue(), subtrahendReal)
+                && LongFastPath.sumFits(imaginary.longValue(), subtrahendImaginary)) {
+                return new SimpleComplexNumber(BigInteger.valueOf(real.longValue() - subtrahendReal),
+                    BigInteger.valueOf(imaginary.longValue() - subtrahendImaginary));
+            }
+        }
         return new SimpleComplexNumber(real.subtract(subtrahend.getReal()),
             imaginary.subtract(subtrahend.getImaginary()));
     }
@@ -140,11 +169,58 @@ public final class SimpleComplexNumber
     @Override
     public SimpleComplexNumber multiply(final SimpleComplexNumber factor) {
         requireNonNull(factor, "factor");
-        final BigInteger newReal = real.multiply(factor.getReal()).subtract(imaginary.multiply(factor.getImaginary()));
-        final BigInteger newImaginary = real.multiply(factor.getImaginary()).add(imaginary.multiply(factor.getReal()));
+        if (fitsInLong(real) && fitsInLong(imaginary) && fitsInLong(factor.getReal())
+            && fitsInLong(factor.getImaginary())) {
+            final long longReal = real.longValue();
+            final long longImaginary = imaginary.longValue();
+            final long factorReal = factor.getReal().longValue();
+            final long factorImaginary = factor.getImaginary().longValue();
+            if (LongFastPath.sumOfProductsFits(longReal, factorReal, longImaginary, factorImaginary)
+                && LongFastPath.sumOfProductsFits(longReal, factorImaginary, longImaginary, factorReal)) {
+                final long newReal = longReal * factorReal - longImaginary * factorImaginary;
+                final long newImaginary = longReal * factorImaginary + longImaginary * factorReal;
+                return new SimpleComplexNumber(BigInteger.valueOf(newReal), BigInteger.valueOf(newImaginary));
+            }
+        }
+        final BigInteger realPart = getReal();
+        final BigInteger imaginaryPart = getImaginary();
+        final int minBitLength = Math.min(Math.min(realPart.bitLength(), imaginaryPart.bitLength()),
+            Math.min(factor.getReal().bitLength(), factor.getImaginary().bitLength()));
+        if (minBitLength >= GAUSS_MULTIPLICATION_THRESHOLD) {
+            return gaussMultiply(factor);
+        }
+        final BigInteger otherReal = factor.getReal();
+        final BigInteger otherImaginary = factor.getImaginary();
+        final BigInteger newReal = realPart.multiply(otherReal).subtract(imaginaryPart.multiply(otherImaginary));
+        final BigInteger newImaginary = realPart.multiply(otherImaginary).add(imaginaryPart.multiply(otherReal));
         return new SimpleComplexNumber(newReal, newImaginary);
     }
 
+    /**
+     * Returns the product of this {@link SimpleComplexNumber} and the given one
+     * using Gauss's multiplication
+     * <p>
+     * {@code (a + bi)(c + di) = (k1 - k3) + (k1 + k2)i} with
+     * {@code k1 = c(a + b)}, {@code k2 = a(d - c)} and {@code k3 = b(c + d)}
+     * needs three instead of four multiplications.
+     *
+     * @param factor
+     *            factor
+     * @return product
+     * @since 1
+     */
+    private SimpleComplexNumber gaussMultiply(final SimpleComplexNumber factor) {
+        assert factor != null;
+        final BigInteger otherReal = factor.getReal();
+        final BigInteger otherImaginary = factor.getImaginary();
+        final BigInteger realPart = getReal();
+        final BigInteger imaginaryPart = getImaginary();
+        final BigInteger first = otherReal.multiply(realPart.add(imaginaryPart));
+        final BigInteger second = realPart.multiply(otherImaginary.subtract(otherReal));
+        final BigInteger third = imaginaryPart.multiply(otherReal.add(otherImaginary));
+        return new SimpleComplexNumber(first.subtract(third), first.add(second));
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -208,12 +284,27 @@ public final class SimpleComplexNumber
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Uses binary exponentiation so that only {@code O(log(exponent))}
+     * multiplications are needed.
      */
     @Override
     public SimpleComplexNumber pow(final int exponent) {
         checkArgument(exponent > -1, "expected exponent > -1 but actual %s", exponent);
         if (exponent > 1) {
-            return multiply(pow(exponent - 1));
+            SimpleComplexNumber result = ONE;
+            SimpleComplexNumber square = this;
+            int remaining = exponent;
+            while (remaining > 0) {
+                if ((remaining & 1) == 1) {
+                    result = result.multiply(square);
+                }
+                remaining >>>= 1;
+                if (remaining > 0) {
+                    square = square.multiply(square);
+                }
+            }
+            return result;
         } else if (exponent == 1) {
             return this;
         }
@@ -255,7 +346,7 @@ public final class SimpleComplexNumber
     @Override
     public boolean equalsByComparingFields(final SimpleComplexNumber other) {
         requireNonNull(other, "other");
-        return real.compareTo(other.getReal()) == 0 && imaginary.compareTo(other.getImaginary()) == 0;
+        return equals(other);
     }
 
     /**
@@ -278,6 +369,13 @@ public final class SimpleComplexNumber
      */
     @Override
     public BigInteger absPow2() {
+        if (fitsInLong(real) && fitsInLong(imaginary)) {
+            final long longReal = real.longValue();
+            final long longImaginary = imaginary.longValue();
+            if (LongFastPath.sumOfProductsFits(longReal, longReal, longImaginary, longImaginary)) {
+                return BigInteger.valueOf(longReal * longReal + longImaginary * longImaginary);
+            }
+        }
         return real.pow(2).add(imaginary.pow(2));
     }
 
@@ -338,7 +436,20 @@ public final class SimpleComplexNumber
      */
     @Override
     public BigIntegerMatrix matrix() {
-        return BigIntegerMatrix.builder(2, 2).put(1, 1, real).put(1, 2, imaginary.negate()).put(2, 1, imaginary)
-            .put(2, 2, real).build();
+        return BigIntegerMatrix.builder(2, 2).put(1, 1, getReal()).put(1, 2, getImaginary().negate())
+            .put(2, 1, getImaginary()).put(2, 2, getReal()).build();
+    }
+
+    /**
+     * Returns if the given part fits into a {@code long}
+     *
+     * @param part
+     *            real or imaginary part
+     * @return {@code true} if {@code part.bitLength() < 64}, {@code false}
+     *         otherwise
+     * @since 1
+     */
+    private static boolean fitsInLong(final BigInteger part) {
+        return part.bitLength() < Long.SIZE;
     }
 }
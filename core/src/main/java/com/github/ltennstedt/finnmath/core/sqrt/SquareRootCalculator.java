@@ -29,8 +29,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * An implementation for calculating square roots of {@link BigInteger
- * BigIntegers} and {@link BigDecimal BigDecimals}
+ * An implementation for calculating square roots and n-th roots of
+ * {@link BigInteger BigIntegers} and {@link BigDecimal BigDecimals}
  *
  * @author Lars Tennstedt
  * @since 1
@@ -46,6 +46,18 @@ public final class SquareRootCalculator {
 
     private static final Logger log = LoggerFactory.getLogger(SquareRootCalculator.class);
 
+    private static final int SEED_PRECISION = 15;
+
+    private static final int GUARD_DIGITS = 2;
+
+    private static final boolean[] QUADRATIC_RESIDUES_MOD_64 = new boolean[64];
+
+    static {
+        for (int i = 0; i < 64; i++) {
+            QUADRATIC_RESIDUES_MOD_64[(i * i) & 63] = true;
+        }
+    }
+
     private SquareRootCalculator() {
     }
 
@@ -155,7 +167,27 @@ public final class SquareRootCalculator {
         requireNonNull(integer, "integer");
         checkArgument(integer.compareTo(BigInteger.ZERO) > -1, "expected integer >= 0 but actual %s", integer);
         checkArgument(perfectSquare(integer), "expected perfect square but actual %s", integer);
-        return BigIntegerMath.sqrt(integer, RoundingMode.UNNECESSARY);
+        return isqrt(integer);
+    }
+
+    /**
+     * Returns the integer square root of the given {@link BigInteger} which is the
+     * greatest {@link BigInteger} whose square is less than or equal to the given
+     * one
+     *
+     * @param integer
+     *            integer whose integer square root is to be calculated
+     * @return integer square root of given integer
+     * @throws NullPointerException
+     *             if {@code integer == null}
+     * @throws IllegalArgumentException
+     *             if {@code integer < 0}
+     * @since 1
+     */
+    public static BigInteger isqrt(final BigInteger integer) {
+        requireNonNull(integer, "integer");
+        checkArgument(integer.compareTo(BigInteger.ZERO) > -1, "expected integer >= 0 but actual %s", integer);
+        return BigIntegerMath.sqrt(integer, RoundingMode.FLOOR);
     }
 
     /**
@@ -173,11 +205,75 @@ public final class SquareRootCalculator {
     public static boolean perfectSquare(final BigInteger integer) {
         requireNonNull(integer, "integer");
         checkArgument(integer.compareTo(BigInteger.ZERO) > -1, "expected integer >= 0 but actual %s", integer);
-        BigInteger sum = BigInteger.ZERO;
-        for (BigInteger odd = BigInteger.ONE; sum.compareTo(integer) < 0; odd = odd.add(BigInteger.valueOf(2))) {
-            sum = sum.add(odd);
+        if (!QUADRATIC_RESIDUES_MOD_64[integer.intValue() & 63]) {
+            return false;
         }
-        return sum.compareTo(integer) == 0;
+        return isqrt(integer).pow(2).compareTo(integer) == 0;
+    }
+
+    /**
+     * Returns the n-th root of given {@link BigDecimal}
+     *
+     * @param decimal
+     *            decimal number whose n-th root is to be calculated
+     * @param degree
+     *            degree of the root
+     * @return n-th root of given decimal
+     * @throws NullPointerException
+     *             if {@code decimal == null}
+     * @throws IllegalArgumentException
+     *             if {@code degree < 1}
+     * @throws IllegalArgumentException
+     *             if {@code decimal < 0 && degree} is even
+     * @see #nthRoot(BigDecimal, int, SquareRootContext)
+     * @since 1
+     */
+    public static BigDecimal nthRoot(final BigDecimal decimal, final int degree) {
+        requireNonNull(decimal, "decimal");
+        checkArgument(degree > 0, "expected degree > 0 but actual %s", degree);
+        checkArgument(decimal.compareTo(BigDecimal.ZERO) > -1 || degree % 2 == 1,
+            "expected decimal >= 0 or odd degree but actual %s and %s", decimal, degree);
+        return nthRoot(decimal, degree, DEFAULT_SQUARE_ROOT_CONTEXT);
+    }
+
+    /**
+     * Returns the n-th root of given {@link BigDecimal}
+     * <p>
+     * Newton's method is used. Every step doubles the working precision until the
+     * precision of the {@link MathContext} is reached, then further steps are done
+     * until the abort criterion is met.
+     *
+     * @param decimal
+     *            decimal number whose n-th root is to be calculated
+     * @param degree
+     *            degree of the root
+     * @param squareRootContext
+     *            {@link SquareRootContext}
+     * @return n-th root of given decimal
+     * @throws NullPointerException
+     *             if {@code decimal == null}
+     * @throws NullPointerException
+     *             if {@code squareRootContext == null}
+     * @throws IllegalArgumentException
+     *             if {@code degree < 1}
+     * @throws IllegalArgumentException
+     *             if {@code decimal < 0 && degree} is even
+     * @since 1
+     */
+    public static BigDecimal nthRoot(final BigDecimal decimal, final int degree,
+        final SquareRootContext squareRootContext) {
+        requireNonNull(decimal, "decimal");
+        requireNonNull(squareRootContext, "squareRootContext");
+        checkArgument(degree > 0, "expected degree > 0 but actual %s", degree);
+        checkArgument(decimal.compareTo(BigDecimal.ZERO) > -1 || degree % 2 == 1,
+            "expected decimal >= 0 or odd degree but actual %s and %s", decimal, degree);
+        if (decimal.signum() < 0) {
+            return nthRoot(decimal.negate(), degree, squareRootContext).negate();
+        }
+        if (decimal.signum() == 0 || degree == 1) {
+            return decimal.round(squareRootContext.getMathContext());
+        }
+        return newtonsMethod(decimal, degree, squareRootContext);
     }
 
     private static BigDecimal heronsMethod(final BigDecimal decimal, final SquareRootContext squareRootContext) {
@@ -205,6 +301,81 @@ public final class SquareRootCalculator {
         return successor;
     }
 
+    private static BigDecimal newtonsMethod(final BigDecimal decimal, final int degree,
+        final SquareRootContext squareRootContext) {
+        assert decimal != null;
+        assert decimal.signum() > 0;
+        assert degree > 1;
+        assert squareRootContext != null;
+        final BigDecimal abortCriterion = squareRootContext.getAbortCriterion();
+        log.debug("calculating {}-th root for {} with precision = {}", degree, decimal.toPlainString(),
+            abortCriterion.toPlainString());
+        final MathContext mathContext = squareRootContext.getMathContext();
+        final int targetPrecision = targetPrecision(decimal, degree, squareRootContext);
+        final BigDecimal seed = nthRootSeed(decimal, degree);
+        log.debug("seed value = {}", seed.toPlainString());
+        BigDecimal predecessor = seed;
+        int precision = SEED_PRECISION;
+        while (precision < targetPrecision) {
+            precision = Math.min(2 * precision, targetPrecision);
+            predecessor = calculateSuccessor(predecessor, decimal, degree,
+                new MathContext(precision, mathContext.getRoundingMode()));
+        }
+        final MathContext targetMathContext = new MathContext(targetPrecision, mathContext.getRoundingMode());
+        BigDecimal successor = calculateSuccessor(predecessor, decimal, degree, targetMathContext);
+        long iterations = 1;
+        while (successor.subtract(predecessor).abs().compareTo(abortCriterion) > 0
+            && iterations <= squareRootContext.getMaxIterations()) {
+            predecessor = successor;
+            successor = calculateSuccessor(successor, decimal, degree, targetMathContext);
+            iterations++;
+        }
+        log.debug("terminated after {} iterations", iterations);
+        final BigDecimal result = mathContext.getPrecision() > 0 ? successor.round(mathContext) : successor;
+        log.debug("root({}, {}) = {}", decimal.toPlainString(), degree, result.toPlainString());
+        return result;
+    }
+
+    private static int targetPrecision(final BigDecimal decimal, final int degree,
+        final SquareRootContext squareRootContext) {
+        assert decimal != null;
+        assert degree > 1;
+        assert squareRootContext != null;
+        final int precision = squareRootContext.getMathContext().getPrecision();
+        if (precision > 0) {
+            return precision + GUARD_DIGITS;
+        }
+        final int integerDigits = Math.max(1, (decimal.precision() - decimal.scale()) / degree + 1);
+        final int fractionDigits = Math.max(squareRootContext.getInitalScale(),
+            squareRootContext.getAbortCriterion().stripTrailingZeros().scale());
+        return integerDigits + fractionDigits + GUARD_DIGITS;
+    }
+
+    private static BigDecimal nthRootSeed(final BigDecimal decimal, final int degree) {
+        assert decimal != null;
+        assert decimal.signum() > 0;
+        assert degree > 1;
+        final BigDecimal rounded = decimal.round(new MathContext(SEED_PRECISION));
+        final long exponent = (long) rounded.precision() - rounded.scale() - 1;
+        final double mantissa = rounded.movePointLeft((int) exponent).doubleValue();
+        final double logarithm = (Math.log10(mantissa) + exponent) / degree;
+        final double floor = Math.floor(logarithm);
+        return BigDecimal.valueOf(Math.pow(10, logarithm - floor)).scaleByPowerOfTen((int) floor);
+    }
+
+    private static BigDecimal calculateSuccessor(final BigDecimal predecessor, final BigDecimal decimal,
+        final int degree, final MathContext mathContext) {
+        assert predecessor != null;
+        assert decimal != null;
+        assert degree > 1;
+        assert mathContext != null;
+        final BigDecimal quotient = decimal.divide(predecessor.pow(degree - 1, mathContext), mathContext);
+        final BigDecimal successor = predecessor.multiply(BigDecimal.valueOf(degree - 1L), mathContext)
+            .add(quotient, mathContext).divide(BigDecimal.valueOf(degree), mathContext);
+        log.debug("successor = {}", successor.toPlainString());
+        return successor;
+    }
+
     private static BigDecimal calculateSuccessor(final BigDecimal predecessor, final BigDecimal decimal,
         final SquareRootContext squareRootContext) {
         assert predecessor != null;
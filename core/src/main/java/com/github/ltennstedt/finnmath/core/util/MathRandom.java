@@ -25,6 +25,8 @@ import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector.BigDecimalVec
 import com.github.ltennstedt.finnmath.core.linear.BigIntegerMatrix;
 import com.github.ltennstedt.finnmath.core.linear.BigIntegerVector;
 import com.github.ltennstedt.finnmath.core.linear.BigIntegerVector.BigIntegerVectorBuilder;
+import com.github.ltennstedt.finnmath.core.linear.DiagonalBigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.PackedSymmetricMatrix;
 import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberMatrix;
 import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberMatrix.RealComplexNumberMatrixBuilder;
 import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberVector;
@@ -32,6 +34,7 @@ import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberVector.RealCo
 import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberMatrix;
 import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberMatrix.SimpleComplexNumberMatrixBuilder;
 import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberVector;
+import com.github.ltennstedt.finnmath.core.linear.TriangularBigDecimalMatrix;
 import com.github.ltennstedt.finnmath.core.number.Fraction;
 import com.github.ltennstedt.finnmath.core.number.PolarForm;
 import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
@@ -1818,6 +1821,112 @@ public final class MathRandom {
         return builder.build();
     }
 
+    /**
+     * Returns a symmetric {@link PackedSymmetricMatrix}
+     *
+     * @param bound
+     *            bound
+     * @param scale
+     *            scale
+     * @param size
+     *            row and column size of resulting {@link PackedSymmetricMatrix}
+     * @return pseudo random symmetric {@link PackedSymmetricMatrix}
+     * @throws IllegalArgumentException
+     *             if {@code bound < 1}
+     * @throws IllegalArgumentException
+     *             if {@code scale < 0}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @see #nextSymmetricBigDecimalMatrix
+     * @since 1
+     */
+    public PackedSymmetricMatrix<BigDecimal> nextPackedSymmetricBigDecimalMatrix(final long bound, final int scale,
+        final int size) {
+        checkArgument(bound > 0, "expected bound > 0 but actual %s", bound);
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        return PackedSymmetricMatrix.fromFunction(size, (rowIndex, columnIndex) -> nextBigDecimal(bound, scale));
+    }
+
+    /**
+     * Returns a upper triangular {@link TriangularBigDecimalMatrix}
+     *
+     * @param bound
+     *            bound
+     * @param scale
+     *            scale
+     * @param size
+     *            row and column size of resulting {@link TriangularBigDecimalMatrix}
+     * @return pseudo random upper triangular {@link TriangularBigDecimalMatrix}
+     * @throws IllegalArgumentException
+     *             if {@code bound < 1}
+     * @throws IllegalArgumentException
+     *             if {@code scale < 0}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @see #nextUpperTriangularBigDecimalMatrix
+     * @since 1
+     */
+    public TriangularBigDecimalMatrix nextPackedUpperTriangularBigDecimalMatrix(final long bound, final int scale,
+        final int size) {
+        checkArgument(bound > 0, "expected bound > 0 but actual %s", bound);
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        return TriangularBigDecimalMatrix.upperFromFunction(size,
+            (rowIndex, columnIndex) -> nextBigDecimal(bound, scale));
+    }
+
+    /**
+     * Returns a lower triangular {@link TriangularBigDecimalMatrix}
+     *
+     * @param bound
+     *            bound
+     * @param scale
+     *            scale
+     * @param size
+     *            row and column size of resulting {@link TriangularBigDecimalMatrix}
+     * @return pseudo random lower triangular {@link TriangularBigDecimalMatrix}
+     * @throws IllegalArgumentException
+     *             if {@code bound < 1}
+     * @throws IllegalArgumentException
+     *             if {@code scale < 0}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @see #nextLowerTriangularBigDecimalMatrix
+     * @since 1
+     */
+    public TriangularBigDecimalMatrix nextPackedLowerTriangularBigDecimalMatrix(final long bound, final int scale,
+        final int size) {
+        checkArgument(bound > 0, "expected bound > 0 but actual %s", bound);
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        return TriangularBigDecimalMatrix.lowerFromFunction(size,
+            (rowIndex, columnIndex) -> nextBigDecimal(bound, scale));
+    }
+
+    /**
+     * Returns a diagonal {@link DiagonalBigDecimalMatrix}
+     *
+     * @param bound
+     *            bound
+     * @param scale
+     *            scale
+     * @param size
+     *            row and column size of resulting {@link DiagonalBigDecimalMatrix}
+     * @return pseudo random diagonal {@link DiagonalBigDecimalMatrix}
+     * @throws IllegalArgumentException
+     *             if {@code bound < 1}
+     * @throws IllegalArgumentException
+     *             if {@code scale < 0}
+     * @throws IllegalArgumentException
+     *             if {@code size < 1}
+     * @see #nextDiagonalBigDecimalMatrix
+     * @since 1
+     */
+    public DiagonalBigDecimalMatrix nextPackedDiagonalBigDecimalMatrix(final long bound, final int scale,
+        final int size) {
+        checkArgument(bound > 0, "expected bound > 0 but actual %s", bound);
+        checkArgument(size > 0, "expected size > 0 but actual %s", size);
+        return DiagonalBigDecimalMatrix.of(nextBigDecimals(bound, scale, size).toArray(new BigDecimal[size]));
+    }
+
     /**
      * Returns a {@link List} of size of {@code howMany} containing
      * {@link BigDecimalMatrix BigDecimalMatrices}
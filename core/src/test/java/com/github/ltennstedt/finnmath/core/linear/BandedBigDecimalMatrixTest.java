@@ -0,0 +1,281 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.Test;
+
+public final class BandedBigDecimalMatrixTest {
+    private final int size = 8;
+    private final long bound = 10;
+    private final int scale = 2;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final BigDecimalMatrix denseMatrix =
+        BigDecimalMatrix.fromFunction(size, size, (rowIndex, columnIndex) -> -2 <= columnIndex - rowIndex
+            && columnIndex - rowIndex <= 1 ? mathRandom.nextBigDecimal(bound, scale) : BigDecimal.ZERO);
+    private final BandedBigDecimalMatrix matrix = BandedBigDecimalMatrix.of(denseMatrix, 2, 1);
+    private final List<BigDecimalVector> vectors = mathRandom.nextBigDecimalVectors(bound, scale, size, 10);
+
+    @Test
+    public void fromFunctionSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.fromFunction(0, 0, 0, denseMatrix::element))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void fromFunctionLowerBandwidthTooHighShouldThrowException() {
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.fromFunction(size, size, 0, denseMatrix::element))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected lowerBandwidth in [0, %s] but actual %s", size - 1, size);
+    }
+
+    @Test
+    public void fromFunctionUpperBandwidthTooLowShouldThrowException() {
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.fromFunction(size, 0, -1, denseMatrix::element))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected upperBandwidth in [0, %s] but actual -1", size - 1);
+    }
+
+    @Test
+    public void fromFunctionNullShouldThrowException() {
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.fromFunction(size, 1, 1, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("generator");
+    }
+
+    @Test
+    public void fromFunctionShouldOnlyCallGeneratorInsideTheBand() {
+        final BandedBigDecimalMatrix banded =
+            BandedBigDecimalMatrix.fromFunction(size, 2, 1, (rowIndex, columnIndex) -> {
+                assertThat(columnIndex - rowIndex).isBetween(-2, 1);
+                return denseMatrix.element(rowIndex, columnIndex);
+            });
+        assertThat(banded).isEqualTo(matrix);
+    }
+
+    @Test
+    public void ofNullShouldThrowException() {
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.of(null, 1, 1)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("matrix");
+    }
+
+    @Test
+    public void ofNotSquareShouldThrowException() {
+        final BigDecimalMatrix rectangular = mathRandom.nextBigDecimalMatrix(bound, scale, size, size + 1);
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.of(rectangular, 1, 1))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected square matrix but actual %sx%s", size, size + 1);
+    }
+
+    @Test
+    public void ofOutsideOfTheBandShouldThrowException() {
+        final BigDecimalMatrix ones =
+            BigDecimalMatrix.fromFunction(size, size, (rowIndex, columnIndex) -> BigDecimal.ONE);
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.of(ones, 0, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected zero outside of the band but actual 1 at (1, 2)");
+    }
+
+    @Test
+    public void ofShouldSucceed() {
+        assertThat(matrix.size()).isEqualTo(size);
+        assertThat(matrix.lowerBandwidth()).isEqualTo(2);
+        assertThat(matrix.upperBandwidth()).isEqualTo(1);
+        assertThat(matrix.tridiagonal()).isFalse();
+        assertThat(matrix.toBigDecimalMatrix()).isEqualTo(denseMatrix);
+        assertThat(matrix.element(1, size)).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    public void elementIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> matrix.element(size + 1, 1)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected rowIndex in [1, %s] but actual %s", size, size + 1);
+        assertThatThrownBy(() -> matrix.element(1, 0)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnIndex in [1, %s] but actual 0", size);
+    }
+
+    @Test
+    public void tridiagonalNullShouldThrowException() {
+        final BigDecimal[] diagonal = {BigDecimal.ONE, BigDecimal.ONE};
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.tridiagonal(null, diagonal, diagonal))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("lower");
+    }
+
+    @Test
+    public void tridiagonalWrongLengthShouldThrowException() {
+        final BigDecimal[] diagonal = {BigDecimal.ONE, BigDecimal.ONE};
+        assertThatThrownBy(() -> BandedBigDecimalMatrix.tridiagonal(diagonal, diagonal, diagonal))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected lower.length == 1 but actual 2");
+    }
+
+    @Test
+    public void tridiagonalShouldSucceed() {
+        final BandedBigDecimalMatrix tridiagonal = BandedBigDecimalMatrix.tridiagonal(
+            new BigDecimal[] {BigDecimal.ONE, BigDecimal.valueOf(2L)},
+            new BigDecimal[] {BigDecimal.valueOf(3L), BigDecimal.valueOf(4L), BigDecimal.valueOf(5L)},
+            new BigDecimal[] {BigDecimal.valueOf(6L), BigDecimal.valueOf(7L)});
+        final BigDecimalMatrix expected = BigDecimalMatrix.builder(3, 3).put(1, 1, BigDecimal.valueOf(3L))
+            .put(1, 2, BigDecimal.valueOf(6L)).put(1, 3, BigDecimal.ZERO).put(2, 1, BigDecimal.ONE)
+            .put(2, 2, BigDecimal.valueOf(4L)).put(2, 3, BigDecimal.valueOf(7L)).put(3, 1, BigDecimal.ZERO)
+            .put(3, 2, BigDecimal.valueOf(2L)).put(3, 3, BigDecimal.valueOf(5L)).build();
+        assertThat(tridiagonal.tridiagonal()).isTrue();
+        assertThat(tridiagonal.toBigDecimalMatrix()).isEqualTo(expected);
+    }
+
+    @Test
+    public void addNullShouldThrowException() {
+        assertThatThrownBy(() -> matrix.add(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("summand");
+    }
+
+    @Test
+    public void addSizesNotEqualShouldThrowException() {
+        final BandedBigDecimalMatrix other = BandedBigDecimalMatrix.fromFunction(size + 1, 0, 0,
+            (rowIndex, columnIndex) -> BigDecimal.ONE);
+        assertThatThrownBy(() -> matrix.add(other)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual %s != %s", size, size + 1);
+    }
+
+    @Test
+    public void addShouldSucceed() {
+        final BandedBigDecimalMatrix other = BandedBigDecimalMatrix.fromFunction(size, 1, 3,
+            (rowIndex, columnIndex) -> mathRandom.nextBigDecimal(bound, scale));
+        final BandedBigDecimalMatrix sum = matrix.add(other);
+        assertThat(sum.lowerBandwidth()).isEqualTo(2);
+        assertThat(sum.upperBandwidth()).isEqualTo(3);
+        assertThat(sum.toBigDecimalMatrix()).isEqualTo(denseMatrix.add(other.toBigDecimalMatrix()));
+    }
+
+    @Test
+    public void multiplyVectorNullShouldThrowException() {
+        assertThatThrownBy(() -> matrix.multiplyVector(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("vector");
+    }
+
+    @Test
+    public void multiplyVectorSizesNotEqualShouldThrowException() {
+        final BigDecimalVector vector = mathRandom.nextBigDecimalVector(bound, scale, size + 1);
+        assertThatThrownBy(() -> matrix.multiplyVector(vector)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnSize == vectorSize but actual %s != %s", size, size + 1);
+    }
+
+    @Test
+    public void multiplyVectorShouldBeEqualToDenseProduct() {
+        vectors.forEach(vector -> {
+            final BigDecimalVector product = matrix.multiplyVector(vector);
+            final BigDecimalVector expected = denseMatrix.multiplyVector(vector);
+            for (int index = 1; index <= size; index++) {
+                assertThat(product.element(index)).isEqualByComparingTo(expected.element(index));
+            }
+        });
+    }
+
+    @Test
+    public void determinantShouldBeEqualToDenseDeterminant() {
+        for (int lowerBandwidth = 0; lowerBandwidth < 4; lowerBandwidth++) {
+            for (int upperBandwidth = 0; upperBandwidth < 4; upperBandwidth++) {
+                for (int run = 0; run < 5; run++) {
+                    final BandedBigDecimalMatrix banded = BandedBigDecimalMatrix.fromFunction(size, lowerBandwidth,
+                        upperBandwidth, (rowIndex, columnIndex) -> mathRandom.nextBigDecimal(bound, scale));
+                    assertThat(banded.determinant()).isEqualByComparingTo(
+                        banded.toBigDecimalMatrix().determinant(BigDecimalMatrix.DETERMINANT_THRESHOLDS));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void determinantWithZeroPivotsShouldBeEqualToDenseDeterminant() {
+        for (int lowerBandwidth = 1; lowerBandwidth < 4; lowerBandwidth++) {
+            for (int upperBandwidth = 1; upperBandwidth < 4; upperBandwidth++) {
+                for (int run = 0; run < 10; run++) {
+                    final BandedBigDecimalMatrix banded = BandedBigDecimalMatrix.fromFunction(size, lowerBandwidth,
+                        upperBandwidth, (rowIndex, columnIndex) -> mathRandom.nextBigDecimal(2, 0));
+                    assertThat(banded.determinant()).isEqualByComparingTo(
+                        banded.toBigDecimalMatrix().determinant(BigDecimalMatrix.DETERMINANT_THRESHOLDS));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void determinantOfSizeOneShouldSucceed() {
+        final BandedBigDecimalMatrix banded =
+            BandedBigDecimalMatrix.fromFunction(1, 0, 0, (rowIndex, columnIndex) -> BigDecimal.TEN);
+        assertThat(banded.determinant()).isEqualTo(BigDecimal.TEN);
+    }
+
+    @Test
+    public void solveNullShouldThrowException() {
+        final BandedBigDecimalMatrix tridiagonal = diagonallyDominantTridiagonal();
+        assertThatThrownBy(() -> tridiagonal.solve(null, MathContext.DECIMAL64))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vector");
+        assertThatThrownBy(() -> tridiagonal.solve(vectors.get(0), null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("mathContext");
+    }
+
+    @Test
+    public void solveNotTridiagonalShouldThrowException() {
+        assertThatThrownBy(() -> matrix.solve(vectors.get(0), MathContext.DECIMAL64))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected tridiagonal matrix but actual bandwidths 2 and 1");
+    }
+
+    @Test
+    public void solveZeroPivotShouldThrowException() {
+        final BandedBigDecimalMatrix singular =
+            BandedBigDecimalMatrix.fromFunction(size, 1, 1, (rowIndex, columnIndex) -> BigDecimal.ONE);
+        assertThatThrownBy(() -> singular.solve(vectors.get(0), MathContext.DECIMAL64))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected non-zero pivot in row 2 but actual 0");
+    }
+
+    @Test
+    public void solveShouldSucceed() {
+        final BandedBigDecimalMatrix tridiagonal = diagonallyDominantTridiagonal();
+        final BigDecimal tolerance = new BigDecimal("1E-20");
+        vectors.forEach(vector -> {
+            final BigDecimalVector solution = tridiagonal.solve(vector, MathContext.DECIMAL128);
+            assertThat(tridiagonal.multiplyVector(solution).subtract(vector).maxNorm()).isLessThan(tolerance);
+        });
+    }
+
+    @Test
+    public void transposeShouldSucceed() {
+        assertThat(matrix.transpose().toBigDecimalMatrix()).isEqualTo(denseMatrix.transpose());
+        assertThat(matrix.transpose().transpose()).isEqualTo(matrix);
+    }
+
+    @Test
+    public void equalsAndHashCodeShouldSucceed() {
+        final BandedBigDecimalMatrix other = BandedBigDecimalMatrix.of(denseMatrix, 2, 1);
+        assertThat(matrix).isEqualTo(other);
+        assertThat(matrix.hashCode()).isEqualTo(other.hashCode());
+        assertThat(matrix).isNotEqualTo(BandedBigDecimalMatrix.of(denseMatrix, 2, 2));
+        assertThat(matrix.toString()).startsWith("BandedBigDecimalMatrix{size=8, lowerBandwidth=2");
+    }
+
+    private BandedBigDecimalMatrix diagonallyDominantTridiagonal() {
+        return BandedBigDecimalMatrix.fromFunction(size, 1, 1, (rowIndex, columnIndex) -> rowIndex == columnIndex
+            ? BigDecimal.valueOf(2L * bound + 1L) : mathRandom.nextBigDecimal(bound, scale));
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.github.ltennstedt.finnmath.core.linear;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import org.junit.Test;
 
 public final class BigDecimalMatrixBuilderTest {
@@ -26,4 +28,32 @@ public final class BigDecimalMatrixBuilderTest {
         assertThatThrownBy(() -> BigDecimalMatrix.builder(4, 5).build()).isExactlyInstanceOf(NullPointerException.class)
             .hasMessage("cell.value");
     }
+
+    @Test
+    public void buildShouldSucceed() {
+        final BigDecimalMatrix matrix = BigDecimalMatrix.builder(2, 2).put(1, 1, BigDecimal.ONE)
+            .put(2, 2, BigDecimal.TEN).nullsToElement(BigDecimal.ZERO).build();
+        assertThat(matrix.element(1, 1)).isEqualTo(BigDecimal.ONE);
+        assertThat(matrix.element(1, 2)).isEqualTo(BigDecimal.ZERO);
+        assertThat(matrix.element(2, 1)).isEqualTo(BigDecimal.ZERO);
+        assertThat(matrix.element(2, 2)).isEqualTo(BigDecimal.TEN);
+        assertThat(matrix.rowIndexes()).containsExactly(1, 2);
+        assertThat(matrix.columnIndexes()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void putAfterBuildShouldThrowException() {
+        final BigDecimalMatrix.BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(1, 1).putAll(BigDecimal.ONE);
+        builder.build();
+        assertThatThrownBy(() -> builder.put(1, 1, BigDecimal.ZERO)).isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected builder not built but actual built");
+    }
+
+    @Test
+    public void buildTwiceShouldThrowException() {
+        final BigDecimalMatrix.BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(1, 1).putAll(BigDecimal.ONE);
+        builder.build();
+        assertThatThrownBy(builder::build).isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected builder not built but actual built");
+    }
 }
@@ -22,8 +22,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix.BigDecimalMatrixBuilder;
 import com.github.ltennstedt.finnmath.core.util.MathRandom;
 import com.google.common.collect.Collections2;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -151,6 +153,43 @@ public final class BigDecimalMatrixTest {
 
     }
 
+    @Test
+    public void multiplyCommonScaleShouldBeEqualToExactProduct() {
+        final List<BigDecimalMatrix> others = mathRandom.nextBigDecimalMatrices(bound, scale, columnSize, 3, howMany);
+        matrices.forEach(matrix -> others.forEach(
+            other -> assertThat(matrix.multiply(other)).isEqualTo(exactProduct(matrix, other))));
+    }
+
+    @Test
+    public void multiplyIntegerMatricesShouldBeEqualToExactProduct() {
+        final List<BigDecimalMatrix> integerMatrices = mathRandom.nextBigDecimalMatrices(bound, 0, 3, 3, howMany);
+        integerMatrices.forEach(matrix -> integerMatrices.forEach(other -> {
+            final BigDecimalMatrix product = matrix.multiply(other);
+            assertThat(product).isEqualTo(exactProduct(matrix, other));
+            product.cells().forEach(cell -> assertThat(cell.getValue().scale()).isZero());
+        }));
+    }
+
+    @Test
+    public void multiplyLargeElementsShouldBeEqualToExactProduct() {
+        final BigDecimal factor = BigDecimal.TEN.pow(20);
+        squareMatrices.forEach(matrix -> {
+            final BigDecimalMatrix large = BigDecimalMatrix.fromFunction(size, size,
+                (rowIndex, columnIndex) -> matrix.element(rowIndex, columnIndex).multiply(factor));
+            assertThat(large.multiply(large)).isEqualTo(exactProduct(large, large));
+        });
+    }
+
+    @Test
+    public void multiplyMixedScalesShouldBeEqualToExactProduct() {
+        squareMatrices.forEach(matrix -> {
+            final BigDecimalMatrix mixed = BigDecimalMatrix.fromFunction(size, size, (rowIndex,
+                columnIndex) -> matrix.element(rowIndex, columnIndex).setScale(scale + rowIndex + columnIndex));
+            assertThat(mixed.multiply(matrix)).isEqualTo(exactProduct(mixed, matrix));
+            assertThat(matrix.multiply(mixed)).isEqualTo(exactProduct(matrix, mixed));
+        });
+    }
+
     @Test
     public void muliplyZeroMatrixShouldBeEqualToZeroMatrix() {
         matrices.forEach(matrix -> matrix.multiply(zeroMatrixForMultiplication).cells()
@@ -163,6 +202,61 @@ public final class BigDecimalMatrixTest {
             .isExactlyInstanceOf(NullPointerException.class).hasMessage("vector");
     }
 
+    @Test
+    public void multiplyVectorWithMathContextShouldRoundOnce() {
+        final BigDecimalMatrix matrix = BigDecimalMatrix.builder(2, 3).put(1, 1, BigDecimal.valueOf(1000))
+            .put(1, 2, BigDecimal.valueOf(0.4)).put(1, 3, BigDecimal.valueOf(0.4)).put(2, 1, BigDecimal.ONE)
+            .put(2, 2, BigDecimal.ONE).put(2, 3, BigDecimal.ONE).build();
+        final BigDecimalVector ones = BigDecimalVector.builder(3).putAll(BigDecimal.ONE).build();
+        final MathContext mathContext = new MathContext(4);
+        final BigDecimalVector actual = matrix.multiplyVector(ones, mathContext);
+        assertThat(actual.element(1)).isEqualTo(new BigDecimal("1001"));
+        assertThat(actual.element(2)).isEqualTo(new BigDecimal("3"));
+        assertThat(matrix.multiply(BigDecimalMatrix.builder(3, 1).putAll(BigDecimal.ONE).build(), mathContext)
+            .element(1, 1)).isEqualTo(new BigDecimal("1001"));
+    }
+
+    @Test
+    public void multiplyVectorParallelShouldBeEqualToMultiplyVector() {
+        final int rows = AbstractMatrix.PARALLEL_ROW_THRESHOLD + 1;
+        final BigDecimalMatrix matrix = mathRandom.nextBigDecimalMatrix(bound, scale, rows, columnSize);
+        final BigDecimalVector vector = mathRandom.nextBigDecimalVector(bound, scale, columnSize);
+        assertThat(matrix.multiplyVectorParallel(vector)).isEqualTo(matrix.multiplyVector(vector));
+        final MathContext mathContext = new MathContext(4);
+        assertThat(matrix.multiplyVectorParallel(vector, mathContext))
+            .isEqualTo(matrix.multiplyVector(vector, mathContext));
+    }
+
+    @Test
+    public void multiplyVectorParallelColumnSizeNotEqualToVectorSizeShouldThrowException() {
+        assertThatThrownBy(() -> Matrices.buildZeroBigDecimalMatrix(5, 5)
+            .multiplyVectorParallel(Vectors.buildZeroBigDecimalVector(4)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected columnSize == vectorSize but actual 5 != 4");
+    }
+
+    @Test
+    public void multiplyVectorsShouldBeEqualToMultiplyVector() {
+        final BigDecimalMatrix matrix = mathRandom.nextBigDecimalMatrix(bound, scale, rowSize, columnSize);
+        final List<BigDecimalVector> vectors =
+            mathRandom.nextBigDecimalVectors(bound, scale, columnSize, 2 * AbstractMatrix.VECTOR_BLOCK_SIZE + 1);
+        final List<BigDecimalVector> expected =
+            vectors.stream().map(matrix::multiplyVector).collect(Collectors.toList());
+        assertThat(matrix.multiplyVectors(vectors)).isEqualTo(expected);
+        assertThat(matrix.multiplyVectorsParallel(vectors)).isEqualTo(expected);
+        final MathContext mathContext = new MathContext(4);
+        final List<BigDecimalVector> expectedRounded = vectors.stream()
+            .map(vector -> matrix.multiplyVector(vector, mathContext)).collect(Collectors.toList());
+        assertThat(matrix.multiplyVectors(vectors, mathContext)).isEqualTo(expectedRounded);
+        assertThat(matrix.multiplyVectorsParallel(vectors, mathContext)).isEqualTo(expectedRounded);
+    }
+
+    @Test
+    public void multiplyVectorsNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroMatrixForAddition.multiplyVectors(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vectors");
+    }
+
     @Test
     public void multiplyVectorColumnSizeNotEqualToVectorSizeShouldThrowException() {
         assertThatThrownBy(() -> {
@@ -348,6 +442,98 @@ public final class BigDecimalMatrixTest {
         });
     }
 
+    @Test
+    public void determinantStrategyNotSupportingSizeShouldThrowException() {
+        assertThatThrownBy(() -> fourByFourMatrices.get(0).determinant(DeterminantStrategy.RULE_OF_SARRUS))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected strategy supporting size 4 but actual RULE_OF_SARRUS");
+    }
+
+    @Test
+    public void determinantCommonScaleShouldBeEqualToLeibniz() {
+        fourByFourMatrices.forEach(matrix -> {
+            final BigDecimal determinant = matrix.determinant();
+            assertThat(determinant).isEqualTo(matrix.determinant(DeterminantStrategy.LEIBNIZ));
+            assertThat(determinant.scale()).isEqualTo(4 * scale);
+        });
+    }
+
+    @Test
+    public void determinantLargeElementsShouldBeEqualToBareiss() {
+        final BigDecimal factor = BigDecimal.TEN.pow(12);
+        mathRandom.nextBigDecimalMatrices(bound, 0, 5, 5, howMany).forEach(matrix -> {
+            final BigDecimalMatrix large = BigDecimalMatrix.fromFunction(5, 5,
+                (rowIndex, columnIndex) -> matrix.element(rowIndex, columnIndex).multiply(factor).add(BigDecimal.ONE));
+            final BigDecimal determinant = large.determinant();
+            assertThat(determinant).isEqualByComparingTo(large.determinant(DeterminantStrategy.BAREISS));
+            assertThat(determinant.scale()).isZero();
+        });
+    }
+
+    @Test
+    public void determinantMixedScalesShouldBeEqualToLeibniz() {
+        fourByFourMatrices.forEach(matrix -> {
+            final BigDecimalMatrix mixed = BigDecimalMatrix.fromFunction(4, 4,
+                (rowIndex, columnIndex) -> matrix.element(rowIndex, columnIndex).setScale(scale + rowIndex));
+            assertThat(mixed.determinant()).isEqualTo(mixed.determinant(DeterminantStrategy.LEIBNIZ));
+        });
+    }
+
+    @Test
+    public void determinantCommonScaleWithZeroRowShouldBeEqualToZero() {
+        fourByFourMatrices.forEach(matrix -> {
+            final BigDecimal zero = BigDecimal.ZERO.setScale(scale);
+            final BigDecimalMatrix singular = BigDecimalMatrix.fromFunction(4, 4,
+                (rowIndex, columnIndex) -> rowIndex == 2 ? zero : matrix.element(rowIndex, columnIndex));
+            assertThat(singular.determinant()).isEqualByComparingTo(BigDecimal.ZERO);
+        });
+    }
+
+    @Test
+    public void determinantModularShouldThrowException() {
+        assertThatThrownBy(() -> fourByFourMatrices.get(0).determinant(DeterminantStrategy.MODULAR))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected strategy supporting the elements but actual MODULAR");
+    }
+
+    @Test
+    public void supportsDeterminantStrategyShouldSucceed() {
+        assertThat(identityMatrix.supportsDeterminantStrategy(DeterminantStrategy.MODULAR)).isFalse();
+        assertThat(identityMatrix.supportsDeterminantStrategy(DeterminantStrategy.BAREISS)).isTrue();
+    }
+
+    @Test
+    public void determinantStrategiesShouldBeEqualToDeterminant() {
+        fourByFourMatrices.forEach(matrix -> {
+            final BigDecimal expected = matrix.determinant();
+            assertThat(matrix.determinant(DeterminantStrategy.LEIBNIZ)).isEqualByComparingTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.LAPLACE)).isEqualByComparingTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.BAREISS)).isEqualByComparingTo(expected);
+        });
+        threeByThreeMatrices.forEach(matrix -> {
+            final BigDecimal expected = matrix.determinant();
+            assertThat(matrix.determinant(DeterminantStrategy.RULE_OF_SARRUS)).isEqualByComparingTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.LAPLACE)).isEqualByComparingTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.BAREISS)).isEqualByComparingTo(expected);
+        });
+    }
+
+    @Test
+    public void determinantWithThresholdsShouldBeEqualToDeterminant() {
+        final DeterminantThresholds thresholds =
+            DeterminantThresholds.builder().put(1, DeterminantStrategy.BAREISS).build();
+        fourByFourMatrices.forEach(
+            matrix -> assertThat(matrix.determinant(thresholds)).isEqualByComparingTo(matrix.determinant()));
+    }
+
+    @Test
+    public void determinantWithMathContextShouldRoundExactDeterminant() {
+        final MathContext mathContext = new MathContext(20);
+        final BigDecimalMatrix matrix = mathRandom.nextBigDecimalMatrix(bound, scale, 12, 12);
+        assertThat(matrix.determinant(mathContext))
+            .isEqualTo(matrix.determinant(DeterminantStrategy.BAREISS).round(mathContext));
+    }
+
     @Test
     public void minorRowIndexNullShouldThrowException() {
         assertThatThrownBy(() -> zeroMatrixForAddition.minor(null, 1)).isExactlyInstanceOf(NullPointerException.class)
@@ -905,4 +1091,131 @@ public final class BigDecimalMatrixTest {
         assertThatThrownBy(() -> BigDecimalMatrix.builder(1, 0)).isExactlyInstanceOf(IllegalArgumentException.class)
             .hasMessage("expected columnSize > 0 but actual 0");
     }
+
+    @Test
+    public void ofShouldBeEqualToMatrix() {
+        matrices.forEach(matrix -> {
+            final BigDecimal[][] elements = new BigDecimal[matrix.rowSize()][matrix.columnSize()];
+            matrix.cells().forEach(cell -> elements[cell.getRowKey() - 1][cell.getColumnKey() - 1] = cell.getValue());
+            assertThat(BigDecimalMatrix.of(elements)).isEqualTo(matrix);
+        });
+    }
+
+    @Test
+    public void ofNotRectangularShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalMatrix
+            .of(new BigDecimal[][] {{BigDecimal.ONE, BigDecimal.ZERO}, {BigDecimal.ONE}}))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected equal row sizes but actual 2 != 1");
+    }
+
+    @Test
+    public void fromFunctionShouldBeEqualToMatrix() {
+        matrices.forEach(matrix -> {
+            final MatrixElementGenerator<BigDecimal> generator = matrix::element;
+            assertThat(BigDecimalMatrix.fromFunction(matrix.rowSize(), matrix.columnSize(), generator))
+                .isEqualTo(matrix);
+            assertThat(BigDecimalMatrix.fromFunctionParallel(matrix.rowSize(), matrix.columnSize(), generator))
+                .isEqualTo(matrix);
+        });
+    }
+
+    @Test
+    public void fromFunctionNullShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalMatrix.fromFunction(1, 1, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("generator");
+    }
+
+    @Test
+    public void fromFunctionRowSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalMatrix.fromFunction(0, 1, (rowIndex, columnIndex) -> BigDecimal.ZERO))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected rowSize > 0 but actual 0");
+    }
+
+    @Test
+    public void fromFunctionNullElementShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalMatrix.fromFunction(1, 1, (rowIndex, columnIndex) -> null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("element");
+    }
+
+    @Test
+    public void fromRowStreamShouldBeEqualToMatrix() {
+        matrices.forEach(matrix -> assertThat(BigDecimalMatrix.fromRowStream(matrix.rows().values().stream()
+            .map(row -> (List<BigDecimal>) ImmutableList.copyOf(row.values())))).isEqualTo(matrix));
+    }
+
+    @Test
+    public void addSharedZeroMatrixShouldReturnSameMatrix() {
+        final BigDecimalMatrix zeroMatrix = Matrices.buildZeroBigDecimalMatrix(rowSize, columnSize);
+        matrices.forEach(matrix -> {
+            assertThat(matrix.add(zeroMatrix)).isSameAs(matrix);
+            assertThat(zeroMatrix.add(matrix)).isSameAs(matrix);
+            assertThat(matrix.subtract(zeroMatrix)).isSameAs(matrix);
+        });
+    }
+
+    @Test
+    public void multiplySharedIdentityMatrixShouldReturnSameMatrix() {
+        squareMatrices.forEach(matrix -> {
+            assertThat(matrix.multiply(identityMatrix)).isSameAs(matrix);
+            assertThat(identityMatrix.multiply(matrix)).isSameAs(matrix);
+        });
+        assertThat(identityMatrix.identity()).isTrue();
+    }
+
+    @Test
+    public void multiplySharedZeroMatrixShouldBeEqualToFullProduct() {
+        final BigDecimalMatrix zeroMatrix = Matrices.buildZeroBigDecimalMatrix(columnSize, rowSize);
+        matrices.forEach(matrix -> {
+            assertThat(matrix.multiply(zeroMatrix)).isEqualTo(exactProduct(matrix, zeroMatrixForMultiplication));
+            assertThat(zeroMatrix.multiply(matrix)).isEqualTo(exactProduct(zeroMatrixForMultiplication, matrix));
+        });
+    }
+
+    @Test
+    public void sharedSpecialFormsShouldKeepScalesOfFullComputation() {
+        final BigDecimalMatrix matrix = BigDecimalMatrix.builder(2, 3).put(1, 1, new BigDecimal("1.5"))
+            .put(1, 2, BigDecimal.valueOf(2L)).put(1, 3, new BigDecimal("3E+2")).put(2, 1, new BigDecimal("0.25"))
+            .put(2, 2, new BigDecimal("-4E+1")).put(2, 3, BigDecimal.valueOf(6L)).build();
+        final BigDecimalMatrix leftIdentity = BigDecimalMatrix.builder(2, 2).put(1, 1, BigDecimal.ONE)
+            .put(2, 2, BigDecimal.ONE).nullsToElement(BigDecimal.ZERO).build();
+        final BigDecimalMatrix rightIdentity = BigDecimalMatrix.builder(3, 3).put(1, 1, BigDecimal.ONE)
+            .put(2, 2, BigDecimal.ONE).put(3, 3, BigDecimal.ONE).nullsToElement(BigDecimal.ZERO).build();
+        final BigDecimalMatrix zero = BigDecimalMatrix.builder(2, 3).putAll(BigDecimal.ZERO).build();
+        final BigDecimalMatrix zeroFactor = BigDecimalMatrix.builder(3, 2).putAll(BigDecimal.ZERO).build();
+        final BigDecimalVector vector = BigDecimalVector.builder(3).put(new BigDecimal("1.5"))
+            .put(new BigDecimal("3E+2")).put(BigDecimal.valueOf(2L)).build();
+        final BigDecimalMatrix sharedZero = Matrices.buildZeroBigDecimalMatrix(2, 3);
+        assertThat(matrix.multiply(Matrices.buildIdentityBigDecimalMatrix(3)))
+            .isEqualTo(matrix.multiply(rightIdentity));
+        assertThat(Matrices.buildIdentityBigDecimalMatrix(2).multiply(matrix))
+            .isEqualTo(leftIdentity.multiply(matrix));
+        assertThat(matrix.multiply(Matrices.buildZeroBigDecimalMatrix(3, 2))).isEqualTo(matrix.multiply(zeroFactor));
+        assertThat(Matrices.buildZeroBigDecimalMatrix(3, 2).multiply(matrix)).isEqualTo(zeroFactor.multiply(matrix));
+        assertThat(matrix.add(sharedZero)).isEqualTo(matrix.add(zero));
+        assertThat(sharedZero.add(matrix)).isEqualTo(zero.add(matrix));
+        assertThat(matrix.subtract(sharedZero)).isEqualTo(matrix.subtract(zero));
+        assertThat(Matrices.buildIdentityBigDecimalMatrix(3).multiplyVector(vector))
+            .isEqualTo(rightIdentity.multiplyVector(vector));
+        assertThat(Matrices.buildZeroBigDecimalMatrix(2, 3).multiplyVector(vector))
+            .isEqualTo(zero.multiplyVector(vector));
+        assertThat(matrix.multiplyVectorParallel(Vectors.buildZeroBigDecimalVector(3)))
+            .isEqualTo(matrix.multiplyVectorParallel(BigDecimalVector.builder(3).putAll(BigDecimal.ZERO).build()));
+    }
+
+    @Test
+    public void multiplyVectorSharedIdentityMatrixShouldReturnSameVector() {
+        mathRandom.nextBigDecimalVectors(bound, scale, size, howMany).forEach(vector -> {
+            assertThat(identityMatrix.multiplyVector(vector)).isSameAs(vector);
+            assertThat(identityMatrix.multiplyVectorParallel(vector)).isSameAs(vector);
+        });
+    }
+
+    private static BigDecimalMatrix exactProduct(final BigDecimalMatrix matrix, final BigDecimalMatrix other) {
+        final BigDecimalMatrixBuilder builder = BigDecimalMatrix.builder(matrix.rowSize(), other.columnSize());
+        matrix.rows().forEach((rowIndex, row) -> other.columns().forEach((columnIndex, column) -> builder
+            .put(rowIndex, columnIndex, row.entrySet().stream()
+                .map(entry -> entry.getValue().multiply(column.get(entry.getKey()))).reduce(BigDecimal::add).get())));
+        return builder.build();
+    }
 }
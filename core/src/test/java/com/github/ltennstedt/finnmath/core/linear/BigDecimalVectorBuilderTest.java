@@ -16,8 +16,10 @@
 
 package com.github.ltennstedt.finnmath.core.linear;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import org.junit.Test;
 
 public final class BigDecimalVectorBuilderTest {
@@ -26,4 +28,33 @@ public final class BigDecimalVectorBuilderTest {
         assertThatThrownBy(() -> BigDecimalVector.builder(4).build()).isExactlyInstanceOf(NullPointerException.class)
             .hasMessage("map.value");
     }
+
+    @Test
+    public void buildMissingIndexShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalVector.builder(2).put(2, BigDecimal.ONE).build())
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("map.value");
+    }
+
+    @Test
+    public void buildShouldOrderElementsByIndex() {
+        final BigDecimalVector vector =
+            BigDecimalVector.builder(3).put(3, BigDecimal.ONE).put(1, BigDecimal.ZERO).put(2, BigDecimal.TEN).build();
+        assertThat(vector.elements()).containsExactly(BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.ONE);
+    }
+
+    @Test
+    public void putAfterBuildShouldThrowException() {
+        final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(1).put(BigDecimal.ONE);
+        builder.build();
+        assertThatThrownBy(() -> builder.put(1, BigDecimal.ZERO)).isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected builder not built but actual built");
+    }
+
+    @Test
+    public void buildTwiceShouldThrowException() {
+        final BigDecimalVector.BigDecimalVectorBuilder builder = BigDecimalVector.builder(1).put(BigDecimal.ONE);
+        builder.build();
+        assertThatThrownBy(builder::build).isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected builder not built but actual built");
+    }
 }
@@ -18,10 +18,12 @@ package com.github.ltennstedt.finnmath.core.linear;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector.BigDecimalVectorBuilder;
 import com.github.ltennstedt.finnmath.core.util.MathRandom;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -270,6 +272,16 @@ public final class BigDecimalVectorTest {
                 .hasMessage("expected equal sizes but actual %s != %s", size, differentSize);
     }
 
+    @Test
+    public void dotProductWithMathContextShouldRoundOnce() {
+        final BigDecimalVector vector = BigDecimalVector.builder(3).put(BigDecimal.valueOf(1000))
+            .put(BigDecimal.valueOf(0.4)).put(BigDecimal.valueOf(0.4)).build();
+        final BigDecimalVector ones = BigDecimalVector.builder(3).putAll(BigDecimal.ONE).build();
+        final MathContext mathContext = new MathContext(4);
+        assertThat(vector.dotProduct(ones, mathContext)).isEqualTo(new BigDecimal("1001"));
+        assertThat(vector.dotProduct(ones, mathContext)).isEqualTo(vector.dotProduct(ones).round(mathContext));
+    }
+
     @Test
     public void dotProductShouldSucceed() {
         vectors.forEach(vector -> others.forEach(other -> {
@@ -348,4 +360,177 @@ public final class BigDecimalVectorTest {
         assertThatThrownBy(() -> BigDecimalVector.builder(0)).isExactlyInstanceOf(IllegalArgumentException.class)
             .hasMessage("expected size > 0 but actual 0");
     }
+
+    @Test
+    public void ofShouldBeEqualToVector() {
+        vectors.forEach(vector -> assertThat(BigDecimalVector.of(vector.elements().toArray(new BigDecimal[0])))
+            .isEqualTo(vector));
+    }
+
+    @Test
+    public void ofEmptyShouldThrowException() {
+        assertThatThrownBy(BigDecimalVector::of).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void fromFunctionShouldBeEqualToVector() {
+        vectors.forEach(vector -> {
+            assertThat(BigDecimalVector.fromFunction(vector.size(), vector::element)).isEqualTo(vector);
+            assertThat(BigDecimalVector.fromFunctionParallel(vector.size(), vector::element)).isEqualTo(vector);
+        });
+    }
+
+    @Test
+    public void fromFunctionNullShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalVector.fromFunction(1, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("generator");
+    }
+
+    @Test
+    public void fromFunctionSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> BigDecimalVector.fromFunction(0, index -> BigDecimal.ZERO))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void fromStreamShouldBeEqualToVector() {
+        vectors.forEach(vector -> assertThat(BigDecimalVector.fromStream(vector.elements().stream()))
+            .isEqualTo(vector));
+    }
+
+    @Test
+    public void addSharedZeroVectorShouldReturnSameVector() {
+        vectors.forEach(vector -> {
+            assertThat(vector.add(zeroVector)).isSameAs(vector);
+            assertThat(zeroVector.add(vector)).isSameAs(vector);
+            assertThat(vector.subtract(zeroVector)).isSameAs(vector);
+        });
+    }
+
+    @Test
+    public void addSharedZeroVectorShouldKeepScalesOfFullComputation() {
+        final BigDecimalVector vector = BigDecimalVector.builder(3).put(new BigDecimal("1.5"))
+            .put(new BigDecimal("3E+2")).put(BigDecimal.valueOf(-2L)).build();
+        final BigDecimalVector zero = BigDecimalVector.builder(3).putAll(BigDecimal.ZERO).build();
+        final BigDecimalVector sharedZero = Vectors.buildZeroBigDecimalVector(3);
+        assertThat(vector.add(sharedZero)).isEqualTo(vector.add(zero));
+        assertThat(sharedZero.add(vector)).isEqualTo(zero.add(vector));
+        assertThat(vector.subtract(sharedZero)).isEqualTo(vector.subtract(zero));
+    }
+
+    @Test
+    public void taxicabDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.taxicabDistance(other))
+            .isEqualTo(vector.subtract(other).taxicabNorm(MathContext.UNLIMITED))));
+    }
+
+    @Test
+    public void euclideanDistancePow2ShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistancePow2(other))
+            .isEqualTo(vector.subtract(other).euclideanNormPow2())));
+    }
+
+    @Test
+    public void euclideanDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistance(other))
+            .isEqualTo(vector.subtract(other).euclideanNorm())));
+    }
+
+    @Test
+    public void maxDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(
+            other -> assertThat(vector.maxDistance(other)).isEqualTo(vector.subtract(other).maxNorm())));
+    }
+
+    @Test
+    public void approximateTaxicabDistanceNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.approximateTaxicabDistance(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("other");
+    }
+
+    @Test
+    public void approximateTaxicabDistanceSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.approximateTaxicabDistance(vectorWithAnotherSize))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual %s != %s", size, differentSize);
+    }
+
+    @Test
+    public void approximateTaxicabDistanceShouldSucceed() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.approximateTaxicabDistance(other))
+            .isCloseTo(vector.taxicabDistance(other).doubleValue(), within(1E-9))));
+    }
+
+    @Test
+    public void approximateEuclideanDistanceNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.approximateEuclideanDistance(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("other");
+    }
+
+    @Test
+    public void approximateEuclideanDistanceSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.approximateEuclideanDistance(vectorWithAnotherSize))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual %s != %s", size, differentSize);
+    }
+
+    @Test
+    public void approximateEuclideanDistanceShouldSucceed() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.approximateEuclideanDistance(other))
+            .isCloseTo(vector.euclideanDistance(other).doubleValue(), within(1E-9))));
+    }
+
+    @Test
+    public void approximateEuclideanDistanceOverflowShouldBeScaled() {
+        final BigDecimal huge = BigDecimal.valueOf(Double.MAX_VALUE).divide(BigDecimal.valueOf(2L));
+        final BigDecimalVector vector = BigDecimalVector.of(huge, huge, huge, huge);
+        assertThat(vector.approximateEuclideanDistance(zeroVector)).isCloseTo(Double.MAX_VALUE, within(1E295));
+    }
+
+    @Test
+    public void approximateMaxDistanceNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.approximateMaxDistance(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("other");
+    }
+
+    @Test
+    public void approximateMaxDistanceSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.approximateMaxDistance(vectorWithAnotherSize))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual %s != %s", size, differentSize);
+    }
+
+    @Test
+    public void approximateMaxDistanceShouldSucceed() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.approximateMaxDistance(other))
+            .isEqualTo(vector.maxDistance(other).doubleValue())));
+    }
+
+    @Test
+    public void taxicabDistanceWithMathContextShouldBeEqualToRoundedNormOfDifference() {
+        final MathContext mathContext = new MathContext(3);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.taxicabDistance(other, mathContext))
+            .isEqualTo(vector.subtract(other).taxicabNorm(MathContext.UNLIMITED).round(mathContext))));
+    }
+
+    @Test
+    public void euclideanDistancePow2WithMathContextShouldBeEqualToRoundedNormOfDifference() {
+        final MathContext mathContext = new MathContext(3);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistancePow2(other, mathContext))
+            .isEqualTo(vector.subtract(other).euclideanNormPow2(mathContext))));
+    }
+
+    @Test
+    public void maxDistanceWithMathContextShouldBeEqualToRoundedNormOfDifference() {
+        final MathContext mathContext = new MathContext(3);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.maxDistance(other, mathContext))
+            .isEqualTo(vector.subtract(other).maxNorm(mathContext))));
+    }
+
+    @Test
+    public void maxDistanceWithMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.maxDistance(zeroVector, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("mathContext");
+    }
 }
@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.base.MoreObjects;
 import java.math.BigInteger;
+import java.util.Arrays;
 import org.junit.Test;
 
 public final class BigIntegerMatrixBuilderTest {
@@ -74,6 +75,69 @@ public final class BigIntegerMatrixBuilderTest {
             .hasMessage("element");
     }
 
+    @Test
+    public void setElementNullShouldThrowException() {
+        assertThatThrownBy(() -> builder.set(1, 1, null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("element");
+    }
+
+    @Test
+    public void setRowIndexTooLowShouldThrowException() {
+        assertThatThrownBy(() -> builder.set(0, 1, BigInteger.ZERO)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected rowIndex in [1, 4] but actual 0");
+    }
+
+    @Test
+    public void setColumnIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> builder.set(1, 6, BigInteger.ZERO)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnIndex in [1, 5] but actual 6");
+    }
+
+    @Test
+    public void setShouldBeEqualToPut() {
+        final BigIntegerMatrix expected = BigIntegerMatrix.builder(2, 2).put(1, 2, BigInteger.ONE)
+            .put(2, 1, BigInteger.TEN).nullsToElement(BigInteger.ZERO).build();
+        final BigIntegerMatrix actual = BigIntegerMatrix.builder(2, 2).set(1, 2, BigInteger.ONE)
+            .set(2, 1, BigInteger.TEN).nullsToElement(BigInteger.ZERO).build();
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void setRowSizeNotEqualToColumnSizeShouldThrowException() {
+        assertThatThrownBy(() -> builder.setRow(1, Arrays.asList(BigInteger.ONE, BigInteger.ONE)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected elements.size == columnSize but actual 2 != 5");
+    }
+
+    @Test
+    public void setColumnSizeNotEqualToRowSizeShouldThrowException() {
+        assertThatThrownBy(() -> builder.setColumn(1, Arrays.asList(BigInteger.ONE, BigInteger.ONE)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected elements.size == rowSize but actual 2 != 4");
+    }
+
+    @Test
+    public void setRowShouldSucceed() {
+        final BigIntegerMatrix actual = BigIntegerMatrix.builder(2, 3).fill(BigInteger.ZERO)
+            .setRow(2, Arrays.asList(BigInteger.ONE, BigInteger.TEN, BigInteger.ONE)).build();
+        assertThat(actual.row(2).values()).containsExactly(BigInteger.ONE, BigInteger.TEN, BigInteger.ONE);
+        assertThat(actual.row(1).values()).containsExactly(BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO);
+    }
+
+    @Test
+    public void setColumnShouldSucceed() {
+        final BigIntegerMatrix actual = BigIntegerMatrix.builder(2, 2).fill(BigInteger.ZERO)
+            .setColumn(2, Arrays.asList(BigInteger.ONE, BigInteger.TEN)).build();
+        assertThat(actual.column(2).values()).containsExactly(BigInteger.ONE, BigInteger.TEN);
+        assertThat(actual.column(1).values()).containsExactly(BigInteger.ZERO, BigInteger.ZERO);
+    }
+
+    @Test
+    public void fillShouldBeEqualToPutAll() {
+        assertThat(BigIntegerMatrix.builder(3, 2).fill(BigInteger.ONE).build())
+            .isEqualTo(BigIntegerMatrix.builder(3, 2).putAll(BigInteger.ONE).build());
+    }
+
     @Test
     public void buildNullShouldThrowException() {
         assertThatThrownBy(() -> BigIntegerMatrix.builder(4, 4).build()).isExactlyInstanceOf(NullPointerException.class)
@@ -276,6 +276,39 @@ public final class BigIntegerMatrixTest {
         }));
     }
 
+    @Test
+    public void multiplyVectorParallelShouldBeEqualToMultiplyVector() {
+        final int rows = AbstractMatrix.PARALLEL_ROW_THRESHOLD + 1;
+        final BigIntegerMatrix matrix = mathRandom.nextBigIntegerMatrix(bound, rows, columnSize);
+        final BigIntegerVector vector = mathRandom.nextBigIntegerVector(bound, columnSize);
+        assertThat(matrix.multiplyVectorParallel(vector)).isEqualTo(matrix.multiplyVector(vector));
+    }
+
+    @Test
+    public void multiplyVectorParallelColumnSizeNotEqualToVectorSizeShouldThrowException() {
+        assertThatThrownBy(() -> Matrices.buildZeroBigIntegerMatrix(5, 5)
+            .multiplyVectorParallel(Vectors.buildZeroBigIntegerVector(4)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected columnSize == vectorSize but actual 5 != 4");
+    }
+
+    @Test
+    public void multiplyVectorsShouldBeEqualToMultiplyVector() {
+        final BigIntegerMatrix matrix = mathRandom.nextBigIntegerMatrix(bound, rowSize, columnSize);
+        final List<BigIntegerVector> batch =
+            mathRandom.nextBigIntegerVectors(bound, columnSize, 2 * AbstractMatrix.VECTOR_BLOCK_SIZE + 1);
+        final List<BigIntegerVector> expected =
+            batch.stream().map(matrix::multiplyVector).collect(Collectors.toList());
+        assertThat(matrix.multiplyVectors(batch)).isEqualTo(expected);
+        assertThat(matrix.multiplyVectorsParallel(batch)).isEqualTo(expected);
+    }
+
+    @Test
+    public void multiplyVectorsNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroMatrixForAddition.multiplyVectors(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vectors");
+    }
+
     @Test
     public void multiplyZeroVectorShouldBeEqualToZeroMatrix() {
         matrices.forEach(matrix -> {
@@ -538,6 +571,105 @@ public final class BigIntegerMatrixTest {
         });
     }
 
+    @Test
+    public void determinantNullStrategyShouldThrowException() {
+        assertThatThrownBy(() -> identityMatrix.determinant((DeterminantStrategy) null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("strategy");
+    }
+
+    @Test
+    public void determinantNullThresholdsShouldThrowException() {
+        assertThatThrownBy(() -> identityMatrix.determinant((DeterminantThresholds) null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("thresholds");
+    }
+
+    @Test
+    public void determinantStrategyNotSupportingSizeShouldThrowException() {
+        assertThatThrownBy(() -> fourByFourMatrices.get(0).determinant(DeterminantStrategy.RULE_OF_SARRUS))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected strategy supporting size 4 but actual RULE_OF_SARRUS");
+    }
+
+    @Test
+    public void determinantStrategiesShouldBeEqualToDeterminant() {
+        fourByFourMatrices.forEach(matrix -> {
+            final BigInteger expected = matrix.determinant();
+            assertThat(matrix.determinant(DeterminantStrategy.LEIBNIZ)).isEqualTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.LAPLACE)).isEqualTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.BAREISS)).isEqualTo(expected);
+        });
+        threeByThreeMatrices.forEach(matrix -> {
+            final BigInteger expected = matrix.determinant();
+            assertThat(matrix.determinant(DeterminantStrategy.RULE_OF_SARRUS)).isEqualTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.LAPLACE)).isEqualTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.BAREISS)).isEqualTo(expected);
+        });
+    }
+
+    @Test
+    public void determinantOfLargerMatricesShouldBeEqualToLaplace() {
+        mathRandom.nextBigIntegerMatrices(bound, 8, 8, howMany).forEach(matrix -> assertThat(matrix.determinant())
+            .isEqualTo(matrix.determinant(DeterminantStrategy.LAPLACE)));
+    }
+
+    @Test
+    public void determinantOfSingularMatrixWithBareissShouldBeEqualToZero() {
+        final BigIntegerMatrix matrix = BigIntegerMatrix.builder(3, 3).put(1, 1, BigInteger.ZERO)
+            .put(1, 2, BigInteger.ONE).put(1, 3, BigInteger.valueOf(2)).put(2, 1, BigInteger.ZERO)
+            .put(2, 2, BigInteger.valueOf(2)).put(2, 3, BigInteger.valueOf(4)).put(3, 1, BigInteger.ZERO)
+            .put(3, 2, BigInteger.valueOf(3)).put(3, 3, BigInteger.ONE).build();
+        assertThat(matrix.determinant(DeterminantStrategy.BAREISS)).isEqualTo(BigInteger.ZERO);
+    }
+
+    @Test
+    public void determinantModularShouldBeEqualToDeterminant() {
+        fourByFourMatrices.forEach(matrix -> assertThat(matrix.determinant(DeterminantStrategy.MODULAR))
+            .isEqualTo(matrix.determinant()));
+        threeByThreeMatrices.forEach(matrix -> assertThat(matrix.determinant(DeterminantStrategy.MODULAR))
+            .isEqualTo(matrix.determinant()));
+        twoByTwoMatrices.forEach(matrix -> assertThat(matrix.determinant(DeterminantStrategy.MODULAR))
+            .isEqualTo(matrix.determinant()));
+    }
+
+    @Test
+    public void determinantModularOfLargeElementsShouldBeEqualToBareiss() {
+        final BigInteger factor = BigInteger.TEN.pow(30);
+        mathRandom.nextBigIntegerMatrices(bound, 12, 12, 3).forEach(matrix -> {
+            final BigIntegerMatrix large = matrix.scalarMultiply(factor).add(matrix);
+            assertThat(large.determinant(DeterminantStrategy.MODULAR))
+                .isEqualTo(large.determinant(DeterminantStrategy.BAREISS));
+        });
+    }
+
+    @Test
+    public void determinantModularNotSquareShouldThrowException() {
+        assertThatThrownBy(() -> nonSquareMatrix.determinant(DeterminantStrategy.MODULAR))
+            .isExactlyInstanceOf(IllegalStateException.class).hasMessage("expected square matrix but was a 4x5 matrix");
+    }
+
+    @Test
+    public void determinantModularOfSingularMatricesShouldBeEqualToZero() {
+        assertThat(zeroSquareMatrix.determinant(DeterminantStrategy.MODULAR)).isEqualTo(BigInteger.ZERO);
+        fourByFourMatrices.forEach(matrix -> {
+            final BigIntegerMatrixBuilder builder = BigIntegerMatrix.builder(4, 4);
+            matrix.cells().forEach(cell -> builder.put(cell.getRowKey(), cell.getColumnKey(),
+                cell.getRowKey() == 4 ? matrix.element(1, cell.getColumnKey()) : cell.getValue()));
+            assertThat(builder.build().determinant(DeterminantStrategy.MODULAR)).isEqualTo(BigInteger.ZERO);
+        });
+    }
+
+    @Test
+    public void supportsDeterminantStrategyNullShouldThrowException() {
+        assertThatThrownBy(() -> identityMatrix.supportsDeterminantStrategy(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("strategy");
+    }
+
+    @Test
+    public void supportsDeterminantStrategyShouldSucceed() {
+        assertThat(identityMatrix.supportsDeterminantStrategy(DeterminantStrategy.MODULAR)).isTrue();
+        assertThat(identityMatrix.supportsDeterminantStrategy(DeterminantStrategy.BAREISS)).isTrue();
+    }
+
     @Test
     public void transposeShouldSucceed() {
         matrices.forEach(matrix -> {
@@ -68,4 +68,16 @@ public final class BigIntegerVectorBuilderTest {
         assertThat(actual.toString()).isEqualTo(
             MoreObjects.toStringHelper(builder).add("map", builder.getMap()).add("size", builder.getSize()).toString());
     }
+
+    @Test
+    public void setIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> builder.set(5, BigInteger.ZERO)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected index in [1, 4] but actual 5");
+    }
+
+    @Test
+    public void setShouldBeEqualToPut() {
+        assertThat(BigIntegerVector.builder(2).set(2, BigInteger.ONE).set(1, BigInteger.TEN).build())
+            .isEqualTo(BigIntegerVector.builder(2).put(2, BigInteger.ONE).put(1, BigInteger.TEN).build());
+    }
 }
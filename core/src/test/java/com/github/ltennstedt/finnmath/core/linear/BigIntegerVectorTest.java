@@ -538,4 +538,22 @@ public final class BigIntegerVectorTest {
         vectors.forEach(vector -> assertThat(vector.toString())
             .isEqualTo(MoreObjects.toStringHelper(vector).add("map", vector.getMap()).toString()));
     }
+
+    @Test
+    public void euclideanDistancePow2ShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistancePow2(other))
+            .isEqualTo(vector.subtract(other).euclideanNormPow2())));
+    }
+
+    @Test
+    public void euclideanDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistance(other))
+            .isEqualTo(vector.subtract(other).euclideanNorm())));
+    }
+
+    @Test
+    public void maxDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(
+            other -> assertThat(vector.maxDistance(other)).isEqualTo(vector.subtract(other).maxNorm())));
+    }
 }
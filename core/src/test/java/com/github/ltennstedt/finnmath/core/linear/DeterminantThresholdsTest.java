@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+public final class DeterminantThresholdsTest {
+    private final DeterminantThresholds thresholds = DeterminantThresholds.builder()
+        .put(3, DeterminantStrategy.RULE_OF_SARRUS).put(4, DeterminantStrategy.LAPLACE)
+        .put(8, DeterminantStrategy.BAREISS).build();
+
+    @Test
+    public void putNullShouldThrowException() {
+        assertThatThrownBy(() -> DeterminantThresholds.builder().put(1, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("strategy");
+    }
+
+    @Test
+    public void putMinSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> DeterminantThresholds.builder().put(0, DeterminantStrategy.BAREISS))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected minSize > 0 but actual 0");
+    }
+
+    @Test
+    public void buildEmptyShouldThrowException() {
+        assertThatThrownBy(() -> DeterminantThresholds.builder().build())
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected at least one strategy but actual none");
+    }
+
+    @Test
+    public void strategySizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> thresholds.strategy(0)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void strategyShouldSucceed() {
+        assertThat(thresholds.strategy(3)).isEqualTo(DeterminantStrategy.RULE_OF_SARRUS);
+        assertThat(thresholds.strategy(4)).isEqualTo(DeterminantStrategy.LAPLACE);
+        assertThat(thresholds.strategy(7)).isEqualTo(DeterminantStrategy.LAPLACE);
+        assertThat(thresholds.strategy(8)).isEqualTo(DeterminantStrategy.BAREISS);
+        assertThat(thresholds.strategy(100)).isEqualTo(DeterminantStrategy.BAREISS);
+    }
+
+    @Test
+    public void strategyBelowFirstMinSizeShouldUseFirstStrategy() {
+        final DeterminantThresholds laplace = DeterminantThresholds.builder().put(4, DeterminantStrategy.LAPLACE)
+            .build();
+        assertThat(laplace.strategy(2)).isEqualTo(DeterminantStrategy.LAPLACE);
+    }
+
+    @Test
+    public void strategyNotSupportingSizeShouldFallBackToBareiss() {
+        assertThat(thresholds.strategy(1)).isEqualTo(DeterminantStrategy.BAREISS);
+        final DeterminantThresholds laplace = DeterminantThresholds.builder().put(1, DeterminantStrategy.LAPLACE)
+            .build();
+        assertThat(laplace.strategy(DeterminantStrategy.LAPLACE_MAX_SIZE + 1))
+            .isEqualTo(DeterminantStrategy.BAREISS);
+    }
+
+    @Test
+    public void equalsShouldSucceed() {
+        assertThat(thresholds).isEqualTo(DeterminantThresholds.builder().put(8, DeterminantStrategy.BAREISS)
+            .put(4, DeterminantStrategy.LAPLACE).put(3, DeterminantStrategy.RULE_OF_SARRUS).build());
+        assertThat(thresholds.hashCode()).isEqualTo(DeterminantThresholds.builder()
+            .put(3, DeterminantStrategy.RULE_OF_SARRUS).put(4, DeterminantStrategy.LAPLACE)
+            .put(8, DeterminantStrategy.BAREISS).build().hashCode());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import org.junit.Test;
+
+public final class DeterminantTunerTest {
+    private final MathRandom mathRandom = new MathRandom(7);
+
+    @Test
+    public void tuneNullShouldThrowException() {
+        assertThatThrownBy(() -> DeterminantTuner.tune(null, 3, 1)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("generator");
+    }
+
+    @Test
+    public void tuneMaxSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> DeterminantTuner.tune(size -> mathRandom.nextBigIntegerMatrix(10, size, size), 2, 1))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected maxSize > 2 but actual 2");
+    }
+
+    @Test
+    public void tuneSamplesTooLowShouldThrowException() {
+        assertThatThrownBy(() -> DeterminantTuner.tune(size -> mathRandom.nextBigIntegerMatrix(10, size, size), 3, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected samples > 0 but actual 0");
+    }
+
+    @Test
+    public void tuneShouldSucceed() {
+        final DeterminantThresholds thresholds =
+            DeterminantTuner.tune(size -> mathRandom.nextBigIntegerMatrix(10, size, size), 6, 2);
+        assertThat(thresholds.getStrategies()).isNotEmpty();
+        assertThat(thresholds.getStrategies().firstKey()).isEqualTo(3);
+        final BigIntegerMatrix matrix = mathRandom.nextBigIntegerMatrix(10, 6, 6);
+        assertThat(matrix.determinant(thresholds)).isEqualTo(matrix.determinant(DeterminantStrategy.LAPLACE));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.Test;
+
+public final class DiagonalBigDecimalMatrixTest {
+    private final int size = 6;
+    private final long bound = 10;
+    private final int scale = 2;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final BigDecimalMatrix matrix = mathRandom.nextDiagonalBigDecimalMatrix(bound, scale, size);
+    private final DiagonalBigDecimalMatrix diagonal = DiagonalBigDecimalMatrix.of(matrix);
+    private final List<BigDecimalVector> vectors = mathRandom.nextBigDecimalVectors(bound, scale, size, 10);
+
+    @Test
+    public void ofNullShouldThrowException() {
+        assertThatThrownBy(() -> DiagonalBigDecimalMatrix.of((BigDecimalMatrix) null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("matrix");
+    }
+
+    @Test
+    public void ofNotDiagonalShouldThrowException() {
+        final BigDecimalMatrix upperMatrix = mathRandom.nextUpperTriangularBigDecimalMatrix(bound, scale, size);
+        assertThatThrownBy(() -> DiagonalBigDecimalMatrix.of(upperMatrix))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected diagonal matrix but actual %s", upperMatrix);
+    }
+
+    @Test
+    public void ofEmptyShouldThrowException() {
+        assertThatThrownBy(DiagonalBigDecimalMatrix::of).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected diagonal.length > 0 but actual 0");
+    }
+
+    @Test
+    public void ofElementNullShouldThrowException() {
+        assertThatThrownBy(() -> DiagonalBigDecimalMatrix.of(BigDecimal.ONE, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("element");
+    }
+
+    @Test
+    public void ofShouldSucceed() {
+        assertThat(diagonal.size()).isEqualTo(size);
+        assertThat(diagonal.toBigDecimalMatrix()).isEqualTo(matrix);
+        assertThat(diagonal.transpose()).isSameAs(diagonal);
+        assertThat(DiagonalBigDecimalMatrix.of(BigDecimal.ONE, BigDecimal.TEN).element(2, 2))
+            .isEqualTo(BigDecimal.TEN);
+    }
+
+    @Test
+    public void determinantShouldBeEqualToDenseDeterminant() {
+        assertThat(diagonal.determinant()).isEqualTo(matrix.determinant(BigDecimalMatrix.DETERMINANT_THRESHOLDS));
+    }
+
+    @Test
+    public void multiplyVectorShouldBeEqualToDenseProduct() {
+        vectors.forEach(vector -> assertThat(
+            diagonal.multiplyVector(vector).equalByComparingTo(matrix.multiplyVector(vector))).isTrue());
+    }
+
+    @Test
+    public void solveNotInvertibleShouldThrowException() {
+        final DiagonalBigDecimalMatrix singular = DiagonalBigDecimalMatrix.of(BigDecimal.ONE, BigDecimal.ZERO);
+        assertThat(singular.invertible()).isFalse();
+        assertThatThrownBy(() -> singular.solve(BigDecimalVector.of(BigDecimal.ONE, BigDecimal.ONE),
+            MathContext.DECIMAL64)).isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("expected to be invertible but actual %s", singular);
+    }
+
+    @Test
+    public void solveShouldSucceed() {
+        final DiagonalBigDecimalMatrix invertible = DiagonalBigDecimalMatrix.of(BigDecimal.valueOf(2L),
+            BigDecimal.valueOf(4L), BigDecimal.valueOf(5L));
+        assertThat(invertible.solve(BigDecimalVector.of(BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE),
+            MathContext.DECIMAL64)).isEqualTo(
+                BigDecimalVector.of(new BigDecimal("0.5"), new BigDecimal("0.25"), new BigDecimal("0.2")));
+    }
+}
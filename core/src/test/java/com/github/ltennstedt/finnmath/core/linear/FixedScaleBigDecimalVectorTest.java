@@ -0,0 +1,356 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.Test;
+
+public final class FixedScaleBigDecimalVectorTest {
+    private final int size = 4;
+    private final int howMany = 10;
+    private final long bound = 10;
+    private final int scale = 2;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final List<BigDecimalVector> vectors = mathRandom.nextBigDecimalVectors(bound, scale, size, howMany);
+    private final List<BigDecimalVector> others = mathRandom.nextBigDecimalVectors(bound, scale, size, howMany);
+    private final List<BigDecimal> scalars = mathRandom.nextBigDecimals(bound, scale, howMany);
+    private final FixedScaleBigDecimalVector maxValues =
+        FixedScaleBigDecimalVector.ofUnscaled(new long[] {Long.MAX_VALUE, Long.MIN_VALUE, 1, -1}, scale);
+
+    @Test
+    public void ofNullShouldThrowException() {
+        assertThatThrownBy(() -> FixedScaleBigDecimalVector.of(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("vector");
+    }
+
+    @Test
+    public void ofShouldBeEqualAfterToBigDecimalVector() {
+        vectors.forEach(vector -> {
+            final FixedScaleBigDecimalVector fixedScale = FixedScaleBigDecimalVector.of(vector);
+            assertThat(fixedScale.scale()).isEqualTo(scale);
+            assertThat(fixedScale.longBacked()).isTrue();
+            assertThat(fixedScale.toBigDecimalVector()).isEqualTo(vector);
+        });
+    }
+
+    @Test
+    public void ofWithScaleRoundingNecessaryShouldThrowException() {
+        assertThatThrownBy(() -> FixedScaleBigDecimalVector.of(BigDecimalVector.of(new BigDecimal("1.25")), 1))
+            .isExactlyInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void ofMixedScalesShouldUseMaximumScale() {
+        final FixedScaleBigDecimalVector fixedScale =
+            FixedScaleBigDecimalVector.of(BigDecimalVector.of(new BigDecimal("1.5"), new BigDecimal("-2.125")));
+        assertThat(fixedScale.scale()).isEqualTo(3);
+        assertThat(fixedScale.element(1)).isEqualTo(new BigDecimal("1.500"));
+        assertThat(fixedScale.element(2)).isEqualTo(new BigDecimal("-2.125"));
+    }
+
+    @Test
+    public void ofUnscaledEmptyShouldThrowException() {
+        assertThatThrownBy(() -> FixedScaleBigDecimalVector.ofUnscaled(new long[0], scale))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void zeroShouldBeEqualToZeroVector() {
+        assertThat(FixedScaleBigDecimalVector.zero(size, 0).toBigDecimalVector())
+            .isEqualTo(Vectors.buildZeroBigDecimalVector(size));
+    }
+
+    @Test
+    public void zeroSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> FixedScaleBigDecimalVector.zero(0, scale))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void addShouldBeEqualToAdd() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).add(FixedScaleBigDecimalVector.of(other)).toBigDecimalVector())
+                .isEqualTo(vector.add(other))));
+    }
+
+    @Test
+    public void addDifferentScalesShouldBeEqualToAdd() {
+        final BigDecimalVector vector = BigDecimalVector.of(new BigDecimal("1.5"), new BigDecimal("-2.5"));
+        final BigDecimalVector other = BigDecimalVector.of(new BigDecimal("0.125"), new BigDecimal("3.000"));
+        assertThat(FixedScaleBigDecimalVector.of(vector).add(FixedScaleBigDecimalVector.of(other))
+            .toBigDecimalVector()).isEqualTo(vector.add(other));
+    }
+
+    @Test
+    public void addNullShouldThrowException() {
+        assertThatThrownBy(() -> maxValues.add(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("summand");
+    }
+
+    @Test
+    public void addSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> maxValues.add(FixedScaleBigDecimalVector.zero(3, scale)))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected equal sizes but actual 4 != 3");
+    }
+
+    @Test
+    public void addOverflowShouldFallBackToBigIntegers() {
+        final FixedScaleBigDecimalVector sum = maxValues.add(maxValues);
+        assertThat(sum.longBacked()).isFalse();
+        assertThat(sum.toBigDecimalVector())
+            .isEqualTo(maxValues.toBigDecimalVector().add(maxValues.toBigDecimalVector()));
+        assertThat(sum.subtract(maxValues)).isEqualTo(maxValues);
+        assertThat(sum.subtract(maxValues).longBacked()).isTrue();
+    }
+
+    @Test
+    public void subtractShouldBeEqualToSubtract() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(FixedScaleBigDecimalVector.of(vector)
+            .subtract(FixedScaleBigDecimalVector.of(other)).toBigDecimalVector()).isEqualTo(vector.subtract(other))));
+    }
+
+    @Test
+    public void subtractOverflowShouldFallBackToBigIntegers() {
+        final FixedScaleBigDecimalVector difference = maxValues.subtract(maxValues.negate());
+        assertThat(difference.longBacked()).isFalse();
+        assertThat(difference.toBigDecimalVector())
+            .isEqualTo(maxValues.toBigDecimalVector().subtract(maxValues.toBigDecimalVector().negate()));
+    }
+
+    @Test
+    public void scalarMultiplyShouldBeEqualToScalarMultiply() {
+        vectors.forEach(vector -> scalars.forEach(scalar -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).scalarMultiply(scalar).toBigDecimalVector())
+                .isEqualTo(vector.scalarMultiply(scalar))));
+    }
+
+    @Test
+    public void scalarMultiplyOverflowShouldFallBackToBigIntegers() {
+        final BigDecimal scalar = new BigDecimal("3.0");
+        final FixedScaleBigDecimalVector product = maxValues.scalarMultiply(scalar);
+        assertThat(product.longBacked()).isFalse();
+        assertThat(product.toBigDecimalVector()).isEqualTo(maxValues.toBigDecimalVector().scalarMultiply(scalar));
+    }
+
+    @Test
+    public void negateShouldBeEqualToNegate() {
+        vectors.forEach(vector -> assertThat(FixedScaleBigDecimalVector.of(vector).negate().toBigDecimalVector())
+            .isEqualTo(vector.negate()));
+        assertThat(maxValues.negate().toBigDecimalVector()).isEqualTo(maxValues.toBigDecimalVector().negate());
+    }
+
+    @Test
+    public void dotProductShouldBeEqualToDotProduct() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).dotProduct(FixedScaleBigDecimalVector.of(other)))
+                .isEqualTo(vector.dotProduct(other))));
+        assertThat(maxValues.dotProduct(maxValues))
+            .isEqualTo(maxValues.toBigDecimalVector().dotProduct(maxValues.toBigDecimalVector()));
+    }
+
+    @Test
+    public void dotProductWithMathContextShouldRoundOnce() {
+        final MathContext mathContext = new MathContext(3);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).dotProduct(FixedScaleBigDecimalVector.of(other), mathContext))
+                .isEqualTo(vector.dotProduct(other).round(mathContext))));
+    }
+
+    @Test
+    public void taxicabNormShouldBeEqualToTaxicabNorm() {
+        vectors.forEach(vector -> assertThat(FixedScaleBigDecimalVector.of(vector).taxicabNorm())
+            .isEqualTo(vector.taxicabNorm()));
+        assertThat(maxValues.taxicabNorm()).isEqualTo(maxValues.toBigDecimalVector().taxicabNorm());
+    }
+
+    @Test
+    public void taxicabNormOverflowingSumShouldBeEqualToTaxicabNorm() {
+        final FixedScaleBigDecimalVector large =
+            FixedScaleBigDecimalVector.ofUnscaled(new long[] {Long.MAX_VALUE, -Long.MAX_VALUE, 1, 3}, scale);
+        assertThat(large.longBacked()).isTrue();
+        assertThat(large.taxicabNorm()).isEqualTo(large.toBigDecimalVector().taxicabNorm());
+    }
+
+    @Test
+    public void dotProductOverflowingSumShouldBeEqualToDotProduct() {
+        final long element = 3_000_000_000L;
+        final FixedScaleBigDecimalVector large =
+            FixedScaleBigDecimalVector.ofUnscaled(new long[] {element, element, -element, element}, scale);
+        assertThat(large.dotProduct(large))
+            .isEqualTo(large.toBigDecimalVector().dotProduct(large.toBigDecimalVector()));
+    }
+
+    @Test
+    public void euclideanNormPow2ShouldBeEqualToEuclideanNormPow2() {
+        vectors.forEach(vector -> assertThat(FixedScaleBigDecimalVector.of(vector).euclideanNormPow2())
+            .isEqualTo(vector.euclideanNormPow2()));
+    }
+
+    @Test
+    public void maxNormShouldBeEqualToMaxNorm() {
+        vectors.forEach(
+            vector -> assertThat(FixedScaleBigDecimalVector.of(vector).maxNorm()).isEqualTo(vector.maxNorm()));
+        assertThat(maxValues.maxNorm()).isEqualTo(maxValues.toBigDecimalVector().maxNorm());
+    }
+
+    @Test
+    public void addWithMathContextShouldBeEqualToAdd() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).add(FixedScaleBigDecimalVector.of(other), mathContext))
+                .isEqualTo(vector.add(other, mathContext))));
+    }
+
+    @Test
+    public void subtractWithMathContextShouldBeEqualToSubtract() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).subtract(FixedScaleBigDecimalVector.of(other), mathContext))
+                .isEqualTo(vector.subtract(other, mathContext))));
+    }
+
+    @Test
+    public void scalarMultiplyWithMathContextShouldBeEqualToScalarMultiply() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> scalars.forEach(scalar -> assertThat(
+            FixedScaleBigDecimalVector.of(vector).scalarMultiply(scalar, mathContext))
+                .isEqualTo(vector.scalarMultiply(scalar, mathContext))));
+    }
+
+    @Test
+    public void negateWithMathContextShouldBeEqualToNegate() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> assertThat(FixedScaleBigDecimalVector.of(vector).negate(mathContext))
+            .isEqualTo(vector.negate(mathContext)));
+    }
+
+    @Test
+    public void orthogonalToShouldSucceed() {
+        final FixedScaleBigDecimalVector first = FixedScaleBigDecimalVector.ofUnscaled(new long[] {3, 0, -2}, scale);
+        final FixedScaleBigDecimalVector second = FixedScaleBigDecimalVector.ofUnscaled(new long[] {2, 5, 3}, scale);
+        assertThat(first.orthogonalTo(second)).isTrue();
+        assertThat(first.orthogonalTo(second, new MathContext(1))).isTrue();
+        assertThat(first.orthogonalTo(first)).isFalse();
+    }
+
+    @Test
+    public void euclideanNormShouldBeEqualToEuclideanNorm() {
+        vectors.forEach(vector -> assertThat(FixedScaleBigDecimalVector.of(vector).euclideanNorm())
+            .isEqualTo(vector.euclideanNorm()));
+    }
+
+    @Test
+    public void euclideanNormNullShouldThrowException() {
+        assertThatThrownBy(() -> maxValues.euclideanNorm(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("squareRootContext");
+    }
+
+    @Test
+    public void distancesShouldBeEqualToDistances() {
+        vectors.forEach(vector -> others.forEach(other -> {
+            final FixedScaleBigDecimalVector fixedScale = FixedScaleBigDecimalVector.of(vector);
+            final FixedScaleBigDecimalVector otherFixedScale = FixedScaleBigDecimalVector.of(other);
+            assertThat(fixedScale.taxicabDistance(otherFixedScale)).isEqualTo(vector.taxicabDistance(other));
+            assertThat(fixedScale.euclideanDistancePow2(otherFixedScale))
+                .isEqualTo(vector.euclideanDistancePow2(other));
+            assertThat(fixedScale.euclideanDistance(otherFixedScale)).isEqualTo(vector.euclideanDistance(other));
+            assertThat(fixedScale.maxDistance(otherFixedScale)).isEqualTo(vector.maxDistance(other));
+        }));
+    }
+
+    @Test
+    public void distancesWithMathContextShouldRoundOnce() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> others.forEach(other -> {
+            final FixedScaleBigDecimalVector fixedScale = FixedScaleBigDecimalVector.of(vector);
+            final FixedScaleBigDecimalVector otherFixedScale = FixedScaleBigDecimalVector.of(other);
+            assertThat(fixedScale.taxicabDistance(otherFixedScale, mathContext))
+                .isEqualTo(vector.taxicabDistance(other).round(mathContext));
+            assertThat(fixedScale.euclideanDistancePow2(otherFixedScale, mathContext))
+                .isEqualTo(vector.euclideanDistancePow2(other).round(mathContext));
+            assertThat(fixedScale.maxDistance(otherFixedScale, mathContext))
+                .isEqualTo(vector.maxDistance(other).round(mathContext));
+        }));
+    }
+
+    @Test
+    public void distancesOverflowShouldBeEqualToDistances() {
+        final BigDecimalVector vector = maxValues.toBigDecimalVector();
+        final BigDecimalVector other = vector.negate();
+        final FixedScaleBigDecimalVector negated = maxValues.negate();
+        assertThat(maxValues.taxicabDistance(negated)).isEqualTo(vector.taxicabDistance(other));
+        assertThat(maxValues.euclideanDistancePow2(negated)).isEqualTo(vector.euclideanDistancePow2(other));
+        assertThat(maxValues.maxDistance(negated)).isEqualTo(vector.maxDistance(other));
+    }
+
+    @Test
+    public void taxicabDistanceNullShouldThrowException() {
+        assertThatThrownBy(() -> maxValues.taxicabDistance(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("other");
+    }
+
+    @Test
+    public void euclideanDistanceSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> maxValues.euclideanDistance(FixedScaleBigDecimalVector.zero(3, scale)))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected equal sizes but actual 4 != 3");
+    }
+
+    @Test
+    public void dyadicProductShouldBeEqualToDyadicProduct() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> others.forEach(other -> {
+            final FixedScaleBigDecimalVector fixedScale = FixedScaleBigDecimalVector.of(vector);
+            final FixedScaleBigDecimalVector otherFixedScale = FixedScaleBigDecimalVector.of(other);
+            assertThat(fixedScale.dyadicProduct(otherFixedScale)).isEqualTo(vector.dyadicProduct(other));
+            assertThat(fixedScale.dyadicProduct(otherFixedScale, mathContext))
+                .isEqualTo(vector.dyadicProduct(other, mathContext));
+        }));
+        assertThat(maxValues.dyadicProduct(maxValues))
+            .isEqualTo(maxValues.toBigDecimalVector().dyadicProduct(maxValues.toBigDecimalVector()));
+    }
+
+    @Test
+    public void elementsAndEntriesShouldBeEqualToElementsAndEntries() {
+        vectors.forEach(vector -> {
+            final FixedScaleBigDecimalVector fixedScale = FixedScaleBigDecimalVector.of(vector);
+            assertThat(fixedScale.elements()).containsExactlyElementsOf(vector.elements());
+            assertThat(fixedScale.entries()).containsExactlyElementsOf(vector.entries());
+        });
+    }
+
+    @Test
+    public void elementIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> maxValues.element(5)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected index in [1, 4] but actual 5");
+    }
+
+    @Test
+    public void equalsShouldSucceed() {
+        vectors.forEach(vector -> {
+            final FixedScaleBigDecimalVector fixedScale = FixedScaleBigDecimalVector.of(vector);
+            assertThat(fixedScale).isEqualTo(FixedScaleBigDecimalVector.of(vector));
+            assertThat(fixedScale.hashCode()).isEqualTo(FixedScaleBigDecimalVector.of(vector).hashCode());
+            assertThat(fixedScale).isNotEqualTo(FixedScaleBigDecimalVector.of(vector, scale + 1));
+        });
+    }
+}
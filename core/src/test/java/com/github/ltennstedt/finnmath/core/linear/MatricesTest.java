@@ -164,4 +164,46 @@ public final class MatricesTest {
         final RealComplexNumberMatrix expected = builder.nullsToElement(RealComplexNumber.ZERO).build();
         assertThat(Matrices.buildIdentityRealComplexNumberMatrix(size)).isEqualTo(expected);
     }
+
+    @Test
+    public void buildZeroBigIntegerMatrixToStringShouldPrintElements() {
+        final BigIntegerMatrix expected = BigIntegerMatrix.builder(rowSize, columnSize).putAll(BigInteger.ZERO).build();
+        assertThat(Matrices.buildZeroBigIntegerMatrix(rowSize, columnSize).toString())
+            .isEqualTo(expected.toString()).doesNotContain("null");
+    }
+
+    @Test
+    public void buildIdentityBigIntegerMatrixToStringShouldPrintElements() {
+        final BigIntegerMatrixBuilder builder = BigIntegerMatrix.builder(size, size);
+        IntStream.rangeClosed(1, size).forEach(index -> builder.put(index, index, BigInteger.ONE));
+        final BigIntegerMatrix expected = builder.nullsToElement(BigInteger.ZERO).build();
+        assertThat(Matrices.buildIdentityBigIntegerMatrix(size).toString()).isEqualTo(expected.toString())
+            .doesNotContain("null");
+    }
+
+    @Test
+    public void buildZeroBigDecimalMatrixShouldShareMaterializedTable() {
+        assertThat(Matrices.buildZeroBigDecimalMatrix(rowSize, columnSize).getTable())
+            .isSameAs(Matrices.buildZeroBigDecimalMatrix(rowSize, columnSize).getTable())
+            .isNotEqualTo(Matrices.buildZeroBigDecimalMatrix(columnSize, rowSize).getTable());
+    }
+
+    @Test
+    public void buildIdentityBigDecimalMatrixShouldShareMaterializedTable() {
+        assertThat(Matrices.buildIdentityBigDecimalMatrix(size).getTable())
+            .isSameAs(Matrices.buildIdentityBigDecimalMatrix(size).getTable());
+    }
+
+    @Test
+    public void buildIdentityBigDecimalMatrixShouldNotStoreElements() {
+        final int hugeSize = 1 << 16;
+        final BigDecimalMatrix identity = Matrices.buildIdentityBigDecimalMatrix(hugeSize);
+        assertThat(identity.size()).isEqualTo((long) hugeSize * hugeSize);
+        assertThat(identity.rowIndexes()).hasSize(hugeSize).contains(1, hugeSize);
+        assertThat(identity.element(hugeSize, hugeSize)).isEqualTo(BigDecimal.ONE);
+        assertThat(identity.element(1, hugeSize)).isEqualTo(BigDecimal.ZERO);
+        assertThat(identity.identity()).isTrue();
+        assertThat(identity).isEqualTo(Matrices.buildIdentityBigDecimalMatrix(hugeSize))
+            .isNotEqualTo(Matrices.buildZeroBigDecimalMatrix(hugeSize, hugeSize));
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.math.LongMath;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.junit.Test;
+
+public final class ModularDeterminantsTest {
+    @Test
+    public void primesShouldSucceed() {
+        final long[] primes = ModularDeterminants.primes(5);
+        assertThat(primes).hasSize(5).startsWith(ModularDeterminants.MAX_PRIME);
+        assertThat(Arrays.stream(primes).allMatch(LongMath::isPrime)).isTrue();
+        assertThat(Arrays.stream(primes).distinct().count()).isEqualTo(5);
+        assertThat(Arrays.stream(primes).allMatch(prime -> prime > 1L << ModularDeterminants.PRIME_BITS)).isTrue();
+    }
+
+    @Test
+    public void hadamardBitsShouldSucceed() {
+        final BigInteger[][] elements = {{BigInteger.valueOf(3), BigInteger.valueOf(4)},
+            {BigInteger.ONE, BigInteger.ZERO}};
+        assertThat(ModularDeterminants.hadamardBits(elements)).isEqualTo(4);
+    }
+
+    @Test
+    public void hadamardBitsOfZeroRowShouldBeNegative() {
+        final BigInteger[][] elements = {{BigInteger.ONE, BigInteger.ONE}, {BigInteger.ZERO, BigInteger.ZERO}};
+        assertThat(ModularDeterminants.hadamardBits(elements)).isNegative();
+    }
+
+    @Test
+    public void determinantModuloPrimeShouldSucceed() {
+        final BigInteger[][] elements = {{BigInteger.ZERO, BigInteger.valueOf(2)},
+            {BigInteger.valueOf(3), BigInteger.valueOf(-5)}};
+        assertThat(ModularDeterminants.determinant(elements, 7)).isEqualTo(1);
+        assertThat(ModularDeterminants.determinant(elements, 3)).isEqualTo(0);
+    }
+
+    @Test
+    public void reconstructShouldSucceed() {
+        final long[] primes = ModularDeterminants.primes(3);
+        final BigInteger expected = BigInteger.TEN.pow(25).negate();
+        final long[] residues =
+            Arrays.stream(primes).map(prime -> expected.mod(BigInteger.valueOf(prime)).longValue()).toArray();
+        assertThat(ModularDeterminants.reconstruct(residues, primes)).isEqualTo(expected);
+        final long[] positiveResidues =
+            Arrays.stream(primes).map(prime -> expected.negate().mod(BigInteger.valueOf(prime)).longValue()).toArray();
+        assertThat(ModularDeterminants.reconstruct(positiveResidues, primes)).isEqualTo(expected.negate());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.Test;
+
+public final class MutableBigDecimalMatrixTest {
+    private final int rowSize = 4;
+    private final int columnSize = 3;
+    private final int howMany = 10;
+    private final long bound = 10;
+    private final int scale = 2;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final List<BigDecimalMatrix> matrices =
+        mathRandom.nextBigDecimalMatrices(bound, scale, rowSize, columnSize, howMany);
+    private final List<BigDecimalMatrix> others =
+        mathRandom.nextBigDecimalMatrices(bound, scale, rowSize, columnSize, howMany);
+    private final List<BigDecimalMatrix> firstFactors =
+        mathRandom.nextBigDecimalMatrices(bound, scale, rowSize, rowSize, howMany);
+    private final List<BigDecimal> scalars = mathRandom.nextBigDecimals(bound, scale, howMany);
+
+    @Test
+    public void zeroShouldBeEqualToZeroMatrix() {
+        assertThat(MutableBigDecimalMatrix.zero(rowSize, columnSize).freeze())
+            .isEqualTo(Matrices.buildZeroBigDecimalMatrix(rowSize, columnSize));
+    }
+
+    @Test
+    public void zeroRowSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalMatrix.zero(0, columnSize))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected rowSize > 0 but actual 0");
+    }
+
+    @Test
+    public void copyOfNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalMatrix.copyOf(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("matrix");
+    }
+
+    @Test
+    public void copyOfShouldBeEqualAfterFreeze() {
+        matrices.forEach(matrix -> assertThat(MutableBigDecimalMatrix.copyOf(matrix).freeze()).isEqualTo(matrix));
+    }
+
+    @Test
+    public void addInPlaceShouldBeEqualToAdd() {
+        matrices.forEach(matrix -> others.forEach(other -> assertThat(
+            MutableBigDecimalMatrix.copyOf(matrix).addInPlace(other).freeze()).isEqualTo(matrix.add(other))));
+    }
+
+    @Test
+    public void addInPlaceNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalMatrix.zero(rowSize, columnSize).addInPlace(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("summand");
+    }
+
+    @Test
+    public void addInPlaceRowSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalMatrix.zero(rowSize, columnSize)
+            .addInPlace(Matrices.buildZeroBigDecimalMatrix(columnSize, columnSize)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected equal row sizes but actual 4 != 3");
+    }
+
+    @Test
+    public void subtractInPlaceShouldBeEqualToSubtract() {
+        matrices.forEach(matrix -> others.forEach(other -> assertThat(
+            MutableBigDecimalMatrix.copyOf(matrix).subtractInPlace(other).freeze()).isEqualTo(matrix.subtract(other))));
+    }
+
+    @Test
+    public void subtractInPlaceWithMathContextShouldBeEqualToSubtract() {
+        final MathContext mathContext = new MathContext(2);
+        matrices.forEach(matrix -> others.forEach(other -> assertThat(MutableBigDecimalMatrix.copyOf(matrix)
+            .subtractInPlace(other, mathContext).freeze()).isEqualTo(matrix.subtract(other, mathContext))));
+    }
+
+    @Test
+    public void subtractInPlaceMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalMatrix.copyOf(matrices.get(0)).subtractInPlace(others.get(0), null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("mathContext");
+    }
+
+    @Test
+    public void scaleInPlaceShouldBeEqualToScalarMultiply() {
+        matrices.forEach(matrix -> scalars.forEach(scalar -> assertThat(
+            MutableBigDecimalMatrix.copyOf(matrix).scaleInPlace(scalar).freeze())
+                .isEqualTo(matrix.scalarMultiply(scalar))));
+    }
+
+    @Test
+    public void fmaShouldBeEqualToAddMultiply() {
+        firstFactors.forEach(first -> matrices.forEach(second -> others.forEach(summand -> assertThat(
+            MutableBigDecimalMatrix.copyOf(summand).fma(first, second).freeze())
+                .isEqualTo(summand.add(first.multiply(second))))));
+    }
+
+    @Test
+    public void fmaSizesNotMatchingShouldThrowException() {
+        assertThatThrownBy(
+            () -> MutableBigDecimalMatrix.zero(rowSize, columnSize).fma(matrices.get(0), matrices.get(0)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected first.columnSize == second.rowSize but actual 3 != 4");
+    }
+
+    @Test
+    public void setShouldSucceed() {
+        final MutableBigDecimalMatrix matrix =
+            MutableBigDecimalMatrix.zero(rowSize, columnSize).set(2, 3, BigDecimal.ONE);
+        assertThat(matrix.element(2, 3)).isEqualTo(BigDecimal.ONE);
+        assertThat(matrix.freeze().element(2, 3)).isEqualTo(BigDecimal.ONE);
+    }
+
+    @Test
+    public void setColumnIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalMatrix.zero(rowSize, columnSize).set(1, 4, BigDecimal.ONE))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnIndex in [1, 3] but actual 4");
+    }
+
+    @Test
+    public void freezeShouldNotBeAffectedByLaterChanges() {
+        final MutableBigDecimalMatrix mutable = MutableBigDecimalMatrix.zero(rowSize, columnSize);
+        final BigDecimalMatrix frozen = mutable.freeze();
+        mutable.set(1, 1, BigDecimal.ONE);
+        assertThat(frozen).isEqualTo(Matrices.buildZeroBigDecimalMatrix(rowSize, columnSize));
+    }
+
+    @Test
+    public void fmaWithMathContextShouldRoundOnce() {
+        final MathContext mathContext = new MathContext(4);
+        firstFactors.forEach(first -> matrices.forEach(second -> others.forEach(summand -> {
+            final BigDecimalMatrix expected = summand.add(first.multiply(second));
+            final BigDecimalMatrix actual =
+                MutableBigDecimalMatrix.copyOf(summand).fma(first, second, mathContext).freeze();
+            expected.cells().forEach(cell -> assertThat(actual.element(cell.getRowKey(), cell.getColumnKey()))
+                .isEqualTo(cell.getValue().round(mathContext)));
+        })));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.Test;
+
+public final class MutableBigDecimalVectorTest {
+    private final int size = 4;
+    private final int columnSize = 3;
+    private final int howMany = 10;
+    private final long bound = 10;
+    private final int scale = 2;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final List<BigDecimalVector> vectors = mathRandom.nextBigDecimalVectors(bound, scale, size, howMany);
+    private final List<BigDecimalVector> others = mathRandom.nextBigDecimalVectors(bound, scale, size, howMany);
+    private final List<BigDecimalVector> factors = mathRandom.nextBigDecimalVectors(bound, scale, columnSize, howMany);
+    private final List<BigDecimalMatrix> matrices =
+        mathRandom.nextBigDecimalMatrices(bound, scale, size, columnSize, howMany);
+    private final List<BigDecimal> scalars = mathRandom.nextBigDecimals(bound, scale, howMany);
+
+    @Test
+    public void zeroShouldBeEqualToZeroVector() {
+        assertThat(MutableBigDecimalVector.zero(size).freeze()).isEqualTo(Vectors.buildZeroBigDecimalVector(size));
+    }
+
+    @Test
+    public void zeroSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalVector.zero(0)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void copyOfNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalVector.copyOf(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("vector");
+    }
+
+    @Test
+    public void copyOfShouldBeEqualAfterFreeze() {
+        vectors.forEach(vector -> assertThat(MutableBigDecimalVector.copyOf(vector).freeze()).isEqualTo(vector));
+    }
+
+    @Test
+    public void addInPlaceShouldBeEqualToAdd() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            MutableBigDecimalVector.copyOf(vector).addInPlace(other).freeze()).isEqualTo(vector.add(other))));
+    }
+
+    @Test
+    public void addInPlaceSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(
+            () -> MutableBigDecimalVector.zero(size).addInPlace(Vectors.buildZeroBigDecimalVector(size + 1)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual 4 != 5");
+    }
+
+    @Test
+    public void subtractInPlaceShouldBeEqualToSubtract() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            MutableBigDecimalVector.copyOf(vector).subtractInPlace(other).freeze()).isEqualTo(vector.subtract(other))));
+    }
+
+    @Test
+    public void subtractInPlaceWithMathContextShouldBeEqualToSubtract() {
+        final MathContext mathContext = new MathContext(2);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(MutableBigDecimalVector.copyOf(vector)
+            .subtractInPlace(other, mathContext).freeze()).isEqualTo(vector.subtract(other, mathContext))));
+    }
+
+    @Test
+    public void subtractInPlaceMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalVector.copyOf(vectors.get(0)).subtractInPlace(others.get(0), null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("mathContext");
+    }
+
+    @Test
+    public void scaleInPlaceShouldBeEqualToScalarMultiply() {
+        vectors.forEach(vector -> scalars.forEach(scalar -> assertThat(
+            MutableBigDecimalVector.copyOf(vector).scaleInPlace(scalar).freeze())
+                .isEqualTo(vector.scalarMultiply(scalar))));
+    }
+
+    @Test
+    public void fmaShouldBeEqualToAddMultiplyVector() {
+        matrices.forEach(matrix -> factors.forEach(factor -> vectors.forEach(summand -> assertThat(
+            MutableBigDecimalVector.copyOf(summand).fma(matrix, factor).freeze())
+                .isEqualTo(summand.add(matrix.multiplyVector(factor))))));
+    }
+
+    @Test
+    public void fmaSizesNotMatchingShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalVector.zero(size).fma(matrices.get(0), vectors.get(0)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnSize == vectorSize but actual 3 != 4");
+    }
+
+    @Test
+    public void setShouldSucceed() {
+        final MutableBigDecimalVector vector = MutableBigDecimalVector.zero(size).set(2, BigDecimal.ONE);
+        assertThat(vector.element(2)).isEqualTo(BigDecimal.ONE);
+        assertThat(vector.freeze().element(2)).isEqualTo(BigDecimal.ONE);
+    }
+
+    @Test
+    public void setIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigDecimalVector.zero(size).set(5, BigDecimal.ONE))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected index in [1, 4] but actual 5");
+    }
+
+    @Test
+    public void fmaWithMathContextShouldRoundOnce() {
+        final MathContext mathContext = new MathContext(4);
+        matrices.forEach(matrix -> factors.forEach(factor -> vectors.forEach(summand -> {
+            final BigDecimalVector expected = summand.add(matrix.multiplyVector(factor));
+            final BigDecimalVector actual =
+                MutableBigDecimalVector.copyOf(summand).fma(matrix, factor, mathContext).freeze();
+            expected.getMap().forEach((index, element) -> assertThat(actual.element(index))
+                .isEqualTo(element.round(mathContext)));
+        })));
+    }
+}
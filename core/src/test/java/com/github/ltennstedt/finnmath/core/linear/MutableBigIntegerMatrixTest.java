@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.Test;
+
+public final class MutableBigIntegerMatrixTest {
+    private final int rowSize = 4;
+    private final int columnSize = 3;
+    private final int howMany = 10;
+    private final long bound = 10;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final List<BigIntegerMatrix> matrices =
+        mathRandom.nextBigIntegerMatrices(bound, rowSize, columnSize, howMany);
+    private final List<BigIntegerMatrix> others =
+        mathRandom.nextBigIntegerMatrices(bound, rowSize, columnSize, howMany);
+    private final List<BigIntegerMatrix> firstFactors =
+        mathRandom.nextBigIntegerMatrices(bound, rowSize, rowSize, howMany);
+    private final List<BigInteger> scalars = mathRandom.nextBigIntegers(bound, howMany);
+
+    @Test
+    public void zeroShouldBeEqualToZeroMatrix() {
+        assertThat(MutableBigIntegerMatrix.zero(rowSize, columnSize).freeze())
+            .isEqualTo(Matrices.buildZeroBigIntegerMatrix(rowSize, columnSize));
+    }
+
+    @Test
+    public void zeroRowSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerMatrix.zero(0, columnSize))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected rowSize > 0 but actual 0");
+    }
+
+    @Test
+    public void copyOfNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerMatrix.copyOf(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("matrix");
+    }
+
+    @Test
+    public void copyOfShouldBeEqualAfterFreeze() {
+        matrices.forEach(matrix -> assertThat(MutableBigIntegerMatrix.copyOf(matrix).freeze()).isEqualTo(matrix));
+    }
+
+    @Test
+    public void addInPlaceShouldBeEqualToAdd() {
+        matrices.forEach(matrix -> others.forEach(other -> assertThat(
+            MutableBigIntegerMatrix.copyOf(matrix).addInPlace(other).freeze()).isEqualTo(matrix.add(other))));
+    }
+
+    @Test
+    public void addInPlaceNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerMatrix.zero(rowSize, columnSize).addInPlace(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("summand");
+    }
+
+    @Test
+    public void addInPlaceRowSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerMatrix.zero(rowSize, columnSize)
+            .addInPlace(Matrices.buildZeroBigIntegerMatrix(columnSize, columnSize)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected equal row sizes but actual 4 != 3");
+    }
+
+    @Test
+    public void subtractInPlaceShouldBeEqualToSubtract() {
+        matrices.forEach(matrix -> others.forEach(other -> assertThat(
+            MutableBigIntegerMatrix.copyOf(matrix).subtractInPlace(other).freeze()).isEqualTo(matrix.subtract(other))));
+    }
+
+    @Test
+    public void scaleInPlaceShouldBeEqualToScalarMultiply() {
+        matrices.forEach(matrix -> scalars.forEach(scalar -> assertThat(
+            MutableBigIntegerMatrix.copyOf(matrix).scaleInPlace(scalar).freeze())
+                .isEqualTo(matrix.scalarMultiply(scalar))));
+    }
+
+    @Test
+    public void fmaShouldBeEqualToAddMultiply() {
+        firstFactors.forEach(first -> matrices.forEach(second -> others.forEach(summand -> assertThat(
+            MutableBigIntegerMatrix.copyOf(summand).fma(first, second).freeze())
+                .isEqualTo(summand.add(first.multiply(second))))));
+    }
+
+    @Test
+    public void fmaSizesNotMatchingShouldThrowException() {
+        assertThatThrownBy(
+            () -> MutableBigIntegerMatrix.zero(rowSize, columnSize).fma(matrices.get(0), matrices.get(0)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected first.columnSize == second.rowSize but actual 3 != 4");
+    }
+
+    @Test
+    public void setShouldSucceed() {
+        final MutableBigIntegerMatrix matrix =
+            MutableBigIntegerMatrix.zero(rowSize, columnSize).set(2, 3, BigInteger.ONE);
+        assertThat(matrix.element(2, 3)).isEqualTo(BigInteger.ONE);
+        assertThat(matrix.freeze().element(2, 3)).isEqualTo(BigInteger.ONE);
+    }
+
+    @Test
+    public void setColumnIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerMatrix.zero(rowSize, columnSize).set(1, 4, BigInteger.ONE))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnIndex in [1, 3] but actual 4");
+    }
+
+    @Test
+    public void freezeShouldNotBeAffectedByLaterChanges() {
+        final MutableBigIntegerMatrix mutable = MutableBigIntegerMatrix.zero(rowSize, columnSize);
+        final BigIntegerMatrix frozen = mutable.freeze();
+        mutable.set(1, 1, BigInteger.ONE);
+        assertThat(frozen).isEqualTo(Matrices.buildZeroBigIntegerMatrix(rowSize, columnSize));
+    }
+}
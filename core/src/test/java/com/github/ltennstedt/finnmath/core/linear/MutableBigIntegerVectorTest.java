@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.Test;
+
+public final class MutableBigIntegerVectorTest {
+    private final int size = 4;
+    private final int columnSize = 3;
+    private final int howMany = 10;
+    private final long bound = 10;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final List<BigIntegerVector> vectors = mathRandom.nextBigIntegerVectors(bound, size, howMany);
+    private final List<BigIntegerVector> others = mathRandom.nextBigIntegerVectors(bound, size, howMany);
+    private final List<BigIntegerVector> factors = mathRandom.nextBigIntegerVectors(bound, columnSize, howMany);
+    private final List<BigIntegerMatrix> matrices = mathRandom.nextBigIntegerMatrices(bound, size, columnSize, howMany);
+    private final List<BigInteger> scalars = mathRandom.nextBigIntegers(bound, howMany);
+
+    @Test
+    public void zeroShouldBeEqualToZeroVector() {
+        assertThat(MutableBigIntegerVector.zero(size).freeze()).isEqualTo(Vectors.buildZeroBigIntegerVector(size));
+    }
+
+    @Test
+    public void zeroSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerVector.zero(0)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void copyOfNullShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerVector.copyOf(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("vector");
+    }
+
+    @Test
+    public void copyOfShouldBeEqualAfterFreeze() {
+        vectors.forEach(vector -> assertThat(MutableBigIntegerVector.copyOf(vector).freeze()).isEqualTo(vector));
+    }
+
+    @Test
+    public void addInPlaceShouldBeEqualToAdd() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            MutableBigIntegerVector.copyOf(vector).addInPlace(other).freeze()).isEqualTo(vector.add(other))));
+    }
+
+    @Test
+    public void addInPlaceSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(
+            () -> MutableBigIntegerVector.zero(size).addInPlace(Vectors.buildZeroBigIntegerVector(size + 1)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual 4 != 5");
+    }
+
+    @Test
+    public void subtractInPlaceShouldBeEqualToSubtract() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(
+            MutableBigIntegerVector.copyOf(vector).subtractInPlace(other).freeze()).isEqualTo(vector.subtract(other))));
+    }
+
+    @Test
+    public void scaleInPlaceShouldBeEqualToScalarMultiply() {
+        vectors.forEach(vector -> scalars.forEach(scalar -> assertThat(
+            MutableBigIntegerVector.copyOf(vector).scaleInPlace(scalar).freeze())
+                .isEqualTo(vector.scalarMultiply(scalar))));
+    }
+
+    @Test
+    public void fmaShouldBeEqualToAddMultiplyVector() {
+        matrices.forEach(matrix -> factors.forEach(factor -> vectors.forEach(summand -> assertThat(
+            MutableBigIntegerVector.copyOf(summand).fma(matrix, factor).freeze())
+                .isEqualTo(summand.add(matrix.multiplyVector(factor))))));
+    }
+
+    @Test
+    public void fmaSizesNotMatchingShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerVector.zero(size).fma(matrices.get(0), vectors.get(0)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnSize == vectorSize but actual 3 != 4");
+    }
+
+    @Test
+    public void setShouldSucceed() {
+        final MutableBigIntegerVector vector = MutableBigIntegerVector.zero(size).set(2, BigInteger.ONE);
+        assertThat(vector.element(2)).isEqualTo(BigInteger.ONE);
+        assertThat(vector.freeze().element(2)).isEqualTo(BigInteger.ONE);
+    }
+
+    @Test
+    public void setIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> MutableBigIntegerVector.zero(size).set(5, BigInteger.ONE))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected index in [1, 4] but actual 5");
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public final class PackedIndicesTest {
+    private final int size = 70;
+
+    @Test
+    public void packedIndexShouldBeBijective() {
+        int expected = 0;
+        for (int columnIndex = 1; columnIndex <= size; columnIndex++) {
+            for (int rowIndex = 1; rowIndex <= columnIndex; rowIndex++) {
+                assertThat(PackedIndices.packedIndex(rowIndex, columnIndex)).isEqualTo(expected);
+                assertThat(PackedIndices.packedIndex(columnIndex, rowIndex)).isEqualTo(expected);
+                expected++;
+            }
+        }
+        assertThat(PackedIndices.packedSize(size)).isEqualTo(expected);
+        assertThat(PackedIndices.packedSize(PackedSymmetricMatrix.MAX_SIZE)).isPositive();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import org.junit.Test;
+
+public final class PackedSymmetricMatrixTest {
+    private final int size = 70;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final BigDecimalMatrix matrix = mathRandom.nextSymmetricBigDecimalMatrix(10, 2, size);
+
+    @Test
+    public void fromFunctionSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> PackedSymmetricMatrix.fromFunction(0, (rowIndex, columnIndex) -> BigDecimal.ZERO))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected size in [1, %s] but actual 0", PackedSymmetricMatrix.MAX_SIZE);
+    }
+
+    @Test
+    public void fromFunctionSizeTooHighShouldThrowException() {
+        assertThatThrownBy(() -> PackedSymmetricMatrix.fromFunction(PackedSymmetricMatrix.MAX_SIZE + 1,
+            (rowIndex, columnIndex) -> BigDecimal.ZERO)).isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected size in [1, %s] but actual %s", PackedSymmetricMatrix.MAX_SIZE,
+                    PackedSymmetricMatrix.MAX_SIZE + 1);
+    }
+
+    @Test
+    public void fromFunctionNullShouldThrowException() {
+        assertThatThrownBy(() -> PackedSymmetricMatrix.fromFunction(1, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("generator");
+    }
+
+    @Test
+    public void fromFunctionGeneratorReturningNullShouldThrowException() {
+        assertThatThrownBy(() -> PackedSymmetricMatrix.fromFunction(1, (rowIndex, columnIndex) -> null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("element");
+    }
+
+    @Test
+    public void fromFunctionShouldSucceed() {
+        final PackedSymmetricMatrix<BigDecimal> packed = PackedSymmetricMatrix.fromFunction(size, matrix::element);
+        assertThat(packed.size()).isEqualTo(size);
+        assertThat(packed.packedSize()).isEqualTo(size * (size + 1) / 2);
+        assertThat(BigDecimalMatrix.fromFunction(size, size, packed::element)).isEqualTo(matrix);
+    }
+
+    @Test
+    public void fromFunctionShouldCallGeneratorOnlyForUpperTriangle() {
+        final PackedSymmetricMatrix<BigDecimal> packed =
+            PackedSymmetricMatrix.fromFunction(size, (rowIndex, columnIndex) -> {
+                assertThat(rowIndex).isLessThanOrEqualTo(columnIndex);
+                return matrix.element(rowIndex, columnIndex);
+            });
+        assertThat(packed.element(size, 1)).isEqualTo(matrix.element(1, size));
+    }
+
+    @Test
+    public void fromFunctionParallelShouldBeEqualToFromFunction() {
+        assertThat(PackedSymmetricMatrix.fromFunctionParallel(size, matrix::element))
+            .isEqualTo(PackedSymmetricMatrix.fromFunction(size, matrix::element));
+    }
+
+    @Test
+    public void elementRowIndexTooLowShouldThrowException() {
+        assertThatThrownBy(() -> PackedSymmetricMatrix.fromFunction(size, matrix::element).element(0, 1))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected rowIndex in [1, %s] but actual 0", size);
+    }
+
+    @Test
+    public void elementColumnIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> PackedSymmetricMatrix.fromFunction(size, matrix::element).element(1, size + 1))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnIndex in [1, %s] but actual %s", size, size + 1);
+    }
+
+    @Test
+    public void transposeShouldReturnSelf() {
+        final PackedSymmetricMatrix<BigDecimal> packed = PackedSymmetricMatrix.fromFunction(size, matrix::element);
+        assertThat(packed.transpose()).isSameAs(packed);
+    }
+
+    @Test
+    public void ofShouldSucceed() {
+        assertThat(PackedSymmetricMatrix.of(matrix))
+            .isEqualTo(PackedSymmetricMatrix.fromFunction(size, matrix::element));
+    }
+
+    @Test
+    public void ofNotSymmetricShouldThrowException() {
+        final BigDecimalMatrix upperMatrix = mathRandom.nextUpperTriangularBigDecimalMatrix(10, 2, 3);
+        assertThatThrownBy(() -> PackedSymmetricMatrix.of(upperMatrix))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected symmetric matrix but actual %s", upperMatrix);
+    }
+}
@@ -26,6 +26,7 @@ import com.github.ltennstedt.finnmath.core.util.MathRandom;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Table.Cell;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -304,6 +305,48 @@ public final class RealComplexNumberMatrixTest {
         }));
     }
 
+    @Test
+    public void multiplyVectorParallelShouldBeEqualToMultiplyVector() {
+        final int rows = AbstractMatrix.PARALLEL_ROW_THRESHOLD + 1;
+        final RealComplexNumberMatrix matrix = mathRandom.nextRealComplexNumberMatrix(bound, scale, rows, columnSize);
+        final RealComplexNumberVector vector = mathRandom.nextRealComplexNumberVector(bound, scale, columnSize);
+        assertThat(matrix.multiplyVectorParallel(vector)).isEqualTo(matrix.multiplyVector(vector));
+        final MathContext mathContext = new MathContext(4);
+        assertThat(matrix.multiplyVectorParallel(vector, mathContext))
+            .isEqualTo(matrix.multiplyVector(vector, mathContext));
+    }
+
+    @Test
+    public void multiplyVectorParallelColumnSizeNotEqualToVectorSizeShouldThrowException() {
+        assertThatThrownBy(() -> Matrices.buildZeroRealComplexNumberMatrix(5, 5)
+            .multiplyVectorParallel(Vectors.buildZeroRealComplexNumberVector(4)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected columnSize == vectorSize but actual 5 != 4");
+    }
+
+    @Test
+    public void multiplyVectorsShouldBeEqualToMultiplyVector() {
+        final RealComplexNumberMatrix matrix =
+            mathRandom.nextRealComplexNumberMatrix(bound, scale, rowSize, columnSize);
+        final List<RealComplexNumberVector> batch =
+            mathRandom.nextRealComplexNumberVectors(bound, scale, columnSize, 2 * AbstractMatrix.VECTOR_BLOCK_SIZE + 1);
+        final List<RealComplexNumberVector> expected =
+            batch.stream().map(matrix::multiplyVector).collect(Collectors.toList());
+        assertThat(matrix.multiplyVectors(batch)).isEqualTo(expected);
+        assertThat(matrix.multiplyVectorsParallel(batch)).isEqualTo(expected);
+        final MathContext mathContext = new MathContext(4);
+        final List<RealComplexNumberVector> expectedRounded = batch.stream()
+            .map(vector -> matrix.multiplyVector(vector, mathContext)).collect(Collectors.toList());
+        assertThat(matrix.multiplyVectors(batch, mathContext)).isEqualTo(expectedRounded);
+        assertThat(matrix.multiplyVectorsParallel(batch, mathContext)).isEqualTo(expectedRounded);
+    }
+
+    @Test
+    public void multiplyVectorsNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroMatrixForAddition.multiplyVectors(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vectors");
+    }
+
     @Test
     public void multiplyZeroVectorShouldBeEqualToZeroMatrix() {
         matrices.forEach(matrix -> {
@@ -576,6 +619,34 @@ public final class RealComplexNumberMatrixTest {
         });
     }
 
+    @Test
+    public void determinantStrategiesShouldBeEqualToDeterminant() {
+        fourByFourMatrices.forEach(matrix -> {
+            final RealComplexNumber expected = matrix.determinant();
+            assertThat(matrix.determinant(DeterminantStrategy.LEIBNIZ).equalsByComparingFields(expected)).isTrue();
+            assertThat(matrix.determinant(DeterminantStrategy.LAPLACE).equalsByComparingFields(expected)).isTrue();
+            assertThat(matrix.determinant(DeterminantStrategy.BAREISS).equalsByComparingFields(expected)).isTrue();
+        });
+    }
+
+    @Test
+    public void laplaceShouldKeepScaleOfLeibnizFormula() {
+        final RealComplexNumber zero = RealComplexNumber.of(new BigDecimal("0.00"), new BigDecimal("0.00"));
+        final RealComplexNumberMatrix matrix = RealComplexNumberMatrix.builder(4, 4).putAll(zero).build();
+        assertThat(matrix.determinant(DeterminantStrategy.LAPLACE))
+            .isEqualTo(matrix.determinant(DeterminantStrategy.LEIBNIZ));
+    }
+
+    @Test
+    public void determinantWithMathContextShouldRoundExactDeterminant() {
+        final MathContext mathContext = new MathContext(20);
+        final RealComplexNumberMatrix matrix = mathRandom.nextRealComplexNumberMatrix(bound, scale, 12, 12);
+        final RealComplexNumber expected = matrix.determinant(DeterminantStrategy.BAREISS);
+        final RealComplexNumber actual = matrix.determinant(mathContext);
+        assertThat(actual.getReal()).isEqualTo(expected.getReal().round(mathContext));
+        assertThat(actual.getImaginary()).isEqualTo(expected.getImaginary().round(mathContext));
+    }
+
     @Test
     public void transposeShouldSucceed() {
         matrices.forEach(matrix -> {
@@ -679,6 +750,30 @@ public final class RealComplexNumberMatrixTest {
         });
     }
 
+    @Test
+    public void maxAbsColumnSumNormOfNearlyEqualColumnsShouldSucceed() {
+        final RealComplexNumberMatrix matrix = RealComplexNumberMatrix.builder(2, 2)
+            .put(1, 1, RealComplexNumber.of(3L, 4L)).put(2, 1, RealComplexNumber.of(1L, 1L))
+            .put(1, 2, RealComplexNumber.of(BigDecimal.valueOf(3), new BigDecimal("4.0000000000001")))
+            .put(2, 2, RealComplexNumber.of(1L, 1L)).build();
+        final BigDecimal expected = matrix.columns().values().asList().stream()
+            .map(column -> column.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::add))
+            .map(Optional::get).reduce(BigDecimal::max).get();
+        assertThat(matrix.maxAbsColumnSumNorm()).isEqualTo(expected);
+    }
+
+    @Test
+    public void maxAbsRowSumNormOfHugeElementsShouldSucceed() {
+        final BigDecimal huge = BigDecimal.TEN.pow(400);
+        final RealComplexNumberMatrix matrix = RealComplexNumberMatrix.builder(2, 2)
+            .put(1, 1, RealComplexNumber.of(huge, BigDecimal.ZERO)).put(1, 2, RealComplexNumber.ONE)
+            .put(2, 1, RealComplexNumber.of(huge, huge)).put(2, 2, RealComplexNumber.ONE).build();
+        final BigDecimal expected = matrix.rows().values().asList().stream()
+            .map(row -> row.values().stream().map(RealComplexNumber::abs).reduce(BigDecimal::add))
+            .map(Optional::get).reduce(BigDecimal::max).get();
+        assertThat(matrix.maxAbsRowSumNorm()).isEqualTo(expected);
+    }
+
     @Test
     public void maxAbsColumnSumNormOfZeroMatrixShouldBeEqualToZero() {
         assertThat(zeroSquareMatrix.maxAbsColumnSumNorm()).isLessThan(tolerance);
@@ -1098,4 +1193,35 @@ public final class RealComplexNumberMatrixTest {
         assertThatThrownBy(() -> RealComplexNumberMatrix.builder(1, 0))
             .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected columnSize > 0 but actual 0");
     }
+
+    @Test
+    public void sharedSpecialFormsShouldKeepScalesOfFullComputation() {
+        final RealComplexNumberMatrix matrix = RealComplexNumberMatrix.builder(2, 2)
+            .put(1, 1, RealComplexNumber.of(new BigDecimal("1.5"), BigDecimal.ONE))
+            .put(1, 2, RealComplexNumber.of(BigDecimal.valueOf(2L), new BigDecimal("0.125")))
+            .put(2, 1, RealComplexNumber.of(new BigDecimal("-3E+2"), BigDecimal.ZERO))
+            .put(2, 2, RealComplexNumber.of(BigDecimal.valueOf(4L), new BigDecimal("2E+1"))).build();
+        final RealComplexNumberMatrix identity = RealComplexNumberMatrix.builder(2, 2).put(1, 1, RealComplexNumber.ONE)
+            .put(2, 2, RealComplexNumber.ONE).nullsToElement(RealComplexNumber.ZERO).build();
+        final RealComplexNumberMatrix zero =
+            RealComplexNumberMatrix.builder(2, 2).putAll(RealComplexNumber.ZERO).build();
+        final RealComplexNumberVector vector = RealComplexNumberVector.builder(2)
+            .put(RealComplexNumber.of(new BigDecimal("1.5"), BigDecimal.ONE))
+            .put(RealComplexNumber.of(new BigDecimal("-3E+2"), BigDecimal.ZERO)).build();
+        final RealComplexNumberMatrix sharedIdentity = Matrices.buildIdentityRealComplexNumberMatrix(2);
+        final RealComplexNumberMatrix sharedZero = Matrices.buildZeroRealComplexNumberMatrix(2, 2);
+        assertThat(matrix.multiply(sharedIdentity)).isEqualTo(matrix.multiply(identity));
+        assertThat(sharedIdentity.multiply(matrix)).isEqualTo(identity.multiply(matrix));
+        assertThat(matrix.multiply(sharedZero)).isEqualTo(matrix.multiply(zero));
+        assertThat(sharedZero.multiply(matrix)).isEqualTo(zero.multiply(matrix));
+        assertThat(matrix.add(sharedZero)).isEqualTo(matrix.add(zero));
+        assertThat(sharedZero.add(matrix)).isEqualTo(zero.add(matrix));
+        assertThat(matrix.subtract(sharedZero)).isEqualTo(matrix.subtract(zero));
+        assertThat(sharedIdentity.multiplyVector(vector)).isEqualTo(identity.multiplyVector(vector));
+        assertThat(sharedZero.multiplyVector(vector)).isEqualTo(zero.multiplyVector(vector));
+        final RealComplexNumberVector zeroVector =
+            RealComplexNumberVector.builder(2).putAll(RealComplexNumber.ZERO).build();
+        assertThat(matrix.multiplyVector(Vectors.buildZeroRealComplexNumberVector(2)))
+            .isEqualTo(matrix.multiplyVector(zeroVector));
+    }
 }
@@ -22,7 +22,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberVector.RealComplexNumberVectorBuilder;
 import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
 import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootContext;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.List;
 import org.assertj.core.api.Condition;
 import org.junit.Ignore;
@@ -267,6 +270,16 @@ public final class RealComplexNumberVectorTest {
                 .hasMessage("expected equal sizes but actual %s != %s", size, differentSize);
     }
 
+    @Test
+    public void dotProductWithMathContextShouldRoundOnce() {
+        final RealComplexNumberVector vector = RealComplexNumberVector.builder(3).put(RealComplexNumber.of(1000L, 0L))
+            .put(RealComplexNumber.of(0.4, 0.4)).put(RealComplexNumber.of(0.4, 0.4)).build();
+        final RealComplexNumberVector ones = RealComplexNumberVector.builder(3).putAll(RealComplexNumber.ONE).build();
+        final MathContext mathContext = new MathContext(4);
+        assertThat(vector.dotProduct(ones, mathContext))
+            .isEqualTo(RealComplexNumber.of(new BigDecimal("1001"), new BigDecimal("0.8")));
+    }
+
     @Test
     public void dotProductShouldSucceed() {
         vectors.forEach(vector -> others.forEach(other -> {
@@ -317,4 +330,67 @@ public final class RealComplexNumberVectorTest {
         assertThatThrownBy(() -> RealComplexNumberVector.builder(0)).isExactlyInstanceOf(IllegalArgumentException.class)
             .hasMessage("expected size > 0 but actual 0");
     }
+
+    @Test
+    public void taxicabDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(
+            other -> assertThat(vector.taxicabDistance(other)).isEqualTo(vector.subtract(other).taxicabNorm())));
+    }
+
+    @Test
+    public void euclideanDistancePow2ShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistancePow2(other))
+            .isEqualTo(vector.subtract(other).euclideanNormPow2())));
+    }
+
+    @Test
+    public void euclideanDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistance(other))
+            .isEqualTo(vector.subtract(other).euclideanNorm())));
+    }
+
+    @Test
+    public void maxDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(
+            other -> assertThat(vector.maxDistance(other)).isEqualTo(vector.subtract(other).maxNorm())));
+    }
+
+    @Test
+    public void taxicabDistanceWithMathContextShouldBeEqualToRoundedNormOfDifference() {
+        final MathContext mathContext = new MathContext(4);
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.taxicabDistance(other, mathContext))
+            .isEqualTo(vector.subtract(other).taxicabNorm().round(mathContext))));
+    }
+
+    @Test
+    public void euclideanDistancePow2WithContextShouldBeEqualToRoundedNormOfDifference() {
+        final SquareRootContext squareRootContext = SquareRootContext.builder().mathContext(new MathContext(4)).build();
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistancePow2(other,
+            squareRootContext)).isEqualTo(vector.subtract(other).euclideanNormPow2().round(new MathContext(4)))));
+    }
+
+    @Test
+    public void maxDistanceWithMathContextShouldBeEqualToNormOfDifference() {
+        final MathContext mathContext = new MathContext(4);
+        final SquareRootContext squareRootContext = SquareRootContext.builder().mathContext(mathContext).build();
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.maxDistance(other, mathContext))
+            .isEqualTo(SquareRootCalculator.nthRoot(vector.subtract(other).elements().stream()
+                .map(RealComplexNumber::absPow2).reduce(BigDecimal::max).get(), 2, squareRootContext))));
+    }
+
+    @Test
+    public void maxDistanceWithHighPrecisionShouldBeExactUpToPrecision() {
+        final RealComplexNumberVector vector =
+            RealComplexNumberVector.of(RealComplexNumber.of(2, 2), RealComplexNumber.of(4, 1));
+        final RealComplexNumberVector other =
+            RealComplexNumberVector.of(RealComplexNumber.of(1, 1), RealComplexNumber.of(1, -1));
+        assertThat(vector.maxDistance(other, new MathContext(50)))
+            .isEqualTo(new BigDecimal("3.6055512754639892931192212674704959462512965738452"));
+    }
+
+    @Test
+    public void maxDistanceWithMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroVector.maxDistance(zeroVector, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("mathContext");
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableTable;
+import java.math.BigDecimal;
+import org.junit.Test;
+
+public final class ScaledIntegersTest {
+    private final ImmutableTable<Integer, Integer, BigDecimal> commonScale =
+        ImmutableTable.<Integer, Integer, BigDecimal>builder().put(1, 1, new BigDecimal("1.50"))
+            .put(1, 2, new BigDecimal("-2.00")).put(2, 1, new BigDecimal("0.00")).put(2, 2, new BigDecimal("3.25"))
+            .build();
+    private final ImmutableTable<Integer, Integer, BigDecimal> mixedScales =
+        ImmutableTable.<Integer, Integer, BigDecimal>builder().put(1, 1, new BigDecimal("1.5"))
+            .put(1, 2, new BigDecimal("-2.00")).put(2, 1, BigDecimal.ZERO).put(2, 2, new BigDecimal("3.25")).build();
+
+    @Test
+    public void commonScaleShouldSucceed() {
+        assertThat(ScaledIntegers.commonScale(commonScale)).hasValue(2);
+        assertThat(ScaledIntegers.commonScale(mixedScales)).isEmpty();
+    }
+
+    @Test
+    public void productScaleShouldSucceed() {
+        assertThat(ScaledIntegers.productScale(commonScale, commonScale)).hasValue(4);
+        assertThat(ScaledIntegers.productScale(commonScale, mixedScales)).isEmpty();
+        assertThat(ScaledIntegers.productScale(mixedScales, commonScale)).isEmpty();
+    }
+
+    @Test
+    public void productScaleOutOfRangeShouldBeEmpty() {
+        final ImmutableTable<Integer, Integer, BigDecimal> table = ImmutableTable
+            .<Integer, Integer, BigDecimal>builder().put(1, 1, BigDecimal.valueOf(1, Integer.MAX_VALUE)).build();
+        assertThat(ScaledIntegers.productScale(table, table)).isEmpty();
+    }
+
+    @Test
+    public void determinantScaleShouldSucceed() {
+        assertThat(ScaledIntegers.determinantScale(commonScale)).hasValue(4);
+        assertThat(ScaledIntegers.determinantScale(mixedScales)).isEmpty();
+    }
+
+    @Test
+    public void determinantShouldSucceed() {
+        assertThat(ScaledIntegers.determinant(commonScale, 4)).isEqualTo(new BigDecimal("4.8750"));
+    }
+
+    @Test
+    public void multiplyShouldSucceed() {
+        final ImmutableTable<Integer, Integer, BigDecimal> product =
+            ScaledIntegers.multiply(commonScale, commonScale, 4);
+        assertThat(product.get(1, 1)).isEqualTo(new BigDecimal("2.2500"));
+        assertThat(product.get(1, 2)).isEqualTo(new BigDecimal("-9.5000"));
+        assertThat(product.get(2, 1)).isEqualTo(new BigDecimal("0.0000"));
+        assertThat(product.get(2, 2)).isEqualTo(new BigDecimal("10.5625"));
+    }
+}
@@ -288,6 +288,39 @@ public final class SimpleComplexNumberMatrixTest {
         }));
     }
 
+    @Test
+    public void multiplyVectorParallelShouldBeEqualToMultiplyVector() {
+        final int rows = AbstractMatrix.PARALLEL_ROW_THRESHOLD + 1;
+        final SimpleComplexNumberMatrix matrix = mathRandom.nextSimpleComplexNumberMatrix(bound, rows, columnSize);
+        final SimpleComplexNumberVector vector = mathRandom.nextSimpleComplexNumberVector(bound, columnSize);
+        assertThat(matrix.multiplyVectorParallel(vector)).isEqualTo(matrix.multiplyVector(vector));
+    }
+
+    @Test
+    public void multiplyVectorParallelColumnSizeNotEqualToVectorSizeShouldThrowException() {
+        assertThatThrownBy(() -> Matrices.buildZeroSimpleComplexNumberMatrix(5, 5)
+            .multiplyVectorParallel(Vectors.buildZeroSimpleComplexNumberVector(4)))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected columnSize == vectorSize but actual 5 != 4");
+    }
+
+    @Test
+    public void multiplyVectorsShouldBeEqualToMultiplyVector() {
+        final SimpleComplexNumberMatrix matrix = mathRandom.nextSimpleComplexNumberMatrix(bound, rowSize, columnSize);
+        final List<SimpleComplexNumberVector> batch =
+            mathRandom.nextSimpleComplexNumberVectors(bound, columnSize, 2 * AbstractMatrix.VECTOR_BLOCK_SIZE + 1);
+        final List<SimpleComplexNumberVector> expected =
+            batch.stream().map(matrix::multiplyVector).collect(Collectors.toList());
+        assertThat(matrix.multiplyVectors(batch)).isEqualTo(expected);
+        assertThat(matrix.multiplyVectorsParallel(batch)).isEqualTo(expected);
+    }
+
+    @Test
+    public void multiplyVectorsNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroMatrixForAddition.multiplyVectors(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vectors");
+    }
+
     @Test
     public void multiplyZeroVectorShouldBeEqualToZeroMatrix() {
         matrices.forEach(matrix -> {
@@ -558,6 +591,16 @@ public final class SimpleComplexNumberMatrixTest {
         });
     }
 
+    @Test
+    public void determinantStrategiesShouldBeEqualToDeterminant() {
+        fourByFourMatrices.forEach(matrix -> {
+            final SimpleComplexNumber expected = matrix.determinant();
+            assertThat(matrix.determinant(DeterminantStrategy.LEIBNIZ)).isEqualTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.LAPLACE)).isEqualTo(expected);
+            assertThat(matrix.determinant(DeterminantStrategy.BAREISS)).isEqualTo(expected);
+        });
+    }
+
     @Test
     public void transposeShouldSucceed() {
         matrices.forEach(matrix -> {
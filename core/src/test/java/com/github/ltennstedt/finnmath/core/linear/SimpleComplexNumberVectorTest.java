@@ -317,4 +317,28 @@ public final class SimpleComplexNumberVectorTest {
         assertThatThrownBy(() -> SimpleComplexNumberVector.builder(0))
             .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
     }
+
+    @Test
+    public void taxicabDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(
+            other -> assertThat(vector.taxicabDistance(other)).isEqualTo(vector.subtract(other).taxicabNorm())));
+    }
+
+    @Test
+    public void euclideanDistancePow2ShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistancePow2(other))
+            .isEqualTo(vector.subtract(other).euclideanNormPow2())));
+    }
+
+    @Test
+    public void euclideanDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(other -> assertThat(vector.euclideanDistance(other))
+            .isEqualTo(vector.subtract(other).euclideanNorm())));
+    }
+
+    @Test
+    public void maxDistanceShouldBeEqualToNormOfDifference() {
+        vectors.forEach(vector -> others.forEach(
+            other -> assertThat(vector.maxDistance(other)).isEqualTo(vector.subtract(other).maxNorm())));
+    }
 }
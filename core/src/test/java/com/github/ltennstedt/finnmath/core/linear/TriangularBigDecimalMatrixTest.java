@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Lars Tennstedt
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.ltennstedt.finnmath.core.linear;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import org.junit.Test;
+
+public final class TriangularBigDecimalMatrixTest {
+    private final int size = 6;
+    private final long bound = 10;
+    private final int scale = 2;
+    private final MathRandom mathRandom = new MathRandom(7);
+    private final BigDecimalMatrix upperMatrix = mathRandom.nextUpperTriangularBigDecimalMatrix(bound, scale, size);
+    private final BigDecimalMatrix lowerMatrix = mathRandom.nextLowerTriangularBigDecimalMatrix(bound, scale, size);
+    private final TriangularBigDecimalMatrix upper = TriangularBigDecimalMatrix.of(upperMatrix);
+    private final TriangularBigDecimalMatrix lower = TriangularBigDecimalMatrix.of(lowerMatrix);
+    private final List<BigDecimalVector> vectors = mathRandom.nextBigDecimalVectors(bound, scale, size, 10);
+
+    @Test
+    public void ofNullShouldThrowException() {
+        assertThatThrownBy(() -> TriangularBigDecimalMatrix.of(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("matrix");
+    }
+
+    @Test
+    public void ofNotTriangularShouldThrowException() {
+        final BigDecimalMatrix matrix = mathRandom.nextSymmetricBigDecimalMatrix(bound, scale, size);
+        assertThatThrownBy(() -> TriangularBigDecimalMatrix.of(matrix))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected triangular matrix but actual %s", matrix);
+    }
+
+    @Test
+    public void upperFromFunctionNullShouldThrowException() {
+        assertThatThrownBy(() -> TriangularBigDecimalMatrix.upperFromFunction(size, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("generator");
+    }
+
+    @Test
+    public void lowerFromFunctionSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> TriangularBigDecimalMatrix.lowerFromFunction(0, upperMatrix::element))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected size in [1, %s] but actual 0", PackedSymmetricMatrix.MAX_SIZE);
+    }
+
+    @Test
+    public void ofShouldSucceed() {
+        assertThat(upper.upper()).isTrue();
+        assertThat(lower.upper()).isFalse();
+        assertThat(upper.size()).isEqualTo(size);
+        assertThat(upper.toBigDecimalMatrix()).isEqualTo(upperMatrix);
+        assertThat(lower.toBigDecimalMatrix()).isEqualTo(lowerMatrix);
+    }
+
+    @Test
+    public void elementIndexTooHighShouldThrowException() {
+        assertThatThrownBy(() -> upper.element(size + 1, 1)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected rowIndex in [1, %s] but actual %s", size, size + 1);
+    }
+
+    @Test
+    public void transposeShouldSucceed() {
+        assertThat(upper.transpose().toBigDecimalMatrix()).isEqualTo(upperMatrix.transpose());
+        assertThat(lower.transpose().toBigDecimalMatrix()).isEqualTo(lowerMatrix.transpose());
+        assertThat(upper.transpose().transpose()).isEqualTo(upper);
+    }
+
+    @Test
+    public void determinantShouldBeEqualToDenseDeterminant() {
+        assertThat(upper.determinant()).isEqualTo(upperMatrix.determinant(BigDecimalMatrix.DETERMINANT_THRESHOLDS));
+        assertThat(lower.determinant()).isEqualTo(lowerMatrix.determinant(BigDecimalMatrix.DETERMINANT_THRESHOLDS));
+    }
+
+    @Test
+    public void multiplyVectorSizesNotEqualShouldThrowException() {
+        assertThatThrownBy(() -> upper.multiplyVector(Vectors.buildZeroBigDecimalVector(size + 1)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected columnSize == vectorSize but actual %s != %s", size, size + 1);
+    }
+
+    @Test
+    public void multiplyVectorShouldBeEqualToDenseProduct() {
+        vectors.forEach(vector -> {
+            assertThat(upper.multiplyVector(vector).equalByComparingTo(upperMatrix.multiplyVector(vector))).isTrue();
+            assertThat(lower.multiplyVector(vector).equalByComparingTo(lowerMatrix.multiplyVector(vector))).isTrue();
+        });
+    }
+
+    @Test
+    public void solveNullShouldThrowException() {
+        assertThatThrownBy(() -> upper.solve(null, MathContext.DECIMAL64))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vector");
+    }
+
+    @Test
+    public void solveMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> upper.solve(vectors.get(0), null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("mathContext");
+    }
+
+    @Test
+    public void solveNotInvertibleShouldThrowException() {
+        final TriangularBigDecimalMatrix singular = TriangularBigDecimalMatrix.upperFromFunction(size,
+            (rowIndex, columnIndex) -> rowIndex == size ? BigDecimal.ZERO : BigDecimal.ONE);
+        assertThat(singular.invertible()).isFalse();
+        assertThatThrownBy(() -> singular.solve(vectors.get(0), MathContext.DECIMAL64))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected to be invertible but actual %s", singular);
+    }
+
+    @Test
+    public void solveShouldSucceed() {
+        final TriangularBigDecimalMatrix upperInvertible =
+            TriangularBigDecimalMatrix.upperFromFunction(size, (rowIndex, columnIndex) -> rowIndex == columnIndex
+                ? BigDecimal.valueOf(rowIndex + 1L) : upperMatrix.element(rowIndex, columnIndex));
+        final TriangularBigDecimalMatrix lowerInvertible = upperInvertible.transpose();
+        final BigDecimal tolerance = new BigDecimal("1E-20");
+        vectors.forEach(vector -> {
+            final BigDecimalVector upperSolution = upperInvertible.solve(vector, MathContext.DECIMAL128);
+            final BigDecimalVector lowerSolution = lowerInvertible.solve(vector, MathContext.DECIMAL128);
+            assertThat(upperInvertible.multiplyVector(upperSolution).subtract(vector).maxNorm())
+                .isLessThan(tolerance);
+            assertThat(lowerInvertible.multiplyVector(lowerSolution).subtract(vector).maxNorm())
+                .isLessThan(tolerance);
+        });
+    }
+
+    @Test
+    public void equalsAndHashCodeShouldSucceed() {
+        final TriangularBigDecimalMatrix other = TriangularBigDecimalMatrix.upperFromFunction(size,
+            upperMatrix::element);
+        assertThat(upper).isEqualTo(other).hasSameHashCodeAs(other).isNotEqualTo(upper.transpose());
+    }
+}
@@ -21,12 +21,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
 import com.github.ltennstedt.finnmath.core.number.SimpleComplexNumber;
+import com.github.ltennstedt.finnmath.core.util.MathRandom;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 
 public final class VectorsTest {
     private final int size = 4;
+    private final long bound = 10;
+    private final MathRandom mathRandom = new MathRandom(7);
 
     @Test
     public void buildZeroBigIntegerVectorSizeTooLowShouldThrowException() {
@@ -40,6 +46,13 @@ public final class VectorsTest {
         assertThat(Vectors.buildZeroBigIntegerVector(size)).isEqualTo(expected);
     }
 
+    @Test
+    public void buildZeroBigDecimalVectorToStringShouldPrintElements() {
+        final BigDecimalVector expected = BigDecimalVector.builder(size).putAll(BigDecimal.ZERO).build();
+        assertThat(Vectors.buildZeroBigDecimalVector(size).toString()).isEqualTo(expected.toString())
+            .doesNotContain("null");
+    }
+
     @Test
     public void buildZeroBigDecimalVectorSizeTooLowShouldThrowException() {
         assertThatThrownBy(() -> Vectors.buildZeroBigDecimalVector(0))
@@ -77,4 +90,103 @@ public final class VectorsTest {
             RealComplexNumberVector.builder(size).putAll(RealComplexNumber.ZERO).build();
         assertThat(Vectors.buildZeroRealComplexNumberVector(size)).isEqualTo(expected);
     }
+
+    @Test
+    public void buildZeroBigDecimalVectorShouldShareMaterializedMap() {
+        assertThat(Vectors.buildZeroBigDecimalVector(size).getMap())
+            .isSameAs(Vectors.buildZeroBigDecimalVector(size).getMap());
+    }
+
+    @Test
+    public void buildZeroBigDecimalVectorShouldNotStoreElements() {
+        final int hugeSize = Integer.MAX_VALUE;
+        final BigDecimalVector zero = Vectors.buildZeroBigDecimalVector(hugeSize);
+        assertThat(zero.size()).isEqualTo(hugeSize);
+        assertThat(zero.element(hugeSize)).isEqualTo(BigDecimal.ZERO);
+        assertThat(zero).isEqualTo(Vectors.buildZeroBigDecimalVector(hugeSize));
+    }
+
+    @Test
+    public void gramMatrixNullShouldThrowException() {
+        assertThatThrownBy(() -> Vectors.<BigDecimal, BigDecimalVector>gramMatrix(null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vectors");
+    }
+
+    @Test
+    public void gramMatrixEmptyShouldThrowException() {
+        assertThatThrownBy(() -> Vectors.<BigDecimal, BigDecimalVector>gramMatrix(Collections.emptyList()))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected vectors not empty but actual []");
+    }
+
+    @Test
+    public void gramMatrixSizesNotEqualShouldThrowException() {
+        final List<BigDecimalVector> vectors =
+            Arrays.asList(Vectors.buildZeroBigDecimalVector(size), Vectors.buildZeroBigDecimalVector(size + 1));
+        assertThatThrownBy(() -> Vectors.gramMatrix(vectors)).isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected equal sizes but actual %s != %s", size, size + 1);
+    }
+
+    @Test
+    public void gramMatrixShouldSucceed() {
+        final List<BigDecimalVector> vectors = mathRandom.nextBigDecimalVectors(bound, 2, size, 10);
+        assertGramMatrix(vectors, Vectors.gramMatrix(vectors));
+    }
+
+    @Test
+    public void gramMatrixParallelShouldSucceed() {
+        final List<BigDecimalVector> vectors =
+            mathRandom.nextBigDecimalVectors(bound, 2, size, AbstractMatrix.PARALLEL_ROW_THRESHOLD + 7);
+        assertGramMatrix(vectors, Vectors.gramMatrix(vectors));
+    }
+
+    @Test
+    public void gramMatrixOfRealComplexNumberVectorsShouldSucceed() {
+        final List<RealComplexNumberVector> vectors =
+            mathRandom.nextRealComplexNumberVectors(bound, 2, size, AbstractMatrix.PARALLEL_ROW_THRESHOLD + 7);
+        final PackedSymmetricMatrix<RealComplexNumber> gramMatrix = Vectors.gramMatrix(vectors);
+        for (int i = 1; i <= vectors.size(); i++) {
+            for (int j = 1; j <= vectors.size(); j++) {
+                assertThat(gramMatrix.element(i, j)).isEqualTo(vectors.get(i - 1).dotProduct(vectors.get(j - 1)));
+            }
+        }
+    }
+
+    @Test
+    public void distanceMatrixNullShouldThrowException() {
+        assertThatThrownBy(() -> Vectors.<BigDecimalVector, BigDecimal>distanceMatrix(null,
+            BigDecimalVector::euclideanDistance))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("vectors");
+    }
+
+    @Test
+    public void distanceMatrixMetricNullShouldThrowException() {
+        final List<BigDecimalVector> vectors = Collections.singletonList(Vectors.buildZeroBigDecimalVector(size));
+        assertThatThrownBy(() -> Vectors.distanceMatrix(vectors, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("metric");
+    }
+
+    @Test
+    public void distanceMatrixShouldSucceed() {
+        final List<BigDecimalVector> vectors =
+            mathRandom.nextBigDecimalVectors(bound, 2, size, AbstractMatrix.PARALLEL_ROW_THRESHOLD + 7);
+        final PackedSymmetricMatrix<BigDecimal> distanceMatrix =
+            Vectors.distanceMatrix(vectors, BigDecimalVector::taxicabDistance);
+        for (int i = 1; i <= vectors.size(); i++) {
+            assertThat(distanceMatrix.element(i, i)).isEqualByComparingTo(BigDecimal.ZERO);
+            for (int j = 1; j <= vectors.size(); j++) {
+                assertThat(distanceMatrix.element(i, j))
+                    .isEqualTo(vectors.get(Math.min(i, j) - 1).taxicabDistance(vectors.get(Math.max(i, j) - 1)));
+            }
+        }
+    }
+
+    private static void assertGramMatrix(final List<BigDecimalVector> vectors,
+        final PackedSymmetricMatrix<BigDecimal> gramMatrix) {
+        assertThat(gramMatrix.size()).isEqualTo(vectors.size());
+        for (int i = 1; i <= vectors.size(); i++) {
+            for (int j = 1; j <= vectors.size(); j++) {
+                assertThat(gramMatrix.element(i, j)).isEqualTo(vectors.get(i - 1).dotProduct(vectors.get(j - 1)));
+            }
+        }
+    }
 }
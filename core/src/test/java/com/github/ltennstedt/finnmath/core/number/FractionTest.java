@@ -19,12 +19,15 @@ package com.github.ltennstedt.finnmath.core.number;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.github.ltennstedt.finnmath.core.sqrt.SquareRootCalculator;
 import com.github.ltennstedt.finnmath.core.util.MathRandom;
 import com.google.common.base.MoreObjects;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public final class FractionTest {
@@ -207,7 +210,7 @@ public final class FractionTest {
     @Test
     public void powNegativeExponentShouldThrowException() {
         assertThatThrownBy(() -> Fraction.ZERO.pow(-1)).isExactlyInstanceOf(IllegalArgumentException.class)
-            .hasMessage("expected exponent > -1 but actual -1");
+            .hasMessage("expected exponent > -1 for non-invertible %s but actual -1", Fraction.ZERO);
     }
 
     @Test
@@ -219,6 +222,22 @@ public final class FractionTest {
         });
     }
 
+    @Test
+    public void powNegativeExponentShouldSucceed() {
+        invertibles.forEach(invertible -> {
+            assertThat(invertible.pow(-1)).isEqualTo(invertible.invert());
+            assertThat(invertible.pow(-3)).isEqualTo(invertible.invert().pow(3));
+        });
+    }
+
+    @Test
+    public void powBigExponentShouldSucceed() {
+        final Fraction fraction = Fraction.of(3, 2);
+        assertThat(fraction.pow(100000))
+            .isEqualTo(Fraction.of(BigInteger.valueOf(3).pow(100000), BigInteger.valueOf(2).pow(100000)));
+        assertThat(Fraction.of(-1, 1).pow(100001)).isEqualTo(Fraction.of(-1, 1));
+    }
+
     @Test
     public void powOneShouldBeTheSame() {
         fractions.forEach(fraction -> assertThat(fraction.pow(1)).isSameAs(fraction));
@@ -458,6 +477,41 @@ public final class FractionTest {
                 .isEqualTo(0));
     }
 
+    @Test
+    public void compareToShouldBeConsistentWithCrossMultiplication() {
+        final List<Fraction> signed = mathRandom.nextFractions(bound, howMany).stream()
+            .map(fraction -> Fraction.of(fraction.getNumerator().negate(), fraction.getDenominator()))
+            .collect(Collectors.toList());
+        signed.addAll(fractions);
+        signed.add(Fraction.of(1, -3));
+        signed.add(Fraction.of(-1, -3));
+        signed.add(Fraction.of(0, -5));
+        signed.forEach(fraction -> signed.forEach(other -> {
+            final Fraction normalized = fraction.normalize();
+            final Fraction normalizedOther = other.normalize();
+            final int expected = normalizedOther.getDenominator().multiply(normalized.getNumerator())
+                .compareTo(normalized.getDenominator().multiply(normalizedOther.getNumerator()));
+            assertThat(fraction.compareTo(other)).isEqualTo(expected);
+        }));
+    }
+
+    @Test
+    public void compareToEqualDenominatorsShouldSucceed() {
+        assertThat(Fraction.of(2, 7).compareTo(Fraction.of(3, 7))).isEqualTo(-1);
+        assertThat(Fraction.of(-2, 7).compareTo(Fraction.of(-3, 7))).isEqualTo(1);
+        assertThat(Fraction.of(3, 7).compareTo(Fraction.of(3, 7))).isEqualTo(0);
+    }
+
+    @Test
+    public void compareToDifferentMagnitudesShouldSucceed() {
+        final Fraction huge = Fraction.of(BigInteger.TEN.pow(100), BigInteger.valueOf(3));
+        final Fraction tiny = Fraction.of(BigInteger.valueOf(3), BigInteger.TEN.pow(100));
+        assertThat(huge.compareTo(tiny)).isEqualTo(1);
+        assertThat(tiny.compareTo(huge)).isEqualTo(-1);
+        assertThat(huge.negate().compareTo(tiny.negate())).isEqualTo(-1);
+        assertThat(huge.compareTo(huge.add(Fraction.of(BigInteger.ONE, BigInteger.TEN.pow(100))))).isEqualTo(-1);
+    }
+
     @Test
     public void compareToLowerShouldReturnMinusOne() {
         fractions.forEach(fraction -> assertThat(fraction.compareTo(fraction.subtract(Fraction.ONE))).isEqualTo(1));
@@ -646,4 +700,190 @@ public final class FractionTest {
         fractions.forEach(fraction -> assertThat(fraction.toString()).isEqualTo(MoreObjects.toStringHelper(fraction)
             .add("numerator", fraction.getNumerator()).add("denominator", fraction.getDenominator()).toString()));
     }
+
+    @Test
+    public void perfectSquareShouldSucceed() {
+        assertThat(Fraction.of(4, 9).perfectSquare()).isTrue();
+        assertThat(Fraction.of(8, 18).perfectSquare()).isTrue();
+        assertThat(Fraction.of(-4, -9).perfectSquare()).isTrue();
+        assertThat(Fraction.of(2, 9).perfectSquare()).isFalse();
+        assertThat(Fraction.of(-4, 9).perfectSquare()).isFalse();
+        assertThat(Fraction.ZERO.perfectSquare()).isTrue();
+    }
+
+    @Test
+    public void sqrtNegativeShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.of(-1, 4).sqrt()).isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected this >= 0 but actual %s", Fraction.of(-1, 4));
+    }
+
+    @Test
+    public void sqrtNotPerfectSquareShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.of(2, 9).sqrt()).isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected perfect square but actual %s", Fraction.of(2, 9));
+    }
+
+    @Test
+    public void sqrtShouldSucceed() {
+        fractions.forEach(fraction -> {
+            final Fraction square = fraction.pow(2);
+            assertThat(square.sqrt()).isEqualTo(fraction.abs().normalize().reduce());
+            assertThat(square.sqrt().pow(2).equivalent(square)).isTrue();
+        });
+    }
+
+    @Test
+    public void sqrtSquareRootContextNullShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.ONE.sqrt(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("squareRootContext");
+    }
+
+    @Test
+    public void sqrtSquareRootContextNegativeShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.of(-1, 4).sqrt(SquareRootCalculator.DEFAULT_SQUARE_ROOT_CONTEXT))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("expected this >= 0 but actual %s", Fraction.of(-1, 4));
+    }
+
+    @Test
+    public void sqrtSquareRootContextShouldSucceed() {
+        assertThat(Fraction.of(9, 4).sqrt(SquareRootCalculator.DEFAULT_SQUARE_ROOT_CONTEXT))
+            .isEqualByComparingTo(BigDecimal.valueOf(1.5));
+        assertThat(Fraction.of(1, 2).sqrt(SquareRootCalculator.DEFAULT_SQUARE_ROOT_CONTEXT))
+            .isBetween(BigDecimal.valueOf(0.7071067), BigDecimal.valueOf(0.7071068));
+    }
+
+    @Test
+    public void addReducedNullShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.ZERO.addReduced(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("summand");
+    }
+
+    @Test
+    public void addReducedShouldSucceed() {
+        fractions.forEach(fraction -> others.forEach(other -> {
+            final Fraction expected = fraction.add(other).normalize().reduce();
+            assertThat(fraction.addReduced(other)).isExactlyInstanceOf(Fraction.class).isEqualTo(expected);
+        }));
+    }
+
+    @Test
+    public void addReducedShouldKeepSumsSmall() {
+        Fraction sum = Fraction.ZERO;
+        for (int i = 1; i <= 100; i++) {
+            sum = sum.addReduced(Fraction.of(1, (long) i * (i + 1)));
+        }
+        assertThat(sum).isEqualTo(Fraction.of(100, 101));
+    }
+
+    @Test
+    public void subtractReducedNullShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.ZERO.subtractReduced(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("subtrahend");
+    }
+
+    @Test
+    public void subtractReducedShouldSucceed() {
+        fractions.forEach(fraction -> others.forEach(other -> {
+            final Fraction expected = fraction.subtract(other).normalize().reduce();
+            assertThat(fraction.subtractReduced(other)).isExactlyInstanceOf(Fraction.class).isEqualTo(expected);
+        }));
+    }
+
+    @Test
+    public void subtractReducedSelfShouldBeZero() {
+        fractions.forEach(fraction -> assertThat(fraction.subtractReduced(fraction)).isSameAs(Fraction.ZERO));
+    }
+
+    @Test
+    public void multiplyReducedNullShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.ZERO.multiplyReduced(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("factor");
+    }
+
+    @Test
+    public void multiplyReducedShouldSucceed() {
+        fractions.forEach(fraction -> others.forEach(other -> {
+            final Fraction expected = fraction.multiply(other).normalize().reduce();
+            assertThat(fraction.multiplyReduced(other)).isExactlyInstanceOf(Fraction.class).isEqualTo(expected);
+        }));
+    }
+
+    @Test
+    public void divideReducedNullShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.ZERO.divideReduced(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("divisor");
+    }
+
+    @Test
+    public void divideReducedZeroShouldThrowException() {
+        assertThatThrownBy(() -> Fraction.ONE.divideReduced(Fraction.ZERO))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected divisor to be invertible but actual %s", Fraction.ZERO);
+    }
+
+    @Test
+    public void divideReducedShouldSucceed() {
+        fractions.forEach(fraction -> invertibles.forEach(invertible -> {
+            final Fraction expected = fraction.divide(invertible).normalize().reduce();
+            assertThat(fraction.divideReduced(invertible)).isExactlyInstanceOf(Fraction.class).isEqualTo(expected);
+        }));
+    }
+
+    @Test
+    public void arithmeticNearLongOverflowShouldSucceed() {
+        final BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        final BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        final Fraction big = Fraction.of(Long.MAX_VALUE, 3L);
+        final Fraction small = Fraction.of(Long.MIN_VALUE, 7L);
+        assertThat(big.add(small)).isEqualTo(Fraction.of(max.multiply(BigInteger.valueOf(7))
+            .add(min.multiply(BigInteger.valueOf(3))), BigInteger.valueOf(21)));
+        assertThat(big.subtract(small)).isEqualTo(Fraction.of(max.multiply(BigInteger.valueOf(7))
+            .subtract(min.multiply(BigInteger.valueOf(3))), BigInteger.valueOf(21)));
+        assertThat(big.multiply(small)).isEqualTo(Fraction.of(max.multiply(min), BigInteger.valueOf(21)));
+        assertThat(small.lessThan(big)).isTrue();
+        assertThat(Fraction.of(Long.MAX_VALUE, Long.MAX_VALUE - 1).compareTo(Fraction.of(Long.MAX_VALUE - 1,
+            Long.MAX_VALUE - 2))).isEqualTo(-1);
+        assertThat(Fraction.of(Long.MIN_VALUE, 2L).reduce()).isEqualTo(Fraction.of(min.shiftRight(1), BigInteger.ONE));
+        assertThat(Fraction.of(-6L, 4L).reduce()).isEqualTo(Fraction.of(-3L, 2L));
+        assertThat(Fraction.of(6L, -4L).reduce()).isEqualTo(Fraction.of(3L, -2L));
+    }
+
+    @Test
+    public void longAndBigIntegerRepresentationsShouldBeEqual() {
+        final Fraction fromLongs = Fraction.of(-6L, 4L);
+        final Fraction fromBigIntegers = Fraction.of(BigInteger.valueOf(-6L), BigInteger.valueOf(4L));
+        assertThat(fromLongs).isEqualTo(fromBigIntegers);
+        assertThat(fromBigIntegers).isEqualTo(fromLongs);
+        assertThat(fromLongs.hashCode()).isEqualTo(fromBigIntegers.hashCode());
+        assertThat(fromLongs.equalsByComparingFields(fromBigIntegers)).isTrue();
+        assertThat(fromLongs.getNumerator()).isEqualTo(BigInteger.valueOf(-6L));
+        assertThat(fromLongs.getDenominator()).isEqualTo(BigInteger.valueOf(4L));
+        assertThat(fromLongs.toString()).isEqualTo(fromBigIntegers.toString());
+        assertThat(Fraction.of(Long.MAX_VALUE, 1L).add(Fraction.ONE)).isNotEqualTo(Fraction.of(Long.MIN_VALUE, 1L));
+    }
+
+    @Test
+    public void negateInvertAndAbsOfLongMinValueShouldSucceed() {
+        final BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        final Fraction fraction = Fraction.of(Long.MIN_VALUE, -3L);
+        assertThat(fraction.negate()).isEqualTo(Fraction.of(min.negate(), BigInteger.valueOf(-3L)));
+        assertThat(fraction.abs()).isEqualTo(Fraction.of(min.negate(), BigInteger.valueOf(3L)));
+        assertThat(fraction.invert()).isEqualTo(Fraction.of(BigInteger.valueOf(-3L), min));
+        assertThat(fraction.invertible()).isTrue();
+        assertThat(fraction.normalize()).isEqualTo(fraction.abs());
+    }
+
+    @Test
+    public void hashCodeOfLongRepresentationShouldBeEqualToBigIntegerHashCode() {
+        final long[] values = {0L, 1L, -1L, Integer.MAX_VALUE, Integer.MIN_VALUE, 1L << 32, -(1L << 32) - 1L,
+            Long.MAX_VALUE, Long.MIN_VALUE};
+        for (final long numerator : values) {
+            for (final long value : values) {
+                final long denominator = value == 0L ? 1L : value;
+                assertThat(Fraction.of(numerator, denominator).hashCode())
+                    .isEqualTo(Objects.hash(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator)));
+            }
+        }
+    }
 }
@@ -57,6 +57,23 @@ public final class PolarFormTest {
         assertThat(actual.getAngular()).isEqualTo(BigDecimal.TEN);
     }
 
+    @Test
+    public void powMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> zeroPolarForm.pow(2, null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("mathContext");
+    }
+
+    @Test
+    public void powShouldSucceed() {
+        final MathContext mathContext = new MathContext(20);
+        polarForms.forEach(polarForm -> {
+            final PolarForm actual = polarForm.pow(3, mathContext);
+            assertThat(actual.getRadial())
+                .isEqualTo(polarForm.getRadial().pow(3, new MathContext(40)).round(mathContext));
+            assertThat(actual.getAngular()).isEqualTo(polarForm.getAngular().multiply(BigDecimal.valueOf(3)));
+        });
+    }
+
     @Test
     public void complexNumberShouldSucceed() {
         final Context context = BigFloat.context(PolarForm.DEFAULT_PRECISION);
@@ -29,6 +29,7 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public final class RealComplexNumberTest {
@@ -223,8 +224,15 @@ public final class RealComplexNumberTest {
 
     @Test
     public void powNegativeExponentShouldThrowException() {
-        assertThatThrownBy(() -> RealComplexNumber.ZERO.pow(-1)).isExactlyInstanceOf(IllegalArgumentException.class)
-            .hasMessage("expected exponent > -1 but actual -1");
+        assertThatThrownBy(() -> RealComplexNumber.of(2L, 0L).pow(-2))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected exponent > -1 but actual -2");
+    }
+
+    @Test
+    public void powWithMathContextNegativeExponentNotInvertibleShouldThrowException() {
+        assertThatThrownBy(() -> RealComplexNumber.ZERO.pow(-1, new MathContext(precision)))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected exponent > -1 for non-invertible %s but actual -1", RealComplexNumber.ZERO);
     }
 
     @Test
@@ -236,6 +244,61 @@ public final class RealComplexNumberTest {
         });
     }
 
+    @Test
+    public void powNegativeExponentShouldSucceed() {
+        final MathContext mathContext = new MathContext(precision);
+        final RealComplexNumber power = RealComplexNumber.of(2L, 0L).pow(-2, mathContext);
+        assertThat(power.getReal()).isEqualByComparingTo(BigDecimal.valueOf(0.25));
+        assertThat(power.getImaginary()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(RealComplexNumber.of(3L, 0L).pow(-1, mathContext).getReal())
+            .isEqualByComparingTo(BigDecimal.ONE.divide(BigDecimal.valueOf(3L), mathContext));
+    }
+
+    @Test
+    public void powBigExponentShouldSucceed() {
+        assertThat(RealComplexNumber.IMAGINARY.pow(100001)).isEqualTo(RealComplexNumber.IMAGINARY);
+        assertThat(RealComplexNumber.of(1L, 1L).pow(1000))
+            .isEqualTo(RealComplexNumber.of(new BigDecimal(BigInteger.valueOf(2).pow(500)), BigDecimal.ZERO));
+    }
+
+    @Test
+    public void powWithMathContextShouldSucceed() {
+        final MathContext mathContext = new MathContext(precision, roundingMode);
+        complexNumbers.forEach(complexNumber -> assertThat(complexNumber.pow(3, mathContext))
+            .isEqualTo(complexNumber.multiply(complexNumber, mathContext).multiply(complexNumber, mathContext)));
+    }
+
+    @Test
+    public void powPolarMathContextNullShouldThrowException() {
+        assertThatThrownBy(() -> RealComplexNumber.ONE.powPolar(2, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("mathContext");
+    }
+
+    @Test
+    public void powPolarShouldSucceed() {
+        final MathContext mathContext = new MathContext(50);
+        final RealComplexNumber actual = RealComplexNumber.of(1L, 1L).powPolar(1000, mathContext);
+        final BigDecimal expected = new BigDecimal(BigInteger.valueOf(2).pow(500));
+        assertThat(actual.getReal().divide(expected, mathContext).subtract(BigDecimal.ONE).abs())
+            .isLessThan(new BigDecimal("1E-15"));
+        assertThat(actual.getImaginary().divide(expected, mathContext).abs()).isLessThan(new BigDecimal("1E-15"));
+        assertThat(RealComplexNumber.ZERO.powPolar(3, mathContext)).isSameAs(RealComplexNumber.ZERO);
+        assertThat(RealComplexNumber.IMAGINARY.powPolar(0, mathContext)).isSameAs(RealComplexNumber.ONE);
+    }
+
+    @Test
+    public void powPolarBigExponentShouldBeAccurateToMathContext() {
+        final MathContext mathContext = new MathContext(30);
+        final RealComplexNumber complexNumber = RealComplexNumber.of(new BigDecimal("0.6"), new BigDecimal("0.8"));
+        final RealComplexNumber actual = complexNumber.powPolar(1_000_000, mathContext);
+        final RealComplexNumber expected = complexNumber.pow(1_000_000, new MathContext(60));
+        final BigDecimal tolerance = new BigDecimal("1E-29");
+        assertThat(actual.getReal().subtract(expected.getReal()).abs()).isLessThan(tolerance);
+        assertThat(actual.getImaginary().subtract(expected.getImaginary()).abs()).isLessThan(tolerance);
+        assertThat(actual.getReal().precision()).isLessThanOrEqualTo(mathContext.getPrecision());
+        assertThat(actual.getImaginary().precision()).isLessThanOrEqualTo(mathContext.getPrecision());
+    }
+
     @Test
     public void powOneShouldBeTheSame() {
         complexNumbers.forEach(complexNumber -> assertThat(complexNumber.pow(1)).isSameAs(complexNumber));
@@ -577,4 +640,21 @@ public final class RealComplexNumberTest {
             assertThat(actual.getImaginary()).isEqualByComparingTo(imaginary);
         }));
     }
+
+    @Test
+    public void multiplyAboveGaussThresholdShouldSucceed() {
+        final MathRandom random = new MathRandom(11);
+        final BigDecimal big = BigDecimal.TEN.pow(RealComplexNumber.GAUSS_MULTIPLICATION_THRESHOLD);
+        final List<RealComplexNumber> bigNumbers = random.nextRealComplexNumbers(bound, scale, howMany).stream()
+            .map(complexNumber -> RealComplexNumber.of(complexNumber.getReal().add(big).setScale(scale + 1),
+                complexNumber.getImaginary().subtract(big)))
+            .collect(Collectors.toList());
+        bigNumbers.forEach(complexNumber -> bigNumbers.forEach(other -> {
+            final BigDecimal expectedReal = complexNumber.getReal().multiply(other.getReal())
+                .subtract(complexNumber.getImaginary().multiply(other.getImaginary()));
+            final BigDecimal expectedImaginary = complexNumber.getReal().multiply(other.getImaginary())
+                .add(complexNumber.getImaginary().multiply(other.getReal()));
+            assertThat(complexNumber.multiply(other)).isEqualTo(RealComplexNumber.of(expectedReal, expectedImaginary));
+        }));
+    }
 }
@@ -26,6 +26,7 @@ import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public final class SimpleComplexNumberTest {
@@ -236,6 +237,13 @@ public final class SimpleComplexNumberTest {
         });
     }
 
+    @Test
+    public void powBigExponentShouldSucceed() {
+        assertThat(SimpleComplexNumber.IMAGINARY.pow(100001)).isEqualTo(SimpleComplexNumber.IMAGINARY);
+        assertThat(SimpleComplexNumber.of(1L, 1L).pow(1000))
+            .isEqualTo(SimpleComplexNumber.of(BigInteger.valueOf(2).pow(500), BigInteger.ZERO));
+    }
+
     @Test
     public void powOneShouldBeTheSame() {
         complexNumbers.forEach(complexNumber -> assertThat(complexNumber.pow(1)).isSameAs(complexNumber));
@@ -484,4 +492,61 @@ public final class SimpleComplexNumberTest {
             assertThat(actual.getImaginary()).isEqualByComparingTo(imaginary);
         }));
     }
+
+    @Test
+    public void arithmeticNearLongOverflowShouldSucceed() {
+        final BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        final SimpleComplexNumber big = SimpleComplexNumber.of(Long.MAX_VALUE, 2L);
+        final SimpleComplexNumber other = SimpleComplexNumber.of(1L, Long.MAX_VALUE);
+        assertThat(big.add(other))
+            .isEqualTo(SimpleComplexNumber.of(max.add(BigInteger.ONE), max.add(BigInteger.valueOf(2))));
+        assertThat(big.subtract(other.negate())).isEqualTo(big.add(other));
+        final BigInteger expectedReal = max.subtract(max.multiply(BigInteger.valueOf(2)));
+        final BigInteger expectedImaginary = max.multiply(max).add(BigInteger.valueOf(2));
+        assertThat(big.multiply(other)).isEqualTo(SimpleComplexNumber.of(expectedReal, expectedImaginary));
+        assertThat(big.absPow2()).isEqualTo(max.pow(2).add(BigInteger.valueOf(4)));
+        assertThat(SimpleComplexNumber.of(3L, 4L).absPow2()).isEqualTo(BigInteger.valueOf(25));
+    }
+
+    @Test
+    public void multiplyAboveGaussThresholdShouldSucceed() {
+        final BigInteger big = BigInteger.ONE.shiftLeft(SimpleComplexNumber.GAUSS_MULTIPLICATION_THRESHOLD);
+        final List<SimpleComplexNumber> bigNumbers = complexNumbers.stream()
+            .map(complexNumber -> SimpleComplexNumber.of(complexNumber.getReal().add(big),
+                complexNumber.getImaginary().subtract(big)))
+            .collect(Collectors.toList());
+        bigNumbers.forEach(complexNumber -> bigNumbers.forEach(other -> {
+            final BigInteger expectedReal = complexNumber.getReal().multiply(other.getReal())
+                .subtract(complexNumber.getImaginary().multiply(other.getImaginary()));
+            final BigInteger expectedImaginary = complexNumber.getReal().multiply(other.getImaginary())
+                .add(complexNumber.getImaginary().multiply(other.getReal()));
+            assertThat(complexNumber.multiply(other))
+                .isEqualTo(SimpleComplexNumber.of(expectedReal, expectedImaginary));
+        }));
+    }
+
+    @Test
+    public void longAndBigIntegerRepresentationsShouldBeEqual() {
+        final SimpleComplexNumber fromLongs = SimpleComplexNumber.of(-6L, 4L);
+        final SimpleComplexNumber fromBigIntegers =
+            SimpleComplexNumber.of(BigInteger.valueOf(-6L), BigInteger.valueOf(4L));
+        assertThat(fromLongs).isEqualTo(fromBigIntegers);
+        assertThat(fromBigIntegers).isEqualTo(fromLongs);
+        assertThat(fromLongs.hashCode()).isEqualTo(fromBigIntegers.hashCode());
+        assertThat(fromLongs.equalsByComparingFields(fromBigIntegers)).isTrue();
+        assertThat(fromLongs.getReal()).isEqualTo(BigInteger.valueOf(-6L));
+        assertThat(fromLongs.getImaginary()).isEqualTo(BigInteger.valueOf(4L));
+        assertThat(fromLongs.toString()).isEqualTo(fromBigIntegers.toString());
+        assertThat(fromLongs).isNotEqualTo(RealComplexNumber.of(fromLongs));
+    }
+
+    @Test
+    public void negateAndConjugateOfLongMinValueShouldSucceed() {
+        final BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        final SimpleComplexNumber complexNumber = SimpleComplexNumber.of(Long.MIN_VALUE, Long.MIN_VALUE);
+        assertThat(complexNumber.negate()).isEqualTo(SimpleComplexNumber.of(min.negate(), min.negate()));
+        assertThat(complexNumber.conjugate()).isEqualTo(SimpleComplexNumber.of(min, min.negate()));
+        assertThat(complexNumber.invertible()).isTrue();
+        assertThat(SimpleComplexNumber.of(0L, 0L).invertible()).isFalse();
+    }
 }
@@ -21,6 +21,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.stream.IntStream;
 import org.junit.After;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -334,4 +336,130 @@ public final class SquareRootCalculatorTest {
     public void sqrtOfPerfectSquareOneHundred() {
         assertThat(SquareRootCalculator.sqrtOfPerfectSquare(BigInteger.valueOf(100))).isEqualTo(BigInteger.TEN);
     }
+
+    @Test
+    public void isqrtNullShouldThrowException() {
+        assertThatThrownBy(() -> SquareRootCalculator.isqrt(null)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("integer");
+    }
+
+    @Test
+    public void isqrtNegativeShouldThrowException() {
+        assertThatThrownBy(() -> SquareRootCalculator.isqrt(BigInteger.ONE.negate()))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected integer >= 0 but actual -1");
+    }
+
+    @Test
+    public void isqrtShouldSucceed() {
+        IntStream.range(0, 1000).forEach(i -> {
+            final BigInteger integer = BigInteger.valueOf(i);
+            final BigInteger root = SquareRootCalculator.isqrt(integer);
+            assertThat(root.pow(2)).isLessThanOrEqualTo(integer);
+            assertThat(root.add(BigInteger.ONE).pow(2)).isGreaterThan(integer);
+        });
+    }
+
+    @Test
+    public void isqrtOfBigPerfectSquareShouldSucceed() {
+        final BigInteger root = BigInteger.TEN.pow(100).add(BigInteger.valueOf(7));
+        assertThat(SquareRootCalculator.isqrt(root.pow(2))).isEqualTo(root);
+        assertThat(SquareRootCalculator.isqrt(root.pow(2).subtract(BigInteger.ONE)))
+            .isEqualTo(root.subtract(BigInteger.ONE));
+    }
+
+    @Test
+    public void perfectSquareShouldSucceed() {
+        IntStream.range(0, 1000).forEach(i -> {
+            final BigInteger integer = BigInteger.valueOf(i);
+            final BigInteger root = BigInteger.valueOf((long) Math.sqrt(i));
+            assertThat(SquareRootCalculator.perfectSquare(integer)).isEqualTo(root.pow(2).equals(integer));
+        });
+    }
+
+    @Test
+    public void perfectSquareOfBigIntegerShouldSucceed() {
+        final BigInteger root = BigInteger.TEN.pow(100).add(BigInteger.valueOf(7));
+        assertThat(SquareRootCalculator.perfectSquare(root.pow(2))).isTrue();
+        assertThat(SquareRootCalculator.perfectSquare(root.pow(2).add(BigInteger.ONE))).isFalse();
+    }
+
+    @Test
+    public void nthRootNullShouldThrowException() {
+        assertThatThrownBy(() -> SquareRootCalculator.nthRoot(null, 3)).isExactlyInstanceOf(NullPointerException.class)
+            .hasMessage("decimal");
+    }
+
+    @Test
+    public void nthRootSquareRootContextNullShouldThrowException() {
+        assertThatThrownBy(() -> SquareRootCalculator.nthRoot(BigDecimal.ONE, 3, null))
+            .isExactlyInstanceOf(NullPointerException.class).hasMessage("squareRootContext");
+    }
+
+    @Test
+    public void nthRootDegreeZeroShouldThrowException() {
+        assertThatThrownBy(() -> SquareRootCalculator.nthRoot(BigDecimal.ONE, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected degree > 0 but actual 0");
+    }
+
+    @Test
+    public void nthRootNegativeEvenDegreeShouldThrowException() {
+        assertThatThrownBy(() -> SquareRootCalculator.nthRoot(BigDecimal.ONE.negate(), 2))
+            .isExactlyInstanceOf(IllegalArgumentException.class)
+            .hasMessage("expected decimal >= 0 or odd degree but actual -1 and 2");
+    }
+
+    @Test
+    public void nthRootZero() {
+        assertThat(SquareRootCalculator.nthRoot(BigDecimal.ZERO, 3)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    public void nthRootDegreeOne() {
+        assertThat(SquareRootCalculator.nthRoot(BigDecimal.valueOf(7), 1)).isEqualByComparingTo(BigDecimal.valueOf(7));
+    }
+
+    @Test
+    public void nthRootCubeRootOfTwentySeven() {
+        assertThat(SquareRootCalculator.nthRoot(BigDecimal.valueOf(27), 3)).isBetween(BigDecimal.valueOf(2.999),
+            BigDecimal.valueOf(3.001));
+    }
+
+    @Test
+    public void nthRootCubeRootOfMinusEight() {
+        assertThat(SquareRootCalculator.nthRoot(BigDecimal.valueOf(-8), 3)).isBetween(BigDecimal.valueOf(-2.001),
+            BigDecimal.valueOf(-1.999));
+    }
+
+    @Test
+    public void nthRootSquareRootOfTwo() {
+        assertThat(SquareRootCalculator.nthRoot(BigDecimal.valueOf(2), 2)).isBetween(BigDecimal.valueOf(1.4142135),
+            BigDecimal.valueOf(1.4142136));
+    }
+
+    @Test
+    public void nthRootOfSmallDecimal() {
+        assertThat(SquareRootCalculator.nthRoot(new BigDecimal("0.0001"), 4)).isBetween(BigDecimal.valueOf(0.0999),
+            BigDecimal.valueOf(0.1001));
+    }
+
+    @Test
+    public void nthRootShouldSucceed() {
+        final SquareRootContext squareRootContext =
+            SquareRootContext.builder().mathContext(new MathContext(100)).build();
+        IntStream.rangeClosed(2, 10).forEach(degree -> IntStream.rangeClosed(1, 20).forEach(i -> {
+            final BigDecimal decimal = BigDecimal.valueOf(i).pow(degree);
+            assertThat(SquareRootCalculator.nthRoot(decimal, degree, squareRootContext).subtract(BigDecimal.valueOf(i))
+                .abs()).isLessThan(new BigDecimal("1E-90"));
+        }));
+    }
+
+    @Test
+    public void nthRootOfHugeDecimalShouldSucceed() {
+        final BigDecimal root = new BigDecimal("1.5E+400");
+        final SquareRootContext squareRootContext =
+            SquareRootContext.builder().mathContext(new MathContext(50)).build();
+        final BigDecimal actual = SquareRootCalculator.nthRoot(root.pow(5), 5, squareRootContext);
+        assertThat(actual.divide(root, MathContext.DECIMAL128).subtract(BigDecimal.ONE).abs())
+            .isLessThan(new BigDecimal("1E-45"));
+    }
 }
@@ -23,10 +23,13 @@ import com.github.ltennstedt.finnmath.core.linear.BigDecimalMatrix;
 import com.github.ltennstedt.finnmath.core.linear.BigDecimalVector;
 import com.github.ltennstedt.finnmath.core.linear.BigIntegerMatrix;
 import com.github.ltennstedt.finnmath.core.linear.BigIntegerVector;
+import com.github.ltennstedt.finnmath.core.linear.DiagonalBigDecimalMatrix;
+import com.github.ltennstedt.finnmath.core.linear.PackedSymmetricMatrix;
 import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberMatrix;
 import com.github.ltennstedt.finnmath.core.linear.RealComplexNumberVector;
 import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberMatrix;
 import com.github.ltennstedt.finnmath.core.linear.SimpleComplexNumberVector;
+import com.github.ltennstedt.finnmath.core.linear.TriangularBigDecimalMatrix;
 import com.github.ltennstedt.finnmath.core.number.Fraction;
 import com.github.ltennstedt.finnmath.core.number.PolarForm;
 import com.github.ltennstedt.finnmath.core.number.RealComplexNumber;
@@ -1702,6 +1705,79 @@ public final class MathRandomTest {
         assertThat(matrix.skewSymmetric()).isTrue();
     }
 
+    @Test
+    public void nextPackedSymmetricBigDecimalMatrixBoundTooLowShouldThrowException() {
+        assertThatThrownBy(() -> mathRandom.nextPackedSymmetricBigDecimalMatrix(0, validScale, validSize))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected bound > 0 but actual 0");
+    }
+
+    @Test
+    public void nextPackedSymmetricBigDecimalMatrixSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> mathRandom.nextPackedSymmetricBigDecimalMatrix(bound, validScale, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void nextPackedSymmetricBigDecimalMatrixShouldSucceed() {
+        final PackedSymmetricMatrix<BigDecimal> matrix =
+            mathRandom.nextPackedSymmetricBigDecimalMatrix(bound, validScale, validSize);
+        assertThat(matrix.size()).isEqualTo(validSize);
+        final BigDecimalMatrix dense = BigDecimalMatrix.fromFunction(validSize, validSize, matrix::element);
+        assertThat(dense.elements())
+            .are(
+                new Condition<>(element -> element.compareTo(negatedBigDecimalBound) > 0, "lower bound of the element"))
+            .are(new Condition<>(element -> element.compareTo(decimalBound) < 0, "upper bound of the element"));
+        dense.elements().forEach(element -> assertThat(element.scale()).isEqualTo(validScale));
+        assertThat(dense.symmetric()).isTrue();
+    }
+
+    @Test
+    public void nextPackedUpperTriangularBigDecimalMatrixSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> mathRandom.nextPackedUpperTriangularBigDecimalMatrix(bound, validScale, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void nextPackedUpperTriangularBigDecimalMatrixShouldSucceed() {
+        final TriangularBigDecimalMatrix matrix =
+            mathRandom.nextPackedUpperTriangularBigDecimalMatrix(bound, validScale, validSize);
+        assertThat(matrix.size()).isEqualTo(validSize);
+        assertThat(matrix.upper()).isTrue();
+        assertThat(matrix.toBigDecimalMatrix().triangular()).isTrue();
+    }
+
+    @Test
+    public void nextPackedLowerTriangularBigDecimalMatrixSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> mathRandom.nextPackedLowerTriangularBigDecimalMatrix(bound, validScale, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void nextPackedLowerTriangularBigDecimalMatrixShouldSucceed() {
+        final TriangularBigDecimalMatrix matrix =
+            mathRandom.nextPackedLowerTriangularBigDecimalMatrix(bound, validScale, validSize);
+        assertThat(matrix.size()).isEqualTo(validSize);
+        assertThat(matrix.upper()).isFalse();
+        assertThat(matrix.toBigDecimalMatrix().triangular()).isTrue();
+    }
+
+    @Test
+    public void nextPackedDiagonalBigDecimalMatrixSizeTooLowShouldThrowException() {
+        assertThatThrownBy(() -> mathRandom.nextPackedDiagonalBigDecimalMatrix(bound, validScale, 0))
+            .isExactlyInstanceOf(IllegalArgumentException.class).hasMessage("expected size > 0 but actual 0");
+    }
+
+    @Test
+    public void nextPackedDiagonalBigDecimalMatrixShouldSucceed() {
+        final DiagonalBigDecimalMatrix matrix =
+            mathRandom.nextPackedDiagonalBigDecimalMatrix(bound, validScale, validSize);
+        assertThat(matrix.size()).isEqualTo(validSize);
+        for (int index = 1; index <= validSize; index++) {
+            assertThat(matrix.element(index, index).scale()).isEqualTo(validScale);
+        }
+        assertThat(matrix.toBigDecimalMatrix().diagonal()).isTrue();
+    }
+
     @Test
     public void nextBigDecimalMatricesBoundTooLowShouldThrowException() {
         assertThatThrownBy(